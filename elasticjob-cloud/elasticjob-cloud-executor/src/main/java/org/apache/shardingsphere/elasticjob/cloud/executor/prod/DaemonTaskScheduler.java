@@ -30,21 +30,28 @@ import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
 import org.apache.shardingsphere.elasticjob.infra.listener.ShardingContexts;
 import org.quartz.CronScheduleBuilder;
 import org.quartz.CronTrigger;
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobBuilder;
 import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.TriggerBuilder;
 import org.quartz.impl.StdSchedulerFactory;
 import org.quartz.plugins.management.ShutdownHookPlugin;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Daemon task scheduler.
+ * 
+ * <p>All daemon tasks launched on the executor share one scheduler, each task is scheduled as an individual quartz job identified by task ID.
+ * Tasks with misfire disabled run on a second shared scheduler whose misfire threshold is 1 ms, so fires that cannot start on time are skipped instead of running late.</p>
  */
 @RequiredArgsConstructor
 public final class DaemonTaskScheduler {
@@ -59,7 +66,19 @@ public final class DaemonTaskScheduler {
     
     private static final String TASK_ID_DATA_MAP_KEY = "taskId";
     
-    private static final ConcurrentHashMap<String, Scheduler> RUNNING_SCHEDULERS = new ConcurrentHashMap<>(1024, 1);
+    private static final String SCHEDULER_INSTANCE_NAME = "ElasticJob-Cloud-Daemon-Scheduler";
+    
+    private static final String THREAD_COUNT_KEY = "elasticjob.cloud.daemon.threadCount";
+    
+    private static final int DEFAULT_THREAD_COUNT = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private static final String NON_MISFIRE_SCHEDULER_INSTANCE_NAME = "ElasticJob-Cloud-Daemon-Non-Misfire-Scheduler";
+    
+    private static final String NON_MISFIRE_THRESHOLD_MILLIS = "1";
+    
+    private static final ConcurrentHashMap<String, Scheduler> RUNNING_TASKS = new ConcurrentHashMap<>(1024, 1);
+    
+    private static final Map<Boolean, Scheduler> SCHEDULERS = new HashMap<>(2, 1);
     
     private final ElasticJob elasticJob;
     
@@ -77,32 +96,38 @@ public final class DaemonTaskScheduler {
      * Init the job.
      */
     public void init() {
-        JobDetail jobDetail = JobBuilder.newJob(DaemonJob.class).withIdentity(jobConfig.getJobName()).build();
+        JobDetail jobDetail = JobBuilder.newJob(DaemonJob.class).withIdentity(taskId.getValue()).build();
         jobDetail.getJobDataMap().put(ELASTIC_JOB_DATA_MAP_KEY, elasticJob);
         jobDetail.getJobDataMap().put(ELASTIC_JOB_TYPE_DATA_MAP_KEY, elasticJobType);
         jobDetail.getJobDataMap().put(JOB_FACADE_DATA_MAP_KEY, jobFacade);
         jobDetail.getJobDataMap().put(EXECUTOR_DRIVER_DATA_MAP_KEY, executorDriver);
         jobDetail.getJobDataMap().put(TASK_ID_DATA_MAP_KEY, taskId);
         try {
-            scheduleJob(initializeScheduler(), jobDetail, taskId.getValue(), jobConfig.getCron());
+            scheduleJob(getScheduler(jobConfig.isMisfire()), jobDetail, taskId.getValue(), jobConfig.getCron());
         } catch (final SchedulerException ex) {
             throw new JobSystemException(ex);
         }
     }
     
-    private Scheduler initializeScheduler() throws SchedulerException {
-        StdSchedulerFactory factory = new StdSchedulerFactory();
-        factory.initialize(getBaseQuartzProperties());
-        return factory.getScheduler();
+    private static synchronized Scheduler getScheduler(final boolean misfire) throws SchedulerException {
+        Scheduler result = SCHEDULERS.get(misfire);
+        if (null == result || result.isShutdown()) {
+            StdSchedulerFactory factory = new StdSchedulerFactory();
+            factory.initialize(getBaseQuartzProperties(misfire));
+            result = factory.getScheduler();
+            result.start();
+            SCHEDULERS.put(misfire, result);
+        }
+        return result;
     }
     
-    private Properties getBaseQuartzProperties() {
+    private static Properties getBaseQuartzProperties(final boolean misfire) {
         Properties result = new Properties();
         result.put("org.quartz.threadPool.class", org.quartz.simpl.SimpleThreadPool.class.getName());
-        result.put("org.quartz.threadPool.threadCount", "1");
-        result.put("org.quartz.scheduler.instanceName", taskId.getValue());
-        if (!jobConfig.isMisfire()) {
-            result.put("org.quartz.jobStore.misfireThreshold", "1");
+        result.put("org.quartz.threadPool.threadCount", Integer.toString(Integer.getInteger(THREAD_COUNT_KEY, DEFAULT_THREAD_COUNT)));
+        result.put("org.quartz.scheduler.instanceName", misfire ? SCHEDULER_INSTANCE_NAME : NON_MISFIRE_SCHEDULER_INSTANCE_NAME);
+        if (!misfire) {
+            result.put("org.quartz.jobStore.misfireThreshold", NON_MISFIRE_THRESHOLD_MILLIS);
         }
         result.put("org.quartz.plugin.shutdownhook.class", ShutdownHookPlugin.class.getName());
         result.put("org.quartz.plugin.shutdownhook.cleanShutdown", Boolean.TRUE.toString());
@@ -114,15 +139,16 @@ public final class DaemonTaskScheduler {
             if (!scheduler.checkExists(jobDetail.getKey())) {
                 scheduler.scheduleJob(jobDetail, createTrigger(triggerIdentity, cron));
             }
-            scheduler.start();
-            RUNNING_SCHEDULERS.putIfAbsent(scheduler.getSchedulerName(), scheduler);
+            RUNNING_TASKS.putIfAbsent(taskId.getValue(), scheduler);
         } catch (final SchedulerException ex) {
             throw new JobSystemException(ex);
         }
     }
     
     private CronTrigger createTrigger(final String triggerIdentity, final String cron) {
-        return TriggerBuilder.newTrigger().withIdentity(triggerIdentity).withSchedule(CronScheduleBuilder.cronSchedule(cron).withMisfireHandlingInstructionDoNothing()).build();
+        CronScheduleBuilder cronScheduleBuilder = CronScheduleBuilder.cronSchedule(cron);
+        return TriggerBuilder.newTrigger().withIdentity(triggerIdentity)
+                .withSchedule(jobConfig.isMisfire() ? cronScheduleBuilder.withMisfireHandlingInstructionFireAndProceed() : cronScheduleBuilder.withMisfireHandlingInstructionDoNothing()).build();
     }
     
     /**
@@ -131,10 +157,15 @@ public final class DaemonTaskScheduler {
      * @param taskID task id
      */
     public static void shutdown(final Protos.TaskID taskID) {
-        Scheduler scheduler = RUNNING_SCHEDULERS.remove(taskID.getValue());
-        if (null != scheduler) {
+        Scheduler scheduler = RUNNING_TASKS.remove(taskID.getValue());
+        if (null == scheduler) {
+            return;
+        }
+        synchronized (DaemonTaskScheduler.class) {
             try {
-                scheduler.shutdown();
+                if (!scheduler.isShutdown()) {
+                    scheduler.deleteJob(JobKey.jobKey(taskID.getValue()));
+                }
             } catch (final SchedulerException ex) {
                 throw new JobSystemException(ex);
             }
@@ -144,6 +175,7 @@ public final class DaemonTaskScheduler {
     /**
      * Daemon job.
      */
+    @DisallowConcurrentExecution
     public static final class DaemonJob implements Job {
         
         @Setter
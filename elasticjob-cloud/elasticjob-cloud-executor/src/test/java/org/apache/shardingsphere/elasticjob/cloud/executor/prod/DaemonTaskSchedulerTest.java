@@ -27,20 +27,35 @@ import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.cloud.executor.prod.DaemonTaskScheduler.DaemonJob;
 import org.apache.shardingsphere.elasticjob.cloud.facade.CloudJobFacade;
 import org.apache.shardingsphere.elasticjob.infra.context.ExecutionType;
+import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
 import org.apache.shardingsphere.elasticjob.infra.listener.ShardingContexts;
 import org.apache.shardingsphere.elasticjob.script.props.ScriptJobProperties;
+import org.apache.shardingsphere.elasticjob.tracing.event.JobStatusTraceEvent.State;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -105,6 +120,20 @@ public final class DaemonTaskSchedulerTest {
         verify(shardingContexts).setCurrentJobEventSamplingCount(0);
     }
     
+    @Test
+    public void assertJobRunSuppressesJobEventsWhenNotSampled() {
+        ShardingContexts actualShardingContexts = new ShardingContexts(taskId.getValue(), "test_job", 1, "", Collections.emptyMap(), 2);
+        when(jobFacade.getShardingContexts()).thenReturn(actualShardingContexts);
+        when(jobFacade.loadJobConfiguration(true)).thenReturn(createJobConfiguration());
+        daemonJob.execute(jobExecutionContext);
+        assertFalse(actualShardingContexts.isAllowSendJobEvent());
+        verify(jobFacade, never()).postJobStatusTraceEvent(anyString(), any(State.class), anyString());
+        daemonJob.execute(jobExecutionContext);
+        assertTrue(actualShardingContexts.isAllowSendJobEvent());
+        verify(jobFacade).postJobStatusTraceEvent(taskId.getValue(), State.TASK_STAGING, "Job 'test_script_job' execute begin.");
+        verify(jobFacade).postJobStatusTraceEvent(taskId.getValue(), State.TASK_FINISHED, "Sharding item for job 'test_script_job' is empty.");
+    }
+    
     private JobConfiguration createJobConfiguration() {
         return JobConfiguration.newBuilder("test_script_job", 3).cron("0/1 * * * * ?").jobErrorHandlerType("IGNORE").setProperty(ScriptJobProperties.SCRIPT_KEY, "echo test").build();
     }
@@ -114,7 +143,7 @@ public final class DaemonTaskSchedulerTest {
     public void assertInit() {
         DaemonTaskScheduler scheduler = createScheduler();
         scheduler.init();
-        Field field = DaemonTaskScheduler.class.getDeclaredField("RUNNING_SCHEDULERS");
+        Field field = DaemonTaskScheduler.class.getDeclaredField("RUNNING_TASKS");
         field.setAccessible(true);
         assertTrue(((ConcurrentHashMap) field.get(scheduler)).containsKey(taskId.getValue()));
         DaemonTaskScheduler.shutdown(taskId);
@@ -126,15 +155,114 @@ public final class DaemonTaskSchedulerTest {
         DaemonTaskScheduler scheduler = createScheduler();
         scheduler.init();
         DaemonTaskScheduler.shutdown(taskId);
-        Field field = DaemonTaskScheduler.class.getDeclaredField("RUNNING_SCHEDULERS");
+        Field field = DaemonTaskScheduler.class.getDeclaredField("RUNNING_TASKS");
         field.setAccessible(true);
         assertFalse(((ConcurrentHashMap) field.get(scheduler)).containsKey(taskId.getValue()));
         assertTrue(((ConcurrentHashMap) field.get(scheduler)).isEmpty());
     }
     
+    @Test
+    @SneakyThrows
+    public void assertInitWithManyTasksSharesBoundedThreads() {
+        when(jobConfig.getCron()).thenReturn("0 0 0 1 1 ? 2099");
+        int taskCount = 500;
+        createScheduler(createTaskId(0)).init();
+        List<TaskID> taskIds = new ArrayList<>(taskCount);
+        int baseThreadCount = Thread.activeCount();
+        for (int i = 1; i < taskCount; i++) {
+            TaskID each = createTaskId(i);
+            taskIds.add(each);
+            createScheduler(each).init();
+        }
+        assertTrue(Thread.activeCount() - baseThreadCount < 10);
+        Field field = DaemonTaskScheduler.class.getDeclaredField("RUNNING_TASKS");
+        field.setAccessible(true);
+        assertThat(((ConcurrentHashMap) field.get(null)).size(), is(taskCount));
+        DaemonTaskScheduler.shutdown(createTaskId(0));
+        for (TaskID each : taskIds) {
+            DaemonTaskScheduler.shutdown(each);
+        }
+        assertTrue(((ConcurrentHashMap) field.get(null)).isEmpty());
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertRunAllTasksWhenThreadPoolSaturated() {
+        Field schedulersField = DaemonTaskScheduler.class.getDeclaredField("SCHEDULERS");
+        schedulersField.setAccessible(true);
+        Map<Boolean, Scheduler> schedulers = (Map<Boolean, Scheduler>) schedulersField.get(null);
+        Optional.ofNullable(schedulers.get(true)).ifPresent(this::shutdownScheduler);
+        System.setProperty("elasticjob.cloud.daemon.threadCount", "1");
+        when(jobConfig.getCron()).thenReturn("0/1 * * * * ?");
+        when(jobConfig.isMisfire()).thenReturn(true);
+        Map<TaskID, AtomicInteger> executedCounts = new ConcurrentHashMap<>(2, 1);
+        try {
+            for (int i = 0; i < 2; i++) {
+                TaskID each = createTaskId(i);
+                AtomicInteger executedCount = new AtomicInteger();
+                executedCounts.put(each, executedCount);
+                new DaemonTaskScheduler(elasticJob, "transient", jobConfig, createSlowJobFacade(executedCount), executorDriver, each).init();
+            }
+            long deadline = System.currentTimeMillis() + 10000L;
+            while (System.currentTimeMillis() < deadline && executedCounts.values().stream().anyMatch(each -> each.get() < 2)) {
+                Thread.sleep(100L);
+            }
+            for (AtomicInteger each : executedCounts.values()) {
+                assertTrue(each.get() >= 2);
+            }
+        } finally {
+            executedCounts.keySet().forEach(DaemonTaskScheduler::shutdown);
+            shutdownScheduler(schedulers.get(true));
+            System.clearProperty("elasticjob.cloud.daemon.threadCount");
+        }
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertInitSeparatesMisfireAndNonMisfireTasks() {
+        when(jobConfig.getCron()).thenReturn("0 0 0 1 1 ? 2099");
+        TaskID misfireTaskId = createTaskId(1);
+        when(jobConfig.isMisfire()).thenReturn(true);
+        createScheduler(misfireTaskId).init();
+        when(jobConfig.isMisfire()).thenReturn(false);
+        createScheduler(taskId).init();
+        Field field = DaemonTaskScheduler.class.getDeclaredField("RUNNING_TASKS");
+        field.setAccessible(true);
+        Map<String, Scheduler> runningTasks = (Map<String, Scheduler>) field.get(null);
+        try {
+            assertThat(runningTasks.get(misfireTaskId.getValue()).getSchedulerName(), is("ElasticJob-Cloud-Daemon-Scheduler"));
+            assertThat(runningTasks.get(taskId.getValue()).getSchedulerName(), is("ElasticJob-Cloud-Daemon-Non-Misfire-Scheduler"));
+        } finally {
+            DaemonTaskScheduler.shutdown(misfireTaskId);
+            DaemonTaskScheduler.shutdown(taskId);
+        }
+    }
+    
+    private CloudJobFacade createSlowJobFacade(final AtomicInteger executedCount) {
+        CloudJobFacade result = mock(CloudJobFacade.class);
+        when(result.getShardingContexts()).thenAnswer(invocation -> {
+            executedCount.incrementAndGet();
+            Thread.sleep(300L);
+            throw new JobSystemException("Stop executing after the thread is occupied.");
+        });
+        return result;
+    }
+    
+    @SneakyThrows
+    private void shutdownScheduler(final Scheduler scheduler) {
+        scheduler.shutdown(true);
+    }
+    
+    private TaskID createTaskId(final int shardingItem) {
+        return TaskID.newBuilder().setValue(String.format("%s@-@%d@-@%s@-@fake_slave_id@-@0", "test_job", shardingItem, ExecutionType.READY)).build();
+    }
+    
     private DaemonTaskScheduler createScheduler() {
-        when(jobConfig.getJobName()).thenReturn(taskId.getValue());
         when(jobConfig.getCron()).thenReturn("0/1 * * * * ?");
+        return createScheduler(taskId);
+    }
+    
+    private DaemonTaskScheduler createScheduler(final TaskID taskId) {
         return new DaemonTaskScheduler(elasticJob, "transient", jobConfig, jobFacade, executorDriver, taskId);
     }
 }
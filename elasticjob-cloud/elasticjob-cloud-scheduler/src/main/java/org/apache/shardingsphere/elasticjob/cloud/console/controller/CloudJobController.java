@@ -42,6 +42,7 @@ import org.apache.shardingsphere.elasticjob.restful.Http;
 import org.apache.shardingsphere.elasticjob.restful.wrapper.QueryParameterMap;
 import org.apache.shardingsphere.elasticjob.restful.annotation.ParamSource;
 import org.apache.shardingsphere.elasticjob.restful.RestfulController;
+import org.apache.shardingsphere.elasticjob.restful.annotation.Blocking;
 import org.apache.shardingsphere.elasticjob.restful.annotation.ContextPath;
 import org.apache.shardingsphere.elasticjob.restful.annotation.Mapping;
 import org.apache.shardingsphere.elasticjob.restful.annotation.Param;
@@ -69,6 +70,7 @@ import java.util.Set;
  * Cloud job restful api.
  */
 @Slf4j
+@Blocking
 @ContextPath("/api/job")
 public final class CloudJobController implements RestfulController {
     
@@ -302,11 +304,8 @@ public final class CloudJobController implements RestfulController {
         if (!Strings.isNullOrEmpty(requestParams.get("page"))) {
             page = Integer.parseInt(requestParams.get("page"));
         }
-        String sort = requestParams.get("sort");
-        String order = requestParams.get("order");
         Date startTime = null;
         Date endTime = null;
-        Map<String, Object> fields = getQueryParameters(requestParams, params);
         SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
         if (!Strings.isNullOrEmpty(requestParams.get("startTime"))) {
             startTime = simpleDateFormat.parse(requestParams.get("startTime"));
@@ -314,7 +313,16 @@ public final class CloudJobController implements RestfulController {
         if (!Strings.isNullOrEmpty(requestParams.get("endTime"))) {
             endTime = simpleDateFormat.parse(requestParams.get("endTime"));
         }
-        return new JobEventRdbSearch.Condition(perPage, page, sort, order, startTime, endTime, fields);
+        Date afterTime = null;
+        if (!Strings.isNullOrEmpty(requestParams.get("afterTime"))) {
+            afterTime = new Date(Long.parseLong(requestParams.get("afterTime")));
+        }
+        String afterId = Strings.emptyToNull(requestParams.get("afterId"));
+        boolean approximateCount = Boolean.parseBoolean(requestParams.get("approximateCount"));
+        String sort = requestParams.get("sort");
+        String order = requestParams.get("order");
+        Map<String, Object> fields = getQueryParameters(requestParams, params);
+        return new JobEventRdbSearch.Condition(perPage, page, sort, order, startTime, endTime, fields, afterTime, afterId, approximateCount);
     }
     
     private Map<String, Object> getQueryParameters(final Map<String, String> requestParams, final String[] params) {
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.elasticjob.cloud.scheduler.mesos.ReconcileServi
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.restful.Http;
 import org.apache.shardingsphere.elasticjob.restful.RestfulController;
+import org.apache.shardingsphere.elasticjob.restful.annotation.Blocking;
 import org.apache.shardingsphere.elasticjob.restful.annotation.ContextPath;
 import org.apache.shardingsphere.elasticjob.restful.annotation.Mapping;
 import org.apache.shardingsphere.elasticjob.restful.annotation.Param;
@@ -38,6 +39,7 @@ import java.util.Map;
  * Cloud operation restful api.
  */
 @Slf4j
+@Blocking
 @ContextPath("/api/operate")
 public final class CloudOperationController implements RestfulController {
     
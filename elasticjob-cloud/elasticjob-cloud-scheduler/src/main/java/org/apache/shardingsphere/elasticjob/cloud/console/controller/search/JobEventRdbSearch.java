@@ -24,6 +24,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobExecutionEvent;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobStatusTraceEvent;
+import org.apache.shardingsphere.elasticjob.tracing.rdb.storage.RDBStorageSQLMapper;
+import org.apache.shardingsphere.elasticjob.tracing.rdb.type.DatabaseType;
+import org.apache.shardingsphere.elasticjob.tracing.rdb.type.impl.DefaultDatabaseType;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -31,12 +34,15 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.ServiceLoader;
 
 /**
  * Job event RDB search.
@@ -55,8 +61,20 @@ public final class JobEventRdbSearch {
     private static final List<String> FIELDS_JOB_STATUS_TRACE_LOG = 
             Arrays.asList("id", "job_name", "original_task_id", "task_id", "slave_id", "source", "execution_type", "sharding_item", "state", "message", "creation_time");
     
+    private static final int MAX_APPROXIMATE_COUNT = 10000;
+    
+    private static final Map<String, DatabaseType> DATABASE_TYPES = new HashMap<>();
+    
     private final DataSource dataSource;
-
+    
+    private volatile RDBStorageSQLMapper sqlMapper;
+    
+    static {
+        for (DatabaseType each : ServiceLoader.load(DatabaseType.class)) {
+            DATABASE_TYPES.put(each.getDatabaseProductName(), each);
+        }
+    }
+    
     /**
      * Find job execution events.
      *
@@ -64,9 +82,15 @@ public final class JobEventRdbSearch {
      * @return job execution events
      */
     public Result<JobExecutionEvent> findJobExecutionEvents(final Condition condition) {
-        return new Result<>(getEventCount(TABLE_JOB_EXECUTION_LOG, FIELDS_JOB_EXECUTION_LOG, condition), getJobExecutionEvents(condition));
+        try (Connection conn = dataSource.getConnection()) {
+            return new Result<>(getEventCount(conn, TABLE_JOB_EXECUTION_LOG, FIELDS_JOB_EXECUTION_LOG, condition), getJobExecutionEvents(conn, condition));
+        } catch (final SQLException ex) {
+            // TODO log failure directly to output log, consider to be configurable in the future
+            log.error("Fetch JobExecutionEvent from DB error:", ex);
+        }
+        return new Result<>(0, Collections.emptyList());
     }
-
+    
     /**
      * Find job status trace events.
      *
@@ -74,13 +98,18 @@ public final class JobEventRdbSearch {
      * @return job status trace events
      */
     public Result<JobStatusTraceEvent> findJobStatusTraceEvents(final Condition condition) {
-        return new Result<>(getEventCount(TABLE_JOB_STATUS_TRACE_LOG, FIELDS_JOB_STATUS_TRACE_LOG, condition), getJobStatusTraceEvents(condition));
+        try (Connection conn = dataSource.getConnection()) {
+            return new Result<>(getEventCount(conn, TABLE_JOB_STATUS_TRACE_LOG, FIELDS_JOB_STATUS_TRACE_LOG, condition), getJobStatusTraceEvents(conn, condition));
+        } catch (final SQLException ex) {
+            // TODO log failure directly to output log, consider to be configurable in the future
+            log.error("Fetch JobStatusTraceEvent from DB error:", ex);
+        }
+        return new Result<>(0, Collections.emptyList());
     }
     
-    private List<JobExecutionEvent> getJobExecutionEvents(final Condition condition) {
-        List<JobExecutionEvent> result = new LinkedList<>();
+    private List<JobExecutionEvent> getJobExecutionEvents(final Connection conn, final Condition condition) {
+        List<JobExecutionEvent> result = new ArrayList<>(getPageSize(condition));
         try (
-                Connection conn = dataSource.getConnection();
                 PreparedStatement preparedStatement = createDataPreparedStatement(conn, TABLE_JOB_EXECUTION_LOG, FIELDS_JOB_EXECUTION_LOG, condition);
                 ResultSet resultSet = preparedStatement.executeQuery()
                 ) {
@@ -98,10 +127,9 @@ public final class JobEventRdbSearch {
         return result;
     }
     
-    private List<JobStatusTraceEvent> getJobStatusTraceEvents(final Condition condition) {
-        List<JobStatusTraceEvent> result = new LinkedList<>();
+    private List<JobStatusTraceEvent> getJobStatusTraceEvents(final Connection conn, final Condition condition) {
+        List<JobStatusTraceEvent> result = new ArrayList<>(getPageSize(condition));
         try (
-                Connection conn = dataSource.getConnection();
                 PreparedStatement preparedStatement = createDataPreparedStatement(conn, TABLE_JOB_STATUS_TRACE_LOG, FIELDS_JOB_STATUS_TRACE_LOG, condition);
                 ResultSet resultSet = preparedStatement.executeQuery()
                 ) {
@@ -118,10 +146,9 @@ public final class JobEventRdbSearch {
         return result;
     }
     
-    private int getEventCount(final String tableName, final Collection<String> tableFields, final Condition condition) {
+    private int getEventCount(final Connection conn, final String tableName, final Collection<String> tableFields, final Condition condition) {
         int result = 0;
         try (
-                Connection conn = dataSource.getConnection();
                 PreparedStatement preparedStatement = createCountPreparedStatement(conn, tableName, tableFields, condition);
                 ResultSet resultSet = preparedStatement.executeQuery()
                 ) {
@@ -137,12 +164,15 @@ public final class JobEventRdbSearch {
     private PreparedStatement createDataPreparedStatement(final Connection conn, final String tableName, final Collection<String> tableFields, final Condition condition) throws SQLException {
         String sql = buildDataSql(tableName, tableFields, condition);
         PreparedStatement result = conn.prepareStatement(sql);
-        setBindValue(result, tableFields, condition);
+        int index = setBindValue(result, tableFields, condition);
+        if (condition.isKeysetPagination()) {
+            setKeysetBindValue(result, index, condition);
+        }
         return result;
     }
     
     private PreparedStatement createCountPreparedStatement(final Connection conn, final String tableName, final Collection<String> tableFields, final Condition condition) throws SQLException {
-        String sql = buildCountSql(tableName, tableFields, condition);
+        String sql = buildCountSql(conn, tableName, tableFields, condition);
         PreparedStatement result = conn.prepareStatement(sql);
         setBindValue(result, tableFields, condition);
         return result;
@@ -152,18 +182,38 @@ public final class JobEventRdbSearch {
         StringBuilder sqlBuilder = new StringBuilder();
         String selectSql = buildSelect(tableName, tableFields);
         String whereSql = buildWhere(tableName, tableFields, condition);
-        String orderSql = buildOrder(tableFields, condition.getSort(), condition.getOrder());
-        String limitSql = buildLimit(condition.getPage(), condition.getPerPage());
-        sqlBuilder.append(selectSql).append(whereSql).append(orderSql).append(limitSql);
+        if (condition.isKeysetPagination()) {
+            String keysetWhereSql = buildKeysetWhere(tableName, condition.getOrder());
+            String keysetOrderSql = buildKeysetOrder(tableName, condition.getOrder());
+            String limitSql = buildLimit(1, condition.getPerPage());
+            sqlBuilder.append(selectSql).append(whereSql).append(keysetWhereSql).append(keysetOrderSql).append(limitSql);
+        } else {
+            String orderSql = buildOrder(tableName, tableFields, condition.getSort(), condition.getOrder());
+            String limitSql = buildLimit(condition.getPage(), condition.getPerPage());
+            sqlBuilder.append(selectSql).append(whereSql).append(orderSql).append(limitSql);
+        }
         return sqlBuilder.toString();
     }
     
-    private String buildCountSql(final String tableName, final Collection<String> tableFields, final Condition condition) {
-        StringBuilder sqlBuilder = new StringBuilder();
-        String selectSql = buildSelectCount(tableName);
+    private String buildCountSql(final Connection conn, final String tableName, final Collection<String> tableFields, final Condition condition) throws SQLException {
         String whereSql = buildWhere(tableName, tableFields, condition);
-        sqlBuilder.append(selectSql).append(whereSql);
-        return sqlBuilder.toString();
+        if (condition.isApproximateCount()) {
+            return String.format(getApproximateCountSql(conn, tableName), whereSql, MAX_APPROXIMATE_COUNT);
+        }
+        return buildSelectCount(tableName) + whereSql;
+    }
+    
+    private String getApproximateCountSql(final Connection conn, final String tableName) throws SQLException {
+        RDBStorageSQLMapper mapper = getSQLMapper(conn);
+        return TABLE_JOB_EXECUTION_LOG.equals(tableName) ? mapper.getSelectApproximateCountForJobExecutionLog() : mapper.getSelectApproximateCountForJobStatusTraceLog();
+    }
+    
+    private RDBStorageSQLMapper getSQLMapper(final Connection conn) throws SQLException {
+        if (null == sqlMapper) {
+            DatabaseType databaseType = DATABASE_TYPES.getOrDefault(conn.getMetaData().getDatabaseProductName(), new DefaultDatabaseType());
+            sqlMapper = new RDBStorageSQLMapper(databaseType.getSQLPropertiesFile());
+        }
+        return sqlMapper;
     }
     
     private String buildSelectCount(final String tableName) {
@@ -201,22 +251,36 @@ public final class JobEventRdbSearch {
         return sqlBuilder.toString();
     }
     
-    private void setBindValue(final PreparedStatement preparedStatement, final Collection<String> tableFields, final Condition condition) throws SQLException {
-        int index = 1;
+    private String buildKeysetWhere(final String tableName, final String sortOrder) {
+        String timeField = getTableTimeField(tableName);
+        String operator = isDescending(sortOrder) ? "<" : ">";
+        return String.format(" AND (%s%s? OR (%s=? AND id%s?))", timeField, operator, timeField, operator);
+    }
+    
+    private int setBindValue(final PreparedStatement preparedStatement, final Collection<String> tableFields, final Condition condition) throws SQLException {
+        int result = 1;
         if (null != condition.getFields() && !condition.getFields().isEmpty()) {
             for (Map.Entry<String, Object> entry : condition.getFields().entrySet()) {
                 String lowerUnderscore = CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, entry.getKey());
                 if (null != entry.getValue() && tableFields.contains(lowerUnderscore)) {
-                    preparedStatement.setString(index++, String.valueOf(entry.getValue()));
+                    preparedStatement.setString(result++, String.valueOf(entry.getValue()));
                 }
             }
         }
         if (null != condition.getStartTime()) {
-            preparedStatement.setTimestamp(index++, new Timestamp(condition.getStartTime().getTime()));
+            preparedStatement.setTimestamp(result++, new Timestamp(condition.getStartTime().getTime()));
         }
         if (null != condition.getEndTime()) {
-            preparedStatement.setTimestamp(index, new Timestamp(condition.getEndTime().getTime()));
+            preparedStatement.setTimestamp(result++, new Timestamp(condition.getEndTime().getTime()));
         }
+        return result;
+    }
+    
+    private void setKeysetBindValue(final PreparedStatement preparedStatement, final int startIndex, final Condition condition) throws SQLException {
+        Timestamp afterTime = new Timestamp(condition.getAfterTime().getTime());
+        preparedStatement.setTimestamp(startIndex, afterTime);
+        preparedStatement.setTimestamp(startIndex + 1, afterTime);
+        preparedStatement.setString(startIndex + 2, condition.getAfterId());
     }
     
     private String getTableTimeField(final String tableName) {
@@ -229,7 +293,7 @@ public final class JobEventRdbSearch {
         return result;
     }
     
-    private String buildOrder(final Collection<String> tableFields, final String sortName, final String sortOrder) {
+    private String buildOrder(final String tableName, final Collection<String> tableFields, final String sortName, final String sortOrder) {
         if (Strings.isNullOrEmpty(sortName)) {
             return "";
         }
@@ -237,9 +301,12 @@ public final class JobEventRdbSearch {
         if (!tableFields.contains(lowerUnderscore)) {
             return "";
         }
+        if (getTableTimeField(tableName).equals(lowerUnderscore)) {
+            return buildKeysetOrder(tableName, sortOrder);
+        }
         StringBuilder sqlBuilder = new StringBuilder();
         sqlBuilder.append(" ORDER BY ").append(lowerUnderscore);
-        if ("DESC".equals(sortOrder.toUpperCase())) {
+        if (isDescending(sortOrder)) {
             sqlBuilder.append(" DESC");
         } else {
             sqlBuilder.append(" ASC");
@@ -247,6 +314,15 @@ public final class JobEventRdbSearch {
         return sqlBuilder.toString();
     }
     
+    private String buildKeysetOrder(final String tableName, final String sortOrder) {
+        String direction = isDescending(sortOrder) ? " DESC" : " ASC";
+        return " ORDER BY " + getTableTimeField(tableName) + direction + ", id" + direction;
+    }
+    
+    private boolean isDescending(final String sortOrder) {
+        return null != sortOrder && "DESC".equals(sortOrder.toUpperCase());
+    }
+    
     private String buildLimit(final int page, final int perPage) {
         StringBuilder sqlBuilder = new StringBuilder();
         if (page > 0 && perPage > 0) {
@@ -256,9 +332,16 @@ public final class JobEventRdbSearch {
         }
         return sqlBuilder.toString();
     }
-
+    
+    private int getPageSize(final Condition condition) {
+        return condition.getPerPage() > 0 ? condition.getPerPage() : Condition.DEFAULT_PAGE_SIZE;
+    }
+    
     /**
      * Query condition.
+     * 
+     * <p>If {@code afterTime} and {@code afterId} are both present, the rows after this position are fetched in time and id order (keyset pagination),
+     * {@code page} and {@code sort} are ignored. The count is capped when {@code approximateCount} is true.</p>
      */
     @RequiredArgsConstructor
     @Getter
@@ -279,6 +362,36 @@ public final class JobEventRdbSearch {
         private final Date endTime;
         
         private final Map<String, Object> fields;
+        
+        private final Date afterTime;
+        
+        private final String afterId;
+        
+        private final boolean approximateCount;
+        
+        /**
+         * Create query condition with offset pagination and exact count.
+         *
+         * @param perPage rows per page
+         * @param page page number, start from 1
+         * @param sort sort field name
+         * @param order sort order, ASC or DESC
+         * @param startTime start time
+         * @param endTime end time
+         * @param fields field values to match
+         */
+        public Condition(final int perPage, final int page, final String sort, final String order, final Date startTime, final Date endTime, final Map<String, Object> fields) {
+            this(perPage, page, sort, order, startTime, endTime, fields, null, null, false);
+        }
+        
+        /**
+         * Judge whether to use keyset pagination.
+         * 
+         * @return use keyset pagination or not
+         */
+        public boolean isKeysetPagination() {
+            return null != afterTime && null != afterId;
+        }
     }
     
     @RequiredArgsConstructor
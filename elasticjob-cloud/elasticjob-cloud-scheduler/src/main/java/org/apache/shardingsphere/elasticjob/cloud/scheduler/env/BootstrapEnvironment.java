@@ -119,7 +119,8 @@ public final class BootstrapEnvironment {
      * @return the framework config
      */
     public FrameworkConfiguration getFrameworkConfiguration() {
-        return new FrameworkConfiguration(Integer.parseInt(getValue(EnvironmentArgument.JOB_STATE_QUEUE_SIZE)), Integer.parseInt(getValue(EnvironmentArgument.RECONCILE_INTERVAL_MINUTES)));
+        return new FrameworkConfiguration(Integer.parseInt(getValue(EnvironmentArgument.JOB_STATE_QUEUE_SIZE)), Integer.parseInt(getValue(EnvironmentArgument.RECONCILE_INTERVAL_MINUTES)),
+                Long.parseLong(getValue(EnvironmentArgument.LEASE_OFFER_EXPIRY_SECONDS)), Double.parseDouble(getValue(EnvironmentArgument.OFFER_REFUSE_SECONDS)));
     }
 
     /**
@@ -223,6 +224,10 @@ public final class BootstrapEnvironment {
         EVENT_TRACE_RDB_PASSWORD("event_trace_rdb_password", "", false),
     
         RECONCILE_INTERVAL_MINUTES("reconcile_interval_minutes", "-1", false),
+        
+        LEASE_OFFER_EXPIRY_SECONDS("lease_offer_expiry_seconds", "120", false),
+        
+        OFFER_REFUSE_SECONDS("offer_refuse_seconds", "5", false),
 
         AUTH_USERNAME("auth_username", "root", true),
 
@@ -31,6 +31,10 @@ public final class FrameworkConfiguration {
     
     private final int reconcileIntervalMinutes;
     
+    private final long leaseOfferExpirySeconds;
+    
+    private final double offerRefuseSeconds;
+    
     /**
      * Check whether reconcile service is enabled or not.
      * 
@@ -24,19 +24,27 @@ import lombok.NoArgsConstructor;
 import org.apache.mesos.Protos;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Map;
 
 /**
  * Lease queue.
+ * 
+ * <p>Pending offers are consolidated by hostname and indexed by offer ID, so duplicated offers are merged, rescinded offers are dropped before scheduling,
+ * and offers of the same host are handed to the scheduler together.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class LeasesQueue {
     
     private static final LeasesQueue INSTANCE = new LeasesQueue();
     
-    private final BlockingQueue<VirtualMachineLease> queue = new LinkedBlockingQueue<>();
+    private final Map<String, Map<String, VirtualMachineLease>> hostLeases = new LinkedHashMap<>();
+    
+    private final Map<String, String> offerHostnames = new HashMap<>();
     
     /**
      * Get instance.
@@ -52,18 +60,101 @@ public final class LeasesQueue {
      *
      * @param offer resource
      */
-    public void offer(final Protos.Offer offer) {
-        queue.offer(new VMLeaseObject(offer));
+    public synchronized void offer(final Protos.Offer offer) {
+        String offerId = offer.getId().getValue();
+        String previousHostname = offerHostnames.put(offerId, offer.getHostname());
+        if (null != previousHostname && !previousHostname.equals(offer.getHostname())) {
+            removeLease(previousHostname, offerId);
+        }
+        hostLeases.computeIfAbsent(offer.getHostname(), key -> new LinkedHashMap<>()).put(offerId, new VMLeaseObject(offer));
+    }
+    
+    /**
+     * Offer resources to lease queue.
+     *
+     * @param offers resources
+     */
+    public synchronized void offer(final Collection<Protos.Offer> offers) {
+        for (Protos.Offer each : offers) {
+            offer(each);
+        }
+    }
+    
+    /**
+     * Rescind offer which is still pending in lease queue.
+     *
+     * @param offerId offer ID
+     * @return true if the offer was pending and has been dropped, otherwise false
+     */
+    public synchronized boolean rescind(final String offerId) {
+        String hostname = offerHostnames.remove(offerId);
+        return null != hostname && removeLease(hostname, offerId);
+    }
+    
+    private boolean removeLease(final String hostname, final String offerId) {
+        Map<String, VirtualMachineLease> leases = hostLeases.get(hostname);
+        if (null == leases || null == leases.remove(offerId)) {
+            return false;
+        }
+        if (leases.isEmpty()) {
+            hostLeases.remove(hostname);
+        }
+        return true;
+    }
+    
+    /**
+     * Rescind all pending offers from the slave.
+     *
+     * @param slaveId slave ID
+     */
+    public synchronized void rescindAllBySlaveId(final String slaveId) {
+        Iterator<Map<String, VirtualMachineLease>> hostIterator = hostLeases.values().iterator();
+        while (hostIterator.hasNext()) {
+            Map<String, VirtualMachineLease> leases = hostIterator.next();
+            Iterator<VirtualMachineLease> leaseIterator = leases.values().iterator();
+            while (leaseIterator.hasNext()) {
+                VirtualMachineLease each = leaseIterator.next();
+                if (slaveId.equals(each.getVMID())) {
+                    leaseIterator.remove();
+                    offerHostnames.remove(each.getId());
+                }
+            }
+            if (leases.isEmpty()) {
+                hostIterator.remove();
+            }
+        }
+    }
+    
+    /**
+     * Get count of pending offers.
+     *
+     * @return count of pending offers
+     */
+    public synchronized int size() {
+        return offerHostnames.size();
+    }
+    
+    /**
+     * Get count of hosts which have pending offers.
+     *
+     * @return count of hosts
+     */
+    public synchronized int hostSize() {
+        return hostLeases.size();
     }
     
     /**
-     * Dump all the resources from lease queue.
+     * Dump all the resources from lease queue, the resources from the same host are adjacent.
      * 
      * @return collection of resources
      */
-    public List<VirtualMachineLease> drainTo() {
-        List<VirtualMachineLease> result = new ArrayList<>(queue.size());
-        queue.drainTo(result);
+    public synchronized List<VirtualMachineLease> drainTo() {
+        List<VirtualMachineLease> result = new ArrayList<>(offerHostnames.size());
+        for (Map<String, VirtualMachineLease> each : hostLeases.values()) {
+            result.addAll(each.values());
+        }
+        hostLeases.clear();
+        offerHostnames.clear();
         return result;
     }
 }
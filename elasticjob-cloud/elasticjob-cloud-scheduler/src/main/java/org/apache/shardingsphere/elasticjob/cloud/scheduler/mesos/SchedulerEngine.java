@@ -65,16 +65,16 @@ public final class SchedulerEngine implements Scheduler {
     
     @Override
     public void resourceOffers(final SchedulerDriver schedulerDriver, final List<Protos.Offer> offers) {
-        for (Protos.Offer offer: offers) {
-            log.trace("Adding offer {} from host {}", offer.getId(), offer.getHostname());
-            LeasesQueue.getInstance().offer(offer);
-        }
+        log.trace("Adding {} offers", offers.size());
+        LeasesQueue.getInstance().offer(offers);
     }
     
     @Override
     public void offerRescinded(final SchedulerDriver schedulerDriver, final Protos.OfferID offerID) {
         log.trace("call offerRescinded: {}", offerID);
-        taskScheduler.expireLease(offerID.getValue());
+        if (!LeasesQueue.getInstance().rescind(offerID.getValue())) {
+            taskScheduler.expireLease(offerID.getValue());
+        }
     }
     
     @Override
@@ -151,6 +151,7 @@ public final class SchedulerEngine implements Scheduler {
     @Override
     public void slaveLost(final SchedulerDriver schedulerDriver, final Protos.SlaveID slaveID) {
         log.warn("call slaveLost slaveID is: {}", slaveID);
+        LeasesQueue.getInstance().rescindAllBySlaveId(slaveID.getValue());
         taskScheduler.expireAllLeasesByVMId(slaveID.getValue());
     }
     
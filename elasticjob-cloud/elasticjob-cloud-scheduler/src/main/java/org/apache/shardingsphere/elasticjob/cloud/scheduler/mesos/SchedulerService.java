@@ -28,6 +28,7 @@ import org.apache.shardingsphere.elasticjob.cloud.console.ConsoleBootstrap;
 import org.apache.shardingsphere.elasticjob.cloud.scheduler.config.app.CloudAppConfigurationListener;
 import org.apache.shardingsphere.elasticjob.cloud.scheduler.config.job.CloudJobConfigurationListener;
 import org.apache.shardingsphere.elasticjob.cloud.scheduler.env.BootstrapEnvironment;
+import org.apache.shardingsphere.elasticjob.cloud.scheduler.env.FrameworkConfiguration;
 import org.apache.shardingsphere.elasticjob.cloud.scheduler.env.MesosConfiguration;
 import org.apache.shardingsphere.elasticjob.cloud.scheduler.ha.FrameworkIDService;
 import org.apache.shardingsphere.elasticjob.cloud.scheduler.producer.ProducerManager;
@@ -108,11 +109,13 @@ public final class SchedulerService {
     }
     
     private TaskScheduler getTaskScheduler() {
+        FrameworkConfiguration frameworkConfig = env.getFrameworkConfiguration();
+        Protos.Filters declineFilters = Protos.Filters.newBuilder().setRefuseSeconds(frameworkConfig.getOfferRefuseSeconds()).build();
         return new TaskScheduler.Builder()
-                .withLeaseOfferExpirySecs(1000000000L)
+                .withLeaseOfferExpirySecs(frameworkConfig.getLeaseOfferExpirySeconds())
                 .withLeaseRejectAction(lease -> {
                     log.warn("Declining offer on '{}'", lease.hostname());
-                    schedulerDriver.declineOffer(lease.getOffer().getId());
+                    schedulerDriver.declineOffer(lease.getOffer().getId(), declineFilters);
                 }).build();
     }
     
@@ -19,47 +19,55 @@ package org.apache.shardingsphere.elasticjob.cloud.scheduler.producer;
 
 import org.quartz.JobKey;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Transient producer repository.
  */
 final class TransientProducerRepository {
     
-    private final ConcurrentHashMap<JobKey, List<String>> cronTasks = new ConcurrentHashMap<>(256, 1);
+    private final ConcurrentHashMap<JobKey, Set<String>> cronTasks = new ConcurrentHashMap<>(256, 1);
     
-    synchronized void put(final JobKey jobKey, final String jobName) {
-        remove(jobName);
-        List<String> taskList = cronTasks.get(jobKey);
-        if (null == taskList) {
-            taskList = new CopyOnWriteArrayList<>();
-            taskList.add(jobName);
-            cronTasks.put(jobKey, taskList);
-            return;
+    private final ConcurrentHashMap<String, JobKey> jobKeys = new ConcurrentHashMap<>(256, 1);
+    
+    void put(final JobKey jobKey, final String jobName) {
+        JobKey previousJobKey = jobKeys.put(jobName, jobKey);
+        if (null != previousJobKey && !previousJobKey.equals(jobKey)) {
+            remove(previousJobKey, jobName);
         }
-        if (!taskList.contains(jobName)) {
-            taskList.add(jobName);
+        cronTasks.compute(jobKey, (key, jobNames) -> {
+            Set<String> result = null == jobNames ? ConcurrentHashMap.newKeySet() : jobNames;
+            result.add(jobName);
+            return result;
+        });
+    }
+    
+    void remove(final String jobName) {
+        JobKey jobKey = jobKeys.remove(jobName);
+        if (null != jobKey) {
+            remove(jobKey, jobName);
         }
     }
     
-    synchronized void remove(final String jobName) {
-        for (Entry<JobKey, List<String>> each : cronTasks.entrySet()) {
-            JobKey jobKey = each.getKey();
-            List<String> jobNames = each.getValue();
+    private void remove(final JobKey jobKey, final String jobName) {
+        cronTasks.computeIfPresent(jobKey, (key, jobNames) -> {
             jobNames.remove(jobName);
-            if (jobNames.isEmpty()) {
-                cronTasks.remove(jobKey);
-            }
-        }
+            return jobNames.isEmpty() ? null : jobNames;
+        });
+    }
+    
+    Optional<JobKey> findJobKey(final String jobName) {
+        return Optional.ofNullable(jobKeys.get(jobName));
     }
     
     List<String> get(final JobKey jobKey) {
-        List<String> result = cronTasks.get(jobKey);
-        return null == result ? Collections.emptyList() : result;
+        Set<String> result = cronTasks.get(jobKey);
+        return null == result ? Collections.emptyList() : new ArrayList<>(result);
     }
     
     boolean containsKey(final JobKey jobKey) {
@@ -68,5 +76,6 @@ final class TransientProducerRepository {
     
     void removeAll() {
         cronTasks.clear();
+        jobKeys.clear();
     }
 }
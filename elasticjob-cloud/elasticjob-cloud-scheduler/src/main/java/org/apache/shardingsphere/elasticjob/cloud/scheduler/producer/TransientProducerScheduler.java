@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.elasticjob.cloud.scheduler.producer;
 
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Striped;
 import lombok.Setter;
 import org.apache.shardingsphere.elasticjob.cloud.config.pojo.CloudJobConfigurationPOJO;
 import org.apache.shardingsphere.elasticjob.cloud.scheduler.state.ready.ReadyService;
@@ -36,18 +38,26 @@ import org.quartz.impl.StdSchedulerFactory;
 import org.quartz.plugins.management.ShutdownHookPlugin;
 import org.quartz.simpl.SimpleThreadPool;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.locks.Lock;
 
 /**
  * Transient producer scheduler.
  */
 final class TransientProducerScheduler {
     
+    private static final int CRON_LOCK_STRIPES = 64;
+    
     private final TransientProducerRepository repository;
     
     private final ReadyService readyService;
     
+    private final Striped<Lock> cronLocks = Striped.lock(CRON_LOCK_STRIPES);
+    
     private Scheduler scheduler;
     
     TransientProducerScheduler(final ReadyService readyService) {
@@ -84,15 +94,34 @@ final class TransientProducerScheduler {
         return result;
     }
     
-    // TODO Concurrency optimization
-    synchronized void register(final CloudJobConfigurationPOJO cloudJobConfig) {
+    void register(final CloudJobConfigurationPOJO cloudJobConfig) {
         String cron = cloudJobConfig.getCron();
         JobKey jobKey = buildJobKey(cron);
-        repository.put(jobKey, cloudJobConfig.getJobName());
+        while (true) {
+            Optional<JobKey> previousJobKey = repository.findJobKey(cloudJobConfig.getJobName());
+            List<String> lockedCrons = previousJobKey.map(optional -> Arrays.asList(cron, optional.getName())).orElse(Collections.singletonList(cron));
+            List<Lock> locks = Lists.newArrayList(cronLocks.bulkGet(lockedCrons));
+            locks.forEach(Lock::lock);
+            try {
+                if (previousJobKey.equals(repository.findJobKey(cloudJobConfig.getJobName()))) {
+                    register(jobKey, cloudJobConfig.getJobName(), previousJobKey.orElse(null));
+                    return;
+                }
+            } finally {
+                Lists.reverse(locks).forEach(Lock::unlock);
+            }
+        }
+    }
+    
+    private void register(final JobKey jobKey, final String jobName, final JobKey previousJobKey) {
         try {
+            repository.put(jobKey, jobName);
             if (!scheduler.checkExists(jobKey)) {
                 scheduler.scheduleJob(buildJobDetail(jobKey), buildTrigger(jobKey.getName()));
             }
+            if (null != previousJobKey && !previousJobKey.equals(jobKey) && !repository.containsKey(previousJobKey)) {
+                scheduler.unscheduleJob(TriggerKey.triggerKey(previousJobKey.getName()));
+            }
         } catch (final SchedulerException ex) {
             throw new JobSystemException(ex);
         }
@@ -109,15 +138,19 @@ final class TransientProducerScheduler {
         return TriggerBuilder.newTrigger().withIdentity(cron).withSchedule(CronScheduleBuilder.cronSchedule(cron).withMisfireHandlingInstructionDoNothing()).build();
     }
     
-    synchronized void deregister(final CloudJobConfigurationPOJO cloudJobConfig) {
-        repository.remove(cloudJobConfig.getJobName());
+    void deregister(final CloudJobConfigurationPOJO cloudJobConfig) {
         String cron = cloudJobConfig.getCron();
-        if (!repository.containsKey(buildJobKey(cron))) {
-            try {
+        Lock lock = cronLocks.get(cron);
+        lock.lock();
+        try {
+            repository.remove(cloudJobConfig.getJobName());
+            if (!repository.containsKey(buildJobKey(cron))) {
                 scheduler.unscheduleJob(TriggerKey.triggerKey(cron));
-            } catch (final SchedulerException ex) {
-                throw new JobSystemException(ex);
             }
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        } finally {
+            lock.unlock();
         }
     }
     
@@ -146,8 +179,8 @@ final class TransientProducerScheduler {
         @Override
         public void execute(final JobExecutionContext context) {
             List<String> jobNames = repository.get(context.getJobDetail().getKey());
-            for (String each : jobNames) {
-                readyService.addTransient(each);
+            if (!jobNames.isEmpty()) {
+                readyService.addTransient(jobNames);
             }
         }
     }
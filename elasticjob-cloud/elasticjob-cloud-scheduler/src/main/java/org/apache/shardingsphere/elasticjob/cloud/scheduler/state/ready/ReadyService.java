@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.elasticjob.cloud.scheduler.state.ready;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.elasticjob.cloud.config.pojo.CloudJobConfigurationPOJO;
 import org.apache.shardingsphere.elasticjob.infra.context.ExecutionType;
@@ -27,14 +28,17 @@ import org.apache.shardingsphere.elasticjob.cloud.scheduler.context.JobContext;
 import org.apache.shardingsphere.elasticjob.cloud.scheduler.env.BootstrapEnvironment;
 import org.apache.shardingsphere.elasticjob.cloud.scheduler.state.running.RunningService;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +47,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class ReadyService {
     
+    private static final int TRANSACTION_BATCH_SIZE = 100;
+    
     private final BootstrapEnvironment env = BootstrapEnvironment.getINSTANCE();
     
     private final CoordinatorRegistryCenter regCenter;
@@ -80,6 +86,59 @@ public final class ReadyService {
         }
     }
     
+    /**
+     * Add transient jobs to ready queue in batch.
+     * 
+     * <p>The ready queue is listed once and only the jobs already in it are read.
+     * The ready nodes are written in transactions of bounded size, the jobs in the failed transaction will be persisted one by one.</p>
+     *
+     * @param jobNames job names
+     */
+    public void addTransient(final Collection<String> jobNames) {
+        int jobStateQueueSize = env.getFrameworkConfiguration().getJobStateQueueSize();
+        if (!regCenter.isExisted(ReadyNode.ROOT)) {
+            regCenter.persist(ReadyNode.ROOT, "");
+        }
+        List<String> readyJobNodes = regCenter.getChildrenKeys(ReadyNode.ROOT);
+        int readyJobCount = readyJobNodes.size();
+        Set<String> readyJobNames = new HashSet<>(readyJobNodes);
+        List<TransactionOperation> transactionOperations = new ArrayList<>(jobNames.size());
+        for (String each : jobNames) {
+            if (readyJobCount > jobStateQueueSize) {
+                log.warn("Cannot add transient job, caused by read state queue size is larger than {}.", jobStateQueueSize);
+                break;
+            }
+            Optional<CloudJobConfigurationPOJO> cloudJobConfig = configService.load(each);
+            if (!cloudJobConfig.isPresent() || CloudJobExecutionType.TRANSIENT != cloudJobConfig.get().getJobExecutionType()) {
+                continue;
+            }
+            String readyJobNode = ReadyNode.getReadyJobNodePath(each);
+            String times = readyJobNames.contains(each) ? regCenter.getDirectly(readyJobNode) : null;
+            if (null == times) {
+                transactionOperations.add(TransactionOperation.opAdd(readyJobNode, "1"));
+                readyJobCount++;
+            } else {
+                transactionOperations.add(TransactionOperation.opUpdate(readyJobNode, cloudJobConfig.get().isMisfire() ? Integer.toString(Integer.parseInt(times) + 1) : "1"));
+            }
+        }
+        for (List<TransactionOperation> each : Lists.partition(transactionOperations, TRANSACTION_BATCH_SIZE)) {
+            persistInTransaction(each);
+        }
+    }
+    
+    private void persistInTransaction(final List<TransactionOperation> transactionOperations) {
+        try {
+            regCenter.executeInTransaction(transactionOperations);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Add transient jobs in transaction failure, persist them one by one.", ex);
+            for (TransactionOperation each : transactionOperations) {
+                regCenter.persist(each.getKey(), each.getValue());
+            }
+        }
+    }
+    
     /**
      * Add daemon job to ready queue.
      *
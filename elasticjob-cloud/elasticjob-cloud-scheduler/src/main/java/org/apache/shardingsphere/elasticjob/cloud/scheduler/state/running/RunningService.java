@@ -28,14 +28,15 @@ import org.apache.shardingsphere.elasticjob.cloud.config.CloudJobExecutionType;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Running service.
@@ -47,7 +48,9 @@ public final class RunningService {
     
     // TODO Using JMX to export
     @Getter
-    private static final ConcurrentHashMap<String, Set<TaskContext>> RUNNING_TASKS = new ConcurrentHashMap<>(TASK_INITIAL_SIZE);
+    private static final ConcurrentHashMap<String, ConcurrentMap<String, TaskContext>> RUNNING_TASKS = new ConcurrentHashMap<>(TASK_INITIAL_SIZE);
+    
+    private static final ConcurrentHashMap<MetaInfo, Integer> RUNNING_META_INFO_COUNTS = new ConcurrentHashMap<>(TASK_INITIAL_SIZE);
     
     private static final ConcurrentHashMap<String, String> TASK_HOSTNAME_MAPPER = new ConcurrentHashMap<>(TASK_INITIAL_SIZE);
     
@@ -71,8 +74,13 @@ public final class RunningService {
                 remove(each);
                 continue;
             }
-            RUNNING_TASKS.put(each, Sets.newCopyOnWriteArraySet(regCenter.getChildrenKeys(RunningNode.getRunningJobNodePath(each)).stream().map(
-                input -> TaskContext.from(regCenter.get(RunningNode.getRunningTaskNodePath(MetaInfo.from(input).toString())))).collect(Collectors.toList())));
+            ConcurrentMap<String, TaskContext> taskContexts = getOrCreateRunningTasks(each);
+            for (String input : regCenter.getChildrenKeys(RunningNode.getRunningJobNodePath(each))) {
+                TaskContext taskContext = TaskContext.from(regCenter.get(RunningNode.getRunningTaskNodePath(MetaInfo.from(input).toString())));
+                if (null == taskContexts.putIfAbsent(taskContext.getId(), taskContext)) {
+                    countMetaInfo(taskContext.getMetaInfo(), 1);
+                }
+            }
         }
     }
     
@@ -85,7 +93,9 @@ public final class RunningService {
         if (!configurationService.load(taskContext.getMetaInfo().getJobName()).isPresent()) {
             return;
         }
-        getRunningTasks(taskContext.getMetaInfo().getJobName()).add(taskContext);
+        if (null == getOrCreateRunningTasks(taskContext.getMetaInfo().getJobName()).putIfAbsent(taskContext.getId(), taskContext)) {
+            countMetaInfo(taskContext.getMetaInfo(), 1);
+        }
         if (!isDaemon(taskContext.getMetaInfo().getJobName())) {
             return;
         }
@@ -107,18 +117,17 @@ public final class RunningService {
      * @param isIdle is idle
      */
     public void updateIdle(final TaskContext taskContext, final boolean isIdle) {
-        synchronized (RUNNING_TASKS) {
-            Optional<TaskContext> taskContextOptional = findTask(taskContext);
-            if (taskContextOptional.isPresent()) {
-                taskContextOptional.get().setIdle(isIdle);
-            } else {
-                add(taskContext);
-            }
+        Optional<TaskContext> taskContextOptional = findTask(taskContext);
+        if (taskContextOptional.isPresent()) {
+            taskContextOptional.get().setIdle(isIdle);
+        } else {
+            add(taskContext);
         }
     }
     
     private Optional<TaskContext> findTask(final TaskContext taskContext) {
-        return getRunningTasks(taskContext.getMetaInfo().getJobName()).stream().filter(each -> each.equals(taskContext)).findFirst();
+        ConcurrentMap<String, TaskContext> taskContexts = RUNNING_TASKS.get(taskContext.getMetaInfo().getJobName());
+        return null == taskContexts ? Optional.empty() : Optional.ofNullable(taskContexts.get(taskContext.getId()));
     }
     
     /**
@@ -127,7 +136,12 @@ public final class RunningService {
      * @param jobName job name
      */
     public void remove(final String jobName) {
-        RUNNING_TASKS.remove(jobName);
+        ConcurrentMap<String, TaskContext> taskContexts = RUNNING_TASKS.remove(jobName);
+        if (null != taskContexts) {
+            for (TaskContext each : taskContexts.values()) {
+                countMetaInfo(each.getMetaInfo(), -1);
+            }
+        }
         if (!isDaemonOrAbsent(jobName)) {
             return;
         }
@@ -140,7 +154,11 @@ public final class RunningService {
      * @param taskContext task running context
      */
     public void remove(final TaskContext taskContext) {
-        getRunningTasks(taskContext.getMetaInfo().getJobName()).remove(taskContext);
+        ConcurrentMap<String, TaskContext> taskContexts = RUNNING_TASKS.get(taskContext.getMetaInfo().getJobName());
+        TaskContext removedTaskContext = null == taskContexts ? null : taskContexts.remove(taskContext.getId());
+        if (null != removedTaskContext) {
+            countMetaInfo(removedTaskContext.getMetaInfo(), -1);
+        }
         if (!isDaemonOrAbsent(taskContext.getMetaInfo().getJobName())) {
             return;
         }
@@ -173,12 +191,7 @@ public final class RunningService {
      * @return true is running, otherwise not
      */
     public boolean isTaskRunning(final MetaInfo metaInfo) {
-        for (TaskContext each : getRunningTasks(metaInfo.getJobName())) {
-            if (each.getMetaInfo().equals(metaInfo)) {
-                return true;
-            }
-        }
-        return false;
+        return RUNNING_META_INFO_COUNTS.getOrDefault(metaInfo, 0) > 0;
     }
     
     /**
@@ -188,9 +201,16 @@ public final class RunningService {
      * @return collection of the running tasks
      */
     public Collection<TaskContext> getRunningTasks(final String jobName) {
-        Set<TaskContext> taskContexts = new CopyOnWriteArraySet<>();
-        Collection<TaskContext> result = RUNNING_TASKS.putIfAbsent(jobName, taskContexts);
-        return null == result ? taskContexts : result;
+        ConcurrentMap<String, TaskContext> result = RUNNING_TASKS.get(jobName);
+        return null == result ? Collections.emptyList() : result.values();
+    }
+    
+    private ConcurrentMap<String, TaskContext> getOrCreateRunningTasks(final String jobName) {
+        return RUNNING_TASKS.computeIfAbsent(jobName, key -> new ConcurrentHashMap<>());
+    }
+    
+    private void countMetaInfo(final MetaInfo metaInfo, final int delta) {
+        RUNNING_META_INFO_COUNTS.merge(metaInfo, delta, (oldValue, value) -> 0 == oldValue + value ? null : oldValue + value);
     }
     
     /**
@@ -200,7 +220,37 @@ public final class RunningService {
      */
     public Map<String, Set<TaskContext>> getAllRunningTasks() {
         Map<String, Set<TaskContext>> result = new HashMap<>(RUNNING_TASKS.size(), 1);
-        result.putAll(RUNNING_TASKS);
+        for (Map.Entry<String, ConcurrentMap<String, TaskContext>> entry : RUNNING_TASKS.entrySet()) {
+            result.put(entry.getKey(), new HashSet<>(entry.getValue().values()));
+        }
+        return result;
+    }
+    
+    /**
+     * Get count of jobs which have running tasks.
+     *
+     * @return running job count
+     */
+    public int getRunningJobCount() {
+        int result = 0;
+        for (ConcurrentMap<String, TaskContext> each : RUNNING_TASKS.values()) {
+            if (!each.isEmpty()) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get count of all running tasks.
+     *
+     * @return running task count
+     */
+    public int getRunningTaskCount() {
+        int result = 0;
+        for (ConcurrentMap<String, TaskContext> each : RUNNING_TASKS.values()) {
+            result += each.size();
+        }
         return result;
     }
     
@@ -217,9 +267,9 @@ public final class RunningService {
             }
         }
         Set<TaskContext> result = Sets.newHashSet();
-        for (Map.Entry<String, Set<TaskContext>> each : RUNNING_TASKS.entrySet()) {
+        for (Map.Entry<String, ConcurrentMap<String, TaskContext>> each : RUNNING_TASKS.entrySet()) {
             if (isDaemonOrAbsent(each.getKey())) {
-                result.addAll(each.getValue());
+                result.addAll(each.getValue().values());
             }
         }
         return result;
@@ -250,6 +300,7 @@ public final class RunningService {
      */
     public void clear() {
         RUNNING_TASKS.clear();
+        RUNNING_META_INFO_COUNTS.clear();
         TASK_HOSTNAME_MAPPER.clear();
     }
 }
@@ -20,7 +20,6 @@ package org.apache.shardingsphere.elasticjob.cloud.scheduler.statistics.job;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.shardingsphere.elasticjob.infra.context.TaskContext;
 import org.apache.shardingsphere.elasticjob.cloud.scheduler.state.running.RunningService;
 import org.apache.shardingsphere.elasticjob.cloud.scheduler.statistics.util.StatisticTimeUtils;
 import org.apache.shardingsphere.elasticjob.cloud.statistics.StatisticInterval;
@@ -40,7 +39,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 /**
  * Running job statistic.
@@ -84,9 +82,8 @@ public final class JobRunningStatisticJob extends AbstractStatisticJob {
     
     @Override
     public void execute(final JobExecutionContext context) {
-        Map<String, Set<TaskContext>> allRunningTasks = runningService.getAllRunningTasks();
-        statisticJob(getJobRunningCount(allRunningTasks));
-        statisticTask(getTaskRunningCount(allRunningTasks));
+        statisticJob(runningService.getRunningJobCount());
+        statisticTask(runningService.getRunningTaskCount());
     }
     
     private void statisticJob(final int runningCount) {
@@ -105,24 +102,6 @@ public final class JobRunningStatisticJob extends AbstractStatisticJob {
         repository.add(taskRunningStatistics);
     }
     
-    private int getJobRunningCount(final Map<String, Set<TaskContext>> allRunningTasks) {
-        int result = 0;
-        for (Map.Entry<String, Set<TaskContext>> entry : allRunningTasks.entrySet()) {
-            if (!entry.getValue().isEmpty()) {
-                result++;
-            }
-        }
-        return result;
-    }
-    
-    private int getTaskRunningCount(final Map<String, Set<TaskContext>> allRunningTasks) {
-        int result = 0;
-        for (Map.Entry<String, Set<TaskContext>> entry : allRunningTasks.entrySet()) {
-            result += entry.getValue().size();
-        }
-        return result;
-    }
-    
     private void fillBlankIfNeeded(final JobRunningStatistics latestOne) {
         List<Date> blankDateRange = findBlankStatisticTimes(latestOne.getStatisticsTime(), EXECUTE_INTERVAL);
         if (!blankDateRange.isEmpty()) {
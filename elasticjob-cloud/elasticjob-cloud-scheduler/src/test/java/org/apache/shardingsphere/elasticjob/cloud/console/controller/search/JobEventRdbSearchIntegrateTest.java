@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.cloud.console.controller.search;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.shardingsphere.elasticjob.tracing.event.JobStatusTraceEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class JobEventRdbSearchIntegrateTest {
+    
+    private static final int EVENT_COUNT = 500;
+    
+    private static final int PAGE_SIZE = 20;
+    
+    private static final long BASE_TIME = 1600000000000L;
+    
+    private BasicDataSource dataSource;
+    
+    private JobEventRdbSearch jobEventRdbSearch;
+    
+    @BeforeEach
+    public void setUp() throws SQLException {
+        dataSource = new BasicDataSource();
+        dataSource.setDriverClassName(org.h2.Driver.class.getName());
+        dataSource.setUrl("jdbc:h2:mem:job_event_search;MODE=MySQL");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute("CREATE TABLE IF NOT EXISTS JOB_STATUS_TRACE_LOG (id VARCHAR(40) NOT NULL, job_name VARCHAR(100) NOT NULL, "
+                    + "original_task_id VARCHAR(255) NOT NULL, task_id VARCHAR(255) NOT NULL, slave_id VARCHAR(50) NOT NULL, source VARCHAR(50) NOT NULL, "
+                    + "execution_type VARCHAR(20) NOT NULL, sharding_item VARCHAR(100) NOT NULL, state VARCHAR(20) NOT NULL, message VARCHAR(4000) NULL, "
+                    + "creation_time TIMESTAMP NULL, PRIMARY KEY (id))");
+            connection.createStatement().execute("CREATE INDEX IF NOT EXISTS JOB_NAME_CREATION_TIME_INDEX ON JOB_STATUS_TRACE_LOG (job_name, creation_time, id)");
+            insertEvents(connection, "test_job", EVENT_COUNT);
+            insertEvents(connection, "other_job", EVENT_COUNT / 5);
+        }
+        jobEventRdbSearch = new JobEventRdbSearch(dataSource);
+    }
+    
+    private void insertEvents(final Connection connection, final String jobName, final int count) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO JOB_STATUS_TRACE_LOG (id, job_name, original_task_id, task_id, slave_id, source, "
+                + "execution_type, sharding_item, state, message, creation_time) VALUES (?, ?, '', ?, 'fake_slave_id', 'CLOUD_SCHEDULER', 'READY', '0', 'TASK_RUNNING', '', ?)")) {
+            for (int i = 0; i < count; i++) {
+                preparedStatement.setString(1, String.format("%s_%05d", jobName, i));
+                preparedStatement.setString(2, jobName);
+                preparedStatement.setString(3, jobName + "_task_" + i);
+                // every five events share the same creation time to exercise the id tie breaker
+                preparedStatement.setTimestamp(4, new Timestamp(BASE_TIME + i / 5 * 1000L));
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+    
+    @AfterEach
+    public void tearDown() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute("DROP TABLE JOB_STATUS_TRACE_LOG");
+        }
+        dataSource.close();
+    }
+    
+    @Test
+    public void assertKeysetPaginationMatchesOffsetPagination() {
+        List<String> offsetIds = new ArrayList<>(EVENT_COUNT);
+        for (int page = 1; page <= EVENT_COUNT / PAGE_SIZE; page++) {
+            JobEventRdbSearch.Result<JobStatusTraceEvent> result = jobEventRdbSearch.findJobStatusTraceEvents(
+                    new JobEventRdbSearch.Condition(PAGE_SIZE, page, "creationTime", "DESC", null, null, getJobNameFields()));
+            assertThat(result.getTotal(), is(EVENT_COUNT));
+            result.getRows().forEach(each -> offsetIds.add(each.getId()));
+        }
+        List<String> keysetIds = new ArrayList<>(EVENT_COUNT);
+        JobEventRdbSearch.Result<JobStatusTraceEvent> result = jobEventRdbSearch.findJobStatusTraceEvents(
+                new JobEventRdbSearch.Condition(PAGE_SIZE, 1, "creationTime", "DESC", null, null, getJobNameFields()));
+        while (!result.getRows().isEmpty()) {
+            result.getRows().forEach(each -> keysetIds.add(each.getId()));
+            JobStatusTraceEvent last = result.getRows().get(result.getRows().size() - 1);
+            result = jobEventRdbSearch.findJobStatusTraceEvents(
+                    new JobEventRdbSearch.Condition(PAGE_SIZE, 0, null, "DESC", null, null, getJobNameFields(), last.getCreationTime(), last.getId(), true));
+        }
+        assertThat(keysetIds.size(), is(EVENT_COUNT));
+        assertThat(new HashSet<>(keysetIds).size(), is(EVENT_COUNT));
+        assertThat(keysetIds, is(offsetIds));
+    }
+    
+    @Test
+    public void assertFindJobStatusTraceEventsWithApproximateCount() {
+        JobEventRdbSearch.Result<JobStatusTraceEvent> result = jobEventRdbSearch.findJobStatusTraceEvents(
+                new JobEventRdbSearch.Condition(PAGE_SIZE, 1, null, null, null, null, getJobNameFields(), null, null, true));
+        assertThat(result.getTotal(), is(EVENT_COUNT));
+        assertThat(result.getRows().size(), is(PAGE_SIZE));
+    }
+    
+    private Map<String, Object> getJobNameFields() {
+        return Collections.singletonMap("jobName", "test_job");
+    }
+}
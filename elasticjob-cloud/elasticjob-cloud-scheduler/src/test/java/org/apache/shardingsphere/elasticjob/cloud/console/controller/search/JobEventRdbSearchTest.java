@@ -28,6 +28,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Timestamp;
@@ -38,6 +39,10 @@ import java.util.Map;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,6 +61,9 @@ public final class JobEventRdbSearchTest {
     @Mock
     private Connection conn;
     
+    @Mock
+    private DatabaseMetaData databaseMetaData;
+    
     private JobEventRdbSearch.Condition condition;
     
     private JobEventRdbSearch jobEventRdbSearch;
@@ -105,4 +113,52 @@ public final class JobEventRdbSearchTest {
         assertThat(jobStatusTraceEvents.getRows().get(0).getSource(), is(JobStatusTraceEvent.Source.LITE_EXECUTOR));
         assertThat(jobStatusTraceEvents.getRows().get(0).getState(), is(JobStatusTraceEvent.State.TASK_RUNNING));
     }
+    
+    @Test
+    @SneakyThrows
+    public void assertFindJobStatusTraceEventsWithKeysetPagination() {
+        when(resultSet.getString(6)).thenReturn("LITE_EXECUTOR");
+        when(resultSet.getString(9)).thenReturn("TASK_RUNNING");
+        when(resultSet.getTimestamp(11)).thenReturn(new Timestamp(System.currentTimeMillis()));
+        Date afterTime = new Date();
+        condition = new JobEventRdbSearch.Condition(10, 5, "job_name", "DESC", null, null, null, afterTime, "fake_id", false);
+        JobEventRdbSearch.Result<JobStatusTraceEvent> jobStatusTraceEvents = jobEventRdbSearch.findJobStatusTraceEvents(condition);
+        assertThat(jobStatusTraceEvents.getRows().size(), is(1));
+        verify(dataSource).getConnection();
+        verify(conn).prepareStatement("SELECT COUNT(1) FROM JOB_STATUS_TRACE_LOG WHERE 1=1");
+        verify(conn).prepareStatement("SELECT id,job_name,original_task_id,task_id,slave_id,source,execution_type,sharding_item,state,message,creation_time FROM JOB_STATUS_TRACE_LOG"
+                + " WHERE 1=1 AND (creation_time<? OR (creation_time=? AND id<?)) ORDER BY creation_time DESC, id DESC LIMIT 0,10");
+        verify(preparedStatement, times(2)).setTimestamp(anyInt(), eq(new Timestamp(afterTime.getTime())));
+        verify(preparedStatement).setString(3, "fake_id");
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertFindJobExecutionEventsWithApproximateCount() {
+        when(resultSet.getString(6)).thenReturn("FAILOVER");
+        when(resultSet.getString(7)).thenReturn("1");
+        when(resultSet.getTimestamp(8)).thenReturn(new Timestamp(System.currentTimeMillis()));
+        when(conn.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getDatabaseProductName()).thenReturn("MySQL");
+        condition = new JobEventRdbSearch.Condition(10, 1, "startTime", "ASC", null, null, null, null, null, true);
+        JobEventRdbSearch.Result<JobExecutionEvent> jobExecutionEvents = jobEventRdbSearch.findJobExecutionEvents(condition);
+        assertThat(jobExecutionEvents.getTotal(), is(1));
+        verify(conn).prepareStatement("SELECT COUNT(1) FROM (SELECT 1 FROM JOB_EXECUTION_LOG WHERE 1=1 LIMIT 10000) approximate_count");
+        verify(conn).prepareStatement("SELECT id,hostname,ip,task_id,job_name,execution_source,sharding_item,start_time,complete_time,is_success,failure_cause FROM JOB_EXECUTION_LOG"
+                + " WHERE 1=1 ORDER BY start_time ASC, id ASC LIMIT 0,10");
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertFindJobStatusTraceEventsWithApproximateCountOnOracle() {
+        when(resultSet.getString(6)).thenReturn("LITE_EXECUTOR");
+        when(resultSet.getString(9)).thenReturn("TASK_RUNNING");
+        when(resultSet.getTimestamp(11)).thenReturn(new Timestamp(System.currentTimeMillis()));
+        when(conn.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getDatabaseProductName()).thenReturn("Oracle");
+        condition = new JobEventRdbSearch.Condition(10, 1, null, null, null, null, null, null, null, true);
+        JobEventRdbSearch.Result<JobStatusTraceEvent> jobStatusTraceEvents = jobEventRdbSearch.findJobStatusTraceEvents(condition);
+        assertThat(jobStatusTraceEvents.getTotal(), is(1));
+        verify(conn).prepareStatement("SELECT COUNT(1) FROM (SELECT 1 FROM JOB_STATUS_TRACE_LOG WHERE 1=1 AND ROWNUM <= 10000) approximate_count");
+    }
 }
@@ -64,6 +64,8 @@ public final class BootstrapEnvironmentTest {
     public void assertGetFrameworkConfiguration() {
         FrameworkConfiguration frameworkConfig = bootstrapEnvironment.getFrameworkConfiguration();
         assertThat(frameworkConfig.getJobStateQueueSize(), is(10000));
+        assertThat(frameworkConfig.getLeaseOfferExpirySeconds(), is(120L));
+        assertThat(frameworkConfig.getOfferRefuseSeconds(), is(5d));
     }
     
     @Test
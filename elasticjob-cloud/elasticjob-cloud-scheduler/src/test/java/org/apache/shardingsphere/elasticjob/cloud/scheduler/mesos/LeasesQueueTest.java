@@ -17,17 +17,30 @@
 
 package org.apache.shardingsphere.elasticjob.cloud.scheduler.mesos;
 
+import com.netflix.fenzo.VirtualMachineLease;
+import org.apache.mesos.Protos;
 import org.apache.shardingsphere.elasticjob.cloud.scheduler.mesos.fixture.OfferBuilder;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public final class LeasesQueueTest {
     
     private final LeasesQueue leasesQueue = LeasesQueue.getInstance();
     
+    @AfterEach
+    public void tearDown() {
+        leasesQueue.drainTo();
+    }
+    
     @Test
     public void assertOperate() {
         assertTrue(leasesQueue.drainTo().isEmpty());
@@ -35,4 +48,79 @@ public final class LeasesQueueTest {
         leasesQueue.offer(OfferBuilder.createOffer("offer_2"));
         assertThat(leasesQueue.drainTo().size(), is(2));
     }
+    
+    @Test
+    public void assertOfferDuplicatedOffer() {
+        leasesQueue.offer(Arrays.asList(OfferBuilder.createOffer("offer_1"), OfferBuilder.createOffer("offer_1"), OfferBuilder.createOffer("offer_2")));
+        assertThat(leasesQueue.size(), is(2));
+        assertThat(leasesQueue.drainTo().size(), is(2));
+        assertThat(leasesQueue.size(), is(0));
+    }
+    
+    @Test
+    public void assertRescind() {
+        leasesQueue.offer(OfferBuilder.createOffer("offer_1"));
+        leasesQueue.offer(OfferBuilder.createOffer("offer_2"));
+        assertTrue(leasesQueue.rescind("offer_1"));
+        assertFalse(leasesQueue.rescind("offer_1"));
+        List<VirtualMachineLease> actual = leasesQueue.drainTo();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getId(), is("offer_2"));
+        assertFalse(leasesQueue.rescind("offer_2"));
+    }
+    
+    @Test
+    public void assertDrainToConsolidatesOffersByHostname() {
+        leasesQueue.offer(Arrays.asList(createOffer("offer_1", "host_1"), createOffer("offer_2", "host_2"), createOffer("offer_3", "host_1"), createOffer("offer_4", "host_2")));
+        assertThat(leasesQueue.size(), is(4));
+        assertThat(leasesQueue.hostSize(), is(2));
+        List<VirtualMachineLease> actual = leasesQueue.drainTo();
+        assertThat(actual.stream().map(VirtualMachineLease::getId).collect(Collectors.toList()), is(Arrays.asList("offer_1", "offer_3", "offer_2", "offer_4")));
+        assertThat(leasesQueue.hostSize(), is(0));
+    }
+    
+    @Test
+    public void assertRescindLastOfferOfHost() {
+        leasesQueue.offer(createOffer("offer_1", "host_1"));
+        leasesQueue.offer(createOffer("offer_2", "host_2"));
+        assertTrue(leasesQueue.rescind("offer_1"));
+        assertThat(leasesQueue.hostSize(), is(1));
+    }
+    
+    @Test
+    public void assertRescindAllBySlaveId() {
+        leasesQueue.offer(OfferBuilder.createOffer("offer_1"));
+        leasesQueue.offer(OfferBuilder.createOffer("offer_2"));
+        leasesQueue.rescindAllBySlaveId("slave-offer_1");
+        assertThat(leasesQueue.size(), is(1));
+        assertThat(leasesQueue.drainTo().get(0).getId(), is("offer_2"));
+    }
+    
+    @Test
+    public void assertDrainToWithManyOutstandingOffers() {
+        int hostCount = 200;
+        int offerCountPerHost = 50;
+        for (int i = 0; i < hostCount; i++) {
+            for (int j = 0; j < offerCountPerHost; j++) {
+                Protos.Offer offer = OfferBuilder.createOffer(String.format("offer_%d_%d", i, j)).toBuilder().setHostname("host_" + i).build();
+                leasesQueue.offer(offer);
+                leasesQueue.offer(offer);
+            }
+            leasesQueue.rescind(String.format("offer_%d_%d", i, 0));
+        }
+        assertThat(leasesQueue.size(), is(hostCount * (offerCountPerHost - 1)));
+        List<VirtualMachineLease> actual = leasesQueue.drainTo();
+        assertThat(actual.size(), is(hostCount * (offerCountPerHost - 1)));
+        for (int i = 0; i < actual.size(); i += offerCountPerHost - 1) {
+            String hostname = actual.get(i).hostname();
+            for (int j = i; j < i + offerCountPerHost - 1; j++) {
+                assertThat(actual.get(j).hostname(), is(hostname));
+            }
+        }
+        assertTrue(leasesQueue.drainTo().isEmpty());
+    }
+    
+    private Protos.Offer createOffer(final String offerId, final String hostname) {
+        return OfferBuilder.createOffer(offerId).toBuilder().setHostname(hostname).build();
+    }
 }
@@ -39,13 +39,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -102,6 +105,14 @@ public final class SchedulerEngineTest {
         verify(taskScheduler).expireLease("myOffer");
     }
     
+    @Test
+    public void assertOfferRescindedWhenOfferIsPending() {
+        schedulerEngine.resourceOffers(null, Collections.singletonList(OfferBuilder.createOffer("pending_offer")));
+        schedulerEngine.offerRescinded(null, Protos.OfferID.newBuilder().setValue("pending_offer").build());
+        verify(taskScheduler, never()).expireLease("pending_offer");
+        assertTrue(LeasesQueue.getInstance().drainTo().isEmpty());
+    }
+    
     @Test
     public void assertRunningStatusUpdateForDaemonJobBegin() {
         TaskNode taskNode = TaskNode.builder().build();
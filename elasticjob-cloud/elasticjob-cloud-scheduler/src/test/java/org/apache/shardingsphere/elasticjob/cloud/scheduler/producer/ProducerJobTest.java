@@ -27,6 +27,8 @@ import org.quartz.JobBuilder;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobKey;
 
+import java.util.Collections;
+
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -55,7 +57,7 @@ public final class ProducerJobTest {
         when(jobExecutionContext.getJobDetail()).thenReturn(JobBuilder.newJob(TransientProducerScheduler.ProducerJob.class).withIdentity("0/30 * * * * ?").build());
         repository.put(JobKey.jobKey("0/30 * * * * ?"), "test_job");
         producerJob.execute(jobExecutionContext);
-        verify(readyService).addTransient("test_job");
+        verify(readyService).addTransient(Collections.singletonList("test_job"));
         repository.remove("test_job");
     }
 }
@@ -29,6 +29,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.CronScheduleBuilder;
 import org.quartz.JobBuilder;
 import org.quartz.JobDetail;
+import org.quartz.JobKey;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.Trigger;
@@ -71,6 +72,16 @@ public final class TransientProducerSchedulerTest {
         verify(scheduler).scheduleJob(jobDetail, trigger);
     }
     
+    @Test
+    public void assertRegisterWithChangedCron() throws SchedulerException {
+        transientProducerScheduler.register(cloudJobConfig);
+        CloudJobConfigurationPOJO changedCloudJobConfig = CloudJobConfigurationBuilder.createCloudJobConfiguration("test_job");
+        changedCloudJobConfig.setCron("0/10 * * * * ?");
+        transientProducerScheduler.register(changedCloudJobConfig);
+        verify(scheduler).unscheduleJob(TriggerKey.triggerKey(cloudJobConfig.getCron()));
+        verify(scheduler).checkExists(JobKey.jobKey("0/10 * * * * ?"));
+    }
+    
     @Test
     public void assertDeregister() throws SchedulerException {
         transientProducerScheduler.deregister(cloudJobConfig);
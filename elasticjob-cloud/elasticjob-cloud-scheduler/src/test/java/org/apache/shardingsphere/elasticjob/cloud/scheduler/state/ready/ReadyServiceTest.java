@@ -26,21 +26,28 @@ import org.apache.shardingsphere.elasticjob.cloud.scheduler.fixture.CloudJobConf
 import org.apache.shardingsphere.elasticjob.cloud.scheduler.state.running.RunningService;
 import org.apache.shardingsphere.elasticjob.infra.context.ExecutionType;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -113,6 +120,77 @@ public final class ReadyServiceTest {
         verify(regCenter, times(0)).persist("/state/ready/test_job", "1");
     }
     
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertAddTransientInBatch() throws Exception {
+        when(configService.load("test_job")).thenReturn(Optional.of(CloudJobConfigurationBuilder.createCloudJobConfiguration("test_job")));
+        when(configService.load("other_job")).thenReturn(Optional.of(CloudJobConfigurationBuilder.createCloudJobConfiguration("other_job")));
+        when(configService.load("daemon_job")).thenReturn(Optional.of(CloudJobConfigurationBuilder.createCloudJobConfiguration("daemon_job", CloudJobExecutionType.DAEMON)));
+        when(regCenter.isExisted(ReadyNode.ROOT)).thenReturn(true);
+        when(regCenter.getChildrenKeys(ReadyNode.ROOT)).thenReturn(Collections.singletonList("test_job"));
+        when(regCenter.getDirectly("/state/ready/test_job")).thenReturn("1");
+        readyService.addTransient(Arrays.asList("test_job", "other_job", "daemon_job"));
+        ArgumentCaptor<List<TransactionOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(regCenter).executeInTransaction(captor.capture());
+        List<TransactionOperation> actual = captor.getValue();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getType(), is(TransactionOperation.Type.UPDATE));
+        assertThat(actual.get(0).getKey(), is("/state/ready/test_job"));
+        assertThat(actual.get(0).getValue(), is("2"));
+        assertThat(actual.get(1).getType(), is(TransactionOperation.Type.ADD));
+        assertThat(actual.get(1).getKey(), is("/state/ready/other_job"));
+        assertThat(actual.get(1).getValue(), is("1"));
+        verify(regCenter, never()).persist(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+    
+    @Test
+    public void assertAddTransientInBatchWhenTransactionFailed() throws Exception {
+        when(configService.load("test_job")).thenReturn(Optional.of(CloudJobConfigurationBuilder.createCloudJobConfiguration("test_job")));
+        when(configService.load("other_job")).thenReturn(Optional.of(CloudJobConfigurationBuilder.createCloudJobConfiguration("other_job")));
+        when(regCenter.isExisted(ReadyNode.ROOT)).thenReturn(true);
+        doThrow(new Exception("Node exists")).when(regCenter).executeInTransaction(ArgumentMatchers.any());
+        readyService.addTransient(Arrays.asList("test_job", "other_job"));
+        verify(regCenter).persist("/state/ready/test_job", "1");
+        verify(regCenter).persist("/state/ready/other_job", "1");
+    }
+    
+    @Test
+    public void assertAddTransientInBatchWithManyJobs() throws Exception {
+        List<String> jobNames = new ArrayList<>(250);
+        for (int i = 0; i < 250; i++) {
+            String each = "test_job_" + i;
+            jobNames.add(each);
+            when(configService.load(each)).thenReturn(Optional.of(CloudJobConfigurationBuilder.createCloudJobConfiguration(each)));
+        }
+        when(regCenter.isExisted(ReadyNode.ROOT)).thenReturn(true);
+        readyService.addTransient(jobNames);
+        verify(regCenter, times(3)).executeInTransaction(ArgumentMatchers.any());
+        verify(regCenter, never()).persist(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+    
+    @Test
+    public void assertAddTransientInBatchWithOverJobQueueSize() throws Exception {
+        when(regCenter.isExisted(ReadyNode.ROOT)).thenReturn(true);
+        when(regCenter.getChildrenKeys(ReadyNode.ROOT)).thenReturn(Collections.nCopies(BootstrapEnvironment.getINSTANCE().getFrameworkConfiguration().getJobStateQueueSize() + 1, "ready_job"));
+        readyService.addTransient(Arrays.asList("test_job", "other_job"));
+        verify(regCenter, never()).executeInTransaction(ArgumentMatchers.any());
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertAddTransientInBatchWhenReadyRootNotExisted() throws Exception {
+        when(configService.load("test_job")).thenReturn(Optional.of(CloudJobConfigurationBuilder.createCloudJobConfiguration("test_job")));
+        readyService.addTransient(Collections.singletonList("test_job"));
+        ArgumentCaptor<List<TransactionOperation>> captor = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(regCenter);
+        inOrder.verify(regCenter).persist(ReadyNode.ROOT, "");
+        inOrder.verify(regCenter).executeInTransaction(captor.capture());
+        assertThat(captor.getValue().size(), is(1));
+        assertThat(captor.getValue().get(0).getType(), is(TransactionOperation.Type.ADD));
+        assertThat(captor.getValue().get(0).getKey(), is("/state/ready/test_job"));
+        verify(regCenter, never()).getDirectly("/state/ready/test_job");
+    }
+    
     @Test
     public void assertAddDaemonWithOverJobQueueSize() {
         when(regCenter.getNumChildren(ReadyNode.ROOT)).thenReturn(BootstrapEnvironment.getINSTANCE().getFrameworkConfiguration().getJobStateQueueSize() + 1);
@@ -31,9 +31,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -112,10 +120,73 @@ public final class RunningServiceTest {
         assertTrue(runningService.getRunningTasks("test_job").iterator().next().isIdle());
     }
     
+    @Test
+    public void assertUpdateIdleWithAbsentTask() {
+        TaskContext absentTaskContext = TaskContext.from(TaskNode.builder().shardingItem(1).build().getTaskNodeValue());
+        runningService.updateIdle(absentTaskContext, true);
+        assertThat(runningService.getRunningTasks("test_job").size(), is(2));
+        assertTrue(runningService.isTaskRunning(absentTaskContext.getMetaInfo()));
+    }
+    
+    @Test
+    public void assertAddTasksOfSameShardingItem() {
+        TaskContext anotherTaskContext = TaskContext.from(TaskNode.builder().uuid(UUID.randomUUID().toString()).build().getTaskNodeValue());
+        runningService.add(anotherTaskContext);
+        runningService.updateIdle(anotherTaskContext, true);
+        assertThat(runningService.getRunningTasks("test_job").size(), is(2));
+        assertFalse(runningService.getRunningTasks("test_job").stream().filter(each -> each.equals(taskContext)).findFirst().get().isIdle());
+        runningService.remove(taskContext);
+        assertThat(runningService.getRunningTasks("test_job").size(), is(1));
+        assertTrue(runningService.isTaskRunning(anotherTaskContext.getMetaInfo()));
+        assertTrue(runningService.getRunningTasks("test_job").iterator().next().isIdle());
+        runningService.remove(anotherTaskContext);
+        assertFalse(runningService.isTaskRunning(anotherTaskContext.getMetaInfo()));
+    }
+    
+    @Test
+    public void assertConcurrentUpdateIdle() throws InterruptedException, ExecutionException, TimeoutException {
+        int shardingTotalCount = 2000;
+        List<TaskContext> taskContexts = new ArrayList<>(shardingTotalCount);
+        for (int i = 1; i < shardingTotalCount; i++) {
+            TaskContext each = TaskContext.from(TaskNode.builder().shardingItem(i).build().getTaskNodeValue());
+            taskContexts.add(each);
+            runningService.add(each);
+        }
+        int threadCount = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> futures = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            boolean isIdle = 0 == i % 2;
+            futures.add(executorService.submit(() -> {
+                for (TaskContext each : taskContexts) {
+                    runningService.updateIdle(each, isIdle);
+                    assertTrue(runningService.isTaskRunning(each.getMetaInfo()));
+                }
+            }));
+        }
+        for (Future<?> each : futures) {
+            each.get(30L, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+        assertThat(runningService.getRunningTasks("test_job").size(), is(shardingTotalCount));
+        assertThat(runningService.getRunningTaskCount(), is(shardingTotalCount + 1));
+        assertThat(runningService.getRunningJobCount(), is(2));
+    }
+    
+    @Test
+    public void assertGetRunningCount() {
+        assertThat(runningService.getRunningJobCount(), is(2));
+        assertThat(runningService.getRunningTaskCount(), is(2));
+        runningService.remove(taskContextT);
+        assertThat(runningService.getRunningJobCount(), is(1));
+        assertThat(runningService.getRunningTaskCount(), is(1));
+    }
+    
     @Test
     public void assertRemoveByJobName() {
         runningService.remove("test_job");
         assertTrue(runningService.getRunningTasks("test_job").isEmpty());
+        assertFalse(runningService.isTaskRunning(taskContext.getMetaInfo()));
         verify(regCenter).remove(RunningNode.getRunningJobNodePath("test_job"));
         runningService.remove("test_job_t");
         assertTrue(runningService.getRunningTasks("test_job_t").isEmpty());
@@ -127,6 +198,7 @@ public final class RunningServiceTest {
         when(regCenter.getChildrenKeys(RunningNode.getRunningJobNodePath("test_job"))).thenReturn(Collections.emptyList());
         runningService.remove(taskContext);
         assertTrue(runningService.getRunningTasks("test_job").isEmpty());
+        assertFalse(runningService.isTaskRunning(taskContext.getMetaInfo()));
         verify(regCenter).remove(RunningNode.getRunningTaskNodePath(taskContext.getMetaInfo().toString()));
         runningService.remove(taskContextT);
         assertTrue(runningService.getRunningTasks("test_job_t").isEmpty());
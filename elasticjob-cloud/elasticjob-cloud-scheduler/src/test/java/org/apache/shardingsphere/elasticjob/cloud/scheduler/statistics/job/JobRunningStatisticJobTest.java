@@ -17,14 +17,12 @@
 
 package org.apache.shardingsphere.elasticjob.cloud.scheduler.statistics.job;
 
-import org.apache.shardingsphere.elasticjob.cloud.scheduler.fixture.TaskNode;
 import org.apache.shardingsphere.elasticjob.cloud.scheduler.state.running.RunningService;
 import org.apache.shardingsphere.elasticjob.cloud.scheduler.statistics.util.StatisticTimeUtils;
 import org.apache.shardingsphere.elasticjob.cloud.statistics.StatisticInterval;
 import org.apache.shardingsphere.elasticjob.cloud.statistics.rdb.StatisticRdbRepository;
 import org.apache.shardingsphere.elasticjob.cloud.statistics.type.job.JobRunningStatistics;
 import org.apache.shardingsphere.elasticjob.cloud.statistics.type.task.TaskRunningStatistics;
-import org.apache.shardingsphere.elasticjob.infra.context.TaskContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,12 +31,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.Trigger;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -89,12 +82,14 @@ public class JobRunningStatisticJobTest {
         when(repository.findLatestTaskRunningStatistics()).thenReturn(latestTaskRunningStatistics);
         when(repository.add(ArgumentMatchers.any(JobRunningStatistics.class))).thenReturn(true);
         when(repository.add(ArgumentMatchers.any(TaskRunningStatistics.class))).thenReturn(true);
-        when(runningService.getAllRunningTasks()).thenReturn(Collections.emptyMap());
+        when(runningService.getRunningJobCount()).thenReturn(0);
+        when(runningService.getRunningTaskCount()).thenReturn(0);
         jobRunningStatisticJob.execute(null);
         verify(repository).findLatestJobRunningStatistics();
         verify(repository).add(ArgumentMatchers.any(JobRunningStatistics.class));
         verify(repository).add(ArgumentMatchers.any(TaskRunningStatistics.class));
-        verify(runningService).getAllRunningTasks();
+        verify(runningService).getRunningJobCount();
+        verify(runningService).getRunningTaskCount();
     }
     
     @Test
@@ -105,16 +100,14 @@ public class JobRunningStatisticJobTest {
         when(repository.findLatestTaskRunningStatistics()).thenReturn(latestTaskRunningStatistics);
         when(repository.add(ArgumentMatchers.any(JobRunningStatistics.class))).thenReturn(true);
         when(repository.add(ArgumentMatchers.any(TaskRunningStatistics.class))).thenReturn(true);
-        Map<String, Set<TaskContext>> jobMap = new HashMap<>(1);
-        Set<TaskContext> jobSet = new HashSet<>(1);
-        jobSet.add(TaskContext.from(TaskNode.builder().jobName("test_job").build().getTaskNodeValue()));
-        jobMap.put("test_job", jobSet);
-        when(runningService.getAllRunningTasks()).thenReturn(jobMap);
+        when(runningService.getRunningJobCount()).thenReturn(1);
+        when(runningService.getRunningTaskCount()).thenReturn(1);
         jobRunningStatisticJob.execute(null);
         verify(repository).findLatestJobRunningStatistics();
         verify(repository).findLatestTaskRunningStatistics();
         verify(repository, times(3)).add(ArgumentMatchers.any(JobRunningStatistics.class));
         verify(repository, times(3)).add(ArgumentMatchers.any(TaskRunningStatistics.class));
-        verify(runningService).getAllRunningTasks();
+        verify(runningService).getRunningJobCount();
+        verify(runningService).getRunningTaskCount();
     }
 }
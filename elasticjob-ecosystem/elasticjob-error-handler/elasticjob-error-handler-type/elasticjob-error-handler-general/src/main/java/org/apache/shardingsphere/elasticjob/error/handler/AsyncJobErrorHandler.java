@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.error.handler;
+
+import com.google.common.collect.ImmutableSet;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Job error handler which dispatches failures to the delegated handler asynchronously.
+ * 
+ * <p>Failures are queued in a bounded queue and dispatched once per window.
+ * A window with a single failure is dispatched as is, otherwise failures of the same job are de-duplicated by exception type
+ * and dispatched as one summary, so a notification channel receives at most one message per job in every window.
+ * The summary keeps the first failure of the window as its cause and the first failure of every other exception type as suppressed.</p>
+ * 
+ * <p>Asynchronous dispatch is opt-in through job property {@code error.handler.async}.</p>
+ */
+@Slf4j
+public final class AsyncJobErrorHandler implements JobErrorHandler {
+    
+    private static final Collection<String> SYNC_HANDLER_TYPES = ImmutableSet.of("LOG", "IGNORE", "THROW");
+    
+    private static final ScheduledExecutorService DISPATCHER = Executors.newScheduledThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()),
+            new BasicThreadFactory.Builder().namingPattern(String.join("-", "job-error-handler", "%s")).daemon(true).build());
+    
+    private final JobErrorHandler jobErrorHandler;
+    
+    private final long windowMilliseconds;
+    
+    private final BlockingQueue<Failure> failures;
+    
+    private final AtomicLong droppedCount = new AtomicLong();
+    
+    private final ScheduledFuture<?> dispatchFuture;
+    
+    public AsyncJobErrorHandler(final JobErrorHandler jobErrorHandler, final Properties props) {
+        this.jobErrorHandler = jobErrorHandler;
+        windowMilliseconds = Long.parseLong(props.getProperty(AsyncJobErrorHandlerPropertiesConstants.WINDOW_MILLISECONDS, AsyncJobErrorHandlerPropertiesConstants.DEFAULT_WINDOW_MILLISECONDS));
+        int queueCapacity = Integer.parseInt(props.getProperty(AsyncJobErrorHandlerPropertiesConstants.QUEUE_CAPACITY, AsyncJobErrorHandlerPropertiesConstants.DEFAULT_QUEUE_CAPACITY));
+        failures = new ArrayBlockingQueue<>(queueCapacity);
+        dispatchFuture = DISPATCHER.scheduleWithFixedDelay(this::dispatch, windowMilliseconds, windowMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Judge whether the job error handler should be dispatched asynchronously.
+     * 
+     * @param jobErrorHandler job error handler
+     * @param props job properties
+     * @return dispatch asynchronously or not
+     */
+    public static boolean isAsyncRequired(final JobErrorHandler jobErrorHandler, final Properties props) {
+        return !SYNC_HANDLER_TYPES.contains(jobErrorHandler.getType()) && Boolean.parseBoolean(props.getProperty(AsyncJobErrorHandlerPropertiesConstants.ASYNC, Boolean.FALSE.toString()));
+    }
+    
+    @Override
+    public void init(final Properties props) {
+    }
+    
+    @Override
+    public void handleException(final String jobName, final Throwable cause) {
+        if (!failures.offer(new Failure(jobName, cause))) {
+            droppedCount.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Dispatch queued failures to the delegated job error handler.
+     */
+    synchronized void dispatch() {
+        List<Failure> pendingFailures = new ArrayList<>(failures.size());
+        failures.drainTo(pendingFailures);
+        long dropped = droppedCount.getAndSet(0L);
+        if (pendingFailures.isEmpty()) {
+            if (dropped > 0L) {
+                log.warn("{} job failures were dropped because the error handler queue is full.", dropped);
+            }
+            return;
+        }
+        Map<String, List<Failure>> failuresByJob = pendingFailures.stream().collect(Collectors.groupingBy(Failure::getJobName, LinkedHashMap::new, Collectors.toList()));
+        for (Entry<String, List<Failure>> entry : failuresByJob.entrySet()) {
+            if (1 == entry.getValue().size() && 0L == dropped) {
+                dispatch(entry.getKey(), entry.getValue().get(0).getCause());
+            } else {
+                dispatch(entry.getKey(), summarize(entry.getValue(), dropped));
+            }
+            dropped = 0L;
+        }
+    }
+    
+    private void dispatch(final String jobName, final Throwable cause) {
+        try {
+            jobErrorHandler.handleException(jobName, cause);
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ex) {
+            // CHECKSTYLE:ON
+            log.error("Dispatch failure of job '{}' to error handler '{}' failure.", jobName, jobErrorHandler.getType(), ex);
+        }
+    }
+    
+    private Throwable summarize(final List<Failure> failures, final long dropped) {
+        Map<String, List<Throwable>> causesByType = failures.stream().collect(Collectors.groupingBy(each -> each.getCause().getClass().getName(), LinkedHashMap::new,
+                Collectors.mapping(Failure::getCause, Collectors.toList())));
+        StringBuilder message = new StringBuilder(String.format("%d failures occurred in the last %d milliseconds", failures.size() + dropped, windowMilliseconds));
+        if (dropped > 0L) {
+            message.append(String.format(" (%d dropped because the queue is full)", dropped));
+        }
+        message.append(": ");
+        for (Entry<String, List<Throwable>> entry : causesByType.entrySet()) {
+            message.append(entry.getKey()).append(" x ").append(entry.getValue().size()).append(", ");
+        }
+        message.setLength(message.length() - 2);
+        Throwable originalCause = failures.get(0).getCause();
+        JobSystemException result = new JobSystemException(message.toString(), originalCause);
+        for (List<Throwable> each : causesByType.values()) {
+            if (originalCause != each.get(0)) {
+                result.addSuppressed(each.get(0));
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return jobErrorHandler.getType();
+    }
+    
+    @Override
+    public void close() {
+        dispatchFuture.cancel(false);
+        dispatch();
+        jobErrorHandler.close();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Failure {
+        
+        private final String jobName;
+        
+        private final Throwable cause;
+    }
+}
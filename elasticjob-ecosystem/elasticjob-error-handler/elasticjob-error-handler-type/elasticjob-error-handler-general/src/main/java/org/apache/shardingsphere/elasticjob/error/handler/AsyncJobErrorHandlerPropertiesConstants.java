@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.error.handler;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Properties constants for asynchronous job error handler dispatch.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AsyncJobErrorHandlerPropertiesConstants {
+    
+    public static final String DEFAULT_QUEUE_CAPACITY = "1000";
+    
+    public static final String DEFAULT_WINDOW_MILLISECONDS = "5000";
+    
+    private static final String PREFIX = "error.handler.";
+    
+    public static final String ASYNC = PREFIX + "async";
+    
+    public static final String QUEUE_CAPACITY = PREFIX + "queue.capacity";
+    
+    public static final String WINDOW_MILLISECONDS = PREFIX + "window.milliseconds";
+}
@@ -43,8 +43,7 @@ public final class JobErrorHandlerReloadable implements Reloadable<JobErrorHandl
     public void init(final JobConfiguration jobConfig) {
         jobErrorHandlerType = Strings.isNullOrEmpty(jobConfig.getJobErrorHandlerType()) ? JobErrorHandlerFactory.DEFAULT_HANDLER : jobConfig.getJobErrorHandlerType();
         props = (Properties) jobConfig.getProps().clone();
-        jobErrorHandler = JobErrorHandlerFactory.createHandler(jobErrorHandlerType, props)
-                .orElseThrow(() -> new JobConfigurationException("Cannot find job error handler type '%s'.", jobErrorHandlerType));
+        jobErrorHandler = createJobErrorHandler(jobErrorHandlerType, props);
     }
     
     @Override
@@ -61,8 +60,13 @@ public final class JobErrorHandlerReloadable implements Reloadable<JobErrorHandl
         jobErrorHandler.close();
         this.jobErrorHandlerType = jobErrorHandlerType;
         this.props = (Properties) props.clone();
-        jobErrorHandler = JobErrorHandlerFactory.createHandler(jobErrorHandlerType, props)
+        jobErrorHandler = createJobErrorHandler(jobErrorHandlerType, props);
+    }
+    
+    private JobErrorHandler createJobErrorHandler(final String jobErrorHandlerType, final Properties props) {
+        JobErrorHandler result = JobErrorHandlerFactory.createHandler(jobErrorHandlerType, props)
                 .orElseThrow(() -> new JobConfigurationException("Cannot find job error handler type '%s'.", jobErrorHandlerType));
+        return AsyncJobErrorHandler.isAsyncRequired(result, props) ? new AsyncJobErrorHandler(result, props) : result;
     }
     
     @Override
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.error.handler;
+
+import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public final class AsyncJobErrorHandlerTest {
+    
+    @Mock
+    private JobErrorHandler jobErrorHandler;
+    
+    private AsyncJobErrorHandler asyncJobErrorHandler;
+    
+    @BeforeEach
+    public void setUp() {
+        lenient().when(jobErrorHandler.getType()).thenReturn("DINGTALK");
+        asyncJobErrorHandler = new AsyncJobErrorHandler(jobErrorHandler, createProperties("2"));
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        asyncJobErrorHandler.close();
+    }
+    
+    private Properties createProperties(final String queueCapacity) {
+        Properties result = new Properties();
+        result.setProperty(AsyncJobErrorHandlerPropertiesConstants.QUEUE_CAPACITY, queueCapacity);
+        result.setProperty(AsyncJobErrorHandlerPropertiesConstants.WINDOW_MILLISECONDS, "60000");
+        return result;
+    }
+    
+    @Test
+    public void assertIsAsyncRequired() {
+        assertThat(AsyncJobErrorHandler.isAsyncRequired(jobErrorHandler, new Properties()), is(false));
+        Properties props = new Properties();
+        props.setProperty(AsyncJobErrorHandlerPropertiesConstants.ASYNC, Boolean.TRUE.toString());
+        assertThat(AsyncJobErrorHandler.isAsyncRequired(jobErrorHandler, props), is(true));
+        when(jobErrorHandler.getType()).thenReturn("THROW");
+        assertThat(AsyncJobErrorHandler.isAsyncRequired(jobErrorHandler, props), is(false));
+    }
+    
+    @Test
+    public void assertGetType() {
+        assertThat(asyncJobErrorHandler.getType(), is("DINGTALK"));
+    }
+    
+    @Test
+    public void assertDispatchSingleFailure() {
+        RuntimeException cause = new RuntimeException("test");
+        asyncJobErrorHandler.handleException("test_job", cause);
+        verify(jobErrorHandler, never()).handleException(any(), any());
+        asyncJobErrorHandler.dispatch();
+        verify(jobErrorHandler).handleException("test_job", cause);
+    }
+    
+    @Test
+    public void assertDispatchSummaryOfFailures() {
+        IllegalStateException firstCause = new IllegalStateException("first");
+        RuntimeException secondCause = new RuntimeException("second");
+        asyncJobErrorHandler.handleException("test_job", firstCause);
+        asyncJobErrorHandler.handleException("test_job", secondCause);
+        asyncJobErrorHandler.handleException("test_job", new RuntimeException("dropped"));
+        asyncJobErrorHandler.dispatch();
+        ArgumentCaptor<Throwable> captor = ArgumentCaptor.forClass(Throwable.class);
+        verify(jobErrorHandler).handleException(eq("test_job"), captor.capture());
+        assertThat(captor.getValue(), instanceOf(JobSystemException.class));
+        assertThat(captor.getValue().getMessage(),
+                is("3 failures occurred in the last 60000 milliseconds (1 dropped because the queue is full): java.lang.IllegalStateException x 1, java.lang.RuntimeException x 1"));
+        assertThat(captor.getValue().getCause(), is(firstCause));
+        assertThat(captor.getValue().getSuppressed().length, is(1));
+        assertThat(captor.getValue().getSuppressed()[0], is(secondCause));
+    }
+    
+    @Test
+    public void assertDispatchWithoutFailure() {
+        asyncJobErrorHandler.dispatch();
+        verify(jobErrorHandler, never()).handleException(any(), any());
+    }
+    
+    @Test
+    public void assertDispatchWhenDelegatedHandlerThrowsException() {
+        doThrow(RuntimeException.class).when(jobErrorHandler).handleException(eq("test_job"), any());
+        asyncJobErrorHandler.handleException("test_job", new RuntimeException("test"));
+        asyncJobErrorHandler.dispatch();
+        asyncJobErrorHandler.handleException("test_job", new RuntimeException("test"));
+        asyncJobErrorHandler.dispatch();
+        verify(jobErrorHandler, times(2)).handleException(eq("test_job"), any());
+    }
+    
+    @Test
+    public void assertClose() {
+        RuntimeException cause = new RuntimeException("test");
+        asyncJobErrorHandler.handleException("test_job", cause);
+        asyncJobErrorHandler.close();
+        verify(jobErrorHandler).handleException("test_job", cause);
+        verify(jobErrorHandler).close();
+    }
+}
@@ -24,9 +24,11 @@ import org.apache.shardingsphere.elasticjob.error.handler.JobErrorHandler;
 import org.apache.shardingsphere.elasticjob.executor.context.ExecutorContext;
 import org.apache.shardingsphere.elasticjob.executor.item.JobItemExecutor;
 import org.apache.shardingsphere.elasticjob.executor.item.JobItemExecutorFactory;
+import org.apache.shardingsphere.elasticjob.infra.concurrent.JobExecutorPoolRegistry;
 import org.apache.shardingsphere.elasticjob.infra.env.IpUtils;
 import org.apache.shardingsphere.elasticjob.infra.exception.ExceptionUtils;
 import org.apache.shardingsphere.elasticjob.infra.exception.JobExecutionEnvironmentException;
+import org.apache.shardingsphere.elasticjob.infra.exception.JobExecutionException;
 import org.apache.shardingsphere.elasticjob.infra.listener.ShardingContexts;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobExecutionEvent;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobExecutionEvent.ExecutionSource;
@@ -35,8 +37,11 @@ import org.apache.shardingsphere.elasticjob.tracing.event.JobStatusTraceEvent.St
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
 
 /**
  * ElasticJob executor.
@@ -44,8 +49,12 @@ import java.util.concurrent.ExecutorService;
 @Slf4j
 public final class ElasticJobExecutor {
     
+    private static final BooleanSupplier NOT_TIMED_OUT = () -> false;
+    
     private final ElasticJob elasticJob;
     
+    private final String jobName;
+    
     private final JobFacade jobFacade;
     
     private final JobItemExecutor jobItemExecutor;
@@ -64,6 +73,7 @@ public final class ElasticJobExecutor {
     
     private ElasticJobExecutor(final ElasticJob elasticJob, final JobConfiguration jobConfig, final JobFacade jobFacade, final JobItemExecutor jobItemExecutor) {
         this.elasticJob = elasticJob;
+        jobName = jobConfig.getJobName();
         this.jobFacade = jobFacade;
         this.jobItemExecutor = jobItemExecutor;
         executorContext = new ExecutorContext(jobFacade.loadJobConfiguration(true));
@@ -83,11 +93,15 @@ public final class ElasticJobExecutor {
             jobErrorHandler.handleException(jobConfig.getJobName(), cause);
         }
         ShardingContexts shardingContexts = jobFacade.getShardingContexts();
-        jobFacade.postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_STAGING, String.format("Job '%s' execute begin.", jobConfig.getJobName()));
+        if (shardingContexts.isAllowSendJobEvent()) {
+            jobFacade.postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_STAGING, String.format("Job '%s' execute begin.", jobConfig.getJobName()));
+        }
         if (jobFacade.misfireIfRunning(shardingContexts.getShardingItemParameters().keySet())) {
-            jobFacade.postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED, String.format(
-                    "Previous job '%s' - shardingItems '%s' is still running, misfired job will start after previous job completed.", jobConfig.getJobName(),
-                    shardingContexts.getShardingItemParameters().keySet()));
+            if (shardingContexts.isAllowSendJobEvent()) {
+                jobFacade.postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED, String.format(
+                        "Previous job '%s' - shardingItems '%s' is still running, misfired job will start after previous job completed.", jobConfig.getJobName(),
+                        shardingContexts.getShardingItemParameters().keySet()));
+            }
             return;
         }
         try {
@@ -114,19 +128,25 @@ public final class ElasticJobExecutor {
     
     private void execute(final JobConfiguration jobConfig, final ShardingContexts shardingContexts, final ExecutionSource executionSource) {
         if (shardingContexts.getShardingItemParameters().isEmpty()) {
-            jobFacade.postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED, String.format("Sharding item for job '%s' is empty.", jobConfig.getJobName()));
+            if (shardingContexts.isAllowSendJobEvent()) {
+                jobFacade.postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED, String.format("Sharding item for job '%s' is empty.", jobConfig.getJobName()));
+            }
             return;
         }
         jobFacade.registerJobBegin(shardingContexts);
         String taskId = shardingContexts.getTaskId();
-        jobFacade.postJobStatusTraceEvent(taskId, State.TASK_RUNNING, "");
+        if (shardingContexts.isAllowSendJobEvent()) {
+            jobFacade.postJobStatusTraceEvent(taskId, State.TASK_RUNNING, "");
+        }
         try {
             process(jobConfig, shardingContexts, executionSource);
         } finally {
             // TODO Consider increasing the status of job failure, and how to handle the overall loop of job failure
             jobFacade.registerJobCompleted(shardingContexts);
             if (itemErrorMessages.isEmpty()) {
-                jobFacade.postJobStatusTraceEvent(taskId, State.TASK_FINISHED, "");
+                if (shardingContexts.isAllowSendJobEvent()) {
+                    jobFacade.postJobStatusTraceEvent(taskId, State.TASK_FINISHED, "");
+                }
             } else {
                 jobFacade.postJobStatusTraceEvent(taskId, State.TASK_ERROR, itemErrorMessages.toString());
                 itemErrorMessages.clear();
@@ -136,53 +156,102 @@ public final class ElasticJobExecutor {
     
     private void process(final JobConfiguration jobConfig, final ShardingContexts shardingContexts, final ExecutionSource executionSource) {
         Collection<Integer> items = shardingContexts.getShardingItemParameters().keySet();
-        if (1 == items.size()) {
-            int item = shardingContexts.getShardingItemParameters().keySet().iterator().next();
-            JobExecutionEvent jobExecutionEvent = new JobExecutionEvent(IpUtils.getHostName(), IpUtils.getIp(), shardingContexts.getTaskId(), jobConfig.getJobName(), executionSource, item);
-            process(jobConfig, shardingContexts, item, jobExecutionEvent);
+        ShardingItemExecutionOptions options = ShardingItemExecutionOptions.from(jobConfig.getProps());
+        if (1 == items.size() && !options.isTimeoutEnabled()) {
+            long startNanos = System.nanoTime();
+            process(jobConfig, shardingContexts, items.iterator().next(), executionSource, NOT_TIMED_OUT);
+            completeRun(jobConfig.getJobName(), 1, System.nanoTime() - startNanos);
+            return;
+        }
+        ExecutorService executorService = executorContext.get(ExecutorService.class);
+        if (executorService.isShutdown()) {
             return;
         }
-        CountDownLatch latch = new CountDownLatch(items.size());
+        int[] itemArray = new int[items.size()];
+        int index = 0;
         for (int each : items) {
-            JobExecutionEvent jobExecutionEvent = new JobExecutionEvent(IpUtils.getHostName(), IpUtils.getIp(), shardingContexts.getTaskId(), jobConfig.getJobName(), executionSource, each);
-            ExecutorService executorService = executorContext.get(ExecutorService.class);
-            if (executorService.isShutdown()) {
-                return;
+            itemArray[index++] = each;
+        }
+        AtomicLong totalItemNanos = new AtomicLong();
+        ShardingItemWorker.ItemProcessor itemProcessor = (item, timedOut) -> {
+            long startNanos = System.nanoTime();
+            try {
+                process(jobConfig, shardingContexts, item, executionSource, timedOut);
+            } finally {
+                totalItemNanos.addAndGet(System.nanoTime() - startNanos);
             }
-            executorService.submit(() -> {
-                try {
-                    process(jobConfig, shardingContexts, each, jobExecutionEvent);
-                } finally {
-                    latch.countDown();
-                }
-            });
+        };
+        IntConsumer completedItemHandler = options.isReleaseCompletedItem() ? item -> jobFacade.registerItemCompleted(shardingContexts, item) : item -> { };
+        ShardingItemWorker worker = new ShardingItemWorker(executorService, itemArray, itemProcessor, completedItemHandler, item -> processTimeout(jobConfig, shardingContexts, item, executionSource));
+        try {
+            worker.start();
+        } catch (final RejectedExecutionException ex) {
+            processRejected(jobConfig, shardingContexts, items, ex);
+            return;
         }
         try {
-            latch.await();
+            worker.await(options.getItemTimeoutMillis(), options.getTriggerTimeoutMillis());
         } catch (final InterruptedException ex) {
             Thread.currentThread().interrupt();
         }
+        completeRun(jobConfig.getJobName(), items.size(), totalItemNanos.get());
     }
     
     @SuppressWarnings("unchecked")
-    private void process(final JobConfiguration jobConfig, final ShardingContexts shardingContexts, final int item, final JobExecutionEvent startEvent) {
-        jobFacade.postJobExecutionEvent(startEvent);
+    private void process(final JobConfiguration jobConfig, final ShardingContexts shardingContexts, final int item, final ExecutionSource executionSource, final BooleanSupplier timedOut) {
+        JobExecutionEvent startEvent = null;
+        if (shardingContexts.isAllowSendJobEvent()) {
+            startEvent = createJobExecutionEvent(jobConfig, shardingContexts, item, executionSource);
+            jobFacade.postJobExecutionEvent(startEvent);
+        }
         log.trace("Job '{}' executing, item is: '{}'.", jobConfig.getJobName(), item);
-        JobExecutionEvent completeEvent;
         try {
             jobItemExecutor.process(elasticJob, jobConfig, jobFacade, shardingContexts.createShardingContext(item));
-            completeEvent = startEvent.executionSuccess();
             log.trace("Job '{}' executed, item is: '{}'.", jobConfig.getJobName(), item);
-            jobFacade.postJobExecutionEvent(completeEvent);
+            if (null != startEvent && !timedOut.getAsBoolean()) {
+                jobFacade.postJobExecutionEvent(startEvent.executionSuccess());
+            }
             // CHECKSTYLE:OFF
         } catch (final Throwable cause) {
             // CHECKSTYLE:ON
-            completeEvent = startEvent.executionFailure(ExceptionUtils.transform(cause));
-            jobFacade.postJobExecutionEvent(completeEvent);
-            itemErrorMessages.put(item, ExceptionUtils.transform(cause));
-            JobErrorHandler jobErrorHandler = executorContext.get(JobErrorHandler.class);
-            jobErrorHandler.handleException(jobConfig.getJobName(), cause);
+            if (timedOut.getAsBoolean()) {
+                log.trace("Job '{}' item '{}' stopped after timed out.", jobConfig.getJobName(), item, cause);
+                return;
+            }
+            handleItemFailure(jobConfig, shardingContexts, item, executionSource, startEvent, cause);
+        }
+    }
+    
+    private void completeRun(final String jobName, final int itemCount, final long totalItemNanos) {
+        JobExecutorPoolRegistry.getInstance().find(jobName).ifPresent(each -> each.completeRun(itemCount, totalItemNanos));
+    }
+    
+    private void processRejected(final JobConfiguration jobConfig, final ShardingContexts shardingContexts, final Collection<Integer> items, final RejectedExecutionException cause) {
+        String errorMessage = ExceptionUtils.transform(cause);
+        for (int each : items) {
+            itemErrorMessages.put(each, errorMessage);
         }
+        executorContext.get(JobErrorHandler.class).handleException(jobConfig.getJobName(),
+                new JobExecutionException("Job '%s' task '%s' is rejected by executor service: %s", jobConfig.getJobName(), shardingContexts.getTaskId(), cause.getMessage()));
+    }
+    
+    private void processTimeout(final JobConfiguration jobConfig, final ShardingContexts shardingContexts, final int item, final ExecutionSource executionSource) {
+        handleItemFailure(jobConfig, shardingContexts, item, executionSource, null,
+                new JobExecutionException("Job '%s' item '%s' is timed out and cancelled.", jobConfig.getJobName(), item));
+    }
+    
+    private void handleItemFailure(final JobConfiguration jobConfig, final ShardingContexts shardingContexts, final int item, final ExecutionSource executionSource,
+                                   final JobExecutionEvent startEvent, final Throwable cause) {
+        String errorMessage = ExceptionUtils.transform(cause);
+        JobExecutionEvent event = null == startEvent ? createJobExecutionEvent(jobConfig, shardingContexts, item, executionSource) : startEvent;
+        jobFacade.postJobExecutionEvent(event.executionFailure(errorMessage));
+        itemErrorMessages.put(item, errorMessage);
+        JobErrorHandler jobErrorHandler = executorContext.get(JobErrorHandler.class);
+        jobErrorHandler.handleException(jobConfig.getJobName(), cause);
+    }
+    
+    private JobExecutionEvent createJobExecutionEvent(final JobConfiguration jobConfig, final ShardingContexts shardingContexts, final int item, final ExecutionSource executionSource) {
+        return new JobExecutionEvent(IpUtils.getHostName(), IpUtils.getIp(), shardingContexts.getTaskId(), jobConfig.getJobName(), executionSource, item);
     }
     
     /**
@@ -190,5 +259,6 @@ public final class ElasticJobExecutor {
      */
     public void shutdown() {
         executorContext.shutdown();
+        jobItemExecutor.shutdown(jobName);
     }
 }
@@ -64,6 +64,15 @@ public interface JobFacade {
      */
     void registerJobCompleted(ShardingContexts shardingContexts);
     
+    /**
+     * Register sharding item completed before the whole job completed.
+     *
+     * @param shardingContexts sharding contexts
+     * @param item completed sharding item
+     */
+    default void registerItemCompleted(ShardingContexts shardingContexts, int item) {
+    }
+    
     /**
      * Get sharding contexts.
      *
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.executor;
+
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Properties;
+
+/**
+ * Sharding item execution options.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class ShardingItemExecutionOptions {
+    
+    /**
+     * Cancel a sharding item and record it as failed when it runs longer than given milliseconds.
+     */
+    public static final String ITEM_TIMEOUT_KEY = "item.timeout.milliseconds";
+    
+    /**
+     * Cancel all unfinished sharding items of one trigger when the trigger runs longer than given milliseconds.
+     */
+    public static final String TRIGGER_TIMEOUT_KEY = "trigger.timeout.milliseconds";
+    
+    /**
+     * Release the running node of a sharding item as soon as the item completed.
+     */
+    public static final String RELEASE_COMPLETED_ITEM_KEY = "item.release.completed";
+    
+    private final long itemTimeoutMillis;
+    
+    private final long triggerTimeoutMillis;
+    
+    private final boolean releaseCompletedItem;
+    
+    /**
+     * Create sharding item execution options from job properties.
+     *
+     * @param props job properties
+     * @return sharding item execution options
+     */
+    public static ShardingItemExecutionOptions from(final Properties props) {
+        return new ShardingItemExecutionOptions(getLongValue(props, ITEM_TIMEOUT_KEY), getLongValue(props, TRIGGER_TIMEOUT_KEY),
+                null != props && Boolean.parseBoolean(Strings.nullToEmpty(props.getProperty(RELEASE_COMPLETED_ITEM_KEY)).trim()));
+    }
+    
+    private static long getLongValue(final Properties props, final String key) {
+        String value = null == props ? null : props.getProperty(key);
+        return Strings.isNullOrEmpty(value) ? 0L : Long.parseLong(value.trim());
+    }
+    
+    /**
+     * Judge whether item timeout or trigger timeout is enabled.
+     *
+     * @return timeout is enabled or not
+     */
+    public boolean isTimeoutEnabled() {
+        return itemTimeoutMillis > 0L || triggerTimeoutMillis > 0L;
+    }
+}
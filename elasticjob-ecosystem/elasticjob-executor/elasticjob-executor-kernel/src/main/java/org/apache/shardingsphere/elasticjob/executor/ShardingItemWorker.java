@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.executor;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+
+/**
+ * Worker which claims sharding items one by one from a shared cursor.
+ * 
+ * <p>Every started worker submits one more worker while unclaimed items remain,
+ * so the number of submitted tasks follows the pool size instead of the item count.
+ * Idle workers keep claiming items, so one slow item only holds its own thread.</p>
+ * 
+ * <p>Timed out items are interrupted, reported and counted as finished at once, so the trigger does not wait for an item which ignores the interruption.
+ * Such an item keeps its thread busy until it returns, and its late completion is not reported again.</p>
+ */
+@Slf4j
+final class ShardingItemWorker implements Runnable {
+    
+    private static final int PENDING = 0;
+    
+    private static final int RUNNING = 1;
+    
+    private static final int COMPLETED = 2;
+    
+    private static final int TIMED_OUT = 3;
+    
+    private static final long MAX_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    
+    private final ExecutorService executorService;
+    
+    private final int[] items;
+    
+    private final ItemProcessor itemProcessor;
+    
+    private final IntConsumer completedItemHandler;
+    
+    private final IntConsumer timedOutItemHandler;
+    
+    private final CountDownLatch latch;
+    
+    private final AtomicIntegerArray states;
+    
+    private final AtomicLongArray startNanos;
+    
+    private final Thread[] runners;
+    
+    private final AtomicInteger cursor = new AtomicInteger();
+    
+    private final AtomicInteger workerCount = new AtomicInteger(1);
+    
+    ShardingItemWorker(final ExecutorService executorService, final int[] items,
+                       final ItemProcessor itemProcessor, final IntConsumer completedItemHandler, final IntConsumer timedOutItemHandler) {
+        this.executorService = executorService;
+        this.items = items;
+        this.itemProcessor = itemProcessor;
+        this.completedItemHandler = completedItemHandler;
+        this.timedOutItemHandler = timedOutItemHandler;
+        latch = new CountDownLatch(items.length);
+        states = new AtomicIntegerArray(items.length);
+        startNanos = new AtomicLongArray(items.length);
+        runners = new Thread[items.length];
+    }
+    
+    /**
+     * Start processing sharding items.
+     * 
+     * @throws RejectedExecutionException if the executor service rejects the first worker
+     */
+    void start() {
+        executorService.execute(this);
+    }
+    
+    /**
+     * Wait until every sharding item completed or timed out.
+     * 
+     * @param itemTimeoutMillis item timeout milliseconds, zero or negative means unlimited
+     * @param triggerTimeoutMillis trigger timeout milliseconds, zero or negative means unlimited
+     * @throws InterruptedException interrupted exception
+     */
+    void await(final long itemTimeoutMillis, final long triggerTimeoutMillis) throws InterruptedException {
+        if (itemTimeoutMillis <= 0L && triggerTimeoutMillis <= 0L) {
+            latch.await();
+            return;
+        }
+        long itemTimeoutNanos = Math.max(0L, TimeUnit.MILLISECONDS.toNanos(itemTimeoutMillis));
+        long triggerTimeoutNanos = Math.max(0L, TimeUnit.MILLISECONDS.toNanos(triggerTimeoutMillis));
+        long pollNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1L), Math.min(MAX_POLL_NANOS, getMinPositive(itemTimeoutNanos, triggerTimeoutNanos) / 4L));
+        long triggerStartNanos = System.nanoTime();
+        while (!latch.await(pollNanos, TimeUnit.NANOSECONDS)) {
+            long now = System.nanoTime();
+            cancelOverdueItems(now, itemTimeoutNanos, triggerTimeoutNanos > 0L && now - triggerStartNanos >= triggerTimeoutNanos);
+        }
+    }
+    
+    private long getMinPositive(final long first, final long second) {
+        if (first <= 0L) {
+            return second;
+        }
+        return second <= 0L ? first : Math.min(first, second);
+    }
+    
+    private void cancelOverdueItems(final long now, final long itemTimeoutNanos, final boolean triggerTimedOut) {
+        for (int i = 0; i < items.length; i++) {
+            int state = states.get(i);
+            if (PENDING == state && triggerTimedOut
+                    || RUNNING == state && (triggerTimedOut || itemTimeoutNanos > 0L && now - startNanos.get(i) >= itemTimeoutNanos)) {
+                cancel(i, state);
+            }
+        }
+    }
+    
+    private void cancel(final int index, final int expectedState) {
+        synchronized (runners) {
+            if (!states.compareAndSet(index, expectedState, TIMED_OUT)) {
+                return;
+            }
+            if (null != runners[index]) {
+                runners[index].interrupt();
+            }
+        }
+        try {
+            timedOutItemHandler.accept(items[index]);
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ex) {
+            // CHECKSTYLE:ON
+            log.trace("Sharding item '{}' timed out, it has been handled by job error handler.", items[index], ex);
+        } finally {
+            latch.countDown();
+        }
+    }
+    
+    @Override
+    public void run() {
+        submitNextWorkerIfNecessary();
+        int index;
+        while ((index = cursor.getAndIncrement()) < items.length) {
+            process(index);
+        }
+    }
+    
+    private void process(final int index) {
+        startNanos.set(index, System.nanoTime());
+        synchronized (runners) {
+            if (!states.compareAndSet(index, PENDING, RUNNING)) {
+                return;
+            }
+            runners[index] = Thread.currentThread();
+        }
+        try {
+            if (!executorService.isShutdown()) {
+                itemProcessor.process(items[index], () -> TIMED_OUT == states.get(index));
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ex) {
+            // CHECKSTYLE:ON
+            log.trace("Sharding item '{}' execute failure, it has been handled by job error handler.", items[index], ex);
+        } finally {
+            complete(index);
+        }
+    }
+    
+    private void complete(final int index) {
+        synchronized (runners) {
+            runners[index] = null;
+            if (!states.compareAndSet(index, RUNNING, COMPLETED)) {
+                // The item has been cancelled and counted down, clear the interruption so it does not leak into the next item.
+                Thread.interrupted();
+                return;
+            }
+        }
+        try {
+            completedItemHandler.accept(items[index]);
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ex) {
+            // CHECKSTYLE:ON
+            log.warn("Release completed sharding item '{}' failure.", items[index], ex);
+        } finally {
+            latch.countDown();
+        }
+    }
+    
+    private void submitNextWorkerIfNecessary() {
+        if (cursor.get() + 1 >= items.length || workerCount.incrementAndGet() > items.length) {
+            return;
+        }
+        try {
+            executorService.execute(this);
+        } catch (final RejectedExecutionException ignored) {
+        }
+    }
+    
+    /**
+     * Sharding item processor.
+     */
+    interface ItemProcessor {
+        
+        /**
+         * Process sharding item.
+         * 
+         * @param item sharding item
+         * @param timedOut whether the sharding item has been timed out and cancelled
+         */
+        void process(int item, BooleanSupplier timedOut);
+    }
+}
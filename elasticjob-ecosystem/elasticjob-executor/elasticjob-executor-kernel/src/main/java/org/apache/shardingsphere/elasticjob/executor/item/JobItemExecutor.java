@@ -38,4 +38,12 @@ public interface JobItemExecutor<T extends ElasticJob> {
      * @param shardingContext sharding context
      */
     void process(T elasticJob, JobConfiguration jobConfig, JobFacade jobFacade, ShardingContext shardingContext);
+    
+    /**
+     * Release resources held for job.
+     * 
+     * @param jobName job name
+     */
+    default void shutdown(final String jobName) {
+    }
 }
@@ -19,11 +19,19 @@ package org.apache.shardingsphere.elasticjob.executor;
 
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
+import org.apache.shardingsphere.elasticjob.api.ShardingContext;
+import org.apache.shardingsphere.elasticjob.error.handler.JobErrorHandler;
+import org.apache.shardingsphere.elasticjob.executor.context.ExecutorContext;
 import org.apache.shardingsphere.elasticjob.executor.fixture.executor.ClassedFooJobExecutor;
 import org.apache.shardingsphere.elasticjob.executor.fixture.job.FooJob;
+import org.apache.shardingsphere.elasticjob.infra.concurrent.ExecutorPoolState;
+import org.apache.shardingsphere.elasticjob.infra.concurrent.JobExecutorPoolRegistry;
 import org.apache.shardingsphere.elasticjob.infra.exception.JobExecutionEnvironmentException;
+import org.apache.shardingsphere.elasticjob.infra.exception.JobExecutionException;
 import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
+import org.apache.shardingsphere.elasticjob.infra.handler.threadpool.impl.AdaptiveJobExecutorServiceHandler;
 import org.apache.shardingsphere.elasticjob.infra.listener.ShardingContexts;
+import org.apache.shardingsphere.elasticjob.tracing.event.JobExecutionEvent;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobStatusTraceEvent.State;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,13 +43,25 @@ import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -166,6 +186,158 @@ public final class ElasticJobExecutorTest {
         verify(jobItemExecutor, times(shardingContexts.getShardingTotalCount())).process(eq(fooJob), eq(jobConfig), eq(jobFacade), any());
     }
     
+    @Test
+    public void assertExecuteSuccessForMultipleShardingItemsWithoutReleaseCompletedItem() {
+        ShardingContexts shardingContexts = createMultipleShardingContexts();
+        prepareForIsNotMisfire(jobFacade, shardingContexts);
+        elasticJobExecutor.execute();
+        verify(jobFacade, times(0)).registerItemCompleted(any(), anyInt());
+    }
+    
+    @Test
+    public void assertExecuteSuccessForManyShardingItems() {
+        Map<Integer, String> shardingItemParameters = new HashMap<>(2000, 1);
+        for (int i = 0; i < 2000; i++) {
+            shardingItemParameters.put(i, "");
+        }
+        ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 2000, "", shardingItemParameters);
+        prepareForIsNotMisfire(jobFacade, shardingContexts);
+        elasticJobExecutor.execute();
+        verifyForIsNotMisfire(jobFacade, shardingContexts);
+        verify(jobItemExecutor, times(2000)).process(eq(fooJob), eq(jobConfig), eq(jobFacade), any());
+    }
+    
+    @Test
+    public void assertExecuteWithSkewedShardingItemsAndItemTimeout() {
+        jobConfig.getProps().setProperty(ShardingItemExecutionOptions.ITEM_TIMEOUT_KEY, "200");
+        Map<Integer, String> shardingItemParameters = new HashMap<>(200, 1);
+        for (int i = 0; i < 200; i++) {
+            shardingItemParameters.put(i, "");
+        }
+        ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 200, "", shardingItemParameters);
+        prepareForIsNotMisfire(jobFacade, shardingContexts);
+        doAnswer(invocation -> {
+            if (0 == invocation.getArgument(3, ShardingContext.class).getShardingItem()) {
+                Thread.sleep(10000L);
+            }
+            return null;
+        }).when(jobItemExecutor).process(eq(fooJob), eq(jobConfig), eq(jobFacade), any());
+        long startTime = System.currentTimeMillis();
+        elasticJobExecutor.execute();
+        assertTrue(System.currentTimeMillis() - startTime < 5000L);
+        verifyForIsNotMisfire(jobFacade, shardingContexts);
+        verify(jobItemExecutor, times(200)).process(eq(fooJob), eq(jobConfig), eq(jobFacade), any());
+        verify(jobFacade).postJobStatusTraceEvent(
+                eq(shardingContexts.getTaskId()), eq(State.TASK_ERROR), argThat(message -> message.startsWith("{0=") && message.contains("is timed out and cancelled")));
+        verify(jobFacade).postJobExecutionEvent(argThat(each -> !each.isSuccess() && null != each.getCompleteTime() && 0 == each.getShardingItem()));
+        verify(jobFacade, times(199)).postJobExecutionEvent(argThat(JobExecutionEvent::isSuccess));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertExecuteWithItemTimeoutWithoutWaitingForTimedOutItem() {
+        jobConfig.getProps().setProperty(ShardingItemExecutionOptions.ITEM_TIMEOUT_KEY, "100");
+        ShardingContexts shardingContexts = createMultipleShardingContexts();
+        prepareForIsNotMisfire(jobFacade, shardingContexts);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (0 == invocation.getArgument(3, ShardingContext.class).getShardingItem()) {
+                long deadline = System.currentTimeMillis() + 2000L;
+                while (System.currentTimeMillis() < deadline) {
+                    try {
+                        Thread.sleep(10L);
+                    } catch (final InterruptedException ex) {
+                        interrupted.countDown();
+                    }
+                }
+                stopped.countDown();
+            }
+            return null;
+        }).when(jobItemExecutor).process(eq(fooJob), eq(jobConfig), eq(jobFacade), any());
+        long startTime = System.currentTimeMillis();
+        elasticJobExecutor.execute();
+        assertTrue(System.currentTimeMillis() - startTime < 1500L);
+        assertTrue(interrupted.await(1L, TimeUnit.SECONDS));
+        assertThat(stopped.getCount(), is(1L));
+        verifyForIsNotMisfire(jobFacade, shardingContexts);
+        verify(jobFacade).postJobStatusTraceEvent(eq(shardingContexts.getTaskId()), eq(State.TASK_ERROR), argThat(message -> message.contains("Job 'test_job' item '0' is timed out and cancelled.")));
+        assertTrue(stopped.await(5L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertExecuteWhenExecutorServiceRejected() {
+        ShardingContexts shardingContexts = createMultipleShardingContexts();
+        prepareForIsNotMisfire(jobFacade, shardingContexts);
+        ExecutorService executorService = mock(ExecutorService.class);
+        doThrow(new RejectedExecutionException("saturated")).when(executorService).execute(any());
+        JobErrorHandler jobErrorHandler = mock(JobErrorHandler.class);
+        ExecutorContext executorContext = mock(ExecutorContext.class);
+        when(executorContext.get(ExecutorService.class)).thenReturn(executorService);
+        when(executorContext.get(JobErrorHandler.class)).thenReturn(jobErrorHandler);
+        Field field = ElasticJobExecutor.class.getDeclaredField("executorContext");
+        field.setAccessible(true);
+        field.set(elasticJobExecutor, executorContext);
+        elasticJobExecutor.execute();
+        verify(jobErrorHandler).handleException(eq("test_job"), argThat(cause -> cause instanceof JobExecutionException && cause.getMessage().contains("saturated")));
+        verify(jobFacade).postJobStatusTraceEvent(eq(shardingContexts.getTaskId()), eq(State.TASK_ERROR), argThat(message -> message.contains("RejectedExecutionException")));
+        verify(jobItemExecutor, times(0)).process(eq(fooJob), eq(jobConfig), eq(jobFacade), any());
+        verify(jobFacade).registerJobCompleted(shardingContexts);
+    }
+    
+    @Test
+    public void assertExecuteWithTriggerTimeoutForSingleShardingItem() {
+        jobConfig.getProps().setProperty(ShardingItemExecutionOptions.TRIGGER_TIMEOUT_KEY, "200");
+        ShardingContexts shardingContexts = createSingleShardingContexts();
+        prepareForIsNotMisfire(jobFacade, shardingContexts);
+        doAnswer(invocation -> {
+            Thread.sleep(10000L);
+            return null;
+        }).when(jobItemExecutor).process(eq(fooJob), eq(jobConfig), eq(jobFacade), any());
+        long startTime = System.currentTimeMillis();
+        elasticJobExecutor.execute();
+        assertTrue(System.currentTimeMillis() - startTime < 5000L);
+        verifyForIsNotMisfire(jobFacade, shardingContexts);
+        verify(jobFacade).postJobStatusTraceEvent(eq(shardingContexts.getTaskId()), eq(State.TASK_ERROR), argThat(message -> message.contains("Job 'test_job' item '0' is timed out and cancelled.")));
+        verify(jobFacade, times(0)).postJobExecutionEvent(argThat(JobExecutionEvent::isSuccess));
+    }
+    
+    @Test
+    public void assertExecuteWithReleaseCompletedItem() {
+        jobConfig.getProps().setProperty(ShardingItemExecutionOptions.RELEASE_COMPLETED_ITEM_KEY, Boolean.TRUE.toString());
+        ShardingContexts shardingContexts = createMultipleShardingContexts();
+        prepareForIsNotMisfire(jobFacade, shardingContexts);
+        elasticJobExecutor.execute();
+        verifyForIsNotMisfire(jobFacade, shardingContexts);
+        verify(jobFacade).registerItemCompleted(shardingContexts, 0);
+        verify(jobFacade).registerItemCompleted(shardingContexts, 1);
+    }
+    
+    @Test
+    public void assertExecuteSuccessWhenJobEventIsNotSampled() {
+        ShardingContexts shardingContexts = createMultipleShardingContexts();
+        shardingContexts.setAllowSendJobEvent(false);
+        prepareForIsNotMisfire(jobFacade, shardingContexts);
+        elasticJobExecutor.execute();
+        verify(jobFacade, times(0)).postJobStatusTraceEvent(any(), any(), any());
+        verify(jobFacade, times(0)).postJobExecutionEvent(any());
+        verify(jobItemExecutor, times(2)).process(eq(fooJob), eq(jobConfig), eq(jobFacade), any());
+    }
+    
+    @Test
+    public void assertExecuteFailureWhenJobEventIsNotSampled() {
+        ShardingContexts shardingContexts = createMultipleShardingContexts();
+        shardingContexts.setAllowSendJobEvent(false);
+        prepareForIsNotMisfire(jobFacade, shardingContexts);
+        doThrow(RuntimeException.class).when(jobItemExecutor).process(eq(fooJob), eq(jobConfig), eq(jobFacade), any());
+        elasticJobExecutor.execute();
+        verify(jobFacade, times(0)).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_STAGING, "Job 'test_job' execute begin.");
+        verify(jobFacade, times(0)).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_RUNNING, "");
+        verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_ERROR, getErrorMessage(shardingContexts));
+        verify(jobFacade, times(2)).postJobExecutionEvent(argThat(each -> !each.isSuccess() && null != each.getCompleteTime()));
+    }
+    
     @Test
     public void assertExecuteWithMisfireIsEmpty() {
         ShardingContexts shardingContexts = createMultipleShardingContexts();
@@ -199,6 +371,48 @@ public final class ElasticJobExecutorTest {
         verify(jobFacade, times(2)).registerJobCompleted(shardingContexts);
     }
     
+    @Test
+    public void assertPoolSizeConvergesWithChangingItemCount() {
+        jobConfig = JobConfiguration.newBuilder("adaptive_test_job", 16).cron("0/1 * * * * ?").jobErrorHandlerType("THROW").jobExecutorServiceHandlerType("ADAPTIVE")
+                .setProperty(AdaptiveJobExecutorServiceHandler.MIN_POOL_SIZE_KEY, "1").setProperty(AdaptiveJobExecutorServiceHandler.MAX_POOL_SIZE_KEY, "8")
+                .setProperty(AdaptiveJobExecutorServiceHandler.GROW_MIN_ITEM_MILLISECONDS_KEY, "1").build();
+        when(jobFacade.loadJobConfiguration(anyBoolean())).thenReturn(jobConfig);
+        elasticJobExecutor = new ElasticJobExecutor(fooJob, jobConfig, jobFacade);
+        setJobItemExecutor();
+        when(jobFacade.getShardingContexts()).thenReturn(createShardingContexts(4), createShardingContexts(4), createShardingContexts(2), createShardingContexts(16), createShardingContexts(16));
+        doAnswer(invocation -> {
+            Thread.sleep(5L);
+            return null;
+        }).when(jobItemExecutor).process(eq(fooJob), eq(jobConfig), eq(jobFacade), any());
+        try {
+            assertThat(getPoolSize(), is(1));
+            elasticJobExecutor.execute();
+            assertThat(getPoolSize(), is(4));
+            elasticJobExecutor.execute();
+            assertThat(getPoolSize(), is(4));
+            elasticJobExecutor.execute();
+            assertThat(getPoolSize(), is(2));
+            elasticJobExecutor.execute();
+            assertThat(getPoolSize(), is(8));
+            elasticJobExecutor.execute();
+            ExecutorPoolState actual = JobExecutorPoolRegistry.getInstance().findPoolState("adaptive_test_job").orElseThrow(IllegalStateException::new);
+            assertThat(actual.getMinPoolSize(), is(1));
+            assertThat(actual.getMaxPoolSize(), is(8));
+            assertThat(actual.getPoolSize(), is(8));
+            assertThat(actual.getLastRunItemCount(), is(16));
+            assertTrue(actual.getLastRunAverageItemMillis() >= 5L);
+            assertThat(actual.getResizeCount(), is(3L));
+            verify(jobItemExecutor, times(42)).process(eq(fooJob), eq(jobConfig), eq(jobFacade), any());
+        } finally {
+            elasticJobExecutor.shutdown();
+        }
+        assertFalse(JobExecutorPoolRegistry.getInstance().find("adaptive_test_job").isPresent());
+    }
+    
+    private int getPoolSize() {
+        return JobExecutorPoolRegistry.getInstance().findPoolState("adaptive_test_job").orElseThrow(IllegalStateException::new).getPoolSize();
+    }
+    
     @Test
     public void assertBeforeJobExecutedFailure() {
         assertThrows(JobSystemException.class, () -> {
@@ -240,6 +454,14 @@ public final class ElasticJobExecutorTest {
         return new ShardingContexts("fake_task_id", "test_job", 2, "", map);
     }
     
+    private ShardingContexts createShardingContexts(final int shardingTotalCount) {
+        Map<Integer, String> map = new HashMap<>(shardingTotalCount, 1);
+        for (int i = 0; i < shardingTotalCount; i++) {
+            map.put(i, "");
+        }
+        return new ShardingContexts("fake_task_id", "adaptive_test_job", shardingTotalCount, "", map);
+    }
+    
     private void prepareForIsNotMisfire(final JobFacade jobFacade, final ShardingContexts shardingContexts) {
         when(jobFacade.getShardingContexts()).thenReturn(shardingContexts);
         when(jobFacade.misfireIfRunning(shardingContexts.getShardingItemParameters().keySet())).thenReturn(false);
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.executor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class ShardingItemExecutionOptionsTest {
+    
+    @Test
+    public void assertFromEmptyProperties() {
+        ShardingItemExecutionOptions actual = ShardingItemExecutionOptions.from(new Properties());
+        assertThat(actual.getItemTimeoutMillis(), is(0L));
+        assertThat(actual.getTriggerTimeoutMillis(), is(0L));
+        assertThat(actual.isReleaseCompletedItem(), is(false));
+        assertThat(actual.isTimeoutEnabled(), is(false));
+    }
+    
+    @Test
+    public void assertFromProperties() {
+        Properties props = new Properties();
+        props.setProperty(ShardingItemExecutionOptions.ITEM_TIMEOUT_KEY, " 1000 ");
+        props.setProperty(ShardingItemExecutionOptions.TRIGGER_TIMEOUT_KEY, "5000");
+        props.setProperty(ShardingItemExecutionOptions.RELEASE_COMPLETED_ITEM_KEY, "true");
+        ShardingItemExecutionOptions actual = ShardingItemExecutionOptions.from(props);
+        assertThat(actual.getItemTimeoutMillis(), is(1000L));
+        assertThat(actual.getTriggerTimeoutMillis(), is(5000L));
+        assertThat(actual.isReleaseCompletedItem(), is(true));
+        assertThat(actual.isTimeoutEnabled(), is(true));
+    }
+}
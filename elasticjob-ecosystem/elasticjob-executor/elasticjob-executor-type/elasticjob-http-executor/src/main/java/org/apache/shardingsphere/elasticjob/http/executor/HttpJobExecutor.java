@@ -18,7 +18,18 @@
 package org.apache.shardingsphere.elasticjob.http.executor;
 
 import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.shardingsphere.elasticjob.api.ElasticJob;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.api.ShardingContext;
@@ -30,75 +41,153 @@ import org.apache.shardingsphere.elasticjob.infra.exception.JobConfigurationExce
 import org.apache.shardingsphere.elasticjob.infra.exception.JobExecutionException;
 import org.apache.shardingsphere.elasticjob.infra.json.GsonFactory;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Http job executor.
+ * 
+ * <p>Every job sends its requests through a pooled HTTP client whose size is configured by {@link HttpJobProperties#MAX_CONNECTIONS_KEY}.
+ * The parsed job properties are cached until the properties change.
+ * The client is replaced when the size changes and retired when the job shuts down,
+ * a retired client is closed after its in-flight requests finish.</p>
  */
 @Slf4j
 public final class HttpJobExecutor implements TypedJobItemExecutor {
     
+    private static final int DEFAULT_MAX_CONNECTIONS = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private static final int MAX_LOGGED_RESPONSE_BYTES = 4096;
+    
+    private static final int MAX_DRAINED_RESPONSE_BYTES = 65536;
+    
+    private static final int DISCARD_BUFFER_SIZE = 8192;
+    
+    private final Map<String, JobHttpContext> jobHttpContexts = new ConcurrentHashMap<>();
+    
     @Override
     public void process(final ElasticJob elasticJob, final JobConfiguration jobConfig, final JobFacade jobFacade, final ShardingContext shardingContext) {
-        HttpParam httpParam = getHttpParam(jobConfig.getProps());
-        HttpURLConnection connection = null;
-        try {
-            URL url = new URL(httpParam.getUrl());
-            connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod(httpParam.getMethod());
-            connection.setDoOutput(true);
-            connection.setConnectTimeout(httpParam.getConnectTimeout());
-            connection.setReadTimeout(httpParam.getReadTimeout());
-            if (!Strings.isNullOrEmpty(httpParam.getContentType())) {
-                connection.setRequestProperty("Content-Type", httpParam.getContentType());
-            }
-            connection.setRequestProperty(HttpJobProperties.SHARDING_CONTEXT_KEY, GsonFactory.getGson().toJson(shardingContext));
-            connection.connect();
-            String data = httpParam.getData();
-            if (isWriteMethod(httpParam.getMethod()) && !Strings.isNullOrEmpty(data)) {
-                try (OutputStream outputStream = connection.getOutputStream()) {
-                    outputStream.write(data.getBytes(StandardCharsets.UTF_8));
-                }
-            }
-            int code = connection.getResponseCode();
-            InputStream resultInputStream;
+        JobHttpContext jobHttpContext = acquireJobHttpContext(Strings.nullToEmpty(jobConfig.getJobName()), jobConfig.getProps());
+        try (CloseableHttpResponse response = jobHttpContext.getPooledHttpClient().getHttpClient().execute(createRequestBuilder(jobHttpContext.getHttpParam(), shardingContext).build())) {
+            int code = response.getStatusLine().getStatusCode();
             if (isRequestSucceed(code)) {
-                resultInputStream = connection.getInputStream();
+                String result = consumeResponse(response.getEntity(), log.isDebugEnabled());
+                log.debug("HTTP job execute result : {}", result);
             } else {
                 log.warn("HTTP job {} executed with response code {}", jobConfig.getJobName(), code);
-                resultInputStream = connection.getErrorStream();
-            }
-            StringBuilder result = new StringBuilder();
-            try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(resultInputStream, StandardCharsets.UTF_8))) {
-                String line;
-                while (null != (line = bufferedReader.readLine())) {
-                    result.append(line);
-                }
-            }
-            if (isRequestSucceed(code)) {
-                log.debug("HTTP job execute result : {}", result.toString());
-            } else {
-                log.warn("HTTP job {} executed with response body {}", jobConfig.getJobName(), result.toString());
+                log.warn("HTTP job {} executed with response body {}", jobConfig.getJobName(), consumeResponse(response.getEntity(), true));
             }
         } catch (final IOException ex) {
             throw new JobExecutionException(ex);
         } finally {
-            if (null != connection) {
-                connection.disconnect();
+            jobHttpContext.getPooledHttpClient().release();
+        }
+    }
+    
+    private RequestBuilder createRequestBuilder(final HttpParam httpParam, final ShardingContext shardingContext) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(httpParam.getConnectTimeout()).setConnectTimeout(httpParam.getConnectTimeout()).setSocketTimeout(httpParam.getReadTimeout()).build();
+        RequestBuilder result = RequestBuilder.create(httpParam.getMethod().toUpperCase()).setUri(httpParam.getUrl()).setConfig(requestConfig);
+        if (!Strings.isNullOrEmpty(httpParam.getContentType())) {
+            result.setHeader("Content-Type", httpParam.getContentType());
+        }
+        result.setHeader(HttpJobProperties.SHARDING_CONTEXT_KEY, GsonFactory.getGson().toJson(shardingContext));
+        String data = httpParam.getData();
+        if (isWriteMethod(httpParam.getMethod()) && !Strings.isNullOrEmpty(data)) {
+            result.setEntity(new ByteArrayEntity(data.getBytes(StandardCharsets.UTF_8)));
+        }
+        return result;
+    }
+    
+    private String consumeResponse(final HttpEntity entity, final boolean bodyRequired) throws IOException {
+        if (null == entity) {
+            return "";
+        }
+        // The stream is not closed, closing it would drain the whole body. A body that is fully read hands the connection back to the pool,
+        // a larger one closes the connection with the response instead.
+        InputStream inputStream = entity.getContent();
+        byte[] buffer = new byte[DISCARD_BUFFER_SIZE];
+        String result = "";
+        int consumedBytes = 0;
+        if (bodyRequired) {
+            consumedBytes = readFully(inputStream, buffer, MAX_LOGGED_RESPONSE_BYTES);
+            result = new String(buffer, 0, consumedBytes, StandardCharsets.UTF_8);
+        }
+        int length;
+        while (consumedBytes <= MAX_DRAINED_RESPONSE_BYTES && -1 != (length = inputStream.read(buffer))) {
+            consumedBytes += length;
+        }
+        return result;
+    }
+    
+    private int readFully(final InputStream inputStream, final byte[] buffer, final int maxLength) throws IOException {
+        int result = 0;
+        int length;
+        while (result < maxLength && -1 != (length = inputStream.read(buffer, result, maxLength - result))) {
+            result += length;
+        }
+        return result;
+    }
+    
+    private JobHttpContext acquireJobHttpContext(final String jobName, final Properties props) {
+        JobHttpContext result;
+        do {
+            result = getJobHttpContext(jobName, props);
+        } while (!result.getPooledHttpClient().acquire());
+        return result;
+    }
+    
+    HttpParam getHttpParam(final String jobName, final Properties props) {
+        return getJobHttpContext(jobName, props).getHttpParam();
+    }
+    
+    private JobHttpContext getJobHttpContext(final String jobName, final Properties props) {
+        JobHttpContext result = jobHttpContexts.get(jobName);
+        if (null != result && result.getProps().equals(props)) {
+            return result;
+        }
+        synchronized (jobHttpContexts) {
+            result = jobHttpContexts.get(jobName);
+            if (null != result && result.getProps().equals(props)) {
+                return result;
             }
+            Properties snapshot = new Properties();
+            snapshot.putAll(props);
+            HttpParam httpParam = parseHttpParam(props);
+            int maxConnections = getMaxConnections(props);
+            PooledHttpClient pooledHttpClient = null == result ? null : result.getPooledHttpClient();
+            if (null == pooledHttpClient || maxConnections != pooledHttpClient.getMaxConnections()) {
+                if (null != pooledHttpClient) {
+                    pooledHttpClient.retire();
+                }
+                pooledHttpClient = new PooledHttpClient(maxConnections, createHttpClient(maxConnections));
+            }
+            result = new JobHttpContext(snapshot, httpParam, pooledHttpClient);
+            jobHttpContexts.put(jobName, result);
+            return result;
         }
     }
     
-    private HttpParam getHttpParam(final Properties props) {
+    private int getMaxConnections(final Properties props) {
+        String value = props.getProperty(HttpJobProperties.MAX_CONNECTIONS_KEY);
+        return Strings.isNullOrEmpty(value) ? DEFAULT_MAX_CONNECTIONS : Integer.parseInt(value.trim());
+    }
+    
+    private CloseableHttpClient createHttpClient(final int maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        return HttpClients.custom().setConnectionManager(connectionManager).build();
+    }
+    
+    private HttpParam parseHttpParam(final Properties props) {
         String url = props.getProperty(HttpJobProperties.URI_KEY);
         if (Strings.isNullOrEmpty(url)) {
             throw new JobConfigurationException("Cannot find HTTP URL, job is not executed.");
@@ -119,11 +208,92 @@ public final class HttpJobExecutor implements TypedJobItemExecutor {
     }
     
     private boolean isRequestSucceed(final int httpStatusCode) {
-        return HttpURLConnection.HTTP_BAD_REQUEST > httpStatusCode;
+        return HttpStatus.SC_BAD_REQUEST > httpStatusCode;
+    }
+    
+    @Override
+    public void shutdown(final String jobName) {
+        synchronized (jobHttpContexts) {
+            JobHttpContext jobHttpContext = jobHttpContexts.remove(jobName);
+            if (null != jobHttpContext) {
+                jobHttpContext.getPooledHttpClient().retire();
+            }
+        }
     }
     
     @Override
     public String getType() {
         return "HTTP";
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class JobHttpContext {
+        
+        private final Properties props;
+        
+        private final HttpParam httpParam;
+        
+        private final PooledHttpClient pooledHttpClient;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class PooledHttpClient {
+        
+        @Getter
+        private final int maxConnections;
+        
+        @Getter
+        private final CloseableHttpClient httpClient;
+        
+        private final AtomicInteger inFlightRequests = new AtomicInteger();
+        
+        private final AtomicBoolean closed = new AtomicBoolean();
+        
+        private volatile boolean retired;
+        
+        /**
+         * Acquire the client for one request.
+         *
+         * @return acquired or not, the client cannot be acquired after it is retired
+         */
+        boolean acquire() {
+            inFlightRequests.incrementAndGet();
+            if (retired) {
+                release();
+                return false;
+            }
+            return true;
+        }
+        
+        /**
+         * Release the client after the request finished.
+         */
+        void release() {
+            if (0 == inFlightRequests.decrementAndGet() && retired) {
+                close();
+            }
+        }
+        
+        /**
+         * Retire the client, it is closed once no request is in flight.
+         */
+        void retire() {
+            retired = true;
+            if (0 == inFlightRequests.get()) {
+                close();
+            }
+        }
+        
+        private void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                httpClient.close();
+            } catch (final IOException ex) {
+                log.warn("Close HTTP client failure.", ex);
+            }
+        }
+    }
 }
@@ -52,6 +52,11 @@ public final class HttpJobProperties {
      */
     public static final String CONTENT_TYPE_KEY = "http.content.type";
     
+    /**
+     * HTTP max pooled connections of one job.
+     */
+    public static final String MAX_CONNECTIONS_KEY = "http.max.connections";
+    
     /**
      * HTTP sharding context.
      */
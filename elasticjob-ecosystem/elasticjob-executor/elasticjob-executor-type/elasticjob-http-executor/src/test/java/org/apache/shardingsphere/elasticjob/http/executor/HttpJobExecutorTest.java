@@ -22,6 +22,7 @@ import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.api.ShardingContext;
 import org.apache.shardingsphere.elasticjob.executor.JobFacade;
 import org.apache.shardingsphere.elasticjob.http.executor.fixture.InternalController;
+import org.apache.shardingsphere.elasticjob.http.pojo.HttpParam;
 import org.apache.shardingsphere.elasticjob.http.props.HttpJobProperties;
 import org.apache.shardingsphere.elasticjob.infra.exception.JobConfigurationException;
 import org.apache.shardingsphere.elasticjob.infra.exception.JobExecutionException;
@@ -36,9 +37,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.lenient;
@@ -162,6 +172,99 @@ public final class HttpJobExecutorTest {
         });
     }
     
+    @Test
+    public void assertProcessManyItemsConcurrentlyWithPooledHttpClient() throws InterruptedException, ExecutionException {
+        Properties props = createProperties("/getName");
+        props.setProperty(HttpJobProperties.MAX_CONNECTIONS_KEY, "2");
+        when(jobConfig.getProps()).thenReturn(props);
+        when(jobConfig.getJobName()).thenReturn("test_job");
+        processConcurrently(200);
+        props.setProperty(HttpJobProperties.MAX_CONNECTIONS_KEY, "4");
+        processConcurrently(200);
+        jobExecutor.shutdown("test_job");
+        jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
+        jobExecutor.shutdown("test_job");
+    }
+    
+    @Test
+    public void assertReplaceHttpClientWithRequestsInFlight() throws InterruptedException, ExecutionException {
+        Properties props = createProperties("/getName");
+        props.setProperty(HttpJobProperties.MAX_CONNECTIONS_KEY, "2");
+        Properties resizedProps = createProperties("/getName");
+        resizedProps.setProperty(HttpJobProperties.MAX_CONNECTIONS_KEY, "4");
+        AtomicInteger processedCount = new AtomicInteger();
+        when(jobConfig.getProps()).thenAnswer(invocation -> 0 == processedCount.getAndIncrement() % 2 ? props : resizedProps);
+        when(jobConfig.getJobName()).thenReturn("test_job");
+        processConcurrently(200);
+        jobExecutor.shutdown("test_job");
+    }
+    
+    @Test
+    public void assertProcessTimeoutWhenNoPooledConnectionAvailable() throws InterruptedException, ExecutionException {
+        Properties props = createProperties("/postWithTimeout");
+        props.setProperty(HttpJobProperties.METHOD_KEY, "POST");
+        props.setProperty(HttpJobProperties.MAX_CONNECTIONS_KEY, "1");
+        props.setProperty(HttpJobProperties.CONNECT_TIMEOUT_KEY, "20");
+        when(jobConfig.getProps()).thenReturn(props);
+        when(jobConfig.getJobName()).thenReturn("test_job");
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> future = executorService.submit(() -> jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext));
+            Thread.sleep(50L);
+            assertThrows(JobExecutionException.class, () -> jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext));
+            future.get();
+        } finally {
+            executorService.shutdownNow();
+            jobExecutor.shutdown("test_job");
+        }
+    }
+    
+    @Test
+    public void assertGetCachedHttpParam() {
+        Properties props = createProperties("/getName");
+        HttpParam expected = jobExecutor.getHttpParam("test_job", props);
+        assertThat(jobExecutor.getHttpParam("test_job", props), sameInstance(expected));
+        props.setProperty(HttpJobProperties.READ_TIMEOUT_KEY, "6000");
+        HttpParam actual = jobExecutor.getHttpParam("test_job", props);
+        assertThat(actual, not(sameInstance(expected)));
+        assertThat(actual.getReadTimeout(), is(6000));
+        jobExecutor.shutdown("test_job");
+    }
+    
+    @Test
+    public void assertProcessWithLargeResponseBody() {
+        Properties props = createProperties("/getLargeBody");
+        props.setProperty(HttpJobProperties.MAX_CONNECTIONS_KEY, "1");
+        when(jobConfig.getProps()).thenReturn(props);
+        when(jobConfig.getJobName()).thenReturn("test_job");
+        for (int i = 0; i < 3; i++) {
+            jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
+        }
+        jobExecutor.shutdown("test_job");
+    }
+    
+    private Properties createProperties(final String path) {
+        Properties result = new Properties();
+        result.setProperty(HttpJobProperties.URI_KEY, getRequestUri(path));
+        result.setProperty(HttpJobProperties.METHOD_KEY, "GET");
+        return result;
+    }
+    
+    private void processConcurrently(final int itemCount) throws InterruptedException, ExecutionException {
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            Collection<Future<?>> futures = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                futures.add(executorService.submit(() -> jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext)));
+            }
+            for (Future<?> each : futures) {
+                each.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
     @Test
     public void assertGetType() {
         assertThat(jobExecutor.getType(), is("HTTP"));
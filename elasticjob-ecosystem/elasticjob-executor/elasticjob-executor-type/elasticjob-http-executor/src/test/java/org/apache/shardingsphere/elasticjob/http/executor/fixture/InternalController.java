@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.elasticjob.http.executor.fixture;
 
+import com.google.common.base.Strings;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.elasticjob.restful.Http;
 import org.apache.shardingsphere.elasticjob.restful.RestfulController;
@@ -44,6 +45,16 @@ public final class InternalController implements RestfulController {
         return "ejob";
     }
     
+    /**
+     * Get large body.
+     *
+     * @return body larger than the drained response limit
+     */
+    @Mapping(method = Http.GET, path = "/getLargeBody")
+    public String getLargeBody() {
+        return Strings.repeat("ejob", 65536);
+    }
+    
     /**
      * Get sharding context.
      *
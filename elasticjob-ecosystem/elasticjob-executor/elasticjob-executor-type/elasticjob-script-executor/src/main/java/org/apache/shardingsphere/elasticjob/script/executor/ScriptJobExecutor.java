@@ -31,16 +31,36 @@ import org.apache.shardingsphere.elasticjob.script.props.ScriptJobProperties;
 import org.apache.shardingsphere.elasticjob.infra.json.GsonFactory;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Script job executor.
+ * 
+ * <p>Forks one script process for every sharding item by default,
+ * or feeds sharding items to a pool of long-lived script processes when persistent worker mode is enabled.
+ * The pool is rebuilt when its configuration changes and closed when the job shuts down.</p>
  */
 public final class ScriptJobExecutor implements TypedJobItemExecutor {
     
+    private static final String DEFAULT_WORKER_POOL_SIZE = "4";
+    
+    private static final String DEFAULT_WORKER_MAX_ITEMS = "1000";
+    
+    private static final String DEFAULT_WORKER_TIMEOUT_MILLISECONDS = "60000";
+    
+    private final Map<String, ScriptWorkerPool> workerPools = new ConcurrentHashMap<>();
+    
     @Override
     public void process(final ElasticJob elasticJob, final JobConfiguration jobConfig, final JobFacade jobFacade, final ShardingContext shardingContext) {
-        CommandLine commandLine = CommandLine.parse(getScriptCommandLine(jobConfig.getProps()));
+        Properties props = jobConfig.getProps();
+        String scriptCommandLine = getScriptCommandLine(props);
+        if (Boolean.parseBoolean(props.getProperty(ScriptJobProperties.WORKER_ENABLED_KEY))) {
+            getWorkerPool(Strings.nullToEmpty(jobConfig.getJobName()), scriptCommandLine, props).process(GsonFactory.getGson().toJson(shardingContext));
+            return;
+        }
+        CommandLine commandLine = CommandLine.parse(scriptCommandLine);
         commandLine.addArgument(GsonFactory.getGson().toJson(shardingContext), false);
         try {
             new DefaultExecutor().execute(commandLine);
@@ -49,6 +69,29 @@ public final class ScriptJobExecutor implements TypedJobItemExecutor {
         }
     }
     
+    private ScriptWorkerPool getWorkerPool(final String jobName, final String scriptCommandLine, final Properties props) {
+        ScriptWorkerPoolConfiguration poolConfig = new ScriptWorkerPoolConfiguration(scriptCommandLine,
+                Integer.parseInt(props.getProperty(ScriptJobProperties.WORKER_POOL_SIZE_KEY, DEFAULT_WORKER_POOL_SIZE)),
+                Integer.parseInt(props.getProperty(ScriptJobProperties.WORKER_MAX_ITEMS_KEY, DEFAULT_WORKER_MAX_ITEMS)),
+                Long.parseLong(props.getProperty(ScriptJobProperties.WORKER_TIMEOUT_KEY, DEFAULT_WORKER_TIMEOUT_MILLISECONDS)));
+        ScriptWorkerPool result = workerPools.get(jobName);
+        if (null != result && result.getPoolConfig().equals(poolConfig)) {
+            return result;
+        }
+        synchronized (workerPools) {
+            result = workerPools.get(jobName);
+            if (null != result && result.getPoolConfig().equals(poolConfig)) {
+                return result;
+            }
+            if (null != result) {
+                result.close();
+            }
+            result = new ScriptWorkerPool(poolConfig);
+            workerPools.put(jobName, result);
+            return result;
+        }
+    }
+    
     private String getScriptCommandLine(final Properties props) {
         String result = props.getProperty(ScriptJobProperties.SCRIPT_KEY);
         if (Strings.isNullOrEmpty(result)) {
@@ -57,6 +100,16 @@ public final class ScriptJobExecutor implements TypedJobItemExecutor {
         return result;
     }
     
+    @Override
+    public void shutdown(final String jobName) {
+        synchronized (workerPools) {
+            ScriptWorkerPool workerPool = workerPools.remove(jobName);
+            if (null != workerPool) {
+                workerPool.close();
+            }
+        }
+    }
+    
     @Override
     public String getType() {
         return "SCRIPT";
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.script.executor;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-lived script worker process.
+ * 
+ * <p>Protocol: every sharding item is written to stdin as one line of sharding context JSON.
+ * The script answers with a line {@code @elasticjob:OK} or a line starting with {@code @elasticjob:ERROR}, any other stdout line is treated as script output.
+ * The script is expected to exit when stdin is closed.</p>
+ */
+@Slf4j
+final class ScriptWorker {
+    
+    static final String RESPONSE_PREFIX = "@elasticjob:";
+    
+    static final String SUCCESS_RESPONSE = RESPONSE_PREFIX + "OK";
+    
+    private static final long POLL_MILLISECONDS = 100L;
+    
+    private final Process process;
+    
+    private final BufferedWriter writer;
+    
+    private final BlockingQueue<String> outputLines = new LinkedBlockingQueue<>();
+    
+    @Getter
+    private int processedCount;
+    
+    private boolean broken;
+    
+    ScriptWorker(final String[] command, final ExecutorService outputReaderExecutor) {
+        try {
+            process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        } catch (final IOException ex) {
+            throw new JobSystemException("Start script worker failure.", ex);
+        }
+        writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+        try {
+            outputReaderExecutor.execute(this::readOutput);
+        } catch (final RejectedExecutionException ex) {
+            process.destroyForcibly();
+            throw new JobSystemException("Start script worker failure, output reader is rejected.", ex);
+        }
+    }
+    
+    private void readOutput() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                outputLines.add(line);
+            }
+        } catch (final IOException ex) {
+            log.debug("Script worker output closed.", ex);
+        }
+    }
+    
+    /**
+     * Deliver sharding item to script.
+     * 
+     * @param shardingContextJson sharding context in JSON
+     * @return delivered or not, not delivered when the script has closed its input
+     */
+    boolean deliver(final String shardingContextJson) {
+        try {
+            writer.write(shardingContextJson);
+            writer.newLine();
+            writer.flush();
+        } catch (final IOException ex) {
+            broken = true;
+            log.debug("Deliver sharding item to script worker failure.", ex);
+            return false;
+        }
+        processedCount++;
+        return true;
+    }
+    
+    /**
+     * Await response of delivered sharding item.
+     * 
+     * @param timeoutMilliseconds timeout milliseconds
+     */
+    void awaitResponse(final long timeoutMilliseconds) {
+        String response = waitForResponse(timeoutMilliseconds);
+        if (!SUCCESS_RESPONSE.equals(response)) {
+            throw new JobSystemException("Execute script failure, script answered '%s'.", response);
+        }
+    }
+    
+    private String waitForResponse(final long timeoutMilliseconds) {
+        long deadline = System.currentTimeMillis() + timeoutMilliseconds;
+        try {
+            while (true) {
+                String line = outputLines.poll(Math.max(1L, Math.min(POLL_MILLISECONDS, deadline - System.currentTimeMillis())), TimeUnit.MILLISECONDS);
+                if (null != line) {
+                    if (line.startsWith(RESPONSE_PREFIX)) {
+                        return line;
+                    }
+                    log.debug("Script worker output: {}", line);
+                    continue;
+                }
+                if (!process.isAlive() && outputLines.isEmpty()) {
+                    broken = true;
+                    throw new JobSystemException("Execute script failure, script worker exited with code %s.", process.exitValue());
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    broken = true;
+                    throw new JobSystemException("Execute script failure, script worker did not answer in %s milliseconds.", timeoutMilliseconds);
+                }
+            }
+        } catch (final InterruptedException ex) {
+            broken = true;
+            Thread.currentThread().interrupt();
+            throw new JobSystemException("Execute script failure.", ex);
+        }
+    }
+    
+    /**
+     * Judge whether the worker can process next sharding item.
+     * 
+     * @return healthy or not
+     */
+    boolean isHealthy() {
+        return !broken && process.isAlive();
+    }
+    
+    /**
+     * Close worker.
+     */
+    void close() {
+        try {
+            writer.close();
+        } catch (final IOException ex) {
+            log.debug("Close script worker input failure.", ex);
+        }
+        try {
+            if (!process.waitFor(POLL_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+        }
+    }
+}
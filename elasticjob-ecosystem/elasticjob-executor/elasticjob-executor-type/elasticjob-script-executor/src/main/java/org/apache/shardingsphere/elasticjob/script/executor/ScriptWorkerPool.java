@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.script.executor;
+
+import lombok.Getter;
+import org.apache.commons.exec.CommandLine;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Pool of long-lived script worker processes of one job.
+ */
+final class ScriptWorkerPool {
+    
+    @Getter
+    private final ScriptWorkerPoolConfiguration poolConfig;
+    
+    private final String[] command;
+    
+    private final Semaphore permits;
+    
+    private final BlockingQueue<ScriptWorker> idleWorkers = new LinkedBlockingQueue<>();
+    
+    private final ExecutorService outputReaderExecutor;
+    
+    private volatile boolean closed;
+    
+    ScriptWorkerPool(final ScriptWorkerPoolConfiguration poolConfig) {
+        this.poolConfig = poolConfig;
+        command = CommandLine.parse(poolConfig.getCommandLine()).toStrings();
+        permits = new Semaphore(poolConfig.getPoolSize());
+        outputReaderExecutor = Executors.newCachedThreadPool(new BasicThreadFactory.Builder().namingPattern(String.join("-", "elasticjob-script-worker-reader", "%s")).daemon(true).build());
+    }
+    
+    /**
+     * Process sharding item by an idle worker.
+     * 
+     * @param shardingContextJson sharding context in JSON
+     */
+    void process(final String shardingContextJson) {
+        try {
+            permits.acquire();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new JobSystemException("Execute script failure.", ex);
+        }
+        try {
+            ScriptWorker worker = borrowWorker();
+            try {
+                // An idle worker may exit between two items, the item goes to a new worker then.
+                if (!worker.deliver(shardingContextJson)) {
+                    worker.close();
+                    worker = createWorker();
+                    if (!worker.deliver(shardingContextJson)) {
+                        throw new JobSystemException("Execute script failure, script worker does not accept sharding item.");
+                    }
+                }
+                worker.awaitResponse(poolConfig.getTimeoutMilliseconds());
+            } finally {
+                returnWorker(worker);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+    
+    private ScriptWorker borrowWorker() {
+        ScriptWorker result;
+        while (null != (result = idleWorkers.poll())) {
+            if (result.isHealthy()) {
+                return result;
+            }
+            result.close();
+        }
+        return createWorker();
+    }
+    
+    private synchronized ScriptWorker createWorker() {
+        if (closed) {
+            throw new JobSystemException("Execute script failure, script worker pool is closed.");
+        }
+        return new ScriptWorker(command, outputReaderExecutor);
+    }
+    
+    private void returnWorker(final ScriptWorker worker) {
+        int maxItems = poolConfig.getMaxItems();
+        if (closed || !worker.isHealthy() || (maxItems > 0 && worker.getProcessedCount() >= maxItems)) {
+            worker.close();
+            return;
+        }
+        idleWorkers.add(worker);
+        if (closed && idleWorkers.remove(worker)) {
+            worker.close();
+        }
+    }
+    
+    /**
+     * Close all idle workers, busy workers are closed when they are returned and no new worker is started.
+     */
+    void close() {
+        synchronized (this) {
+            closed = true;
+            outputReaderExecutor.shutdown();
+        }
+        ScriptWorker worker;
+        while (null != (worker = idleWorkers.poll())) {
+            worker.close();
+        }
+    }
+}
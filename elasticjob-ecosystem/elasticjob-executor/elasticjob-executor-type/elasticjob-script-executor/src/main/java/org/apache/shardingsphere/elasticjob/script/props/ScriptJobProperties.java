@@ -26,4 +26,24 @@ public final class ScriptJobProperties {
      * Script command line to be executed.
      */
     public static final String SCRIPT_KEY = "script.command.line";
+    
+    /**
+     * Enable persistent script worker mode.
+     */
+    public static final String WORKER_ENABLED_KEY = "script.worker.enabled";
+    
+    /**
+     * Max script worker processes of one job.
+     */
+    public static final String WORKER_POOL_SIZE_KEY = "script.worker.pool.size";
+    
+    /**
+     * Script worker process is recycled after processed given number of sharding items.
+     */
+    public static final String WORKER_MAX_ITEMS_KEY = "script.worker.max.items";
+    
+    /**
+     * Script worker process is recycled when a sharding item is not answered in given milliseconds.
+     */
+    public static final String WORKER_TIMEOUT_KEY = "script.worker.timeout.milliseconds";
 }
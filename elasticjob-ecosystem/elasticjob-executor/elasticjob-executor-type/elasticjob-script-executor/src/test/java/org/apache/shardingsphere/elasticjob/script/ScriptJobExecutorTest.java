@@ -32,11 +32,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -100,6 +108,90 @@ public final class ScriptJobExecutorTest {
         return "echo script-job";
     }
     
+    @Test
+    public void assertProcessWithWorker() throws IOException {
+        assumeFalse(OS.isFamilyWindows());
+        prepareWorker("while read line; do echo \"$line\"; echo @elasticjob:OK; done", "2");
+        for (int i = 0; i < 5; i++) {
+            jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
+        }
+    }
+    
+    @Test
+    public void assertProcessWithWorkerFailure() throws IOException {
+        assumeFalse(OS.isFamilyWindows());
+        prepareWorker("while read line; do echo 'ERROR plain output'; echo '@elasticjob:ERROR failed'; done", "1000");
+        JobSystemException actual = assertThrows(JobSystemException.class, () -> jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext));
+        assertThat(actual.getMessage(), is("Execute script failure, script answered '@elasticjob:ERROR failed'."));
+    }
+    
+    @Test
+    public void assertProcessWithExitedWorker() throws IOException, InterruptedException {
+        assumeFalse(OS.isFamilyWindows());
+        Path exitedFile = Files.createTempFile("script-worker", ".exited");
+        Files.delete(exitedFile);
+        prepareWorker("read line; echo @elasticjob:OK; touch " + exitedFile.toAbsolutePath(), "1000");
+        jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
+        assertTrue(waitUntilExists(exitedFile));
+        Thread.sleep(200L);
+        jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
+    }
+    
+    @Test
+    public void assertProcessWithWorkerTimeout() throws IOException {
+        assumeFalse(OS.isFamilyWindows());
+        prepareWorker("while read line; do sleep 10; done", "1000");
+        when(properties.getProperty(ScriptJobProperties.WORKER_TIMEOUT_KEY, "60000")).thenReturn("200");
+        assertThrows(JobSystemException.class, () -> jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext));
+    }
+    
+    @Test
+    public void assertShutdownWithWorker() throws IOException, InterruptedException {
+        assumeFalse(OS.isFamilyWindows());
+        Path closedFile = Files.createTempFile("script-worker", ".closed");
+        Files.delete(closedFile);
+        prepareWorker("while read line; do echo @elasticjob:OK; done; touch " + closedFile.toAbsolutePath(), "1000");
+        jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
+        jobExecutor.shutdown("test_job");
+        assertTrue(waitUntilExists(closedFile));
+        jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
+        jobExecutor.shutdown("test_job");
+    }
+    
+    @Test
+    public void assertProcessWithChangedWorkerConfiguration() throws IOException, InterruptedException {
+        assumeFalse(OS.isFamilyWindows());
+        Path closedFile = Files.createTempFile("script-worker", ".closed");
+        Files.delete(closedFile);
+        prepareWorker("while read line; do echo @elasticjob:OK; done; touch " + closedFile.toAbsolutePath(), "1000");
+        jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
+        when(properties.getProperty(ScriptJobProperties.WORKER_TIMEOUT_KEY, "60000")).thenReturn("6000");
+        jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
+        assertTrue(waitUntilExists(closedFile));
+        jobExecutor.shutdown("test_job");
+    }
+    
+    private boolean waitUntilExists(final Path file) throws InterruptedException {
+        for (int i = 0; i < 50 && !Files.exists(file); i++) {
+            Thread.sleep(100L);
+        }
+        return Files.exists(file);
+    }
+    
+    private void prepareWorker(final String script, final String maxItems) throws IOException {
+        Path scriptFile = Files.createTempFile("script-worker", ".sh");
+        scriptFile.toFile().deleteOnExit();
+        Files.write(scriptFile, Arrays.asList("#!/bin/sh", script), StandardCharsets.UTF_8);
+        assertTrue(scriptFile.toFile().setExecutable(true));
+        when(jobConfig.getProps()).thenReturn(properties);
+        when(jobConfig.getJobName()).thenReturn("test_job");
+        when(properties.getProperty(ScriptJobProperties.SCRIPT_KEY)).thenReturn(scriptFile.toAbsolutePath().toString());
+        when(properties.getProperty(ScriptJobProperties.WORKER_ENABLED_KEY)).thenReturn(Boolean.TRUE.toString());
+        lenient().when(properties.getProperty(ScriptJobProperties.WORKER_POOL_SIZE_KEY, "4")).thenReturn("1");
+        lenient().when(properties.getProperty(ScriptJobProperties.WORKER_MAX_ITEMS_KEY, "1000")).thenReturn(maxItems);
+        lenient().when(properties.getProperty(ScriptJobProperties.WORKER_TIMEOUT_KEY, "60000")).thenReturn("5000");
+    }
+    
     @Test
     public void assertGetType() {
         assertThat(jobExecutor.getType(), is("SCRIPT"));
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.script.executor;
+
+import org.apache.commons.exec.OS;
+import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+public final class ScriptWorkerPoolTest {
+    
+    @Test
+    public void assertProcessAfterClose() {
+        assumeFalse(OS.isFamilyWindows());
+        ScriptWorkerPool pool = new ScriptWorkerPool(new ScriptWorkerPoolConfiguration("cat", 1, 1000, 5000L));
+        pool.close();
+        JobSystemException actual = assertThrows(JobSystemException.class, () -> pool.process("{}"));
+        assertThat(actual.getMessage(), is("Execute script failure, script worker pool is closed."));
+    }
+    
+    @Test
+    public void assertCreateWorkerWhenOutputReaderRejected() {
+        assumeFalse(OS.isFamilyWindows());
+        ExecutorService outputReaderExecutor = Executors.newSingleThreadExecutor();
+        outputReaderExecutor.shutdown();
+        JobSystemException actual = assertThrows(JobSystemException.class, () -> new ScriptWorker(new String[]{"cat"}, outputReaderExecutor));
+        assertThat(actual.getMessage(), is("Start script worker failure, output reader is rejected."));
+    }
+}
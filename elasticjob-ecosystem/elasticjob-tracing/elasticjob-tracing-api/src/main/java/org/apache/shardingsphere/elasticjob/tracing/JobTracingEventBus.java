@@ -17,43 +17,83 @@
 
 package org.apache.shardingsphere.elasticjob.tracing;
 
-import com.google.common.eventbus.AsyncEventBus;
-import com.google.common.eventbus.EventBus;
 import com.google.common.util.concurrent.MoreExecutors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.shardingsphere.elasticjob.tracing.api.TracingConfiguration;
+import org.apache.shardingsphere.elasticjob.tracing.api.TracingOverflowPolicy;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobEvent;
 import org.apache.shardingsphere.elasticjob.tracing.exception.TracingConfigurationException;
+import org.apache.shardingsphere.elasticjob.tracing.listener.TracingListener;
 import org.apache.shardingsphere.elasticjob.tracing.listener.TracingListenerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Job tracing event bus.
+ * 
+ * <p>Events are buffered in a bounded queue per bus and delivered to the tracing listener in batches by a shared thread pool.
+ * When the queue is full, the {@link TracingOverflowPolicy} of the event type decides whether to deliver in the posting thread, wait or discard.
+ * Delivering in the posting thread bypasses the queue, so those events can overtake queued events of the same job.</p>
  */
 @Slf4j
 public final class JobTracingEventBus {
-
+    
+    private static final int MAX_BATCH_SIZE = 128;
+    
+    private static final int SAMPLE_RATE = 10;
+    
+    private static final long BLOCK_TIMEOUT_MILLISECONDS = 1000L;
+    
     private static final ExecutorService EXECUTOR_SERVICE;
     
-    private final EventBus eventBus;
+    private final BlockingQueue<PostedEvent> queue;
+    
+    private final TracingOverflowPolicy defaultOverflowPolicy;
+    
+    private final Map<String, TracingOverflowPolicy> overflowPolicies;
+    
+    private final AtomicBoolean draining = new AtomicBoolean();
+    
+    private final AtomicLong overflowCount = new AtomicLong();
+    
+    private final LongAdder droppedCount = new LongAdder();
+    
+    private TracingListener tracingListener;
+    
+    private volatile long deliveryLagMillis;
     
     private volatile boolean isRegistered;
-
+    
     static {
         EXECUTOR_SERVICE = createExecutorService(Runtime.getRuntime().availableProcessors() * 2);
     }
     
     public JobTracingEventBus() {
-        eventBus = null;
+        queue = null;
+        defaultOverflowPolicy = TracingOverflowPolicy.CALLER_RUNS;
+        overflowPolicies = Collections.emptyMap();
     }
     
     public JobTracingEventBus(final TracingConfiguration<?> tracingConfig) {
-        eventBus = new AsyncEventBus(EXECUTOR_SERVICE);
+        queue = new LinkedBlockingQueue<>(tracingConfig.getQueueCapacity());
+        defaultOverflowPolicy = null == tracingConfig.getOverflowPolicy() ? TracingOverflowPolicy.CALLER_RUNS : tracingConfig.getOverflowPolicy();
+        overflowPolicies = null == tracingConfig.getEventOverflowPolicies() ? Collections.emptyMap() : new HashMap<>(tracingConfig.getEventOverflowPolicies());
         register(tracingConfig);
     }
     
@@ -61,12 +101,12 @@ public final class JobTracingEventBus {
         ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(threadSize, threadSize, 5L, TimeUnit.MINUTES, 
                 new LinkedBlockingQueue<>(), new BasicThreadFactory.Builder().namingPattern(String.join("-", "job-event", "%s")).build());
         threadPoolExecutor.allowCoreThreadTimeOut(true);
-        return MoreExecutors.listeningDecorator(MoreExecutors.getExitingExecutorService(threadPoolExecutor));
+        return MoreExecutors.getExitingExecutorService(threadPoolExecutor);
     }
     
     private void register(final TracingConfiguration<?> tracingConfig) {
         try {
-            eventBus.register(TracingListenerFactory.getListener(tracingConfig));
+            tracingListener = TracingListenerFactory.getListener(tracingConfig);
             isRegistered = true;
         } catch (final TracingConfigurationException ex) {
             log.error("Elastic job: create tracing listener failure, error is: ", ex);
@@ -79,8 +119,127 @@ public final class JobTracingEventBus {
      * @param event job event
      */
     public void post(final JobEvent event) {
-        if (isRegistered && !EXECUTOR_SERVICE.isShutdown()) {
-            eventBus.post(event);
+        if (isRegistered && !EXECUTOR_SERVICE.isShutdown() && enqueue(new PostedEvent(event, System.currentTimeMillis()))) {
+            scheduleDrain();
+        }
+    }
+    
+    private boolean enqueue(final PostedEvent postedEvent) {
+        if (queue.offer(postedEvent)) {
+            return true;
+        }
+        switch (overflowPolicies.getOrDefault(postedEvent.getEvent().getClass().getSimpleName(), defaultOverflowPolicy)) {
+            case CALLER_RUNS:
+                deliver(Collections.singletonList(postedEvent));
+                return false;
+            case BLOCK:
+                return enqueueWithBlock(postedEvent);
+            case DROP_OLDEST:
+                return enqueueWithDropOldest(postedEvent);
+            case SAMPLE:
+                if (0 == overflowCount.getAndIncrement() % SAMPLE_RATE) {
+                    return enqueueWithDropOldest(postedEvent);
+                }
+                droppedCount.increment();
+                return false;
+            default:
+                droppedCount.increment();
+                return false;
+        }
+    }
+    
+    private boolean enqueueWithBlock(final PostedEvent postedEvent) {
+        scheduleDrain();
+        try {
+            if (queue.offer(postedEvent, BLOCK_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        droppedCount.increment();
+        return false;
+    }
+    
+    private boolean enqueueWithDropOldest(final PostedEvent postedEvent) {
+        while (!queue.offer(postedEvent)) {
+            if (null != queue.poll()) {
+                droppedCount.increment();
+            }
+        }
+        return true;
+    }
+    
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            EXECUTOR_SERVICE.execute(this::drain);
+        } catch (final RejectedExecutionException ex) {
+            draining.set(false);
+        }
+    }
+    
+    private void drain() {
+        List<PostedEvent> postedEvents = new ArrayList<>(MAX_BATCH_SIZE);
+        do {
+            while (queue.drainTo(postedEvents, MAX_BATCH_SIZE) > 0) {
+                deliver(postedEvents);
+                postedEvents.clear();
+            }
+            draining.set(false);
+        } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+    }
+    
+    private void deliver(final List<PostedEvent> postedEvents) {
+        deliveryLagMillis = System.currentTimeMillis() - postedEvents.get(0).getPostTimeMillis();
+        List<JobEvent> events = new ArrayList<>(postedEvents.size());
+        for (PostedEvent each : postedEvents) {
+            events.add(each.getEvent());
+        }
+        try {
+            tracingListener.listen(events);
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ex) {
+            // CHECKSTYLE:ON
+            log.error("Elastic job: deliver tracing events failure, error is: ", ex);
         }
     }
+    
+    /**
+     * Get number of events waiting to be delivered.
+     *
+     * @return queue depth
+     */
+    public int getQueueDepth() {
+        return null == queue ? 0 : queue.size();
+    }
+    
+    /**
+     * Get number of events discarded because the queue was full.
+     *
+     * @return dropped count
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+    
+    /**
+     * Get time between posting and delivering of the oldest event in the last delivered batch.
+     *
+     * @return delivery lag in milliseconds
+     */
+    public long getDeliveryLagMillis() {
+        return deliveryLagMillis;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PostedEvent {
+        
+        private final JobEvent event;
+        
+        private final long postTimeMillis;
+    }
 }
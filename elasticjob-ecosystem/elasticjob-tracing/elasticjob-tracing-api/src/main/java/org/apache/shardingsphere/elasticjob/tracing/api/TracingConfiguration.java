@@ -19,12 +19,19 @@ package org.apache.shardingsphere.elasticjob.tracing.api;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.shardingsphere.elasticjob.api.JobExtraConfiguration;
 import org.apache.shardingsphere.elasticjob.tracing.exception.TracingStorageConverterNotFoundException;
 import org.apache.shardingsphere.elasticjob.tracing.storage.TracingStorageConverterFactory;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Tracing configuration.
+ * 
+ * <p>Event overflow policies are keyed by the simple class name of the job event, such as {@code JobStatusTraceEvent},
+ * and override the overflow policy for that event type.</p>
  *
  * @param <T> type of tracing storage
  */
@@ -36,6 +43,15 @@ public final class TracingConfiguration<T> implements JobExtraConfiguration {
     
     private final TracingStorageConfiguration<T> tracingStorageConfiguration;
     
+    @Setter
+    private int queueCapacity = 10000;
+    
+    @Setter
+    private TracingOverflowPolicy overflowPolicy = TracingOverflowPolicy.CALLER_RUNS;
+    
+    @Setter
+    private Map<String, TracingOverflowPolicy> eventOverflowPolicies = new HashMap<>();
+    
     @SuppressWarnings("unchecked")
     public TracingConfiguration(final String type, final T storage) {
         this.type = type;
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.tracing.api;
+
+/**
+ * Policy to apply when the tracing event queue is full.
+ */
+public enum TracingOverflowPolicy {
+    
+    /**
+     * Deliver the posted event to the tracing listener in the posting thread.
+     * 
+     * <p>The event can reach the listener before events that are still queued, so events of one job are not always delivered in posting order.</p>
+     */
+    CALLER_RUNS,
+    
+    /**
+     * Block the posting thread until there is free space or the wait times out.
+     */
+    BLOCK,
+    
+    /**
+     * Discard the oldest queued event to make room for the posted one.
+     */
+    DROP_OLDEST,
+    
+    /**
+     * Discard the posted event.
+     */
+    DROP_NEWEST,
+    
+    /**
+     * Keep one of every few overflowing events by discarding the oldest queued event, discard the others.
+     */
+    SAMPLE
+}
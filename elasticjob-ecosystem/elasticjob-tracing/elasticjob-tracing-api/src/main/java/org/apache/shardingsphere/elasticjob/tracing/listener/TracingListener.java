@@ -17,11 +17,12 @@
 
 package org.apache.shardingsphere.elasticjob.tracing.listener;
 
-import com.google.common.eventbus.AllowConcurrentEvents;
-import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.elasticjob.tracing.event.JobEvent;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobExecutionEvent;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobStatusTraceEvent;
 
+import java.util.Collection;
+
 /**
  * Tracing listener.
  */
@@ -32,8 +33,6 @@ public interface TracingListener {
      *
      * @param jobExecutionEvent job execution event
      */
-    @Subscribe
-    @AllowConcurrentEvents
     void listen(JobExecutionEvent jobExecutionEvent);
     
     /**
@@ -41,7 +40,20 @@ public interface TracingListener {
      *
      * @param jobStatusTraceEvent job status trace event
      */
-    @Subscribe
-    @AllowConcurrentEvents
     void listen(JobStatusTraceEvent jobStatusTraceEvent);
+    
+    /**
+     * Listen job events in batch.
+     *
+     * @param jobEvents job events
+     */
+    default void listen(final Collection<JobEvent> jobEvents) {
+        for (JobEvent each : jobEvents) {
+            if (each instanceof JobExecutionEvent) {
+                listen((JobExecutionEvent) each);
+            } else if (each instanceof JobStatusTraceEvent) {
+                listen((JobStatusTraceEvent) each);
+            }
+        }
+    }
 }
@@ -22,6 +22,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.apache.shardingsphere.elasticjob.infra.yaml.config.YamlConfiguration;
 import org.apache.shardingsphere.elasticjob.tracing.api.TracingConfiguration;
+import org.apache.shardingsphere.elasticjob.tracing.api.TracingOverflowPolicy;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * YAML configuration for {@link org.apache.shardingsphere.elasticjob.tracing.api.TracingConfiguration}.
@@ -39,8 +43,18 @@ public final class YamlTracingConfiguration<T> implements YamlConfiguration<Trac
     
     private YamlTracingStorageConfiguration<T> tracingStorageConfiguration;
     
+    private int queueCapacity = 10000;
+    
+    private TracingOverflowPolicy overflowPolicy = TracingOverflowPolicy.CALLER_RUNS;
+    
+    private Map<String, TracingOverflowPolicy> eventOverflowPolicies = new HashMap<>();
+    
     @Override
     public TracingConfiguration<T> toConfiguration() {
-        return new TracingConfiguration<>(type, tracingStorageConfiguration.toConfiguration());
+        TracingConfiguration<T> result = new TracingConfiguration<>(type, tracingStorageConfiguration.toConfiguration());
+        result.setQueueCapacity(queueCapacity);
+        result.setOverflowPolicy(overflowPolicy);
+        result.setEventOverflowPolicies(eventOverflowPolicies);
+        return result;
     }
 }
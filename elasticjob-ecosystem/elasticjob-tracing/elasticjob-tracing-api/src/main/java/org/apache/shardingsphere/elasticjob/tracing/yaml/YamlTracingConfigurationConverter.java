@@ -36,6 +36,9 @@ public final class YamlTracingConfigurationConverter<T> implements YamlConfigura
         YamlTracingConfiguration<T> result = new YamlTracingConfiguration<>();
         result.setType(tracingConfiguration.getType());
         result.setTracingStorageConfiguration(convertTracingStorageConfiguration(tracingConfiguration.getTracingStorageConfiguration()));
+        result.setQueueCapacity(tracingConfiguration.getQueueCapacity());
+        result.setOverflowPolicy(tracingConfiguration.getOverflowPolicy());
+        result.setEventOverflowPolicies(tracingConfiguration.getEventOverflowPolicies());
         return result;
     }
     
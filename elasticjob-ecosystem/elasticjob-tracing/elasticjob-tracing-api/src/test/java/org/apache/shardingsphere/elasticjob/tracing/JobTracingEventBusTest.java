@@ -17,23 +17,33 @@
 
 package org.apache.shardingsphere.elasticjob.tracing;
 
-import com.google.common.eventbus.EventBus;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.elasticjob.tracing.api.TracingConfiguration;
-import org.apache.shardingsphere.elasticjob.tracing.event.JobEvent;
+import org.apache.shardingsphere.elasticjob.tracing.api.TracingOverflowPolicy;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobExecutionEvent;
 import org.apache.shardingsphere.elasticjob.tracing.fixture.JobEventCaller;
 import org.apache.shardingsphere.elasticjob.tracing.fixture.TestTracingListener;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -43,11 +53,15 @@ public final class JobTracingEventBusTest {
     @Mock
     private JobEventCaller jobEventCaller;
     
-    @Mock
-    private EventBus eventBus;
+    private final CountDownLatch releaseLatch = new CountDownLatch(1);
     
     private JobTracingEventBus jobTracingEventBus;
     
+    @BeforeEach
+    public void setUp() {
+        TestTracingListener.reset();
+    }
+    
     @Test
     public void assertRegisterFailure() {
         jobTracingEventBus = new JobTracingEventBus(new TracingConfiguration<>("FAIL", null));
@@ -66,14 +80,117 @@ public final class JobTracingEventBusTest {
     }
     
     @Test
-    public void assertPostWithoutListener() throws ReflectiveOperationException {
+    public void assertPostWithoutListener() {
         jobTracingEventBus = new JobTracingEventBus();
         assertIsRegistered(false);
-        Field field = JobTracingEventBus.class.getDeclaredField("eventBus");
-        field.setAccessible(true);
-        field.set(jobTracingEventBus, eventBus);
-        jobTracingEventBus.post(new JobExecutionEvent("localhost", "127.0.0.1", "fake_task_id", "test_event_bus_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0));
-        verify(eventBus, times(0)).post(ArgumentMatchers.<JobEvent>any());
+        jobTracingEventBus.post(createJobExecutionEvent());
+        assertThat(jobTracingEventBus.getQueueDepth(), is(0));
+        verify(jobEventCaller, times(0)).call();
+    }
+    
+    @Test
+    public void assertPostWhenQueueIsFullWithCallerRuns() throws InterruptedException, ExecutionException, TimeoutException {
+        blockListener();
+        jobTracingEventBus = new JobTracingEventBus(createTracingConfiguration(1, TracingOverflowPolicy.CALLER_RUNS));
+        postUntilListenerBlocked();
+        jobTracingEventBus.post(createJobExecutionEvent());
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> callerRunsPost = executorService.submit(() -> jobTracingEventBus.post(createJobExecutionEvent()));
+            verify(jobEventCaller, timeout(5000L).times(2)).call();
+            assertFalse(callerRunsPost.isDone());
+            releaseLatch.countDown();
+            callerRunsPost.get(5L, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
+        waitUntilQueueIsEmpty();
+        assertThat(jobTracingEventBus.getDroppedCount(), is(0L));
+        verify(jobEventCaller, timeout(5000L).times(3)).call();
+    }
+    
+    @Test
+    public void assertPostWhenQueueIsFullWithDropNewest() throws InterruptedException {
+        blockListener();
+        jobTracingEventBus = new JobTracingEventBus(createTracingConfiguration(2, TracingOverflowPolicy.DROP_NEWEST));
+        postUntilListenerBlocked();
+        for (int i = 0; i < 4; i++) {
+            jobTracingEventBus.post(createJobExecutionEvent());
+        }
+        assertThat(jobTracingEventBus.getQueueDepth(), is(2));
+        assertThat(jobTracingEventBus.getDroppedCount(), is(2L));
+        releaseLatch.countDown();
+        waitUntilQueueIsEmpty();
+        verify(jobEventCaller, timeout(5000L).times(3)).call();
+    }
+    
+    @Test
+    public void assertPostWhenQueueIsFullWithDropOldest() throws InterruptedException {
+        blockListener();
+        TracingConfiguration<JobEventCaller> tracingConfig = createTracingConfiguration(2, TracingOverflowPolicy.DROP_NEWEST);
+        tracingConfig.setEventOverflowPolicies(Collections.singletonMap(JobExecutionEvent.class.getSimpleName(), TracingOverflowPolicy.DROP_OLDEST));
+        jobTracingEventBus = new JobTracingEventBus(tracingConfig);
+        postUntilListenerBlocked();
+        for (int i = 0; i < 4; i++) {
+            jobTracingEventBus.post(createJobExecutionEvent());
+        }
+        assertThat(jobTracingEventBus.getQueueDepth(), is(2));
+        assertThat(jobTracingEventBus.getDroppedCount(), is(2L));
+        releaseLatch.countDown();
+        waitUntilQueueIsEmpty();
+        verify(jobEventCaller, timeout(5000L).times(3)).call();
+    }
+    
+    @Test
+    public void assertPostWhenQueueIsFullWithBlock() throws InterruptedException, ExecutionException, TimeoutException {
+        blockListener();
+        jobTracingEventBus = new JobTracingEventBus(createTracingConfiguration(1, TracingOverflowPolicy.BLOCK));
+        postUntilListenerBlocked();
+        jobTracingEventBus.post(createJobExecutionEvent());
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> blockedPost = executorService.submit(() -> jobTracingEventBus.post(createJobExecutionEvent()));
+            Thread.sleep(100L);
+            assertFalse(blockedPost.isDone());
+            releaseLatch.countDown();
+            blockedPost.get(5L, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
+        waitUntilQueueIsEmpty();
+        assertThat(jobTracingEventBus.getDroppedCount(), is(0L));
+        verify(jobEventCaller, timeout(5000L).times(3)).call();
+    }
+    
+    private TracingConfiguration<JobEventCaller> createTracingConfiguration(final int queueCapacity, final TracingOverflowPolicy overflowPolicy) {
+        TracingConfiguration<JobEventCaller> result = new TracingConfiguration<>("TEST", jobEventCaller);
+        result.setQueueCapacity(queueCapacity);
+        result.setOverflowPolicy(overflowPolicy);
+        return result;
+    }
+    
+    private void blockListener() {
+        doAnswer(invocation -> {
+            releaseLatch.await(5L, TimeUnit.SECONDS);
+            return null;
+        }).when(jobEventCaller).call();
+    }
+    
+    private void postUntilListenerBlocked() throws InterruptedException {
+        jobTracingEventBus.post(createJobExecutionEvent());
+        while (0 != jobTracingEventBus.getQueueDepth()) {
+            Thread.sleep(10L);
+        }
+    }
+    
+    private void waitUntilQueueIsEmpty() throws InterruptedException {
+        while (0 != jobTracingEventBus.getQueueDepth()) {
+            Thread.sleep(10L);
+        }
+    }
+    
+    private JobExecutionEvent createJobExecutionEvent() {
+        return new JobExecutionEvent("localhost", "127.0.0.1", "fake_task_id", "test_event_bus_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0);
     }
     
     @SneakyThrows
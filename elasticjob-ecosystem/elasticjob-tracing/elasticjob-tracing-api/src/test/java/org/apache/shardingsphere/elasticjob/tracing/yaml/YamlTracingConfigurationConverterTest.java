@@ -18,9 +18,12 @@
 package org.apache.shardingsphere.elasticjob.tracing.yaml;
 
 import org.apache.shardingsphere.elasticjob.tracing.api.TracingConfiguration;
+import org.apache.shardingsphere.elasticjob.tracing.api.TracingOverflowPolicy;
 import org.apache.shardingsphere.elasticjob.tracing.fixture.JobEventCaller;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -33,9 +36,11 @@ public final class YamlTracingConfigurationConverterTest {
         JobEventCaller expectedStorage = () -> {
         };
         TracingConfiguration<JobEventCaller> tracingConfiguration = new TracingConfiguration<>("TEST", expectedStorage);
+        tracingConfiguration.setEventOverflowPolicies(Collections.singletonMap("JobStatusTraceEvent", TracingOverflowPolicy.BLOCK));
         YamlTracingConfigurationConverter<JobEventCaller> converter = new YamlTracingConfigurationConverter<>();
         YamlTracingConfiguration<JobEventCaller> actual = converter.convertToYamlConfiguration(tracingConfiguration);
         assertThat(actual.getType(), is("TEST"));
+        assertThat(actual.getEventOverflowPolicies().get("JobStatusTraceEvent"), is(TracingOverflowPolicy.BLOCK));
         assertNotNull(actual.getTracingStorageConfiguration());
         assertTrue(actual.getTracingStorageConfiguration() instanceof YamlJobEventCallerConfiguration);
         YamlJobEventCallerConfiguration result = (YamlJobEventCallerConfiguration) actual.getTracingStorageConfiguration();
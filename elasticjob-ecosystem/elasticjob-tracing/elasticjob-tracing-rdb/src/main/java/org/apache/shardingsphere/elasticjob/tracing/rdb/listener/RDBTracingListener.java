@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.elasticjob.tracing.rdb.listener;
 
+import org.apache.shardingsphere.elasticjob.tracing.event.JobEvent;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobExecutionEvent;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobStatusTraceEvent;
 import org.apache.shardingsphere.elasticjob.tracing.listener.TracingListener;
@@ -24,6 +25,7 @@ import org.apache.shardingsphere.elasticjob.tracing.rdb.storage.RDBJobEventStora
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.Collection;
 
 /**
  * RDB tracing listener.
@@ -45,4 +47,9 @@ public final class RDBTracingListener implements TracingListener {
     public void listen(final JobStatusTraceEvent jobStatusTraceEvent) {
         repository.addJobStatusTraceEvent(jobStatusTraceEvent);
     }
+    
+    @Override
+    public void listen(final Collection<JobEvent> jobEvents) {
+        repository.addJobEvents(jobEvents);
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.elasticjob.tracing.rdb.storage;
 
 import com.google.common.base.Strings;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.elasticjob.tracing.event.JobEvent;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobExecutionEvent;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobStatusTraceEvent;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobStatusTraceEvent.Source;
@@ -28,15 +29,18 @@ import org.apache.shardingsphere.elasticjob.tracing.rdb.type.DatabaseType;
 import org.apache.shardingsphere.elasticjob.tracing.rdb.type.impl.DefaultDatabaseType;
 
 import javax.sql.DataSource;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +61,10 @@ public final class RDBJobEventStorage {
     
     private static final String TASK_ID_STATE_INDEX = "TASK_ID_STATE_INDEX";
     
+    private static final String JOB_NAME_START_TIME_INDEX = "JOB_NAME_START_TIME_INDEX";
+    
+    private static final String JOB_NAME_CREATION_TIME_INDEX = "JOB_NAME_CREATION_TIME_INDEX";
+    
     private static final Map<String, DatabaseType> DATABASE_TYPES = new HashMap<>();
 
     private static final Map<DataSource, RDBJobEventStorage> STORAGE_MAP = new ConcurrentHashMap<>();
@@ -135,18 +143,18 @@ public final class RDBJobEventStorage {
     }
     
     private void createJobExecutionTableAndIndexIfNeeded(final Connection connection) throws SQLException {
-        if (existsTable(connection, TABLE_JOB_EXECUTION_LOG) || existsTable(connection, TABLE_JOB_EXECUTION_LOG.toLowerCase())) {
-            return;
+        if (!existsTable(connection, TABLE_JOB_EXECUTION_LOG) && !existsTable(connection, TABLE_JOB_EXECUTION_LOG.toLowerCase())) {
+            createJobExecutionTable(connection);
         }
-        createJobExecutionTable(connection);
+        createIndexIfNeeded(connection, TABLE_JOB_EXECUTION_LOG, JOB_NAME_START_TIME_INDEX, sqlMapper.getCreateIndexForJobNameStartTimeIndex());
     }
     
     private void createJobStatusTraceTableAndIndexIfNeeded(final Connection connection) throws SQLException {
-        if (existsTable(connection, TABLE_JOB_STATUS_TRACE_LOG) || existsTable(connection, TABLE_JOB_STATUS_TRACE_LOG.toLowerCase())) {
-            return;
+        if (!existsTable(connection, TABLE_JOB_STATUS_TRACE_LOG) && !existsTable(connection, TABLE_JOB_STATUS_TRACE_LOG.toLowerCase())) {
+            createJobStatusTraceTable(connection);
+            createIndexIfNeeded(connection, TABLE_JOB_STATUS_TRACE_LOG, TASK_ID_STATE_INDEX, sqlMapper.getCreateIndexForTaskIdStateIndex());
         }
-        createJobStatusTraceTable(connection);
-        createTaskIdIndexIfNeeded(connection);
+        createIndexIfNeeded(connection, TABLE_JOB_STATUS_TRACE_LOG, JOB_NAME_CREATION_TIME_INDEX, sqlMapper.getCreateIndexForJobNameCreationTimeIndex());
     }
     
     private boolean existsTable(final Connection connection, final String tableName) throws SQLException {
@@ -156,11 +164,13 @@ public final class RDBJobEventStorage {
         }
     }
     
-    private void createTaskIdIndexIfNeeded(final Connection connection) throws SQLException {
-        if (existsIndex(connection, TABLE_JOB_STATUS_TRACE_LOG, TASK_ID_STATE_INDEX) || existsIndex(connection, TABLE_JOB_STATUS_TRACE_LOG.toLowerCase(), TASK_ID_STATE_INDEX.toLowerCase())) {
+    private void createIndexIfNeeded(final Connection connection, final String tableName, final String indexName, final String createIndexSQL) throws SQLException {
+        if (null == createIndexSQL || existsIndex(connection, tableName, indexName) || existsIndex(connection, tableName.toLowerCase(), indexName.toLowerCase())) {
             return;
         }
-        createTaskIdAndStateIndex(connection);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(createIndexSQL)) {
+            preparedStatement.execute();
+        }
     }
     
     private boolean existsIndex(final Connection connection, final String tableName, final String indexName) throws SQLException {
@@ -187,12 +197,6 @@ public final class RDBJobEventStorage {
         }
     }
     
-    private void createTaskIdAndStateIndex(final Connection connection) throws SQLException {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlMapper.getCreateIndexForTaskIdStateIndex())) {
-            preparedStatement.execute();
-        }
-    }
-    
     /**
      * Add job execution event.
      * 
@@ -211,20 +215,63 @@ public final class RDBJobEventStorage {
         }
     }
     
+    /**
+     * Add job events in batch.
+     * 
+     * <p>Start events of executions and status trace events are inserted with one batch statement per table,
+     * complete events of executions are applied one by one after the start events.
+     * If a batch fails, the events it did not insert are added one by one.</p>
+     * 
+     * @param jobEvents job events
+     * @return add all success or not
+     */
+    public boolean addJobEvents(final Collection<JobEvent> jobEvents) {
+        List<JobExecutionEvent> startEvents = new ArrayList<>(jobEvents.size());
+        List<JobExecutionEvent> completeEvents = new ArrayList<>(jobEvents.size());
+        List<JobStatusTraceEvent> jobStatusTraceEvents = new ArrayList<>(jobEvents.size());
+        for (JobEvent each : jobEvents) {
+            if (each instanceof JobExecutionEvent) {
+                JobExecutionEvent jobExecutionEvent = (JobExecutionEvent) each;
+                (null == jobExecutionEvent.getCompleteTime() ? startEvents : completeEvents).add(jobExecutionEvent);
+            } else if (each instanceof JobStatusTraceEvent) {
+                jobStatusTraceEvents.add((JobStatusTraceEvent) each);
+            }
+        }
+        boolean result = insertJobExecutionEvents(startEvents);
+        for (JobExecutionEvent each : completeEvents) {
+            result &= addJobExecutionEvent(each);
+        }
+        return insertJobStatusTraceEvents(jobStatusTraceEvents) && result;
+    }
+    
+    private boolean insertJobExecutionEvents(final List<JobExecutionEvent> jobExecutionEvents) {
+        if (jobExecutionEvents.isEmpty()) {
+            return true;
+        }
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sqlMapper.getInsertForJobExecutionLog())) {
+            for (JobExecutionEvent each : jobExecutionEvents) {
+                setInsertJobExecutionEventParameters(preparedStatement, each);
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+            return true;
+        } catch (final SQLException ex) {
+            boolean result = true;
+            for (JobExecutionEvent each : jobExecutionEvents) {
+                result &= insertJobExecutionEvent(each);
+            }
+            return result;
+        }
+    }
+    
     private boolean insertJobExecutionEvent(final JobExecutionEvent jobExecutionEvent) {
         boolean result = false;
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(sqlMapper.getInsertForJobExecutionLog())) {
-            preparedStatement.setString(1, jobExecutionEvent.getId());
-            preparedStatement.setString(2, jobExecutionEvent.getJobName());
-            preparedStatement.setString(3, jobExecutionEvent.getTaskId());
-            preparedStatement.setString(4, jobExecutionEvent.getHostname());
-            preparedStatement.setString(5, jobExecutionEvent.getIp());
-            preparedStatement.setInt(6, jobExecutionEvent.getShardingItem());
-            preparedStatement.setString(7, jobExecutionEvent.getSource().toString());
-            preparedStatement.setBoolean(8, jobExecutionEvent.isSuccess());
-            preparedStatement.setTimestamp(9, new Timestamp(jobExecutionEvent.getStartTime().getTime()));
+            setInsertJobExecutionEventParameters(preparedStatement, jobExecutionEvent);
             preparedStatement.execute();
             result = true;
         } catch (final SQLException ex) {
@@ -236,6 +283,18 @@ public final class RDBJobEventStorage {
         return result;
     }
     
+    private void setInsertJobExecutionEventParameters(final PreparedStatement preparedStatement, final JobExecutionEvent jobExecutionEvent) throws SQLException {
+        preparedStatement.setString(1, jobExecutionEvent.getId());
+        preparedStatement.setString(2, jobExecutionEvent.getJobName());
+        preparedStatement.setString(3, jobExecutionEvent.getTaskId());
+        preparedStatement.setString(4, jobExecutionEvent.getHostname());
+        preparedStatement.setString(5, jobExecutionEvent.getIp());
+        preparedStatement.setInt(6, jobExecutionEvent.getShardingItem());
+        preparedStatement.setString(7, jobExecutionEvent.getSource().toString());
+        preparedStatement.setBoolean(8, jobExecutionEvent.isSuccess());
+        preparedStatement.setTimestamp(9, new Timestamp(jobExecutionEvent.getStartTime().getTime()));
+    }
+    
     private boolean updateJobExecutionEventWhenSuccess(final JobExecutionEvent jobExecutionEvent) {
         boolean result = false;
         try (
@@ -344,21 +403,15 @@ public final class RDBJobEventStorage {
         if (State.TASK_STAGING != jobStatusTraceEvent.getState()) {
             originalTaskId = getOriginalTaskId(jobStatusTraceEvent.getTaskId());
         }
+        return insertJobStatusTraceEvent(jobStatusTraceEvent, originalTaskId);
+    }
+    
+    private boolean insertJobStatusTraceEvent(final JobStatusTraceEvent jobStatusTraceEvent, final String originalTaskId) {
         boolean result = false;
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(sqlMapper.getInsertForJobStatusTraceLog())) {
-            preparedStatement.setString(1, UUID.randomUUID().toString());
-            preparedStatement.setString(2, jobStatusTraceEvent.getJobName());
-            preparedStatement.setString(3, originalTaskId);
-            preparedStatement.setString(4, jobStatusTraceEvent.getTaskId());
-            preparedStatement.setString(5, jobStatusTraceEvent.getSlaveId());
-            preparedStatement.setString(6, jobStatusTraceEvent.getSource().toString());
-            preparedStatement.setString(7, jobStatusTraceEvent.getExecutionType());
-            preparedStatement.setString(8, jobStatusTraceEvent.getShardingItems());
-            preparedStatement.setString(9, jobStatusTraceEvent.getState().toString());
-            preparedStatement.setString(10, truncateString(jobStatusTraceEvent.getMessage()));
-            preparedStatement.setTimestamp(11, new Timestamp(jobStatusTraceEvent.getCreationTime().getTime()));
+            setInsertJobStatusTraceEventParameters(preparedStatement, jobStatusTraceEvent, originalTaskId);
             preparedStatement.execute();
             result = true;
         } catch (final SQLException ex) {
@@ -368,11 +421,77 @@ public final class RDBJobEventStorage {
         return result;
     }
     
+    private boolean insertJobStatusTraceEvents(final List<JobStatusTraceEvent> jobStatusTraceEvents) {
+        if (jobStatusTraceEvents.isEmpty()) {
+            return true;
+        }
+        List<String> originalTaskIds = new ArrayList<>(jobStatusTraceEvents.size());
+        try (Connection connection = dataSource.getConnection()) {
+            Map<String, String> stagingOriginalTaskIds = new HashMap<>(jobStatusTraceEvents.size(), 1);
+            for (JobStatusTraceEvent each : jobStatusTraceEvents) {
+                String originalTaskId = each.getOriginalTaskId();
+                if (State.TASK_STAGING == each.getState()) {
+                    stagingOriginalTaskIds.put(each.getTaskId(), originalTaskId);
+                } else {
+                    originalTaskId = stagingOriginalTaskIds.containsKey(each.getTaskId()) ? stagingOriginalTaskIds.get(each.getTaskId()) : getOriginalTaskId(connection, each.getTaskId());
+                }
+                originalTaskIds.add(originalTaskId);
+            }
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sqlMapper.getInsertForJobStatusTraceLog())) {
+                for (int i = 0; i < jobStatusTraceEvents.size(); i++) {
+                    setInsertJobStatusTraceEventParameters(preparedStatement, jobStatusTraceEvents.get(i), originalTaskIds.get(i));
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+            }
+            return true;
+        } catch (final SQLException ex) {
+            boolean result = true;
+            for (int i = 0; i < jobStatusTraceEvents.size(); i++) {
+                if (!isBatchedRowInserted(ex, i)) {
+                    JobStatusTraceEvent each = jobStatusTraceEvents.get(i);
+                    result &= insertJobStatusTraceEvent(each, i < originalTaskIds.size() ? originalTaskIds.get(i) : getOriginalTaskId(each.getTaskId()));
+                }
+            }
+            return result;
+        }
+    }
+    
+    private boolean isBatchedRowInserted(final SQLException ex, final int index) {
+        if (!(ex instanceof BatchUpdateException)) {
+            return false;
+        }
+        int[] updateCounts = ((BatchUpdateException) ex).getUpdateCounts();
+        return null != updateCounts && index < updateCounts.length && Statement.EXECUTE_FAILED != updateCounts[index];
+    }
+    
+    private void setInsertJobStatusTraceEventParameters(final PreparedStatement preparedStatement, final JobStatusTraceEvent jobStatusTraceEvent, final String originalTaskId) throws SQLException {
+        preparedStatement.setString(1, UUID.randomUUID().toString());
+        preparedStatement.setString(2, jobStatusTraceEvent.getJobName());
+        preparedStatement.setString(3, originalTaskId);
+        preparedStatement.setString(4, jobStatusTraceEvent.getTaskId());
+        preparedStatement.setString(5, jobStatusTraceEvent.getSlaveId());
+        preparedStatement.setString(6, jobStatusTraceEvent.getSource().toString());
+        preparedStatement.setString(7, jobStatusTraceEvent.getExecutionType());
+        preparedStatement.setString(8, jobStatusTraceEvent.getShardingItems());
+        preparedStatement.setString(9, jobStatusTraceEvent.getState().toString());
+        preparedStatement.setString(10, truncateString(jobStatusTraceEvent.getMessage()));
+        preparedStatement.setTimestamp(11, new Timestamp(jobStatusTraceEvent.getCreationTime().getTime()));
+    }
+    
     private String getOriginalTaskId(final String taskId) {
+        try (Connection connection = dataSource.getConnection()) {
+            return getOriginalTaskId(connection, taskId);
+        } catch (final SQLException ex) {
+            // TODO log failure directly to output log, consider to be configurable in the future
+            log.error(ex.getMessage());
+        }
+        return "";
+    }
+    
+    private String getOriginalTaskId(final Connection connection, final String taskId) {
         String result = "";
-        try (
-                Connection connection = dataSource.getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(sqlMapper.getSelectOriginalTaskIdForJobStatusTraceLog())) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlMapper.getSelectOriginalTaskIdForJobStatusTraceLog())) {
             preparedStatement.setString(1, taskId);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 if (resultSet.next()) {
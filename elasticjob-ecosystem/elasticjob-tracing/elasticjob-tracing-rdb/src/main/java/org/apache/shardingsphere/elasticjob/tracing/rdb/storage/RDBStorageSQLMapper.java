@@ -35,6 +35,10 @@ public final class RDBStorageSQLMapper {
     
     private final String createIndexForTaskIdStateIndex;
     
+    private final String createIndexForJobNameStartTimeIndex;
+    
+    private final String createIndexForJobNameCreationTimeIndex;
+    
     private final String insertForJobExecutionLog;
     
     private final String insertForJobExecutionLogForComplete;
@@ -45,25 +49,33 @@ public final class RDBStorageSQLMapper {
     
     private final String updateForJobExecutionLogForFailure;
     
+    private final String selectApproximateCountForJobExecutionLog;
+    
     private final String insertForJobStatusTraceLog;
     
     private final String selectForJobStatusTraceLog;
     
     private final String selectOriginalTaskIdForJobStatusTraceLog;
     
+    private final String selectApproximateCountForJobStatusTraceLog;
+    
     public RDBStorageSQLMapper(final String sqlPropertiesFileName) {
         Properties props = loadProps(sqlPropertiesFileName);
         createTableForJobExecutionLog = props.getProperty("JOB_EXECUTION_LOG.TABLE.CREATE");
         createTableForJobStatusTraceLog = props.getProperty("JOB_STATUS_TRACE_LOG.TABLE.CREATE");
         createIndexForTaskIdStateIndex = props.getProperty("TASK_ID_STATE_INDEX.INDEX.CREATE");
+        createIndexForJobNameStartTimeIndex = props.getProperty("JOB_NAME_START_TIME_INDEX.INDEX.CREATE");
+        createIndexForJobNameCreationTimeIndex = props.getProperty("JOB_NAME_CREATION_TIME_INDEX.INDEX.CREATE");
         insertForJobExecutionLog = props.getProperty("JOB_EXECUTION_LOG.INSERT");
         insertForJobExecutionLogForComplete = props.getProperty("JOB_EXECUTION_LOG.INSERT_COMPLETE");
         insertForJobExecutionLogForFailure = props.getProperty("JOB_EXECUTION_LOG.INSERT_FAILURE");
         updateForJobExecutionLog = props.getProperty("JOB_EXECUTION_LOG.UPDATE");
         updateForJobExecutionLogForFailure = props.getProperty("JOB_EXECUTION_LOG.UPDATE_FAILURE");
+        selectApproximateCountForJobExecutionLog = props.getProperty("JOB_EXECUTION_LOG.SELECT_APPROXIMATE_COUNT");
         insertForJobStatusTraceLog = props.getProperty("JOB_STATUS_TRACE_LOG.INSERT");
         selectForJobStatusTraceLog = props.getProperty("JOB_STATUS_TRACE_LOG.SELECT");
         selectOriginalTaskIdForJobStatusTraceLog = props.getProperty("JOB_STATUS_TRACE_LOG.SELECT_ORIGINAL_TASK_ID");
+        selectApproximateCountForJobStatusTraceLog = props.getProperty("JOB_STATUS_TRACE_LOG.SELECT_APPROXIMATE_COUNT");
     }
     
     @SneakyThrows
@@ -21,6 +21,7 @@ import lombok.SneakyThrows;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.shardingsphere.elasticjob.tracing.JobTracingEventBus;
 import org.apache.shardingsphere.elasticjob.tracing.api.TracingConfiguration;
+import org.apache.shardingsphere.elasticjob.tracing.event.JobEvent;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobExecutionEvent;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobStatusTraceEvent;
 import org.apache.shardingsphere.elasticjob.tracing.event.JobStatusTraceEvent.Source;
@@ -35,6 +36,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import javax.sql.DataSource;
 import java.lang.reflect.Field;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
 
 import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.verify;
@@ -47,6 +50,8 @@ public final class RDBTracingListenerTest {
     @Mock
     private RDBJobEventStorage repository;
     
+    private RDBTracingListener tracingListener;
+    
     private JobTracingEventBus jobTracingEventBus;
     
     @BeforeEach
@@ -56,7 +61,7 @@ public final class RDBTracingListenerTest {
         dataSource.setUrl("jdbc:h2:mem:job_event_storage");
         dataSource.setUsername("sa");
         dataSource.setPassword("");
-        RDBTracingListener tracingListener = new RDBTracingListener(dataSource);
+        tracingListener = new RDBTracingListener(dataSource);
         setRepository(tracingListener);
         jobTracingEventBus = new JobTracingEventBus(new TracingConfiguration<DataSource>("RDB", dataSource));
     }
@@ -81,4 +86,12 @@ public final class RDBTracingListenerTest {
         jobTracingEventBus.post(jobStatusTraceEvent);
         verify(repository, atMost(1)).addJobStatusTraceEvent(jobStatusTraceEvent);
     }
+    
+    @Test
+    public void assertListenJobEventsInBatch() {
+        Collection<JobEvent> jobEvents = Arrays.asList(new JobExecutionEvent("localhost", "127.0.0.1", "fake_task_id", JOB_NAME, JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0),
+                new JobStatusTraceEvent(JOB_NAME, "fake_task_id", "fake_slave_id", Source.LITE_EXECUTOR, "READY", "0", State.TASK_RUNNING, "message is empty."));
+        tracingListener.listen(jobEvents);
+        verify(repository).addJobEvents(jobEvents);
+    }
 }
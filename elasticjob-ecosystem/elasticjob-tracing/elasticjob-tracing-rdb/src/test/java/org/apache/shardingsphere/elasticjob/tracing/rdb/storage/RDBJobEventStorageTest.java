@@ -26,7 +26,11 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -94,6 +98,67 @@ public final class RDBJobEventStorageTest {
         }
     }
     
+    @Test
+    public void assertAddJobEvents() {
+        JobExecutionEvent startEvent = new JobExecutionEvent("localhost", "127.0.0.1", "fake_batch_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0);
+        JobStatusTraceEvent stagingJobStatusTraceEvent = new JobStatusTraceEvent(
+                "test_job", "fake_batch_task_id", "fake_slave_id", Source.LITE_EXECUTOR, "FAILOVER", "0", State.TASK_STAGING, "message is empty.");
+        stagingJobStatusTraceEvent.setOriginalTaskId("original_fake_batch_task_id");
+        JobStatusTraceEvent runningJobStatusTraceEvent = new JobStatusTraceEvent(
+                "test_job", "fake_batch_task_id", "fake_slave_id", Source.LITE_EXECUTOR, "FAILOVER", "0", State.TASK_RUNNING, "message is empty.");
+        assertTrue(storage.addJobEvents(Arrays.asList(startEvent, stagingJobStatusTraceEvent, runningJobStatusTraceEvent, startEvent.executionSuccess())));
+        List<JobStatusTraceEvent> jobStatusTraceEvents = storage.getJobStatusTraceEvents("fake_batch_task_id");
+        assertThat(jobStatusTraceEvents.size(), is(2));
+        for (JobStatusTraceEvent each : jobStatusTraceEvents) {
+            assertThat(each.getOriginalTaskId(), is("original_fake_batch_task_id"));
+        }
+    }
+    
+    @Test
+    public void assertAddJobEventsWhenStatusTraceBatchFailed() {
+        JobStatusTraceEvent stagingJobStatusTraceEvent = new JobStatusTraceEvent(
+                "test_job", "fake_fallback_task_id", "fake_slave_id", Source.LITE_EXECUTOR, "FAILOVER", "0", State.TASK_STAGING, "message is empty.");
+        stagingJobStatusTraceEvent.setOriginalTaskId("original_fake_fallback_task_id");
+        JobStatusTraceEvent invalidJobStatusTraceEvent = new JobStatusTraceEvent(
+                "test_job", "fake_invalid_task_id", String.join("", Collections.nCopies(51, "s")), Source.LITE_EXECUTOR, "FAILOVER", "0", State.TASK_RUNNING, "message is empty.");
+        JobStatusTraceEvent runningJobStatusTraceEvent = new JobStatusTraceEvent(
+                "test_job", "fake_fallback_task_id", "fake_slave_id", Source.LITE_EXECUTOR, "FAILOVER", "0", State.TASK_RUNNING, "message is empty.");
+        assertFalse(storage.addJobEvents(Arrays.asList(stagingJobStatusTraceEvent, invalidJobStatusTraceEvent, runningJobStatusTraceEvent)));
+        List<JobStatusTraceEvent> jobStatusTraceEvents = storage.getJobStatusTraceEvents("fake_fallback_task_id");
+        assertThat(jobStatusTraceEvents.size(), is(2));
+        for (JobStatusTraceEvent each : jobStatusTraceEvents) {
+            assertThat(each.getOriginalTaskId(), is("original_fake_fallback_task_id"));
+        }
+        assertTrue(storage.getJobStatusTraceEvents("fake_invalid_task_id").isEmpty());
+    }
+    
+    @Test
+    public void assertAddJobEventsWithSingleConnectionPool() {
+        JobStatusTraceEvent stagingJobStatusTraceEvent = new JobStatusTraceEvent(
+                "test_job", "fake_single_connection_task_id", "fake_slave_id", Source.LITE_EXECUTOR, "FAILOVER", "0", State.TASK_STAGING, "message is empty.");
+        stagingJobStatusTraceEvent.setOriginalTaskId("original_fake_single_connection_task_id");
+        assertTrue(storage.addJobStatusTraceEvent(stagingJobStatusTraceEvent));
+        dataSource.setMaxTotal(1);
+        dataSource.setMaxWaitMillis(1000L);
+        JobStatusTraceEvent runningJobStatusTraceEvent = new JobStatusTraceEvent(
+                "test_job", "fake_single_connection_task_id", "fake_slave_id", Source.LITE_EXECUTOR, "FAILOVER", "0", State.TASK_RUNNING, "message is empty.");
+        assertTrue(storage.addJobEvents(Collections.singletonList(runningJobStatusTraceEvent)));
+        List<JobStatusTraceEvent> jobStatusTraceEvents = storage.getJobStatusTraceEvents("fake_single_connection_task_id");
+        assertThat(jobStatusTraceEvents.size(), is(2));
+        for (JobStatusTraceEvent each : jobStatusTraceEvents) {
+            assertThat(each.getOriginalTaskId(), is("original_fake_single_connection_task_id"));
+        }
+    }
+    
+    @Test
+    public void assertAddJobEventsWithDuplicateStartEvent() {
+        JobExecutionEvent startEvent = new JobExecutionEvent("localhost", "127.0.0.1", "fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0);
+        assertTrue(storage.addJobExecutionEvent(startEvent));
+        JobExecutionEvent anotherStartEvent = new JobExecutionEvent("localhost", "127.0.0.1", "fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 1);
+        assertFalse(storage.addJobEvents(Arrays.asList(startEvent, anotherStartEvent)));
+        assertTrue(storage.addJobExecutionEvent(anotherStartEvent.executionSuccess()));
+    }
+    
     @Test
     public void assertUpdateJobExecutionEventWhenSuccess() {
         JobExecutionEvent startEvent = new JobExecutionEvent("localhost", "127.0.0.1", "fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0);
@@ -146,4 +211,24 @@ public final class RDBJobEventStorageTest {
     public void assertFindJobExecutionEvent() {
         storage.addJobExecutionEvent(new JobExecutionEvent("localhost", "127.0.0.1", "fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0));
     }
+    
+    @Test
+    public void assertCreateJobNameAndTimeIndexes() throws SQLException {
+        assertTrue(existsIndex("JOB_EXECUTION_LOG", "JOB_NAME_START_TIME_INDEX"));
+        assertTrue(existsIndex("JOB_STATUS_TRACE_LOG", "JOB_NAME_CREATION_TIME_INDEX"));
+        assertTrue(existsIndex("JOB_STATUS_TRACE_LOG", "TASK_ID_STATE_INDEX"));
+    }
+    
+    private boolean existsIndex(final String tableName, final String indexName) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                ResultSet resultSet = connection.getMetaData().getIndexInfo(connection.getCatalog(), null, tableName, false, false)) {
+            while (resultSet.next()) {
+                if (indexName.equals(resultSet.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 }
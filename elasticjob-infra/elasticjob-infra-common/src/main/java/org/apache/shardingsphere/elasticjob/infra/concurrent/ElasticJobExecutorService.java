@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.elasticjob.infra.concurrent;
 
+import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.MoreExecutors;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
@@ -25,9 +26,15 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * ElasticJob executor service.
+ * 
+ * <p>The pool size is fixed if the minimum and maximum thread size are equal.
+ * Otherwise the pool starts with the minimum thread size and is resized within the bounds after each run:
+ * it grows to the item count if tasks queued up and items are not shorter than the minimum grow item time,
+ * and shrinks to the item count if the run had fewer items than threads.</p>
  */
 public final class ElasticJobExecutorService {
     
@@ -35,10 +42,41 @@ public final class ElasticJobExecutorService {
     
     private final BlockingQueue<Runnable> workQueue;
     
+    private final int minThreadSize;
+    
+    private final int maxThreadSize;
+    
+    private final long minGrowItemNanos;
+    
+    private final AtomicInteger peakQueueDepth = new AtomicInteger();
+    
+    private int lastRunItemCount;
+    
+    private int lastRunPeakQueueDepth;
+    
+    private long lastRunAverageItemNanos;
+    
+    private long resizeCount;
+    
     public ElasticJobExecutorService(final String namingPattern, final int threadSize) {
+        this(namingPattern, threadSize, threadSize, 0L);
+    }
+    
+    public ElasticJobExecutorService(final String namingPattern, final int minThreadSize, final int maxThreadSize, final long minGrowItemMillis) {
+        Preconditions.checkArgument(minThreadSize > 0 && minThreadSize <= maxThreadSize, "Thread size bounds [%s, %s] are invalid.", minThreadSize, maxThreadSize);
+        this.minThreadSize = minThreadSize;
+        this.maxThreadSize = maxThreadSize;
+        minGrowItemNanos = TimeUnit.MILLISECONDS.toNanos(minGrowItemMillis);
         workQueue = new LinkedBlockingQueue<>();
         threadPoolExecutor = new ThreadPoolExecutor(
-                threadSize, threadSize, 5L, TimeUnit.MINUTES, workQueue, new BasicThreadFactory.Builder().namingPattern(String.join("-", namingPattern, "%s")).build());
+                minThreadSize, minThreadSize, 5L, TimeUnit.MINUTES, workQueue, new BasicThreadFactory.Builder().namingPattern(String.join("-", namingPattern, "%s")).build()) {
+            
+            @Override
+            public void execute(final Runnable command) {
+                super.execute(command);
+                peakQueueDepth.accumulateAndGet(getQueue().size(), Math::max);
+            }
+        };
         threadPoolExecutor.allowCoreThreadTimeOut(true);
     }
     
@@ -77,4 +115,70 @@ public final class ElasticJobExecutorService {
     public int getWorkQueueSize() {
         return workQueue.size();
     }
+    
+    /**
+     * Get pool size.
+     *
+     * @return pool size
+     */
+    public int getPoolSize() {
+        return threadPoolExecutor.getCorePoolSize();
+    }
+    
+    /**
+     * Complete a run and resize the pool for the next run if the pool is not fixed.
+     *
+     * @param itemCount sharding item count of the run
+     * @param totalItemNanos total processing nanoseconds of the sharding items
+     */
+    public synchronized void completeRun(final int itemCount, final long totalItemNanos) {
+        lastRunItemCount = itemCount;
+        lastRunPeakQueueDepth = peakQueueDepth.getAndSet(0);
+        lastRunAverageItemNanos = itemCount > 0 ? totalItemNanos / itemCount : 0L;
+        if (minThreadSize == maxThreadSize || itemCount <= 0 || threadPoolExecutor.isShutdown()) {
+            return;
+        }
+        int current = threadPoolExecutor.getCorePoolSize();
+        int target = computePoolSize(current, itemCount, lastRunPeakQueueDepth, lastRunAverageItemNanos);
+        if (target == current) {
+            return;
+        }
+        if (target > current) {
+            threadPoolExecutor.setMaximumPoolSize(target);
+            threadPoolExecutor.setCorePoolSize(target);
+        } else {
+            threadPoolExecutor.setCorePoolSize(target);
+            threadPoolExecutor.setMaximumPoolSize(target);
+        }
+        resizeCount++;
+    }
+    
+    int computePoolSize(final int current, final int itemCount, final int peakQueueDepth, final long averageItemNanos) {
+        int result;
+        if (itemCount > current) {
+            result = peakQueueDepth > 0 && averageItemNanos >= minGrowItemNanos ? itemCount : current;
+        } else {
+            result = itemCount;
+        }
+        return Math.max(minThreadSize, Math.min(maxThreadSize, result));
+    }
+    
+    /**
+     * Get pool state.
+     *
+     * @return pool state
+     */
+    public synchronized ExecutorPoolState getPoolState() {
+        ExecutorPoolState result = new ExecutorPoolState();
+        result.setMinPoolSize(minThreadSize);
+        result.setMaxPoolSize(maxThreadSize);
+        result.setPoolSize(threadPoolExecutor.getCorePoolSize());
+        result.setActiveThreadCount(threadPoolExecutor.getActiveCount());
+        result.setWorkQueueSize(workQueue.size());
+        result.setLastRunItemCount(lastRunItemCount);
+        result.setLastRunPeakQueueDepth(lastRunPeakQueueDepth);
+        result.setLastRunAverageItemMillis(TimeUnit.NANOSECONDS.toMillis(lastRunAverageItemNanos));
+        result.setResizeCount(resizeCount);
+        return result;
+    }
 }
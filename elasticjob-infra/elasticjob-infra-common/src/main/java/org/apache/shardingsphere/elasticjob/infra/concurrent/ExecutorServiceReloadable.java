@@ -33,15 +33,18 @@ import java.util.concurrent.ExecutorService;
 @Slf4j
 public final class ExecutorServiceReloadable implements Reloadable<ExecutorService>, ReloadablePostProcessor {
     
+    private String jobName;
+    
     private String jobExecutorServiceHandlerType;
     
     private ExecutorService executorService;
     
     @Override
     public void init(final JobConfiguration jobConfig) {
+        jobName = jobConfig.getJobName();
         jobExecutorServiceHandlerType = Strings.isNullOrEmpty(jobConfig.getJobExecutorServiceHandlerType())
                 ? JobExecutorServiceHandlerFactory.DEFAULT_HANDLER : jobConfig.getJobExecutorServiceHandlerType();
-        executorService = JobExecutorServiceHandlerFactory.getHandler(jobExecutorServiceHandlerType).createExecutorService(jobConfig.getJobName());
+        executorService = JobExecutorServiceHandlerFactory.getHandler(jobExecutorServiceHandlerType).createExecutorService(jobName, jobConfig.getProps());
     }
     
     @Override
@@ -52,13 +55,15 @@ public final class ExecutorServiceReloadable implements Reloadable<ExecutorServi
             return;
         }
         log.debug("JobExecutorServiceHandler reload occurred in the job '{}'. Change from '{}' to '{}'.", jobConfig.getJobName(), jobExecutorServiceHandlerType, newJobExecutorServiceHandlerType);
-        reload(newJobExecutorServiceHandlerType, jobConfig.getJobName());
+        reload(newJobExecutorServiceHandlerType, jobConfig);
     }
     
-    private void reload(final String jobExecutorServiceHandlerType, final String jobName) {
+    private void reload(final String jobExecutorServiceHandlerType, final JobConfiguration jobConfig) {
         executorService.shutdown();
+        unregisterPool();
         this.jobExecutorServiceHandlerType = jobExecutorServiceHandlerType;
-        executorService = JobExecutorServiceHandlerFactory.getHandler(jobExecutorServiceHandlerType).createExecutorService(jobName);
+        jobName = jobConfig.getJobName();
+        executorService = JobExecutorServiceHandlerFactory.getHandler(jobExecutorServiceHandlerType).createExecutorService(jobName, jobConfig.getProps());
     }
     
     @Override
@@ -69,6 +74,11 @@ public final class ExecutorServiceReloadable implements Reloadable<ExecutorServi
     @Override
     public void close() {
         Optional.ofNullable(executorService).ifPresent(ExecutorService::shutdown);
+        unregisterPool();
+    }
+    
+    private void unregisterPool() {
+        Optional.ofNullable(jobName).ifPresent(JobExecutorPoolRegistry.getInstance()::unregister);
     }
     
     @Override
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.concurrent;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of job executor pools in this process.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JobExecutorPoolRegistry {
+    
+    private static volatile JobExecutorPoolRegistry instance;
+    
+    private final Map<String, ElasticJobExecutorService> executorServices = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of job executor pool registry.
+     *
+     * @return instance of job executor pool registry
+     */
+    public static JobExecutorPoolRegistry getInstance() {
+        if (null == instance) {
+            synchronized (JobExecutorPoolRegistry.class) {
+                if (null == instance) {
+                    instance = new JobExecutorPoolRegistry();
+                }
+            }
+        }
+        return instance;
+    }
+    
+    /**
+     * Register executor service of job.
+     *
+     * @param jobName job name
+     * @param executorService executor service
+     */
+    public void register(final String jobName, final ElasticJobExecutorService executorService) {
+        executorServices.put(jobName, executorService);
+    }
+    
+    /**
+     * Unregister executor service of job.
+     *
+     * @param jobName job name
+     */
+    public void unregister(final String jobName) {
+        executorServices.remove(jobName);
+    }
+    
+    /**
+     * Find executor service of job.
+     *
+     * @param jobName job name
+     * @return executor service
+     */
+    public Optional<ElasticJobExecutorService> find(final String jobName) {
+        return Optional.ofNullable(executorServices.get(jobName));
+    }
+    
+    /**
+     * Find executor pool state of job.
+     *
+     * @param jobName job name
+     * @return executor pool state
+     */
+    public Optional<ExecutorPoolState> findPoolState(final String jobName) {
+        return find(jobName).filter(each -> !each.isShutdown()).map(ElasticJobExecutorService::getPoolState);
+    }
+}
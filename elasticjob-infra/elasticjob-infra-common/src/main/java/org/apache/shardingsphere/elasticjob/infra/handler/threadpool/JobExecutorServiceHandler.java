@@ -19,6 +19,7 @@ package org.apache.shardingsphere.elasticjob.infra.handler.threadpool;
 
 import org.apache.shardingsphere.elasticjob.infra.spi.TypedSPI;
 
+import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -34,4 +35,16 @@ public interface JobExecutorServiceHandler extends TypedSPI {
      * @return executor service
      */
     ExecutorService createExecutorService(String jobName);
+    
+    /**
+     * Create executor service with job properties.
+     * 
+     * @param jobName job name
+     * @param props job properties
+     * 
+     * @return executor service
+     */
+    default ExecutorService createExecutorService(final String jobName, final Properties props) {
+        return createExecutorService(jobName);
+    }
 }
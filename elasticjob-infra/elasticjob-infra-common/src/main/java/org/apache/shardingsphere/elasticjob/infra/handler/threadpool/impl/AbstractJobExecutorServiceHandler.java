@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.elasticjob.infra.handler.threadpool.impl;
 
 import org.apache.shardingsphere.elasticjob.infra.concurrent.ElasticJobExecutorService;
+import org.apache.shardingsphere.elasticjob.infra.concurrent.JobExecutorPoolRegistry;
 import org.apache.shardingsphere.elasticjob.infra.handler.threadpool.JobExecutorServiceHandler;
 
 import java.util.concurrent.ExecutorService;
@@ -29,7 +30,9 @@ public abstract class AbstractJobExecutorServiceHandler implements JobExecutorSe
     
     @Override
     public ExecutorService createExecutorService(final String jobName) {
-        return new ElasticJobExecutorService("elasticjob-" + jobName, getPoolSize()).createExecutorService();
+        ElasticJobExecutorService result = new ElasticJobExecutorService("elasticjob-" + jobName, getPoolSize());
+        JobExecutorPoolRegistry.getInstance().register(jobName, result);
+        return result.createExecutorService();
     }
     
     protected abstract int getPoolSize();
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.handler.threadpool.impl;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.elasticjob.infra.concurrent.ElasticJobExecutorService;
+import org.apache.shardingsphere.elasticjob.infra.concurrent.JobExecutorPoolRegistry;
+import org.apache.shardingsphere.elasticjob.infra.handler.threadpool.JobExecutorServiceHandler;
+
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Job executor service handler which resizes the pool between runs within configured bounds.
+ */
+public final class AdaptiveJobExecutorServiceHandler implements JobExecutorServiceHandler {
+    
+    /**
+     * Minimum pool size, default is 1.
+     */
+    public static final String MIN_POOL_SIZE_KEY = "executor.pool.min.size";
+    
+    /**
+     * Maximum pool size, default is twice of CPU available processors.
+     */
+    public static final String MAX_POOL_SIZE_KEY = "executor.pool.max.size";
+    
+    /**
+     * Do not grow the pool if sharding items of last run took less than given milliseconds on average, default is 1.
+     */
+    public static final String GROW_MIN_ITEM_MILLISECONDS_KEY = "executor.pool.grow.min.item.milliseconds";
+    
+    private static final long DEFAULT_GROW_MIN_ITEM_MILLISECONDS = 1L;
+    
+    @Override
+    public ExecutorService createExecutorService(final String jobName) {
+        return createExecutorService(jobName, new Properties());
+    }
+    
+    @Override
+    public ExecutorService createExecutorService(final String jobName, final Properties props) {
+        int minPoolSize = (int) getLongValue(props, MIN_POOL_SIZE_KEY, 1L);
+        int maxPoolSize = (int) getLongValue(props, MAX_POOL_SIZE_KEY, Math.max(minPoolSize, Runtime.getRuntime().availableProcessors() * 2));
+        ElasticJobExecutorService result = new ElasticJobExecutorService(
+                "elasticjob-" + jobName, minPoolSize, maxPoolSize, getLongValue(props, GROW_MIN_ITEM_MILLISECONDS_KEY, DEFAULT_GROW_MIN_ITEM_MILLISECONDS));
+        JobExecutorPoolRegistry.getInstance().register(jobName, result);
+        return result.createExecutorService();
+    }
+    
+    private long getLongValue(final Properties props, final String key, final long defaultValue) {
+        String value = null == props ? null : props.getProperty(key);
+        return Strings.isNullOrEmpty(value) ? defaultValue : Long.parseLong(value.trim());
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+}
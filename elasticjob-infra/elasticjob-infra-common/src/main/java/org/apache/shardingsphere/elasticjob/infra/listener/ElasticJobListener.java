@@ -47,4 +47,15 @@ public interface ElasticJobListener extends TypedSPI {
     default int order() {
         return LOWEST;
     }
+    
+    /**
+     * Listener execution mode, default is synchronous.
+     * 
+     * <p>Both callbacks of one listener run in the same mode, and the after callback never starts before the before callback finished.</p>
+     * 
+     * @return execution mode
+     */
+    default ListenerExecutionMode executionMode() {
+        return ListenerExecutionMode.SYNC;
+    }
 }
@@ -19,20 +19,25 @@ package org.apache.shardingsphere.elasticjob.infra.yaml;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.shardingsphere.elasticjob.infra.yaml.representer.ElasticJobYamlRepresenter;
-import org.yaml.snakeyaml.DumperOptions;
-import org.yaml.snakeyaml.LoaderOptions;
-import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
-
-import java.util.Collections;
+import org.apache.shardingsphere.elasticjob.infra.yaml.codec.ConfigurationCodec;
+import org.apache.shardingsphere.elasticjob.infra.yaml.codec.JsonConfigurationCodec;
+import org.apache.shardingsphere.elasticjob.infra.yaml.codec.YamlConfigurationCodec;
 
 /**
  * YAML engine.
+ * 
+ * <p>Content is marshaled as YAML by default, or as compact JSON if system property {@code elasticjob.configuration.codec} is {@code json}.
+ * Both formats are accepted when unmarshaling, so nodes written in either format keep working during rolling upgrades.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class YamlEngine {
     
+    private static final ConfigurationCodec YAML_CODEC = new YamlConfigurationCodec();
+    
+    private static final ConfigurationCodec JSON_CODEC = new JsonConfigurationCodec(YAML_CODEC);
+    
+    private static final ConfigurationCodec MARSHAL_CODEC = "json".equalsIgnoreCase(System.getProperty("elasticjob.configuration.codec")) ? JSON_CODEC : YAML_CODEC;
+    
     /**
      * Marshal YAML.
      *
@@ -40,7 +45,7 @@ public final class YamlEngine {
      * @return YAML content
      */
     public static String marshal(final Object value) {
-        return new Yaml(new ElasticJobYamlRepresenter(new DumperOptions())).dumpAsMap(value);
+        return MARSHAL_CODEC.encode(value);
     }
     
     /**
@@ -52,8 +57,6 @@ public final class YamlEngine {
      * @return object from YAML
      */
     public static <T> T unmarshal(final String yamlContent, final Class<T> classType) {
-        LoaderOptions loaderOptions = new LoaderOptions();
-        loaderOptions.setTagInspector(new TrustedPrefixesTagInspector(Collections.singletonList("org.apache.shardingsphere.elasticjob")));
-        return new Yaml(loaderOptions).loadAs(yamlContent, classType);
+        return JsonConfigurationCodec.isJsonObject(yamlContent) ? JSON_CODEC.decode(yamlContent, classType) : YAML_CODEC.decode(yamlContent, classType);
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.yaml.codec;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.elasticjob.infra.pojo.JobConfigurationPOJO;
+
+/**
+ * Compact JSON configuration codec.
+ * 
+ * <p>Compact JSON is a YAML flow mapping as well, so nodes written by this codec can still be read by versions which only know YAML.
+ * Values which need YAML tags to keep their types, such as job extra configurations, are encoded as YAML.
+ * Content which is not JSON, or cannot be decoded as JSON, is decoded as YAML.</p>
+ */
+@RequiredArgsConstructor
+public final class JsonConfigurationCodec implements ConfigurationCodec {
+    
+    private final Gson gson = new Gson();
+    
+    private final ConfigurationCodec yamlCodec;
+    
+    /**
+     * Judge whether content is encoded as JSON object.
+     *
+     * @param content content
+     * @return is JSON object or not
+     */
+    public static boolean isJsonObject(final String content) {
+        for (int i = 0; i < content.length(); i++) {
+            char each = content.charAt(i);
+            if (!Character.isWhitespace(each)) {
+                return '{' == each;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public String encode(final Object value) {
+        return isTagRequired(value) ? yamlCodec.encode(value) : gson.toJson(value);
+    }
+    
+    private boolean isTagRequired(final Object value) {
+        return value instanceof JobConfigurationPOJO && !((JobConfigurationPOJO) value).getJobExtraConfigurations().isEmpty();
+    }
+    
+    @Override
+    public <T> T decode(final String content, final Class<T> classType) {
+        if (!isJsonObject(content)) {
+            return yamlCodec.decode(content, classType);
+        }
+        try {
+            return gson.fromJson(content, classType);
+        } catch (final JsonParseException ex) {
+            return yamlCodec.decode(content, classType);
+        }
+    }
+}
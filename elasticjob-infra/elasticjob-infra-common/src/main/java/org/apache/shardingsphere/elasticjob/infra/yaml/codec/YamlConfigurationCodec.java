@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.yaml.codec;
+
+import org.apache.shardingsphere.elasticjob.infra.yaml.representer.ElasticJobYamlRepresenter;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
+
+import java.util.Collections;
+
+/**
+ * YAML configuration codec.
+ * 
+ * <p>{@link Yaml} is not thread-safe, so dumper and loader are confined to the calling thread and reused across calls,
+ * which keeps the introspected bean properties cached instead of building them on every call.</p>
+ */
+public final class YamlConfigurationCodec implements ConfigurationCodec {
+    
+    private static final String TRUSTED_TAG_PREFIX = "org.apache.shardingsphere.elasticjob";
+    
+    private final ThreadLocal<Yaml> dumper = ThreadLocal.withInitial(() -> new Yaml(new ElasticJobYamlRepresenter(new DumperOptions())));
+    
+    private final ThreadLocal<Yaml> loader = ThreadLocal.withInitial(YamlConfigurationCodec::createLoader);
+    
+    private static Yaml createLoader() {
+        LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setTagInspector(new TrustedPrefixesTagInspector(Collections.singletonList(TRUSTED_TAG_PREFIX)));
+        return new Yaml(loaderOptions);
+    }
+    
+    @Override
+    public String encode(final Object value) {
+        return dumper.get().dumpAsMap(value);
+    }
+    
+    @Override
+    public <T> T decode(final String content, final Class<T> classType) {
+        return loader.get().loadAs(content, classType);
+    }
+}
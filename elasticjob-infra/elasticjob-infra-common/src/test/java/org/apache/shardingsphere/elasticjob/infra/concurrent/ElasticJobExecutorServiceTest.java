@@ -20,6 +20,7 @@ package org.apache.shardingsphere.elasticjob.infra.concurrent;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -30,6 +31,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public final class ElasticJobExecutorServiceTest {
     
+    private static final long ITEM_MILLISECONDS = 5L;
+    
     private static boolean hasExecuted;
 
     @Test
@@ -57,6 +60,53 @@ public final class ElasticJobExecutorServiceTest {
         hasExecuted = true;
     }
     
+    @Test
+    public void assertFixedPoolSizeNotChanged() throws InterruptedException {
+        ElasticJobExecutorService executorServiceObject = new ElasticJobExecutorService("executor-service-fixed-test", 2);
+        ExecutorService executorService = executorServiceObject.createExecutorService();
+        try {
+            runItems(executorServiceObject, executorService, 6);
+            assertThat(executorServiceObject.getPoolSize(), is(2));
+            assertThat(executorServiceObject.getPoolState().getLastRunItemCount(), is(6));
+            assertTrue(executorServiceObject.getPoolState().getLastRunPeakQueueDepth() >= 4);
+            assertThat(executorServiceObject.getPoolState().getResizeCount(), is(0L));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    @Test
+    public void assertComputePoolSize() {
+        ElasticJobExecutorService executorServiceObject = new ElasticJobExecutorService("executor-service-compute-test", 2, 8, 1L);
+        long itemNanos = TimeUnit.MILLISECONDS.toNanos(10L);
+        assertThat(executorServiceObject.computePoolSize(2, 6, 4, itemNanos), is(6));
+        assertThat(executorServiceObject.computePoolSize(2, 6, 0, itemNanos), is(2));
+        assertThat(executorServiceObject.computePoolSize(2, 6, 4, TimeUnit.MICROSECONDS.toNanos(100L)), is(2));
+        assertThat(executorServiceObject.computePoolSize(2, 20, 18, itemNanos), is(8));
+        assertThat(executorServiceObject.computePoolSize(6, 3, 0, itemNanos), is(3));
+        assertThat(executorServiceObject.computePoolSize(6, 1, 0, itemNanos), is(2));
+    }
+    
+    private void runItems(final ElasticJobExecutorService executorServiceObject, final ExecutorService executorService, final int itemCount) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            executorService.execute(() -> {
+                sleep(ITEM_MILLISECONDS);
+                latch.countDown();
+            });
+        }
+        latch.await();
+        executorServiceObject.completeRun(itemCount, itemCount * TimeUnit.MILLISECONDS.toNanos(ITEM_MILLISECONDS));
+    }
+    
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
     static class FooTask implements Runnable {
 
         @Override
@@ -32,6 +32,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -88,6 +89,15 @@ public final class ExecutorServiceReloadableTest {
         verify(mockExecutorService).shutdown();
     }
     
+    @Test
+    public void assertUnregisterPoolWhenClose() {
+        ExecutorServiceReloadable executorServiceReloadable = new ExecutorServiceReloadable();
+        executorServiceReloadable.init(JobConfiguration.newBuilder("reloadable_pool_job", 1).jobExecutorServiceHandlerType("ADAPTIVE").build());
+        assertTrue(JobExecutorPoolRegistry.getInstance().findPoolState("reloadable_pool_job").isPresent());
+        executorServiceReloadable.close();
+        assertFalse(JobExecutorPoolRegistry.getInstance().find("reloadable_pool_job").isPresent());
+    }
+    
     @SneakyThrows
     private void setField(final Object target, final String fieldName, final Object value) {
         Field field = target.getClass().getDeclaredField(fieldName);
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JobExecutorPoolRegistryTest {
+    
+    @Test
+    public void assertFindPoolState() {
+        ElasticJobExecutorService executorServiceObject = new ElasticJobExecutorService("executor-pool-registry-test", 1, 4, 0L);
+        ExecutorService executorService = executorServiceObject.createExecutorService();
+        JobExecutorPoolRegistry.getInstance().register("registry_test_job", executorServiceObject);
+        try {
+            assertTrue(JobExecutorPoolRegistry.getInstance().find("registry_test_job").isPresent());
+            assertThat(JobExecutorPoolRegistry.getInstance().findPoolState("registry_test_job").get().getMaxPoolSize(), is(4));
+            executorService.shutdown();
+            assertFalse(JobExecutorPoolRegistry.getInstance().findPoolState("registry_test_job").isPresent());
+        } finally {
+            JobExecutorPoolRegistry.getInstance().unregister("registry_test_job");
+        }
+        assertFalse(JobExecutorPoolRegistry.getInstance().find("registry_test_job").isPresent());
+    }
+}
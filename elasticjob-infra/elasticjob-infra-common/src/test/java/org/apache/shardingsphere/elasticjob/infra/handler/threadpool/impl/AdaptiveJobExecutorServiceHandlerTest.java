@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.handler.threadpool.impl;
+
+import org.apache.shardingsphere.elasticjob.infra.concurrent.ExecutorPoolState;
+import org.apache.shardingsphere.elasticjob.infra.concurrent.JobExecutorPoolRegistry;
+import org.apache.shardingsphere.elasticjob.infra.handler.threadpool.JobExecutorServiceHandler;
+import org.apache.shardingsphere.elasticjob.infra.handler.threadpool.JobExecutorServiceHandlerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class AdaptiveJobExecutorServiceHandlerTest {
+    
+    @Test
+    public void assertCreateExecutorServiceWithBounds() {
+        JobExecutorServiceHandler handler = JobExecutorServiceHandlerFactory.getHandler("ADAPTIVE");
+        assertThat(handler.getType(), is("ADAPTIVE"));
+        Properties props = new Properties();
+        props.setProperty(AdaptiveJobExecutorServiceHandler.MIN_POOL_SIZE_KEY, "2");
+        props.setProperty(AdaptiveJobExecutorServiceHandler.MAX_POOL_SIZE_KEY, "6");
+        ExecutorService executorService = handler.createExecutorService("adaptive_test_job", props);
+        try {
+            ExecutorPoolState actual = JobExecutorPoolRegistry.getInstance().findPoolState("adaptive_test_job").get();
+            assertThat(actual.getMinPoolSize(), is(2));
+            assertThat(actual.getMaxPoolSize(), is(6));
+            assertThat(actual.getPoolSize(), is(2));
+        } finally {
+            executorService.shutdown();
+            JobExecutorPoolRegistry.getInstance().unregister("adaptive_test_job");
+        }
+    }
+    
+    @Test
+    public void assertCreateExecutorServiceWithDefaultBounds() {
+        ExecutorService executorService = JobExecutorServiceHandlerFactory.getHandler("ADAPTIVE").createExecutorService("adaptive_default_test_job");
+        try {
+            ExecutorPoolState actual = JobExecutorPoolRegistry.getInstance().findPoolState("adaptive_default_test_job").get();
+            assertThat(actual.getMinPoolSize(), is(1));
+            assertThat(actual.getMaxPoolSize(), is(Math.max(1, Runtime.getRuntime().availableProcessors() * 2)));
+        } finally {
+            executorService.shutdown();
+            JobExecutorPoolRegistry.getInstance().unregister("adaptive_default_test_job");
+        }
+    }
+}
@@ -34,6 +34,8 @@ public final class YamlEngineTest {
     
     private static final String YAML_WITH_NULL = "foo: foo\n";
     
+    private static final String JSON = "{\"foo\":\"foo\",\"bar\":\"bar\",\"nest\":{\"foo\":\"nest_foo\",\"bar\":\"nest_bar\"}}";
+    
     private static final String PREFIX = "nest";
     
     private static final String PREFIX2 = "nest.bar";
@@ -73,4 +75,13 @@ public final class YamlEngineTest {
         assertNull(actual.getBar());
         assertNull(actual.getNest());
     }
+    
+    @Test
+    public void assertUnmarshalJson() {
+        FooYamlConfiguration actual = YamlEngine.unmarshal(JSON, FooYamlConfiguration.class);
+        assertThat(actual.getFoo(), is("foo"));
+        assertThat(actual.getBar(), is("bar"));
+        assertThat(actual.getNest().getFoo(), is("nest_foo"));
+        assertThat(actual.getNest().getBar(), is("nest_bar"));
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.yaml.codec;
+
+import org.apache.shardingsphere.elasticjob.infra.pojo.JobConfigurationPOJO;
+import org.apache.shardingsphere.elasticjob.infra.yaml.config.YamlConfiguration;
+import org.apache.shardingsphere.elasticjob.infra.yaml.fixture.FooYamlConfiguration;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class JsonConfigurationCodecTest {
+    
+    private static final String JSON = "{\"foo\":\"foo\",\"bar\":\"bar\",\"nest\":{\"foo\":\"nest_foo\"}}";
+    
+    private final YamlConfigurationCodec yamlCodec = new YamlConfigurationCodec();
+    
+    private final JsonConfigurationCodec codec = new JsonConfigurationCodec(yamlCodec);
+    
+    @Test
+    public void assertEncode() {
+        FooYamlConfiguration value = new FooYamlConfiguration();
+        value.setFoo("foo");
+        value.setBar("bar");
+        FooYamlConfiguration nest = new FooYamlConfiguration();
+        nest.setFoo("nest_foo");
+        value.setNest(nest);
+        assertThat(codec.encode(value), is(JSON));
+    }
+    
+    @Test
+    public void assertDecodeJson() {
+        FooYamlConfiguration actual = codec.decode(JSON, FooYamlConfiguration.class);
+        assertThat(actual.getFoo(), is("foo"));
+        assertThat(actual.getBar(), is("bar"));
+        assertThat(actual.getNest().getFoo(), is("nest_foo"));
+        assertNull(actual.getNest().getBar());
+    }
+    
+    @Test
+    public void assertDecodeYaml() {
+        FooYamlConfiguration actual = codec.decode("foo: foo\nnest:\n  bar: nest_bar\n", FooYamlConfiguration.class);
+        assertThat(actual.getFoo(), is("foo"));
+        assertThat(actual.getNest().getBar(), is("nest_bar"));
+    }
+    
+    @Test
+    public void assertDecodeYamlFlowMappingWhichIsNotJson() {
+        FooYamlConfiguration actual = codec.decode("{foo: &value foo, bar: *value}", FooYamlConfiguration.class);
+        assertThat(actual.getFoo(), is("foo"));
+        assertThat(actual.getBar(), is("foo"));
+    }
+    
+    @Test
+    public void assertDecodeJsonByYamlCodec() {
+        FooYamlConfiguration actual = yamlCodec.decode(JSON, FooYamlConfiguration.class);
+        assertThat(actual.getFoo(), is("foo"));
+        assertThat(actual.getBar(), is("bar"));
+        assertThat(actual.getNest().getFoo(), is("nest_foo"));
+    }
+    
+    @Test
+    public void assertEncodeJobConfigurationWithoutExtraConfigurations() {
+        JobConfigurationPOJO value = new JobConfigurationPOJO();
+        value.setJobName("test_job");
+        value.setShardingTotalCount(3);
+        value.getProps().setProperty("key", "value");
+        String actual = codec.encode(value);
+        assertTrue(JsonConfigurationCodec.isJsonObject(actual));
+        JobConfigurationPOJO decodedByYaml = yamlCodec.decode(actual, JobConfigurationPOJO.class);
+        assertThat(decodedByYaml.getJobName(), is("test_job"));
+        assertThat(decodedByYaml.getShardingTotalCount(), is(3));
+        assertThat(decodedByYaml.getProps().getProperty("key"), is("value"));
+        JobConfigurationPOJO decodedByJson = codec.decode(actual, JobConfigurationPOJO.class);
+        assertThat(decodedByJson.getJobName(), is("test_job"));
+        assertThat(decodedByJson.getMaxTimeDiffSeconds(), is(-1));
+        assertThat(decodedByJson.getProps().getProperty("key"), is("value"));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertEncodeJobConfigurationWithExtraConfigurationsAsYaml() {
+        JsonConfigurationCodec codec = new JsonConfigurationCodec(mock(ConfigurationCodec.class, invocation -> "yaml"));
+        JobConfigurationPOJO value = new JobConfigurationPOJO();
+        value.getJobExtraConfigurations().add(mock(YamlConfiguration.class));
+        assertThat(codec.encode(value), is("yaml"));
+    }
+    
+    @Test
+    public void assertIsJsonObject() {
+        assertTrue(JsonConfigurationCodec.isJsonObject(" \n{}"));
+        assertFalse(JsonConfigurationCodec.isJsonObject("foo: foo"));
+        assertFalse(JsonConfigurationCodec.isJsonObject(""));
+    }
+}
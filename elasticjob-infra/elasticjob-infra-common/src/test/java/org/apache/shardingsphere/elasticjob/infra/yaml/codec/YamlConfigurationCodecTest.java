@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.yaml.codec;
+
+import org.apache.shardingsphere.elasticjob.infra.yaml.fixture.FooYamlConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class YamlConfigurationCodecTest {
+    
+    private static final String YAML = "bar: bar\nfoo: foo\n";
+    
+    private final YamlConfigurationCodec codec = new YamlConfigurationCodec();
+    
+    @Test
+    public void assertEncode() {
+        assertThat(codec.encode(createFooYamlConfiguration("foo", "bar")), is(YAML));
+    }
+    
+    @Test
+    public void assertDecode() {
+        FooYamlConfiguration actual = codec.decode(YAML, FooYamlConfiguration.class);
+        assertThat(actual.getFoo(), is("foo"));
+        assertThat(actual.getBar(), is("bar"));
+    }
+    
+    @Test
+    public void assertEncodeAndDecodeConcurrently() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Collection<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String foo = "foo_" + i;
+                futures.add(executorService.submit(() -> foo.equals(codec.decode(codec.encode(createFooYamlConfiguration(foo, "bar")), FooYamlConfiguration.class).getFoo())));
+            }
+            for (Future<Boolean> each : futures) {
+                assertThat(each.get(), is(true));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    private FooYamlConfiguration createFooYamlConfiguration(final String foo, final String bar) {
+        FooYamlConfiguration result = new FooYamlConfiguration();
+        result.setFoo(foo);
+        result.setBar(bar);
+        return result;
+    }
+}
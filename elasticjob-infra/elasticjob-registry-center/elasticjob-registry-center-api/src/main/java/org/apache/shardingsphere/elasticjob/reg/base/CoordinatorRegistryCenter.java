@@ -61,6 +61,18 @@ public interface CoordinatorRegistryCenter extends RegistryCenter {
      */
     void persistEphemeral(String key, String value);
     
+    /**
+     * Judge whether data is ephemeral data owned by the current session.
+     * 
+     * <p>Registry centers which cannot tell the owner return false, so callers re-create the ephemeral data.</p>
+     *
+     * @param key key
+     * @return data is ephemeral data owned by the current session or not
+     */
+    default boolean isEphemeralOwned(final String key) {
+        return false;
+    }
+    
     /**
      * Persist sequential data.
      *
@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.base;
+
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent.Type;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Conformance test of coordinator registry center.
+ * 
+ * <p>Every {@link CoordinatorRegistryCenter} implementation should pass it, so job behaviors do not depend on the registry center.</p>
+ */
+public abstract class BaseRegistryCenterConformanceTest {
+    
+    private static final String ROOT = "/conformance";
+    
+    private static final long EVENT_TIMEOUT_MILLISECONDS = 10000L;
+    
+    private CoordinatorRegistryCenter regCenter;
+    
+    /**
+     * Create registry center to be tested, it will be initialized by the test.
+     * 
+     * @return registry center
+     */
+    protected abstract CoordinatorRegistryCenter createRegistryCenter();
+    
+    @BeforeEach
+    public void setUp() {
+        regCenter = createRegistryCenter();
+        regCenter.init();
+        regCenter.remove(ROOT);
+        regCenter.persist(ROOT, "");
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        regCenter.remove(ROOT);
+        regCenter.close();
+    }
+    
+    @Test
+    public void assertPersistAndGet() {
+        regCenter.persist(ROOT + "/deep/nested", "value");
+        assertThat(regCenter.getDirectly(ROOT + "/deep/nested"), is("value"));
+        assertThat(regCenter.getDirectly(ROOT + "/deep"), is(""));
+        regCenter.persist(ROOT + "/deep/nested", "changed");
+        assertThat(regCenter.getDirectly(ROOT + "/deep/nested"), is("changed"));
+        assertThat(regCenter.getDirectly(ROOT + "/notExisted"), nullValue());
+    }
+    
+    @Test
+    public void assertUpdate() {
+        regCenter.persist(ROOT + "/update", "value");
+        regCenter.update(ROOT + "/update", "changed");
+        assertThat(regCenter.getDirectly(ROOT + "/update"), is("changed"));
+        regCenter.update(ROOT + "/notExisted", "changed");
+        assertFalse(regCenter.isExisted(ROOT + "/notExisted"));
+    }
+    
+    @Test
+    public void assertRemove() {
+        regCenter.persist(ROOT + "/remove/child", "");
+        regCenter.remove(ROOT + "/remove");
+        assertFalse(regCenter.isExisted(ROOT + "/remove"));
+        assertFalse(regCenter.isExisted(ROOT + "/remove/child"));
+        regCenter.remove(ROOT + "/notExisted");
+    }
+    
+    @Test
+    public void assertGetChildrenKeys() {
+        regCenter.persist(ROOT + "/children/a", "");
+        regCenter.persist(ROOT + "/children/c", "");
+        regCenter.persist(ROOT + "/children/b", "");
+        assertThat(regCenter.getChildrenKeys(ROOT + "/children"), is(Arrays.asList("c", "b", "a")));
+        assertThat(regCenter.getNumChildren(ROOT + "/children"), is(3));
+        assertThat(regCenter.getChildrenKeys(ROOT + "/notExisted"), is(Collections.emptyList()));
+        assertThat(regCenter.getNumChildren(ROOT + "/notExisted"), is(0));
+    }
+    
+    @Test
+    public void assertPersistEphemeral() {
+        regCenter.persist(ROOT + "/ephemeral", "persisted");
+        regCenter.persistEphemeral(ROOT + "/ephemeral", "ephemeral");
+        assertThat(regCenter.getDirectly(ROOT + "/ephemeral"), is("ephemeral"));
+    }
+    
+    @Test
+    public void assertRemoveEphemeralWhenClose() {
+        CoordinatorRegistryCenter another = createRegistryCenter();
+        another.init();
+        another.persistEphemeral(ROOT + "/ephemeral", "");
+        another.persistEphemeralSequential(ROOT + "/sequential/node");
+        assertTrue(regCenter.isExisted(ROOT + "/ephemeral"));
+        assertThat(regCenter.getNumChildren(ROOT + "/sequential"), is(1));
+        another.close();
+        assertFalse(regCenter.isExisted(ROOT + "/ephemeral"));
+        assertThat(regCenter.getNumChildren(ROOT + "/sequential"), is(0));
+    }
+    
+    @Test
+    public void assertIsEphemeralOwned() {
+        CoordinatorRegistryCenter another = createRegistryCenter();
+        another.init();
+        try {
+            regCenter.persist(ROOT + "/persisted", "");
+            regCenter.persistEphemeral(ROOT + "/owned", "");
+            another.persistEphemeral(ROOT + "/notOwned", "");
+            assertTrue(regCenter.isEphemeralOwned(ROOT + "/owned"));
+            assertFalse(regCenter.isEphemeralOwned(ROOT + "/notOwned"));
+            assertFalse(regCenter.isEphemeralOwned(ROOT + "/persisted"));
+            assertFalse(regCenter.isEphemeralOwned(ROOT + "/notExisted"));
+        } finally {
+            another.close();
+        }
+    }
+    
+    @Test
+    public void assertPersistSequential() {
+        String first = regCenter.persistSequential(ROOT + "/sequential/node", "first");
+        String second = regCenter.persistSequential(ROOT + "/sequential/node", "second");
+        assertTrue(first.matches(ROOT + "/sequential/node\\d{10}"));
+        assertTrue(second.matches(ROOT + "/sequential/node\\d{10}"));
+        assertTrue(first.compareTo(second) < 0);
+        assertThat(regCenter.getDirectly(first), is("first"));
+        assertThat(regCenter.getDirectly(second), is("second"));
+    }
+    
+    @Test
+    public void assertGetRegistryCenterTime() {
+        long now = System.currentTimeMillis();
+        long result = regCenter.getRegistryCenterTime(ROOT + "/systemTime");
+        assertTrue(Math.abs(result - now) < 60000L);
+        assertTrue(regCenter.isExisted(ROOT + "/systemTime"));
+    }
+    
+    @Test
+    public void assertExecuteInTransactionSucceeded() throws Exception {
+        regCenter.persist(ROOT + "/transaction/update", "value");
+        regCenter.persist(ROOT + "/transaction/delete", "value");
+        regCenter.executeInTransaction(Arrays.asList(
+                TransactionOperation.opCheckExists(ROOT + "/transaction"),
+                TransactionOperation.opAdd(ROOT + "/transaction/add", "added"),
+                TransactionOperation.opUpdate(ROOT + "/transaction/update", "updated"),
+                TransactionOperation.opDelete(ROOT + "/transaction/delete")));
+        assertThat(regCenter.getDirectly(ROOT + "/transaction/add"), is("added"));
+        assertThat(regCenter.getDirectly(ROOT + "/transaction/update"), is("updated"));
+        assertFalse(regCenter.isExisted(ROOT + "/transaction/delete"));
+    }
+    
+    @Test
+    public void assertExecuteInTransactionFailed() {
+        regCenter.persist(ROOT + "/transaction/update", "value");
+        assertThrows(Exception.class, () -> regCenter.executeInTransaction(Arrays.asList(
+                TransactionOperation.opAdd(ROOT + "/transaction/add", "added"),
+                TransactionOperation.opUpdate(ROOT + "/transaction/update", "updated"),
+                TransactionOperation.opCheckExists(ROOT + "/transaction/notExisted"))));
+        assertFalse(regCenter.isExisted(ROOT + "/transaction/add"));
+        assertThat(regCenter.getDirectly(ROOT + "/transaction/update"), is("value"));
+    }
+    
+    @Test
+    public void assertExecuteInTransactionWithDeleteAndAdd() throws Exception {
+        regCenter.persist(ROOT + "/transaction/replace", "value");
+        regCenter.executeInTransaction(Arrays.asList(
+                TransactionOperation.opDelete(ROOT + "/transaction/replace"), TransactionOperation.opAdd(ROOT + "/transaction/replace", "replaced")));
+        assertThat(regCenter.getDirectly(ROOT + "/transaction/replace"), is("replaced"));
+    }
+    
+    @Test
+    public void assertWatch() throws InterruptedException {
+        BlockingQueue<DataChangedEvent> events = new LinkedBlockingQueue<>();
+        regCenter.addCacheData(ROOT);
+        regCenter.watch(ROOT, events::add, null);
+        regCenter.persist(ROOT + "/watch", "value");
+        assertEvent(events, Type.ADDED, ROOT + "/watch", "value");
+        regCenter.update(ROOT + "/watch", "changed");
+        assertEvent(events, Type.UPDATED, ROOT + "/watch", "changed");
+        regCenter.remove(ROOT + "/watch");
+        assertEvent(events, Type.DELETED, ROOT + "/watch", "changed");
+    }
+    
+    @Test
+    public void assertWatchWithExecutor() throws InterruptedException {
+        BlockingQueue<DataChangedEvent> events = new LinkedBlockingQueue<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            regCenter.addCacheData(ROOT);
+            regCenter.watch(ROOT, events::add, executor);
+            regCenter.persist(ROOT + "/watch", "value");
+            assertEvent(events, Type.ADDED, ROOT + "/watch", "value");
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertGetRawCache() {
+        regCenter.addCacheData(ROOT);
+        assertThat(regCenter.getRawCache(ROOT), notNullValue());
+        regCenter.evictCacheData(ROOT);
+        assertThat(regCenter.getRawCache(ROOT), nullValue());
+    }
+    
+    @Test
+    public void assertExecuteInLeader() throws InterruptedException {
+        int threads = 5;
+        AtomicInteger executing = new AtomicInteger();
+        AtomicInteger maxExecuting = new AtomicInteger();
+        CountDownLatch executed = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> regCenter.executeInLeader(ROOT + "/leader", () -> {
+                maxExecuting.accumulateAndGet(executing.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20L);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                executing.decrementAndGet();
+                executed.countDown();
+            }));
+        }
+        executor.shutdown();
+        assertTrue(executed.await(EVENT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS));
+        assertThat(maxExecuting.get(), is(1));
+    }
+    
+    private void assertEvent(final BlockingQueue<DataChangedEvent> events, final Type type, final String key, final String value) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + EVENT_TIMEOUT_MILLISECONDS;
+        while (System.currentTimeMillis() < deadline) {
+            DataChangedEvent event = events.poll(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+            if (null != event && type == event.getType() && key.equals(event.getKey())) {
+                assertThat(event.getValue(), is(value));
+                return;
+            }
+        }
+        throw new AssertionError(String.format("Data changed event '%s' of '%s' is not received.", type, key));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.memory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+
+/**
+ * Cache of memory registry center.
+ * 
+ * <p>Values are always read from the data tree, the cache only delivers data changed events of nodes under its path.
+ * A new listener first receives added events of the nodes which exist when it is added, then the events of later changes.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+final class MemoryCache {
+    
+    private final String cachePath;
+    
+    private final Collection<ListenerEntry> listeners = new CopyOnWriteArrayList<>();
+    
+    boolean isCovered(final String key) {
+        return key.equals(cachePath) || key.startsWith(cachePath + "/");
+    }
+    
+    void addListener(final DataChangedEventListener listener, final Executor executor, final List<DataChangedEvent> existingNodeEvents, final Predicate<Runnable> eventSubmitter) {
+        ListenerEntry entry = new ListenerEntry(listener, executor);
+        listeners.add(entry);
+        // Events submitted before the replay already happened in the existing nodes, the listener only receives events submitted after it.
+        boolean submitted = eventSubmitter.test(() -> {
+            existingNodeEvents.stream().filter(each -> listeners.contains(entry)).forEach(each -> notifyListener(entry, each));
+            entry.replayed = true;
+        });
+        if (!submitted) {
+            entry.replayed = true;
+        }
+    }
+    
+    void removeListeners() {
+        listeners.clear();
+    }
+    
+    void notifyListeners(final DataChangedEvent event) {
+        for (ListenerEntry each : listeners) {
+            if (each.replayed) {
+                notifyListener(each, event);
+            }
+        }
+    }
+    
+    private void notifyListener(final ListenerEntry entry, final DataChangedEvent event) {
+        if (null == entry.executor) {
+            notifyListener(entry.listener, event);
+        } else {
+            try {
+                entry.executor.execute(() -> notifyListener(entry.listener, event));
+            } catch (final RejectedExecutionException ex) {
+                log.debug("Elastic job: data changed event of '{}' is rejected by listener executor.", event.getKey());
+            }
+        }
+    }
+    
+    private void notifyListener(final DataChangedEventListener listener, final DataChangedEvent event) {
+        try {
+            listener.onChange(event);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Elastic job: data changed event listener of '{}' failure.", event.getKey(), ex);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ListenerEntry {
+        
+        private final DataChangedEventListener listener;
+        
+        private final Executor executor;
+        
+        private volatile boolean replayed;
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.memory;
+
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent.Type;
+import org.apache.shardingsphere.elasticjob.reg.memory.exception.MemoryRegistryCenterException;
+import org.apache.shardingsphere.elasticjob.reg.memory.exception.MemoryRegistryCenterException.NoNodeException;
+import org.apache.shardingsphere.elasticjob.reg.memory.exception.MemoryRegistryCenterException.NodeExistsException;
+import org.apache.shardingsphere.elasticjob.reg.memory.exception.MemoryRegistryCenterException.NotEmptyException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Data tree of memory registry center.
+ * 
+ * <p>Registry centers created on the same data tree share the nodes like clients of one ZooKeeper ensemble, and each of them has a session of its own.
+ * Writes are serialized, and every write is applied with all of its events published, or rolled back with nothing published.</p>
+ */
+public final class MemoryDataTree {
+    
+    private static final String ROOT = "/";
+    
+    private static final String PATH_SEPARATOR = "/";
+    
+    private final Map<String, MemoryNode> nodes = new ConcurrentHashMap<>();
+    
+    private final Map<String, Lock> leaderLocks = new ConcurrentHashMap<>();
+    
+    private final AtomicLong sessionIdGenerator = new AtomicLong();
+    
+    private final Collection<Consumer<DataChangedEvent>> subscribers = new CopyOnWriteArrayList<>();
+    
+    public MemoryDataTree() {
+        nodes.put(ROOT, new MemoryNode(ROOT, "", 0L));
+    }
+    
+    long createSession() {
+        return sessionIdGenerator.incrementAndGet();
+    }
+    
+    void subscribe(final Consumer<DataChangedEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+    
+    void unsubscribe(final Consumer<DataChangedEvent> subscriber) {
+        subscribers.remove(subscriber);
+    }
+    
+    Lock getLeaderLock(final String key) {
+        return leaderLocks.computeIfAbsent(key, unused -> new ReentrantLock(true));
+    }
+    
+    Optional<MemoryNode> find(final String key) {
+        return Optional.ofNullable(nodes.get(key));
+    }
+    
+    List<String> getChildren(final String key) {
+        MemoryNode node = nodes.get(key);
+        return null == node ? Collections.emptyList() : new ArrayList<>(node.getChildren());
+    }
+    
+    synchronized String create(final String key, final String value, final long ephemeralOwner, final boolean sequential) throws MemoryRegistryCenterException {
+        Mutation mutation = new Mutation();
+        try {
+            createParents(key, mutation);
+            String actualKey = sequential ? key + String.format("%010d", nodes.get(getParentKey(key)).nextSequence()) : key;
+            createNode(actualKey, value, ephemeralOwner, mutation);
+            mutation.commit();
+            return actualKey;
+        } catch (final MemoryRegistryCenterException ex) {
+            mutation.rollback();
+            throw ex;
+        }
+    }
+    
+    synchronized void update(final String key, final String value) throws MemoryRegistryCenterException {
+        Mutation mutation = new Mutation();
+        updateNode(key, value, mutation);
+        mutation.commit();
+    }
+    
+    synchronized void delete(final String key) throws MemoryRegistryCenterException {
+        Mutation mutation = new Mutation();
+        try {
+            deleteRecursively(key, mutation);
+            mutation.commit();
+        } catch (final MemoryRegistryCenterException ex) {
+            mutation.rollback();
+            throw ex;
+        }
+    }
+    
+    synchronized void execute(final List<TransactionOperation> transactionOperations) throws MemoryRegistryCenterException {
+        Mutation mutation = new Mutation();
+        try {
+            for (TransactionOperation each : transactionOperations) {
+                execute(each, mutation);
+            }
+            mutation.commit();
+        } catch (final MemoryRegistryCenterException ex) {
+            mutation.rollback();
+            throw ex;
+        }
+    }
+    
+    private void execute(final TransactionOperation transactionOperation, final Mutation mutation) throws MemoryRegistryCenterException {
+        switch (transactionOperation.getType()) {
+            case CHECK_EXISTS:
+                getNode(transactionOperation.getKey());
+                break;
+            case ADD:
+                createNode(transactionOperation.getKey(), transactionOperation.getValue(), 0L, mutation);
+                break;
+            case UPDATE:
+                updateNode(transactionOperation.getKey(), transactionOperation.getValue(), mutation);
+                break;
+            case DELETE:
+                deleteNode(transactionOperation.getKey(), mutation);
+                break;
+            default:
+                throw new UnsupportedOperationException(transactionOperation.toString());
+        }
+    }
+    
+    synchronized void replay(final String key, final Consumer<List<DataChangedEvent>> replayer) {
+        List<DataChangedEvent> events = new LinkedList<>();
+        collectAddedEvents(key, events);
+        replayer.accept(events);
+    }
+    
+    private void collectAddedEvents(final String key, final List<DataChangedEvent> events) {
+        MemoryNode node = nodes.get(key);
+        if (null == node) {
+            return;
+        }
+        events.add(new DataChangedEvent(Type.ADDED, key, node.getValue()));
+        for (String each : node.getChildren()) {
+            collectAddedEvents(getChildKey(key, each), events);
+        }
+    }
+    
+    synchronized void deleteEphemerals(final long sessionId) {
+        List<String> ephemeralKeys = nodes.values().stream().filter(each -> sessionId == each.getEphemeralOwner()).map(MemoryNode::getKey)
+                .sorted(Comparator.comparingInt(String::length).reversed()).collect(Collectors.toList());
+        Mutation mutation = new Mutation();
+        for (String each : ephemeralKeys) {
+            try {
+                deleteRecursively(each, mutation);
+            } catch (final MemoryRegistryCenterException ignored) {
+            }
+        }
+        mutation.commit();
+    }
+    
+    private void createParents(final String key, final Mutation mutation) throws MemoryRegistryCenterException {
+        int index = key.indexOf(PATH_SEPARATOR, 1);
+        while (-1 != index) {
+            String parentKey = key.substring(0, index);
+            if (!nodes.containsKey(parentKey)) {
+                createNode(parentKey, "", 0L, mutation);
+            }
+            index = key.indexOf(PATH_SEPARATOR, index + 1);
+        }
+    }
+    
+    private void createNode(final String key, final String value, final long ephemeralOwner, final Mutation mutation) throws MemoryRegistryCenterException {
+        if (nodes.containsKey(key)) {
+            throw new NodeExistsException(key);
+        }
+        MemoryNode parent = getNode(getParentKey(key));
+        String name = key.substring(key.lastIndexOf(PATH_SEPARATOR) + 1);
+        MemoryNode node = new MemoryNode(key, null == value ? "" : value, ephemeralOwner);
+        nodes.put(key, node);
+        parent.getChildren().add(name);
+        mutation.record(new DataChangedEvent(Type.ADDED, key, node.getValue()), () -> {
+            nodes.remove(key);
+            parent.getChildren().remove(name);
+        });
+    }
+    
+    private void updateNode(final String key, final String value, final Mutation mutation) throws MemoryRegistryCenterException {
+        MemoryNode node = getNode(key);
+        String originalValue = node.getValue();
+        long originalModifiedTime = node.getModifiedTime();
+        node.setValue(null == value ? "" : value, System.currentTimeMillis());
+        mutation.record(new DataChangedEvent(Type.UPDATED, key, node.getValue()), () -> node.setValue(originalValue, originalModifiedTime));
+    }
+    
+    private void deleteRecursively(final String key, final Mutation mutation) throws MemoryRegistryCenterException {
+        MemoryNode node = getNode(key);
+        for (String each : new ArrayList<>(node.getChildren())) {
+            deleteRecursively(getChildKey(key, each), mutation);
+        }
+        if (!ROOT.equals(key)) {
+            deleteNode(key, mutation);
+        }
+    }
+    
+    private void deleteNode(final String key, final Mutation mutation) throws MemoryRegistryCenterException {
+        MemoryNode node = getNode(key);
+        if (!node.getChildren().isEmpty()) {
+            throw new NotEmptyException(key);
+        }
+        MemoryNode parent = nodes.get(getParentKey(key));
+        String name = key.substring(key.lastIndexOf(PATH_SEPARATOR) + 1);
+        nodes.remove(key);
+        parent.getChildren().remove(name);
+        mutation.record(new DataChangedEvent(Type.DELETED, key, node.getValue()), () -> {
+            nodes.put(key, node);
+            parent.getChildren().add(name);
+        });
+    }
+    
+    private MemoryNode getNode(final String key) throws NoNodeException {
+        MemoryNode result = nodes.get(key);
+        if (null == result) {
+            throw new NoNodeException(key);
+        }
+        return result;
+    }
+    
+    private String getParentKey(final String key) {
+        int index = key.lastIndexOf(PATH_SEPARATOR);
+        return index <= 0 ? ROOT : key.substring(0, index);
+    }
+    
+    private String getChildKey(final String key, final String childName) {
+        return ROOT.equals(key) ? ROOT + childName : key + PATH_SEPARATOR + childName;
+    }
+    
+    private final class Mutation {
+        
+        private final List<DataChangedEvent> events = new LinkedList<>();
+        
+        private final Deque<Runnable> undoActions = new ArrayDeque<>();
+        
+        void record(final DataChangedEvent event, final Runnable undoAction) {
+            events.add(event);
+            undoActions.push(undoAction);
+        }
+        
+        void commit() {
+            for (DataChangedEvent each : events) {
+                subscribers.forEach(subscriber -> subscriber.accept(each));
+            }
+        }
+        
+        void rollback() {
+            while (!undoActions.isEmpty()) {
+                undoActions.pop().run();
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.memory;
+
+import lombok.Getter;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node of memory data tree.
+ */
+@Getter
+final class MemoryNode {
+    
+    private final String key;
+    
+    private final long ephemeralOwner;
+    
+    private final Set<String> children = ConcurrentHashMap.newKeySet();
+    
+    private volatile String value;
+    
+    private volatile long modifiedTime;
+    
+    private int sequence;
+    
+    MemoryNode(final String key, final String value, final long ephemeralOwner) {
+        this.key = key;
+        this.value = value;
+        this.ephemeralOwner = ephemeralOwner;
+        modifiedTime = System.currentTimeMillis();
+    }
+    
+    boolean isEphemeral() {
+        return 0L != ephemeralOwner;
+    }
+    
+    void setValue(final String value, final long modifiedTime) {
+        this.value = value;
+        this.modifiedTime = modifiedTime;
+    }
+    
+    int nextSequence() {
+        return sequence++;
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.memory;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.LeaderExecutionCallback;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+import org.apache.shardingsphere.elasticjob.reg.exception.RegExceptionHandler;
+import org.apache.shardingsphere.elasticjob.reg.listener.ConnectionStateChangedEventListener;
+import org.apache.shardingsphere.elasticjob.reg.listener.ConnectionStateChangedEventListener.State;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEventListener;
+import org.apache.shardingsphere.elasticjob.reg.memory.exception.MemoryRegistryCenterException;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+
+/**
+ * Registry center in process memory.
+ * 
+ * <p>It is intended for single node deployments, tests and benchmarks which do not need a ZooKeeper server.
+ * Ephemeral nodes belong to the session of the registry center, they are removed when the registry center is closed or its session expires.
+ * Data changed events and connection state changed events are delivered in order on an event thread of the registry center,
+ * or on the executor given when watching.</p>
+ * 
+ * <p>Registry centers created on the same {@link MemoryDataTree} share nodes, caches, leader latches and events,
+ * so several job instances can be simulated in one process.</p>
+ */
+@Slf4j
+public final class MemoryRegistryCenter implements CoordinatorRegistryCenter {
+    
+    @Getter
+    private final MemoryDataTree dataTree;
+    
+    private final Map<String, MemoryCache> caches = new ConcurrentHashMap<>();
+    
+    private final Map<String, Collection<ConnectionStateChangedEventListener>> connStateListeners = new ConcurrentHashMap<>();
+    
+    private final Consumer<DataChangedEvent> subscriber = this::dispatch;
+    
+    private volatile long sessionId;
+    
+    private volatile ExecutorService eventExecutor;
+    
+    public MemoryRegistryCenter() {
+        this(new MemoryDataTree());
+    }
+    
+    public MemoryRegistryCenter(final MemoryDataTree dataTree) {
+        this.dataTree = dataTree;
+    }
+    
+    @Override
+    public synchronized void init() {
+        if (null != eventExecutor) {
+            return;
+        }
+        eventExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread result = new Thread(runnable, "elasticjob-memory-registry-center-event");
+            result.setDaemon(true);
+            return result;
+        });
+        sessionId = dataTree.createSession();
+        dataTree.subscribe(subscriber);
+    }
+    
+    @Override
+    public synchronized void close() {
+        if (null == eventExecutor) {
+            return;
+        }
+        dataTree.unsubscribe(subscriber);
+        dataTree.deleteEphemerals(sessionId);
+        caches.clear();
+        eventExecutor.shutdown();
+        eventExecutor = null;
+    }
+    
+    /**
+     * Expire session of the registry center.
+     * 
+     * <p>Connection state changed event listeners receive {@code UNAVAILABLE}, ephemeral nodes of the session are removed,
+     * then a new session is created and the listeners receive {@code RECONNECTED}, as ZooKeeper clients do after session expiration.</p>
+     */
+    public synchronized void expireSession() {
+        Preconditions.checkState(null != eventExecutor, "Registry center is not initialized.");
+        notifyConnectionStateChanged(State.UNAVAILABLE);
+        dataTree.deleteEphemerals(sessionId);
+        sessionId = dataTree.createSession();
+        notifyConnectionStateChanged(State.RECONNECTED);
+    }
+    
+    @Override
+    public String get(final String key) {
+        return getDirectly(key);
+    }
+    
+    @Override
+    public String getDirectly(final String key) {
+        return dataTree.find(key).map(MemoryNode::getValue).orElse(null);
+    }
+    
+    @Override
+    public List<String> getChildrenKeys(final String key) {
+        List<String> result = dataTree.getChildren(key);
+        result.sort(Comparator.reverseOrder());
+        return result;
+    }
+    
+    @Override
+    public int getNumChildren(final String key) {
+        return dataTree.find(key).map(optional -> optional.getChildren().size()).orElse(0);
+    }
+    
+    @Override
+    public boolean isExisted(final String key) {
+        return dataTree.find(key).isPresent();
+    }
+    
+    @Override
+    public void persist(final String key, final String value) {
+        try {
+            if (!isExisted(key)) {
+                dataTree.create(key, value, 0L, false);
+            } else {
+                dataTree.update(key, value);
+            }
+        } catch (final MemoryRegistryCenterException ex) {
+            RegExceptionHandler.handleException(ex);
+        }
+    }
+    
+    @Override
+    public void update(final String key, final String value) {
+        try {
+            dataTree.update(key, value);
+        } catch (final MemoryRegistryCenterException ex) {
+            RegExceptionHandler.handleException(ex);
+        }
+    }
+    
+    @Override
+    public void persistEphemeral(final String key, final String value) {
+        try {
+            if (isExisted(key)) {
+                dataTree.delete(key);
+            }
+            dataTree.create(key, value, sessionId, false);
+        } catch (final MemoryRegistryCenterException ex) {
+            RegExceptionHandler.handleException(ex);
+        }
+    }
+    
+    @Override
+    public boolean isEphemeralOwned(final String key) {
+        return dataTree.find(key).map(optional -> sessionId == optional.getEphemeralOwner()).orElse(false);
+    }
+    
+    @Override
+    public String persistSequential(final String key, final String value) {
+        try {
+            return dataTree.create(key, value, 0L, true);
+        } catch (final MemoryRegistryCenterException ex) {
+            RegExceptionHandler.handleException(ex);
+        }
+        return null;
+    }
+    
+    @Override
+    public void persistEphemeralSequential(final String key) {
+        try {
+            dataTree.create(key, "", sessionId, true);
+        } catch (final MemoryRegistryCenterException ex) {
+            RegExceptionHandler.handleException(ex);
+        }
+    }
+    
+    @Override
+    public void remove(final String key) {
+        try {
+            dataTree.delete(key);
+        } catch (final MemoryRegistryCenterException ex) {
+            RegExceptionHandler.handleException(ex);
+        }
+    }
+    
+    @Override
+    public long getRegistryCenterTime(final String key) {
+        persist(key, "");
+        long result = dataTree.find(key).map(MemoryNode::getModifiedTime).orElse(0L);
+        Preconditions.checkState(0L != result, "Cannot get registry center time.");
+        return result;
+    }
+    
+    @Override
+    public Object getRawClient() {
+        return dataTree;
+    }
+    
+    @Override
+    public void addCacheData(final String cachePath) {
+        caches.computeIfAbsent(cachePath + "/", unused -> new MemoryCache(cachePath));
+    }
+    
+    @Override
+    public void evictCacheData(final String cachePath) {
+        caches.remove(cachePath + "/");
+    }
+    
+    @Override
+    public Object getRawCache(final String cachePath) {
+        return caches.get(cachePath + "/");
+    }
+    
+    @Override
+    public void executeInLeader(final String key, final LeaderExecutionCallback callback) {
+        Lock lock = dataTree.getLeaderLock(key);
+        try {
+            lock.lockInterruptibly();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            callback.execute();
+            //CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            //CHECKSTYLE:ON
+            RegExceptionHandler.handleException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public void watch(final String key, final DataChangedEventListener listener, final Executor executor) {
+        MemoryCache cache = caches.get(key + "/");
+        Preconditions.checkState(null != cache, "Cache of '%s' has not been added.", key);
+        dataTree.replay(key, events -> cache.addListener(listener, executor, events, this::submitEvent));
+    }
+    
+    @Override
+    public void removeDataListeners(final String key) {
+        MemoryCache cache = caches.get(key + "/");
+        if (null != cache) {
+            cache.removeListeners();
+        }
+    }
+    
+    @Override
+    public void addConnectionStateChangedEventListener(final String key, final ConnectionStateChangedEventListener listener) {
+        connStateListeners.computeIfAbsent(key, unused -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+    
+    @Override
+    public void removeConnStateListener(final String key) {
+        connStateListeners.remove(key);
+    }
+    
+    @Override
+    public void executeInTransaction(final List<TransactionOperation> transactionOperations) throws Exception {
+        dataTree.execute(transactionOperations);
+    }
+    
+    private void dispatch(final DataChangedEvent event) {
+        submitEvent(() -> caches.values().stream().filter(each -> each.isCovered(event.getKey())).forEach(each -> each.notifyListeners(event)));
+    }
+    
+    private void notifyConnectionStateChanged(final State state) {
+        submitEvent(() -> connStateListeners.values().stream().flatMap(Collection::stream).forEach(each -> each.onStateChanged(this, state)));
+    }
+    
+    private boolean submitEvent(final Runnable event) {
+        ExecutorService executor = eventExecutor;
+        if (null == executor) {
+            return false;
+        }
+        try {
+            executor.execute(event);
+            return true;
+        } catch (final RejectedExecutionException ex) {
+            log.debug("Elastic job: event is rejected since memory registry center is closed.");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.memory.exception;
+
+/**
+ * Memory registry center exception.
+ */
+public abstract class MemoryRegistryCenterException extends Exception {
+    
+    private static final long serialVersionUID = -6181346401924404786L;
+    
+    protected MemoryRegistryCenterException(final String errorMessage, final Object... args) {
+        super(String.format(errorMessage, args));
+    }
+    
+    /**
+     * Node does not exist.
+     */
+    public static final class NoNodeException extends MemoryRegistryCenterException {
+        
+        private static final long serialVersionUID = 4523829378401532271L;
+        
+        public NoNodeException(final String key) {
+            super("Node '%s' does not exist.", key);
+        }
+    }
+    
+    /**
+     * Node already exists.
+     */
+    public static final class NodeExistsException extends MemoryRegistryCenterException {
+        
+        private static final long serialVersionUID = -1790340738411356290L;
+        
+        public NodeExistsException(final String key) {
+            super("Node '%s' already exists.", key);
+        }
+    }
+    
+    /**
+     * Node has children.
+     */
+    public static final class NotEmptyException extends MemoryRegistryCenterException {
+        
+        private static final long serialVersionUID = 2146018434757640385L;
+        
+        public NotEmptyException(final String key) {
+            super("Node '%s' has children.", key);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.memory;
+
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent.Type;
+import org.apache.shardingsphere.elasticjob.reg.memory.exception.MemoryRegistryCenterException.NoNodeException;
+import org.apache.shardingsphere.elasticjob.reg.memory.exception.MemoryRegistryCenterException.NodeExistsException;
+import org.apache.shardingsphere.elasticjob.reg.memory.exception.MemoryRegistryCenterException.NotEmptyException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MemoryDataTreeTest {
+    
+    private final MemoryDataTree dataTree = new MemoryDataTree();
+    
+    private final List<DataChangedEvent> events = new CopyOnWriteArrayList<>();
+    
+    @BeforeEach
+    public void setUp() {
+        dataTree.subscribe(events::add);
+    }
+    
+    @Test
+    public void assertCreateWithParents() throws Exception {
+        assertThat(dataTree.create("/parent/child", "value", 0L, false), is("/parent/child"));
+        assertThat(dataTree.getChildren("/"), is(Collections.singletonList("parent")));
+        assertThat(getEventKeys(Type.ADDED), is(Arrays.asList("/parent", "/parent/child")));
+    }
+    
+    @Test
+    public void assertCreateExisted() throws Exception {
+        dataTree.create("/existed", "", 0L, false);
+        assertThrows(NodeExistsException.class, () -> dataTree.create("/existed", "", 0L, false));
+    }
+    
+    @Test
+    public void assertUpdateNotExisted() {
+        assertThrows(NoNodeException.class, () -> dataTree.update("/notExisted", ""));
+    }
+    
+    @Test
+    public void assertDeleteRoot() throws Exception {
+        dataTree.create("/parent/child", "", 0L, false);
+        dataTree.delete("/");
+        assertTrue(dataTree.find("/").isPresent());
+        assertThat(dataTree.getChildren("/"), is(Collections.emptyList()));
+        assertThat(getEventKeys(Type.DELETED), is(Arrays.asList("/parent/child", "/parent")));
+    }
+    
+    @Test
+    public void assertExecuteDeleteNotEmptyNode() throws Exception {
+        dataTree.create("/parent/child", "", 0L, false);
+        events.clear();
+        assertThrows(NotEmptyException.class, () -> dataTree.execute(Arrays.asList(
+                TransactionOperation.opAdd("/added", ""), TransactionOperation.opDelete("/parent"))));
+        assertFalse(dataTree.find("/added").isPresent());
+        assertTrue(dataTree.find("/parent/child").isPresent());
+        assertThat(events, is(Collections.emptyList()));
+    }
+    
+    @Test
+    public void assertDeleteEphemerals() throws Exception {
+        dataTree.create("/ephemeral", "", 1L, false);
+        dataTree.create("/sequential/", "", 1L, true);
+        dataTree.create("/other", "", 2L, false);
+        dataTree.deleteEphemerals(1L);
+        assertFalse(dataTree.find("/ephemeral").isPresent());
+        assertThat(dataTree.getChildren("/sequential"), is(Collections.emptyList()));
+        assertTrue(dataTree.find("/other").isPresent());
+    }
+    
+    private List<String> getEventKeys(final Type type) {
+        return events.stream().filter(each -> type == each.getType()).map(DataChangedEvent::getKey).collect(Collectors.toList());
+    }
+}
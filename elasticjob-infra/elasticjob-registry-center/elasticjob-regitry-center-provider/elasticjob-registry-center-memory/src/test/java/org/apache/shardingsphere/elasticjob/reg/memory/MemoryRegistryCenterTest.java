@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.memory;
+
+import org.apache.shardingsphere.elasticjob.reg.listener.ConnectionStateChangedEventListener.State;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent.Type;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MemoryRegistryCenterTest {
+    
+    private final MemoryDataTree dataTree = new MemoryDataTree();
+    
+    private MemoryRegistryCenter regCenter;
+    
+    @BeforeEach
+    public void setUp() {
+        regCenter = new MemoryRegistryCenter(dataTree);
+        regCenter.init();
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        regCenter.close();
+    }
+    
+    @Test
+    public void assertShareDataTree() {
+        MemoryRegistryCenter another = new MemoryRegistryCenter(dataTree);
+        another.init();
+        try {
+            another.persist("/shared", "value");
+            assertThat(regCenter.getDirectly("/shared"), is("value"));
+        } finally {
+            another.close();
+        }
+    }
+    
+    @Test
+    public void assertNotShareDataTree() {
+        MemoryRegistryCenter another = new MemoryRegistryCenter();
+        another.init();
+        try {
+            another.persist("/isolated", "value");
+            assertFalse(regCenter.isExisted("/isolated"));
+        } finally {
+            another.close();
+        }
+    }
+    
+    @Test
+    public void assertExpireSession() throws InterruptedException {
+        BlockingQueue<State> states = new LinkedBlockingQueue<>();
+        regCenter.addConnectionStateChangedEventListener("/listener", (registryCenter, newState) -> states.add(newState));
+        regCenter.persist("/persisted", "");
+        regCenter.persistEphemeral("/ephemeral", "");
+        regCenter.expireSession();
+        assertThat(states.poll(5L, TimeUnit.SECONDS), is(State.UNAVAILABLE));
+        assertThat(states.poll(5L, TimeUnit.SECONDS), is(State.RECONNECTED));
+        assertTrue(regCenter.isExisted("/persisted"));
+        assertFalse(regCenter.isExisted("/ephemeral"));
+        regCenter.persistEphemeral("/ephemeral", "");
+        regCenter.expireSession();
+        assertFalse(regCenter.isExisted("/ephemeral"));
+    }
+    
+    @Test
+    public void assertRemoveConnStateListener() throws InterruptedException {
+        BlockingQueue<State> states = new LinkedBlockingQueue<>();
+        regCenter.addConnectionStateChangedEventListener("/listener", (registryCenter, newState) -> states.add(newState));
+        regCenter.removeConnStateListener("/listener");
+        regCenter.expireSession();
+        assertThat(states.poll(200L, TimeUnit.MILLISECONDS), nullValue());
+    }
+    
+    @Test
+    public void assertExpireSessionBeforeInit() {
+        assertThrows(IllegalStateException.class, () -> new MemoryRegistryCenter().expireSession());
+    }
+    
+    @Test
+    public void assertWatchWithoutCache() {
+        assertThrows(IllegalStateException.class, () -> regCenter.watch("/notCached", event -> {
+        }, null));
+    }
+    
+    @Test
+    public void assertWatchReplaysExistingNodes() throws InterruptedException {
+        regCenter.persist("/replay/foo", "foo_value");
+        regCenter.addCacheData("/replay");
+        BlockingQueue<DataChangedEvent> events = new LinkedBlockingQueue<>();
+        regCenter.watch("/replay", events::add, null);
+        regCenter.update("/replay/foo", "new_value");
+        assertEvent(events.poll(5L, TimeUnit.SECONDS), Type.ADDED, "/replay", "");
+        assertEvent(events.poll(5L, TimeUnit.SECONDS), Type.ADDED, "/replay/foo", "foo_value");
+        assertEvent(events.poll(5L, TimeUnit.SECONDS), Type.UPDATED, "/replay/foo", "new_value");
+        assertThat(events.poll(200L, TimeUnit.MILLISECONDS), nullValue());
+    }
+    
+    private void assertEvent(final DataChangedEvent actual, final Type expectedType, final String expectedKey, final String expectedValue) {
+        assertThat(actual.getType(), is(expectedType));
+        assertThat(actual.getKey(), is(expectedKey));
+        assertThat(actual.getValue(), is(expectedValue));
+    }
+    
+    @Test
+    public void assertInitAndCloseRepeatedly() {
+        regCenter.init();
+        regCenter.persistEphemeral("/ephemeral", "");
+        regCenter.close();
+        regCenter.close();
+        assertFalse(dataTree.find("/ephemeral").isPresent());
+        regCenter.init();
+    }
+    
+    @Test
+    public void assertGetRawClient() {
+        assertThat(regCenter.getRawClient(), is(dataTree));
+    }
+}
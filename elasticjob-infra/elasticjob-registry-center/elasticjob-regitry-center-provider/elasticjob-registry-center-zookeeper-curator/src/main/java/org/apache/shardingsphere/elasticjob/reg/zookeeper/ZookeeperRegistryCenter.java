@@ -269,6 +269,19 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
         }
     }
     
+    @Override
+    public boolean isEphemeralOwned(final String key) {
+        try {
+            Stat stat = client.checkExists().forPath(key);
+            return null != stat && stat.getEphemeralOwner() == client.getZookeeperClient().getZooKeeper().getSessionId();
+        //CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+        //CHECKSTYLE:ON
+            RegExceptionHandler.handleException(ex);
+            return false;
+        }
+    }
+    
     @Override
     public String persistSequential(final String key, final String value) {
         try {
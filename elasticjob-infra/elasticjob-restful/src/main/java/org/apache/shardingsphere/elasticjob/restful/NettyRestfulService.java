@@ -24,11 +24,21 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.util.NettyRuntime;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.elasticjob.restful.handler.RouteStatistics;
 import org.apache.shardingsphere.elasticjob.restful.pipeline.RestfulServiceChannelInitializer;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Implemented {@link RestfulService} via Netty.
  */
@@ -46,13 +56,25 @@ public final class NettyRestfulService implements RestfulService {
     
     private EventLoopGroup workerEventLoopGroup;
     
+    private final Map<String, ExecutorService> blockingHandlerExecutors = new LinkedHashMap<>();
+    
+    private RestfulServiceChannelInitializer channelInitializer;
+    
     private void initServerBootstrap() {
         bossEventLoopGroup = new NioEventLoopGroup();
         workerEventLoopGroup = new NioEventLoopGroup(DEFAULT_WORKER_GROUP_THREADS);
+        blockingHandlerExecutors.put("", createBlockingHandlerExecutor("restful-blocking-handler", configuration.getBlockingHandlerThreads(), configuration.getBlockingHandlerQueueCapacity()));
+        configuration.getBlockingHandlerExecutors().forEach((name, executorConfig) ->
+                blockingHandlerExecutors.put(name, createBlockingHandlerExecutor("restful-blocking-handler-" + name, executorConfig.getThreads(), executorConfig.getQueueCapacity())));
+        channelInitializer = new RestfulServiceChannelInitializer(configuration, blockingHandlerExecutors);
         serverBootstrap = new ServerBootstrap()
                 .group(bossEventLoopGroup, workerEventLoopGroup)
                 .channel(NioServerSocketChannel.class)
-                .childHandler(new RestfulServiceChannelInitializer(configuration));
+                .childHandler(channelInitializer);
+    }
+    
+    private ExecutorService createBlockingHandlerExecutor(final String threadNamePrefix, final int threads, final int queueCapacity) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), new DefaultThreadFactory(threadNamePrefix, true));
     }
     
     @SneakyThrows
@@ -78,5 +100,16 @@ public final class NettyRestfulService implements RestfulService {
     public void shutdown() {
         bossEventLoopGroup.shutdownGracefully();
         workerEventLoopGroup.shutdownGracefully();
+        blockingHandlerExecutors.values().forEach(ExecutorService::shutdown);
+        blockingHandlerExecutors.clear();
+    }
+    
+    /**
+     * Get latency statistics of routes.
+     *
+     * @return latency statistics keyed by HTTP method and path pattern
+     */
+    public Map<String, RouteStatistics> getRouteStatistics() {
+        return null == channelInitializer ? Collections.emptyMap() : channelInitializer.getRouteStatistics();
     }
 }
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.elasticjob.restful;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import io.netty.util.NettyRuntime;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -25,6 +27,7 @@ import org.apache.shardingsphere.elasticjob.restful.handler.ExceptionHandler;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -47,12 +50,26 @@ public final class NettyRestfulServiceConfiguration {
     @Setter
     private boolean trailingSlashSensitive;
     
+    /**
+     * Threads of the executor running handle methods annotated with {@link org.apache.shardingsphere.elasticjob.restful.annotation.Blocking}.
+     */
+    @Setter
+    private int blockingHandlerThreads = 2 * NettyRuntime.availableProcessors();
+    
+    /**
+     * Queue capacity of the blocking handler executor. Requests are responded with 503 when the queue is full.
+     */
+    @Setter
+    private int blockingHandlerQueueCapacity = 256;
+    
     private final List<Filter> filterInstances = new LinkedList<>();
     
     private final List<RestfulController> controllerInstances = new LinkedList<>();
     
     private final Map<Class<? extends Throwable>, ExceptionHandler<? extends Throwable>> exceptionHandlers = new HashMap<>();
     
+    private final Map<String, BlockingHandlerExecutorConfiguration> blockingHandlerExecutors = new LinkedHashMap<>();
+    
     /**
      * Add instances of {@link Filter}.
      *
@@ -82,4 +99,29 @@ public final class NettyRestfulServiceConfiguration {
         Preconditions.checkState(!exceptionHandlers.containsKey(exceptionType), "ExceptionHandler for %s has already existed.", exceptionType.getName());
         exceptionHandlers.put(exceptionType, exceptionHandler);
     }
+    
+    /**
+     * Add a named blocking handler executor, selected by handle methods annotated with {@code @Blocking(executor = name)}.
+     *
+     * @param name          name of blocking handler executor
+     * @param threads       threads of blocking handler executor
+     * @param queueCapacity queue capacity of blocking handler executor
+     */
+    public void addBlockingHandlerExecutor(final String name, final int threads, final int queueCapacity) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(name), "Name of blocking handler executor can not be empty.");
+        Preconditions.checkState(!blockingHandlerExecutors.containsKey(name), "Blocking handler executor %s has already existed.", name);
+        blockingHandlerExecutors.put(name, new BlockingHandlerExecutorConfiguration(threads, queueCapacity));
+    }
+    
+    /**
+     * Configuration of a named blocking handler executor.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    public static final class BlockingHandlerExecutorConfiguration {
+        
+        private final int threads;
+        
+        private final int queueCapacity;
+    }
 }
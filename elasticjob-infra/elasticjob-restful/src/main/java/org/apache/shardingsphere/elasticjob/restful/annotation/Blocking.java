@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.restful.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declare that handle methods may block, so they are executed on a blocking handler executor instead of the event loop.
+ * Annotated on a controller, it applies to all handle methods of the controller unless a handle method overrides it.
+ * Handle methods with different latency can be isolated by selecting a named executor added by
+ * {@link org.apache.shardingsphere.elasticjob.restful.NettyRestfulServiceConfiguration#addBlockingHandlerExecutor(String, int, int)}.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Blocking {
+    
+    /**
+     * Whether the handle method is executed on the blocking handler executor.
+     *
+     * @return execute on blocking handler executor or not
+     */
+    boolean value() default true;
+    
+    /**
+     * Name of the blocking handler executor, the default blocking handler executor is used if empty.
+     *
+     * @return name of blocking handler executor
+     */
+    String executor() default "";
+}
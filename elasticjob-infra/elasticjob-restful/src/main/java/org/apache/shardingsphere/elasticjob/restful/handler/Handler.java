@@ -19,6 +19,7 @@ package org.apache.shardingsphere.elasticjob.restful.handler;
 
 import lombok.Getter;
 import org.apache.shardingsphere.elasticjob.restful.Http;
+import org.apache.shardingsphere.elasticjob.restful.annotation.Blocking;
 import org.apache.shardingsphere.elasticjob.restful.annotation.ParamSource;
 import org.apache.shardingsphere.elasticjob.restful.annotation.Param;
 import org.apache.shardingsphere.elasticjob.restful.annotation.RequestBody;
@@ -57,12 +58,27 @@ public final class Handler {
     @Getter
     private final String producing;
     
+    /**
+     * Whether to execute on the blocking handler executor.
+     */
+    @Getter
+    private final boolean blocking;
+    
+    /**
+     * Name of the blocking handler executor, empty for the default one.
+     */
+    @Getter
+    private final String blockingExecutorName;
+    
     public Handler(final Object instance, final Method handleMethod) {
         this.instance = instance;
         this.handleMethod = handleMethod;
         this.handlerParameters = parseHandleMethodParameter();
         this.httpStatusCode = parseReturning();
         this.producing = parseProducing();
+        Blocking blockingAnnotation = findBlocking();
+        this.blocking = null != blockingAnnotation && blockingAnnotation.value();
+        this.blockingExecutorName = null == blockingAnnotation ? "" : blockingAnnotation.executor();
     }
     
     /**
@@ -106,4 +122,9 @@ public final class Handler {
         Returning returning = handleMethod.getAnnotation(Returning.class);
         return Optional.ofNullable(returning).map(Returning::contentType).orElse(Http.DEFAULT_CONTENT_TYPE);
     }
+    
+    private Blocking findBlocking() {
+        Blocking result = handleMethod.getAnnotation(Blocking.class);
+        return null == result ? instance.getClass().getAnnotation(Blocking.class) : result;
+    }
 }
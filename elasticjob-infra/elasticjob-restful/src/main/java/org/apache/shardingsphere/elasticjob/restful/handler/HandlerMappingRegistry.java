@@ -20,7 +20,7 @@ package org.apache.shardingsphere.elasticjob.restful.handler;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import org.apache.shardingsphere.elasticjob.restful.mapping.MappingContext;
-import org.apache.shardingsphere.elasticjob.restful.mapping.RegexUrlPatternMap;
+import org.apache.shardingsphere.elasticjob.restful.mapping.TrieUrlPatternMap;
 import org.apache.shardingsphere.elasticjob.restful.mapping.UrlPatternMap;
 
 import java.util.HashMap;
@@ -54,7 +54,7 @@ public final class HandlerMappingRegistry {
      * @param handler handler
      */
     public void addMapping(final HttpMethod method, final String pathPattern, final Handler handler) {
-        UrlPatternMap<Handler> urlPatternMap = mappings.computeIfAbsent(method, httpMethod -> new RegexUrlPatternMap<>());
+        UrlPatternMap<Handler> urlPatternMap = mappings.computeIfAbsent(method, httpMethod -> new TrieUrlPatternMap<>());
         urlPatternMap.put(pathPattern, handler);
     }
 }
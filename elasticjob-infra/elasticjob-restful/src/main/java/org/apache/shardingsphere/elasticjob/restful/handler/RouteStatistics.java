@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.restful.handler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency statistics of a route, which is identified by HTTP method and path pattern.
+ */
+public final class RouteStatistics {
+    
+    private final LongAdder handledCount = new LongAdder();
+    
+    private final LongAdder rejectedCount = new LongAdder();
+    
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    
+    /**
+     * Record a handled request.
+     *
+     * @param latencyNanos latency in nanoseconds, including time queued for the blocking handler executor
+     */
+    public void recordHandled(final long latencyNanos) {
+        handledCount.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+    
+    /**
+     * Record a rejected request.
+     */
+    public void recordRejected() {
+        rejectedCount.increment();
+    }
+    
+    /**
+     * Get count of handled requests.
+     *
+     * @return count of handled requests
+     */
+    public long getHandledCount() {
+        return handledCount.sum();
+    }
+    
+    /**
+     * Get count of requests rejected because the blocking handler executor was saturated.
+     *
+     * @return count of rejected requests
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+    
+    /**
+     * Get average latency of handled requests.
+     *
+     * @return average latency in milliseconds
+     */
+    public double getAverageLatencyMillis() {
+        long count = handledCount.sum();
+        return 0 == count ? 0D : (double) totalLatencyNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos(1L);
+    }
+    
+    /**
+     * Get max latency of handled requests.
+     *
+     * @return max latency in milliseconds
+     */
+    public long getMaxLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+    }
+}
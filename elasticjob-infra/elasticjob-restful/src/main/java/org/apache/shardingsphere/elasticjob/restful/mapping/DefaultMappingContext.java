@@ -17,20 +17,32 @@
 
 package org.apache.shardingsphere.elasticjob.restful.mapping;
 
-import lombok.RequiredArgsConstructor;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * Default mapping context.
  *
  * @param <T> Type of payload
  */
-@RequiredArgsConstructor
 public final class DefaultMappingContext<T> implements MappingContext<T> {
     
     private final String pattern;
     
     private final T payload;
     
+    private final Map<String, String> templateVariables;
+    
+    public DefaultMappingContext(final String pattern, final T payload) {
+        this(pattern, payload, Collections.emptyMap());
+    }
+    
+    public DefaultMappingContext(final String pattern, final T payload, final Map<String, String> templateVariables) {
+        this.pattern = pattern;
+        this.payload = payload;
+        this.templateVariables = templateVariables;
+    }
+    
     @Override
     public String pattern() {
         return pattern;
@@ -40,4 +52,9 @@ public final class DefaultMappingContext<T> implements MappingContext<T> {
     public T payload() {
         return payload;
     }
+    
+    @Override
+    public Map<String, String> templateVariables() {
+        return templateVariables;
+    }
 }
@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.elasticjob.restful.mapping;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
- * Mapping context will hold a path pattern and a payload.
+ * Mapping context will hold a path pattern, a payload and template variables captured from the matched path.
  *
  * @param <T> payload type
  */
@@ -37,4 +40,14 @@ public interface MappingContext<T> {
      * @return payload
      */
     T payload();
+    
+    /**
+     * Template variables captured from the matched path.
+     * Mapping contexts not capturing variables return an empty map, so the variables are captured from the path pattern on decoding.
+     *
+     * @return map from template name to actual value
+     */
+    default Map<String, String> templateVariables() {
+        return Collections.emptyMap();
+    }
 }
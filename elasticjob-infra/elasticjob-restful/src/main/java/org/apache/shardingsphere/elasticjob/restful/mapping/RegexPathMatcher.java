@@ -67,9 +67,8 @@ public final class RegexPathMatcher implements PathMatcher {
     }
     
     private Pattern getCompiledPattern(final String pathPattern) {
-        String regexPattern = convertToRegexPattern(pathPattern);
-        patternCache.computeIfAbsent(regexPattern, Pattern::compile);
-        return patternCache.get(regexPattern);
+        Pattern result = patternCache.get(pathPattern);
+        return null == result ? patternCache.computeIfAbsent(pathPattern, each -> Pattern.compile(convertToRegexPattern(each))) : result;
     }
     
     private String convertToRegexPattern(final String pathPattern) {
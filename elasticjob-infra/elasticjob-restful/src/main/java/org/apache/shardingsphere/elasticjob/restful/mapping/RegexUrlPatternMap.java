@@ -73,7 +73,8 @@ public final class RegexUrlPatternMap<V> implements UrlPatternMap<V> {
         if (1 < hits.size()) {
             hits.sort(new MappingComparator().reversed());
         }
-        return hits.get(0);
+        MappingContext<V> result = hits.get(0);
+        return new DefaultMappingContext<>(result.pattern(), result.payload(), pathMatcher.captureVariables(result.pattern(), path));
     }
     
     private String unifyPattern(final String pattern) {
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.restful.mapping;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Implemented {@link UrlPatternMap} by a trie of path segments.
+ * Literal segments take precedence over templates, template variables are captured while matching.
+ *
+ * @param <V> Type of payload
+ */
+public final class TrieUrlPatternMap<V> implements UrlPatternMap<V> {
+    
+    private static final char PATH_SEPARATOR = '/';
+    
+    private final PathMatcher pathMatcher = new RegexPathMatcher();
+    
+    private final Node<V> root = new Node<>();
+    
+    @Override
+    public void put(final String pathPattern, final V value) {
+        Objects.requireNonNull(pathPattern, "Path pattern must be not null.");
+        Preconditions.checkArgument(pathMatcher.isValidPathPattern(pathPattern), "Path pattern [%s] invalid.", pathPattern);
+        Node<V> node = root;
+        List<String> templateNames = new ArrayList<>();
+        for (String each : pathPattern.substring(1).split(String.valueOf(PATH_SEPARATOR), -1)) {
+            if (isTemplate(each)) {
+                templateNames.add(each.substring(1, each.length() - 1));
+                node = node.getOrCreateTemplateChild();
+            } else {
+                node = node.literalChildren.computeIfAbsent(each, unused -> new Node<>());
+            }
+        }
+        if (null != node.terminal) {
+            throw new IllegalArgumentException(String.format("Duplicate pattern [%s], conflicts with [%s]", pathPattern, node.terminal.pathPattern));
+        }
+        node.terminal = new Terminal<>(pathPattern, value, templateNames);
+    }
+    
+    @Override
+    public MappingContext<V> match(final String path) {
+        if (path.isEmpty() || PATH_SEPARATOR != path.charAt(0)) {
+            return null;
+        }
+        int queryIndex = path.indexOf('?');
+        String pathWithoutQuery = -1 == queryIndex ? path : path.substring(0, queryIndex);
+        return match(root, pathWithoutQuery, 1, new ArrayList<>());
+    }
+    
+    private MappingContext<V> match(final Node<V> node, final String path, final int begin, final List<String> templateValues) {
+        int end = path.indexOf(PATH_SEPARATOR, begin);
+        String segment = -1 == end ? path.substring(begin) : path.substring(begin, end);
+        Node<V> literalChild = node.literalChildren.get(segment);
+        if (null != literalChild) {
+            MappingContext<V> result = matchChild(literalChild, path, end, templateValues);
+            if (null != result) {
+                return result;
+            }
+        }
+        if (null == node.templateChild || segment.isEmpty()) {
+            return null;
+        }
+        templateValues.add(segment);
+        MappingContext<V> result = matchChild(node.templateChild, path, end, templateValues);
+        if (null == result) {
+            templateValues.remove(templateValues.size() - 1);
+        }
+        return result;
+    }
+    
+    private MappingContext<V> matchChild(final Node<V> child, final String path, final int end, final List<String> templateValues) {
+        if (-1 != end) {
+            return match(child, path, end + 1, templateValues);
+        }
+        return null == child.terminal ? null : child.terminal.createMappingContext(templateValues);
+    }
+    
+    private static boolean isTemplate(final String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+    
+    private static final class Node<V> {
+        
+        private final Map<String, Node<V>> literalChildren = new HashMap<>();
+        
+        private Node<V> templateChild;
+        
+        private Terminal<V> terminal;
+        
+        private Node<V> getOrCreateTemplateChild() {
+            if (null == templateChild) {
+                templateChild = new Node<>();
+            }
+            return templateChild;
+        }
+    }
+    
+    private static final class Terminal<V> {
+        
+        private final String pathPattern;
+        
+        private final V payload;
+        
+        private final List<String> templateNames;
+        
+        private final MappingContext<V> literalMappingContext;
+        
+        private Terminal(final String pathPattern, final V payload, final List<String> templateNames) {
+            this.pathPattern = pathPattern;
+            this.payload = payload;
+            this.templateNames = templateNames;
+            literalMappingContext = templateNames.isEmpty() ? new DefaultMappingContext<>(pathPattern, payload) : null;
+        }
+        
+        private MappingContext<V> createMappingContext(final List<String> templateValues) {
+            if (null != literalMappingContext) {
+                return literalMappingContext;
+            }
+            Map<String, String> templateVariables = new LinkedHashMap<>(templateNames.size(), 1F);
+            for (int i = 0; i < templateNames.size(); i++) {
+                templateVariables.put(templateNames.get(i), templateValues.get(i));
+            }
+            return new DefaultMappingContext<>(pathPattern, payload, Collections.unmodifiableMap(templateVariables));
+        }
+    }
+}
@@ -31,8 +31,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.elasticjob.restful.handler.ExceptionHandleResult;
 import org.apache.shardingsphere.elasticjob.restful.handler.ExceptionHandler;
 import org.apache.shardingsphere.elasticjob.restful.handler.HandlerNotFoundException;
+import org.apache.shardingsphere.elasticjob.restful.handler.HandlerRejectedException;
 import org.apache.shardingsphere.elasticjob.restful.handler.impl.DefaultExceptionHandler;
 import org.apache.shardingsphere.elasticjob.restful.handler.impl.DefaultHandlerNotFoundExceptionHandler;
+import org.apache.shardingsphere.elasticjob.restful.handler.impl.DefaultHandlerRejectedExceptionHandler;
 import org.apache.shardingsphere.elasticjob.restful.serializer.ResponseBodySerializer;
 import org.apache.shardingsphere.elasticjob.restful.serializer.ResponseBodySerializerFactory;
 
@@ -57,6 +59,7 @@ public final class ExceptionHandling extends ChannelInboundHandlerAdapter {
     
     private void initDefaultExceptionHandlers() {
         exceptionHandlers.put(HandlerNotFoundException.class, new DefaultHandlerNotFoundExceptionHandler());
+        exceptionHandlers.put(HandlerRejectedException.class, new DefaultHandlerRejectedExceptionHandler());
     }
     
     private void addCustomExceptionHandlers(final Map<Class<? extends Throwable>, ExceptionHandler<? extends Throwable>> exceptionHandlers) {
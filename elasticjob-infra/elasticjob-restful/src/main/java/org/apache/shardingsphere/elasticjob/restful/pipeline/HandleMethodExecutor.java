@@ -25,43 +25,121 @@ import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.util.ReferenceCountUtil;
+import lombok.Getter;
 import org.apache.shardingsphere.elasticjob.restful.handler.HandleContext;
 import org.apache.shardingsphere.elasticjob.restful.handler.Handler;
+import org.apache.shardingsphere.elasticjob.restful.handler.HandlerRejectedException;
+import org.apache.shardingsphere.elasticjob.restful.handler.RouteStatistics;
 import org.apache.shardingsphere.elasticjob.restful.serializer.ResponseBodySerializer;
 import org.apache.shardingsphere.elasticjob.restful.serializer.ResponseBodySerializerFactory;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * The handler which actually executes handle method and creates HTTP response for responding.
+ * Handle methods declared as blocking are executed on the blocking handler executor they select, others are executed on the event loop.
  * If an exception occurred when executing handle method, this handler would pass it to Handler named {@link ExceptionHandling}.
  */
 @Sharable
 public final class HandleMethodExecutor extends ChannelInboundHandlerAdapter {
     
+    /**
+     * Blocking handler executors keyed by name, the default one is keyed by empty name.
+     */
+    private final Map<String, ? extends Executor> blockingHandlerExecutors;
+    
+    /**
+     * Latency statistics keyed by HTTP method and path pattern.
+     */
+    @Getter
+    private final Map<String, RouteStatistics> routeStatistics = new ConcurrentHashMap<>();
+    
+    public HandleMethodExecutor() {
+        this(Collections.emptyMap());
+    }
+    
+    public HandleMethodExecutor(final Map<String, ? extends Executor> blockingHandlerExecutors) {
+        this.blockingHandlerExecutors = blockingHandlerExecutors;
+    }
+    
     @SuppressWarnings({"unchecked", "NullableProblems"})
     @Override
     public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
         HandleContext<Handler> handleContext = (HandleContext<Handler>) msg;
-        try {
-            Handler handler = handleContext.getMappingContext().payload();
-            Object[] args = handleContext.getArgs();
-            Object handleResult = handler.execute(args);
-            FullHttpResponse httpResponse = handleContext.getHttpResponse();
-            if (null != handleResult) {
-                String mimeType = HttpUtil.getMimeType(handler.getProducing()).toString();
-                ResponseBodySerializer serializer = ResponseBodySerializerFactory.getResponseBodySerializer(mimeType);
-                byte[] bodyBytes = serializer.serialize(handleResult);
-                populateHttpResponse(httpResponse, handler.getProducing(), bodyBytes, handler.getHttpStatusCode());
-            } else {
-                populateHttpResponse(httpResponse, handler.getProducing(), new byte[0], handler.getHttpStatusCode());
+        Handler handler = handleContext.getMappingContext().payload();
+        RouteStatistics statistics = routeStatistics.computeIfAbsent(getRouteKey(handleContext), unused -> new RouteStatistics());
+        long startNanos = System.nanoTime();
+        if (blockingHandlerExecutors.isEmpty() || !handler.isBlocking()) {
+            try {
+                executeHandleMethod(ctx, handleContext, handler, statistics, startNanos);
+            } finally {
+                ReferenceCountUtil.release(handleContext.getHttpRequest());
             }
-            ctx.writeAndFlush(httpResponse);
+            return;
+        }
+        Executor blockingHandlerExecutor = blockingHandlerExecutors.get(handler.getBlockingExecutorName());
+        if (null == blockingHandlerExecutor) {
+            releaseHttpMessages(handleContext);
+            throw new IllegalStateException(String.format("Cannot find blocking handler executor '%s'.", handler.getBlockingExecutorName()));
+        }
+        try {
+            blockingHandlerExecutor.execute(() -> executeBlockingHandleMethod(ctx, handleContext, handler, statistics, startNanos));
+        } catch (final RejectedExecutionException ex) {
+            statistics.recordRejected();
+            String uri = handleContext.getHttpRequest().uri();
+            releaseHttpMessages(handleContext);
+            throw new HandlerRejectedException(uri);
+        }
+    }
+    
+    private void releaseHttpMessages(final HandleContext<Handler> handleContext) {
+        ReferenceCountUtil.release(handleContext.getHttpRequest());
+        ReferenceCountUtil.release(handleContext.getHttpResponse());
+    }
+    
+    private String getRouteKey(final HandleContext<Handler> handleContext) {
+        return handleContext.getHttpRequest().method().name() + " " + handleContext.getMappingContext().pattern();
+    }
+    
+    private void executeBlockingHandleMethod(final ChannelHandlerContext ctx, final HandleContext<Handler> handleContext, final Handler handler,
+                                             final RouteStatistics statistics, final long startNanos) {
+        try {
+            executeHandleMethod(ctx, handleContext, handler, statistics, startNanos);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            exceptionCaught(ctx, ex);
         } finally {
             ReferenceCountUtil.release(handleContext.getHttpRequest());
         }
     }
     
+    private void executeHandleMethod(final ChannelHandlerContext ctx, final HandleContext<Handler> handleContext, final Handler handler,
+                                     final RouteStatistics statistics, final long startNanos) throws InvocationTargetException, IllegalAccessException {
+        Object[] args = handleContext.getArgs();
+        Object handleResult;
+        try {
+            handleResult = handler.execute(args);
+        } finally {
+            statistics.recordHandled(System.nanoTime() - startNanos);
+        }
+        FullHttpResponse httpResponse = handleContext.getHttpResponse();
+        if (null != handleResult) {
+            String mimeType = HttpUtil.getMimeType(handler.getProducing()).toString();
+            ResponseBodySerializer serializer = ResponseBodySerializerFactory.getResponseBodySerializer(mimeType);
+            byte[] bodyBytes = serializer.serialize(handleResult);
+            populateHttpResponse(httpResponse, handler.getProducing(), bodyBytes, handler.getHttpStatusCode());
+        } else {
+            populateHttpResponse(httpResponse, handler.getProducing(), new byte[0], handler.getHttpStatusCode());
+        }
+        ctx.writeAndFlush(httpResponse);
+    }
+    
     private void populateHttpResponse(final FullHttpResponse httpResponse, final String producingContentType, final byte[] bodyBytes, final int statusCode) {
         HttpResponseStatus httpResponseStatus = HttpResponseStatus.valueOf(statusCode);
         httpResponse.setStatus(httpResponseStatus);
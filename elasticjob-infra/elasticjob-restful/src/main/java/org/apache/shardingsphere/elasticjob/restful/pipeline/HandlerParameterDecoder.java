@@ -68,7 +68,7 @@ public final class HandlerParameterDecoder extends ChannelInboundHandlerAdapter
         Handler handler = mappingContext.payload();
         List<HandlerParameter> handlerParameters = handler.getHandlerParameters();
         Map<String, List<String>> queryParameters = parseQuery(httpRequest.uri());
-        Map<String, String> templateVariables = pathMatcher.captureVariables(mappingContext.pattern(), httpRequest.uri());
+        Map<String, String> templateVariables = getTemplateVariables(mappingContext, httpRequest.uri());
         Object[] result = new Object[handlerParameters.size()];
         boolean requestBodyAlreadyParsed = false;
         for (int i = 0; i < handlerParameters.size(); i++) {
@@ -121,6 +121,11 @@ public final class HandlerParameterDecoder extends ChannelInboundHandlerAdapter
         return result;
     }
     
+    private Map<String, String> getTemplateVariables(final MappingContext<Handler> mappingContext, final String uri) {
+        Map<String, String> result = mappingContext.templateVariables();
+        return result.isEmpty() && mappingContext.pattern().contains("{") ? pathMatcher.captureVariables(mappingContext.pattern(), uri) : result;
+    }
+    
     private Map<String, List<String>> parseQuery(final String uri) {
         QueryStringDecoder queryStringDecoder = new QueryStringDecoder(uri);
         return queryStringDecoder.parameters();
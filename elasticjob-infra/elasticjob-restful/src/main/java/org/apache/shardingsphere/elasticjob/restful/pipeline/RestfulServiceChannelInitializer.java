@@ -23,6 +23,11 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
 import org.apache.shardingsphere.elasticjob.restful.NettyRestfulServiceConfiguration;
+import org.apache.shardingsphere.elasticjob.restful.handler.RouteStatistics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Initialize channel pipeline.
@@ -42,11 +47,15 @@ public final class RestfulServiceChannelInitializer extends ChannelInitializer<C
     private final ExceptionHandling exceptionHandling;
     
     public RestfulServiceChannelInitializer(final NettyRestfulServiceConfiguration configuration) {
+        this(configuration, Collections.emptyMap());
+    }
+    
+    public RestfulServiceChannelInitializer(final NettyRestfulServiceConfiguration configuration, final Map<String, ? extends Executor> blockingHandlerExecutors) {
         contextInitializationInboundHandler = new ContextInitializationInboundHandler();
         filterChainInboundHandler = new FilterChainInboundHandler(configuration.getFilterInstances());
         httpRequestDispatcher = new HttpRequestDispatcher(configuration.getControllerInstances(), configuration.isTrailingSlashSensitive());
         handlerParameterDecoder = new HandlerParameterDecoder();
-        handleMethodExecutor = new HandleMethodExecutor();
+        handleMethodExecutor = new HandleMethodExecutor(blockingHandlerExecutors);
         exceptionHandling = new ExceptionHandling(configuration.getExceptionHandlers());
     }
     
@@ -62,4 +71,13 @@ public final class RestfulServiceChannelInitializer extends ChannelInitializer<C
         pipeline.addLast("handleMethodExecutor", handleMethodExecutor);
         pipeline.addLast("exceptionHandling", exceptionHandling);
     }
+    
+    /**
+     * Get latency statistics of routes.
+     *
+     * @return latency statistics keyed by HTTP method and path pattern
+     */
+    public Map<String, RouteStatistics> getRouteStatistics() {
+        return Collections.unmodifiableMap(handleMethodExecutor.getRouteStatistics());
+    }
 }
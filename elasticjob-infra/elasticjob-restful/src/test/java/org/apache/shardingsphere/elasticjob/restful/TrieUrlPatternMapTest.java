@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.restful;
+
+import org.apache.shardingsphere.elasticjob.restful.mapping.MappingContext;
+import org.apache.shardingsphere.elasticjob.restful.mapping.TrieUrlPatternMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class TrieUrlPatternMapTest {
+    
+    @Test
+    public void assertTrieUrlPatternMap() {
+        TrieUrlPatternMap<Integer> urlPatternMap = new TrieUrlPatternMap<>();
+        urlPatternMap.put("/app/{jobName}", 1);
+        urlPatternMap.put("/app/list", 2);
+        urlPatternMap.put("/app/{jobName}/disable", 3);
+        urlPatternMap.put("/app/{jobName}/enable", 4);
+        MappingContext<Integer> mappingContext = urlPatternMap.match("/app/myJob");
+        assertNotNull(mappingContext);
+        assertThat(mappingContext.pattern(), is("/app/{jobName}"));
+        assertThat(mappingContext.payload(), is(1));
+        assertThat(mappingContext.templateVariables(), is(Collections.singletonMap("jobName", "myJob")));
+        mappingContext = urlPatternMap.match("/app/list");
+        assertNotNull(mappingContext);
+        assertThat(mappingContext.pattern(), is("/app/list"));
+        assertThat(mappingContext.payload(), is(2));
+        assertThat(mappingContext.templateVariables(), is(Collections.emptyMap()));
+        mappingContext = urlPatternMap.match("/app/list/disable?force=true");
+        assertNotNull(mappingContext);
+        assertThat(mappingContext.payload(), is(3));
+        assertThat(mappingContext.templateVariables(), is(Collections.singletonMap("jobName", "list")));
+        assertNull(urlPatternMap.match("/job/list"));
+        assertNull(urlPatternMap.match("/app/"));
+        assertNull(urlPatternMap.match("/app/myJob/"));
+    }
+    
+    @Test
+    public void assertAmbiguous() {
+        TrieUrlPatternMap<Integer> urlPatternMap = new TrieUrlPatternMap<>();
+        urlPatternMap.put("/foo/{bar}/{fooName}/status", 10);
+        urlPatternMap.put("/foo/{bar}/operate/{metrics}", 11);
+        MappingContext<Integer> mappingContext = urlPatternMap.match("/foo/barValue/operate/status");
+        assertNotNull(mappingContext);
+        assertThat(mappingContext.pattern(), is("/foo/{bar}/operate/{metrics}"));
+        assertThat(mappingContext.payload(), is(11));
+        assertThat(mappingContext.templateVariables().get("metrics"), is("status"));
+        mappingContext = urlPatternMap.match("/foo/barValue/operate/extra/status");
+        assertNull(mappingContext);
+    }
+    
+    @Test
+    public void assertFallbackToTemplateWhenLiteralMismatched() {
+        TrieUrlPatternMap<Integer> urlPatternMap = new TrieUrlPatternMap<>();
+        urlPatternMap.put("/job/list/", 1);
+        urlPatternMap.put("/job/{jobName}/sharding/", 2);
+        MappingContext<Integer> mappingContext = urlPatternMap.match("/job/list/sharding/");
+        assertNotNull(mappingContext);
+        assertThat(mappingContext.payload(), is(2));
+        assertThat(mappingContext.templateVariables(), is(Collections.singletonMap("jobName", "list")));
+    }
+    
+    @Test
+    public void assertMatchRoot() {
+        TrieUrlPatternMap<Integer> urlPatternMap = new TrieUrlPatternMap<>();
+        urlPatternMap.put("/", 0);
+        assertThat(urlPatternMap.match("/").payload(), is(0));
+        assertNull(urlPatternMap.match(""));
+        assertNull(urlPatternMap.match("/foo"));
+    }
+    
+    @Test
+    public void assertDuplicate() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            TrieUrlPatternMap<Integer> urlPatternMap = new TrieUrlPatternMap<>();
+            urlPatternMap.put("/app/{jobName}/enable", 0);
+            urlPatternMap.put("/app/{jobName}", 1);
+            urlPatternMap.put("/app/{appName}", 2);
+        });
+    }
+    
+    @Test
+    public void assertInvalidPattern() {
+        assertThrows(IllegalArgumentException.class, () -> new TrieUrlPatternMap<Integer>().put("app/{jobName}", 0));
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.restful.pipeline;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.apache.shardingsphere.elasticjob.restful.Http;
+import org.apache.shardingsphere.elasticjob.restful.RestfulController;
+import org.apache.shardingsphere.elasticjob.restful.annotation.Blocking;
+import org.apache.shardingsphere.elasticjob.restful.annotation.ContextPath;
+import org.apache.shardingsphere.elasticjob.restful.annotation.Mapping;
+import org.apache.shardingsphere.elasticjob.restful.handler.RouteStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class HandleMethodExecutorTest {
+    
+    private final ExecutorService blockingHandlerExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "blocking-handler-test"));
+    
+    private final ExecutorService namedBlockingHandlerExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "named-blocking-handler-test"));
+    
+    private HandleMethodExecutor handleMethodExecutor;
+    
+    @AfterEach
+    public void tearDown() {
+        blockingHandlerExecutor.shutdownNow();
+        namedBlockingHandlerExecutor.shutdownNow();
+    }
+    
+    @Test
+    public void assertExecuteNonBlockingHandlerOnEventLoop() {
+        EmbeddedChannel channel = createChannel(Collections.singletonMap("", blockingHandlerExecutor));
+        channel.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/executor/non-blocking"));
+        FullHttpResponse httpResponse = channel.readOutbound();
+        assertThat(httpResponse.status().code(), is(200));
+        assertThat(new String(ByteBufUtil.getBytes(httpResponse.content()), StandardCharsets.UTF_8), is(Thread.currentThread().getName()));
+        assertThat(handleMethodExecutor.getRouteStatistics().get("GET /executor/non-blocking/").getHandledCount(), is(1L));
+    }
+    
+    @Test
+    public void assertExecuteBlockingHandlerOnBlockingHandlerExecutor() throws InterruptedException, ExecutionException, TimeoutException {
+        EmbeddedChannel channel = createChannel(Collections.singletonMap("", blockingHandlerExecutor));
+        channel.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/executor/blocking"));
+        FullHttpResponse httpResponse = awaitResponse(channel);
+        assertThat(httpResponse.status().code(), is(200));
+        assertThat(new String(ByteBufUtil.getBytes(httpResponse.content()), StandardCharsets.UTF_8), is("blocking-handler-test"));
+        RouteStatistics statistics = handleMethodExecutor.getRouteStatistics().get("GET /executor/blocking/");
+        assertThat(statistics.getHandledCount(), is(1L));
+        assertThat(statistics.getRejectedCount(), is(0L));
+    }
+    
+    @Test
+    public void assertExecuteBlockingHandlerWithoutBlockingHandlerExecutor() {
+        EmbeddedChannel channel = createChannel(Collections.emptyMap());
+        channel.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/executor/blocking"));
+        FullHttpResponse httpResponse = channel.readOutbound();
+        assertThat(httpResponse.status().code(), is(200));
+        assertThat(new String(ByteBufUtil.getBytes(httpResponse.content()), StandardCharsets.UTF_8), is(Thread.currentThread().getName()));
+    }
+    
+    @Test
+    public void assertExecuteBlockingHandlerThrowsException() throws InterruptedException, ExecutionException, TimeoutException {
+        EmbeddedChannel channel = createChannel(Collections.singletonMap("", blockingHandlerExecutor));
+        channel.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/executor/blocking/throw"));
+        FullHttpResponse httpResponse = awaitResponse(channel);
+        assertThat(httpResponse.status().code(), is(500));
+        assertThat(new String(ByteBufUtil.getBytes(httpResponse.content()), StandardCharsets.UTF_8), is("Thrown on blocking handler executor."));
+    }
+    
+    @Test
+    public void assertRejectBlockingHandlerWhenExecutorSaturated() {
+        Executor rejectingExecutor = command -> {
+            throw new RejectedExecutionException();
+        };
+        EmbeddedChannel channel = createChannel(Collections.singletonMap("", rejectingExecutor));
+        channel.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/executor/blocking"));
+        FullHttpResponse httpResponse = channel.readOutbound();
+        assertThat(httpResponse.status().code(), is(503));
+        assertThat(new String(ByteBufUtil.getBytes(httpResponse.content()), StandardCharsets.UTF_8), startsWith("Handler for [/executor/blocking/]"));
+        RouteStatistics statistics = handleMethodExecutor.getRouteStatistics().get("GET /executor/blocking/");
+        assertThat(statistics.getHandledCount(), is(0L));
+        assertThat(statistics.getRejectedCount(), is(1L));
+    }
+    
+    @Test
+    public void assertExecuteBlockingHandlerOnNamedBlockingHandlerExecutor() throws InterruptedException, ExecutionException, TimeoutException {
+        Map<String, Executor> executors = new HashMap<>(2, 1F);
+        executors.put("", blockingHandlerExecutor);
+        executors.put("named", namedBlockingHandlerExecutor);
+        EmbeddedChannel channel = createChannel(executors);
+        channel.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/executor/blocking/named"));
+        namedBlockingHandlerExecutor.submit(() -> { }).get(5L, TimeUnit.SECONDS);
+        FullHttpResponse httpResponse = channel.readOutbound();
+        assertThat(httpResponse.status().code(), is(200));
+        assertThat(new String(ByteBufUtil.getBytes(httpResponse.content()), StandardCharsets.UTF_8), is("named-blocking-handler-test"));
+    }
+    
+    @Test
+    public void assertExecuteBlockingHandlerWithoutNamedBlockingHandlerExecutor() {
+        EmbeddedChannel channel = createChannel(Collections.singletonMap("", blockingHandlerExecutor));
+        channel.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/executor/blocking/named"));
+        FullHttpResponse httpResponse = channel.readOutbound();
+        assertThat(httpResponse.status().code(), is(500));
+        assertThat(new String(ByteBufUtil.getBytes(httpResponse.content()), StandardCharsets.UTF_8), is("Cannot find blocking handler executor 'named'."));
+    }
+    
+    private EmbeddedChannel createChannel(final Map<String, Executor> executors) {
+        handleMethodExecutor = new HandleMethodExecutor(executors);
+        return new EmbeddedChannel(new ContextInitializationInboundHandler(), new HttpRequestDispatcher(Collections.singletonList(new ExecutorTestController()), false),
+                new HandlerParameterDecoder(), handleMethodExecutor, new ExceptionHandling(Collections.emptyMap()));
+    }
+    
+    private FullHttpResponse awaitResponse(final EmbeddedChannel channel) throws InterruptedException, ExecutionException, TimeoutException {
+        blockingHandlerExecutor.submit(() -> { }).get(5L, TimeUnit.SECONDS);
+        return channel.readOutbound();
+    }
+    
+    @ContextPath("/executor")
+    public static class ExecutorTestController implements RestfulController {
+        
+        /**
+         * A handle method executed on the event loop.
+         *
+         * @return name of executing thread
+         */
+        @Mapping(method = Http.GET, path = "/non-blocking")
+        public String nonBlocking() {
+            return Thread.currentThread().getName();
+        }
+        
+        /**
+         * A handle method executed on the blocking handler executor.
+         *
+         * @return name of executing thread
+         */
+        @Blocking
+        @Mapping(method = Http.GET, path = "/blocking")
+        public String blocking() {
+            return Thread.currentThread().getName();
+        }
+        
+        /**
+         * A handle method throws exception on the blocking handler executor.
+         *
+         * @return nothing
+         */
+        @Blocking
+        @Mapping(method = Http.GET, path = "/blocking/throw")
+        public String blockingThrow() {
+            throw new IllegalStateException("Thrown on blocking handler executor.");
+        }
+        
+        /**
+         * A handle method executed on the named blocking handler executor.
+         *
+         * @return name of executing thread
+         */
+        @Blocking(executor = "named")
+        @Mapping(method = Http.GET, path = "/blocking/named")
+        public String blockingNamed() {
+            return Thread.currentThread().getName();
+        }
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.elasticjob.restful.pipeline;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
@@ -35,6 +37,10 @@ import org.apache.shardingsphere.elasticjob.restful.annotation.Mapping;
 import org.apache.shardingsphere.elasticjob.restful.annotation.Param;
 import org.apache.shardingsphere.elasticjob.restful.annotation.ParamSource;
 import org.apache.shardingsphere.elasticjob.restful.annotation.RequestBody;
+import org.apache.shardingsphere.elasticjob.restful.handler.HandleContext;
+import org.apache.shardingsphere.elasticjob.restful.handler.Handler;
+import org.apache.shardingsphere.elasticjob.restful.mapping.DefaultMappingContext;
+import org.apache.shardingsphere.elasticjob.restful.mapping.MappingContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -58,6 +64,23 @@ public final class HandlerParameterDecoderTest {
     
     @Test
     public void assertDecodeParameters() {
+        channel.writeInbound(createHttpRequest());
+        FullHttpResponse httpResponse = channel.readOutbound();
+        assertThat(httpResponse.status().code(), is(200));
+        assertThat(new String(ByteBufUtil.getBytes(httpResponse.content())), is("ok"));
+    }
+    
+    @Test
+    public void assertDecodeParametersWithoutCapturedTemplateVariables() {
+        channel = new EmbeddedChannel(new ContextInitializationInboundHandler(), new HttpRequestDispatcher(Collections.singletonList(new DecoderTestController()), false),
+                new TemplateVariablesDroppingHandler(), new HandlerParameterDecoder(), new HandleMethodExecutor());
+        channel.writeInbound(createHttpRequest());
+        FullHttpResponse httpResponse = channel.readOutbound();
+        assertThat(httpResponse.status().code(), is(200));
+        assertThat(new String(ByteBufUtil.getBytes(httpResponse.content())), is("ok"));
+    }
+    
+    private FullHttpRequest createHttpRequest() {
         QueryStringEncoder queryStringEncoder = new QueryStringEncoder("/myApp/C");
         queryStringEncoder.addParam("cron", "0 * * * * ?");
         queryStringEncoder.addParam("integer", "30");
@@ -68,11 +91,19 @@ public final class HandlerParameterDecoderTest {
         ByteBuf body = Unpooled.wrappedBuffer("BODY".getBytes());
         HttpHeaders headers = new DefaultHttpHeaders();
         headers.set("Message", "some_message");
-        FullHttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri, body, headers, headers);
-        channel.writeInbound(httpRequest);
-        FullHttpResponse httpResponse = channel.readOutbound();
-        assertThat(httpResponse.status().code(), is(200));
-        assertThat(new String(ByteBufUtil.getBytes(httpResponse.content())), is("ok"));
+        return new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri, body, headers, headers);
+    }
+    
+    private static final class TemplateVariablesDroppingHandler extends ChannelInboundHandlerAdapter {
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            HandleContext<Handler> handleContext = (HandleContext<Handler>) msg;
+            MappingContext<Handler> mappingContext = handleContext.getMappingContext();
+            handleContext.setMappingContext(new DefaultMappingContext<>(mappingContext.pattern(), mappingContext.payload()));
+            ctx.fireChannelRead(handleContext);
+        }
     }
     
     public static class DecoderTestController implements RestfulController {
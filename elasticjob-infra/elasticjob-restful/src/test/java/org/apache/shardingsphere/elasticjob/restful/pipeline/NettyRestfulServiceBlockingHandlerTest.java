@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.restful.pipeline;
+
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.elasticjob.restful.Http;
+import org.apache.shardingsphere.elasticjob.restful.NettyRestfulService;
+import org.apache.shardingsphere.elasticjob.restful.NettyRestfulServiceConfiguration;
+import org.apache.shardingsphere.elasticjob.restful.RestfulController;
+import org.apache.shardingsphere.elasticjob.restful.annotation.Blocking;
+import org.apache.shardingsphere.elasticjob.restful.annotation.ContextPath;
+import org.apache.shardingsphere.elasticjob.restful.annotation.Mapping;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class NettyRestfulServiceBlockingHandlerTest {
+    
+    private static final long TESTCASE_TIMEOUT = 10000L;
+    
+    private static final String HOST = "localhost";
+    
+    private static final int PORT = 18083;
+    
+    private static final CountDownLatch SLOW_HANDLER_ENTERED = new CountDownLatch(1);
+    
+    private static final CountDownLatch SLOW_HANDLER_RELEASED = new CountDownLatch(1);
+    
+    private static NettyRestfulService restfulService;
+    
+    @BeforeAll
+    public static void init() {
+        NettyRestfulServiceConfiguration configuration = new NettyRestfulServiceConfiguration(PORT);
+        configuration.setHost(HOST);
+        configuration.setBlockingHandlerThreads(1);
+        configuration.setBlockingHandlerQueueCapacity(1);
+        configuration.addBlockingHandlerExecutor("slow", 1, 1);
+        configuration.addControllerInstances(new MixedLatencyController());
+        restfulService = new NettyRestfulService(configuration);
+        restfulService.startup();
+    }
+    
+    @SneakyThrows
+    @Test
+    @Timeout(value = TESTCASE_TIMEOUT, unit = TimeUnit.MILLISECONDS)
+    public void assertFastHandlersNotStalledBySlowBlockingHandler() {
+        ExecutorService client = Executors.newSingleThreadExecutor();
+        try {
+            AtomicInteger slowStatusCode = new AtomicInteger();
+            client.submit(() -> request("/mixed/slow", slowStatusCode));
+            assertThat(SLOW_HANDLER_ENTERED.await(TESTCASE_TIMEOUT, TimeUnit.MILLISECONDS), is(true));
+            assertRequestsSucceed("/mixed/fast", 100);
+            assertRequestsSucceed("/mixed/blocking-fast", 100);
+            SLOW_HANDLER_RELEASED.countDown();
+            client.shutdown();
+            assertThat(client.awaitTermination(TESTCASE_TIMEOUT, TimeUnit.MILLISECONDS), is(true));
+            assertThat(slowStatusCode.get(), is(200));
+            assertThat(restfulService.getRouteStatistics().get("GET /mixed/fast/").getHandledCount(), is(100L));
+            assertThat(restfulService.getRouteStatistics().get("GET /mixed/blocking-fast/").getHandledCount(), is(100L));
+            assertThat(restfulService.getRouteStatistics().get("GET /mixed/slow/").getHandledCount(), is(1L));
+        } finally {
+            client.shutdownNow();
+        }
+    }
+    
+    private void assertRequestsSucceed(final String uri, final int count) {
+        for (int i = 0; i < count; i++) {
+            AtomicInteger statusCode = new AtomicInteger();
+            request(uri, statusCode);
+            assertThat(statusCode.get(), is(200));
+        }
+    }
+    
+    private void request(final String uri, final AtomicInteger statusCode) {
+        DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+        HttpClient.request(HOST, PORT, request, httpResponse -> statusCode.set(httpResponse.status().code()), TESTCASE_TIMEOUT);
+    }
+    
+    @AfterAll
+    public static void tearDown() {
+        if (null != restfulService) {
+            restfulService.shutdown();
+        }
+    }
+    
+    @ContextPath("/mixed")
+    public static class MixedLatencyController implements RestfulController {
+        
+        /**
+         * A handle method responds immediately on the event loop.
+         *
+         * @return a string
+         */
+        @Mapping(method = Http.GET, path = "/fast")
+        public String fast() {
+            return "fast";
+        }
+        
+        /**
+         * A blocking handle method responds immediately on the default blocking handler executor.
+         *
+         * @return a string
+         */
+        @Blocking
+        @Mapping(method = Http.GET, path = "/blocking-fast")
+        public String blockingFast() {
+            return "blocking-fast";
+        }
+        
+        /**
+         * A handle method blocks until released on its own blocking handler executor.
+         *
+         * @return a string
+         * @throws InterruptedException interrupted while waiting for release
+         */
+        @Blocking(executor = "slow")
+        @Mapping(method = Http.GET, path = "/slow")
+        public String slow() throws InterruptedException {
+            SLOW_HANDLER_ENTERED.countDown();
+            SLOW_HANDLER_RELEASED.await(TESTCASE_TIMEOUT, TimeUnit.MILLISECONDS);
+            return "slow";
+        }
+    }
+}
@@ -61,6 +61,15 @@ public final class OneOffJobBootstrap implements JobBootstrap {
         instanceService.triggerAllInstances();
     }
     
+    /**
+     * Execute job with trigger parameter, which replaces job parameter for this execution.
+     * 
+     * @param triggerParameter trigger parameter
+     */
+    public void execute(final String triggerParameter) {
+        instanceService.triggerAllInstances(triggerParameter);
+    }
+    
     @Override
     public void shutdown() {
         jobScheduler.shutdown();
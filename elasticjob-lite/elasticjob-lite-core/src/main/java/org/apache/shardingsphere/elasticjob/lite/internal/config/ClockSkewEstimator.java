@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.elasticjob.infra.env.TimeService;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Clock skew estimator shared by all jobs of one registry center.
+ * 
+ * <p>The registry center time is sampled at most once per sample interval and again after reconnecting,
+ * the offset between registry center and local clock is served from the latest sample in between.</p>
+ */
+public final class ClockSkewEstimator {
+    
+    private static final long SAMPLE_INTERVAL_MILLISECONDS = Long.getLong("elasticjob.clock.sample.interval.milliseconds", 60000L);
+    
+    private static final Map<CoordinatorRegistryCenter, ClockSkewEstimator> INSTANCES = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private final TimeService timeService;
+    
+    private final long sampleIntervalMilliseconds;
+    
+    private volatile ClockOffset latest;
+    
+    ClockSkewEstimator(final TimeService timeService, final long sampleIntervalMilliseconds) {
+        this.timeService = timeService;
+        this.sampleIntervalMilliseconds = sampleIntervalMilliseconds;
+    }
+    
+    /**
+     * Get clock skew estimator of registry center.
+     * 
+     * @param regCenter registry center
+     * @return clock skew estimator
+     */
+    public static ClockSkewEstimator getInstance(final CoordinatorRegistryCenter regCenter) {
+        return INSTANCES.computeIfAbsent(regCenter, unused -> new ClockSkewEstimator(new TimeService(), SAMPLE_INTERVAL_MILLISECONDS));
+    }
+    
+    /**
+     * Estimate clock offset, sample registry center time only if the latest sample is expired.
+     * 
+     * @param registryCenterTimeSampler sampler of registry center time
+     * @return clock offset
+     */
+    public ClockOffset estimate(final LongSupplier registryCenterTimeSampler) {
+        ClockOffset result = latest;
+        if (isFresh(result)) {
+            return result;
+        }
+        synchronized (this) {
+            result = latest;
+            if (!isFresh(result)) {
+                result = sample(registryCenterTimeSampler);
+                latest = result;
+            }
+            return result;
+        }
+    }
+    
+    private boolean isFresh(final ClockOffset clockOffset) {
+        if (null == clockOffset) {
+            return false;
+        }
+        long age = timeService.getCurrentMillis() - clockOffset.getSampledTimeMillis();
+        return age >= 0 && age < sampleIntervalMilliseconds;
+    }
+    
+    private ClockOffset sample(final LongSupplier registryCenterTimeSampler) {
+        long requestTime = timeService.getCurrentMillis();
+        long registryCenterTime = registryCenterTimeSampler.getAsLong();
+        long responseTime = timeService.getCurrentMillis();
+        long halfRoundTrip = Math.max(0L, responseTime - requestTime) / 2;
+        return new ClockOffset(registryCenterTime - (requestTime + halfRoundTrip), halfRoundTrip, responseTime);
+    }
+    
+    /**
+     * Get the latest clock offset without sampling.
+     * 
+     * @return the latest clock offset, null if never sampled or invalidated
+     */
+    public ClockOffset getLatest() {
+        return latest;
+    }
+    
+    /**
+     * Invalidate the latest sample, the next estimation samples registry center time again.
+     */
+    public void invalidate() {
+        latest = null;
+    }
+    
+    /**
+     * Clock offset between registry center and local clock.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @Getter
+    public static final class ClockOffset {
+        
+        /**
+         * Registry center time minus local time.
+         */
+        private final long offsetMillis;
+        
+        /**
+         * Max error of the offset, which is half of the sampling round trip.
+         */
+        private final long uncertaintyMillis;
+        
+        /**
+         * Local time when sampled.
+         */
+        private final long sampledTimeMillis;
+        
+        /**
+         * Get the smallest clock skew consistent with the sample.
+         * 
+         * @return smallest clock skew in milliseconds
+         */
+        public long getMinSkewMillis() {
+            return Math.max(0L, Math.abs(offsetMillis) - uncertaintyMillis);
+        }
+        
+        /**
+         * Get the largest clock skew consistent with the sample.
+         * 
+         * @return largest clock skew in milliseconds
+         */
+        public long getMaxSkewMillis() {
+            return Math.abs(offsetMillis) + uncertaintyMillis;
+        }
+    }
+}
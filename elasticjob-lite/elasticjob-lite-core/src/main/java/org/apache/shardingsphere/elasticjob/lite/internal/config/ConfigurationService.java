@@ -22,9 +22,9 @@ import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.infra.exception.JobConfigurationException;
 import org.apache.shardingsphere.elasticjob.infra.exception.JobExecutionEnvironmentException;
 import org.apache.shardingsphere.elasticjob.infra.pojo.JobConfigurationPOJO;
+import org.apache.shardingsphere.elasticjob.lite.internal.config.ClockSkewEstimator.ClockOffset;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
-import org.apache.shardingsphere.elasticjob.infra.env.TimeService;
 import org.apache.shardingsphere.elasticjob.infra.yaml.YamlEngine;
 
 /**
@@ -32,13 +32,13 @@ import org.apache.shardingsphere.elasticjob.infra.yaml.YamlEngine;
  */
 public final class ConfigurationService {
     
-    private final TimeService timeService;
+    private final ClockSkewEstimator clockSkewEstimator;
     
     private final JobNodeStorage jobNodeStorage;
     
     public ConfigurationService(final CoordinatorRegistryCenter regCenter, final String jobName) {
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
-        timeService = new TimeService();
+        clockSkewEstimator = ClockSkewEstimator.getInstance(regCenter);
     }
     
     /**
@@ -95,6 +95,9 @@ public final class ConfigurationService {
     /**
      * Check max time different seconds tolerable between job server and registry center.
      * 
+     * <p>The sampled offset is only accurate to half of the sampling round trip. The check fails only if even the smallest possible skew exceeds the tolerance,
+     * and a sample which can not tell either way is dropped, so the next check samples again instead of trusting it for the whole sample interval.</p>
+     * 
      * @throws JobExecutionEnvironmentException throe JobExecutionEnvironmentException if exceed max time different seconds
      */
     public void checkMaxTimeDiffSecondsTolerable() throws JobExecutionEnvironmentException {
@@ -102,10 +105,15 @@ public final class ConfigurationService {
         if (0 > maxTimeDiffSeconds) {
             return;
         }
-        long timeDiff = Math.abs(timeService.getCurrentMillis() - jobNodeStorage.getRegistryCenterTime());
-        if (timeDiff > maxTimeDiffSeconds * 1000L) {
+        ClockOffset clockOffset = clockSkewEstimator.estimate(jobNodeStorage::getRegistryCenterTime);
+        long maxTimeDiffMillis = maxTimeDiffSeconds * 1000L;
+        if (clockOffset.getMaxSkewMillis() <= maxTimeDiffMillis) {
+            return;
+        }
+        clockSkewEstimator.invalidate();
+        if (clockOffset.getMinSkewMillis() > maxTimeDiffMillis) {
             throw new JobExecutionEnvironmentException(
-                    "Time different between job server and register center exceed '%s' seconds, max time different is '%s' seconds.", timeDiff / 1000, maxTimeDiffSeconds);
+                    "Time different between job server and register center exceed '%s' seconds, max time different is '%s' seconds.", clockOffset.getMinSkewMillis() / 1000, maxTimeDiffSeconds);
         }
     }
 }
@@ -17,11 +17,13 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.instance;
 
+import com.google.common.base.Strings;
 import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.infra.yaml.YamlEngine;
 import org.apache.shardingsphere.elasticjob.lite.internal.server.ServerService;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.lite.internal.trigger.TriggerNode;
+import org.apache.shardingsphere.elasticjob.lite.internal.trigger.TriggerService;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 
 import java.util.LinkedList;
@@ -49,11 +51,25 @@ public final class InstanceService {
     
     /**
      * Persist job online status.
+     * 
+     * <p>The trigger queue of the instance is marked as consumed before, so that it is taken over by other instances once the instance is offline.</p>
      */
     public void persistOnline() {
+        jobNodeStorage.replaceJobNode(triggerNode.getLocalQueuePath(), TriggerNode.CONSUMED_QUEUE_DATA);
         jobNodeStorage.fillEphemeralJobNode(instanceNode.getLocalInstancePath(), instanceNode.getLocalInstanceValue());
     }
     
+    /**
+     * Persist job online status if the instance node is not owned by the current session, which is the case only when the registry center session was lost.
+     * 
+     * <p>The instance node of an expired session may still exist until registry center removes it, so it is re-created as well.</p>
+     */
+    public void persistOnlineIfAbsent() {
+        if (!jobNodeStorage.isEphemeralJobNodeOwned(instanceNode.getLocalInstancePath())) {
+            persistOnline();
+        }
+    }
+    
     /**
      * Persist job instance.
      */
@@ -90,7 +106,24 @@ public final class InstanceService {
      * Trigger all instances.
      */
     public void triggerAllInstances() {
+        triggerAllInstances(null);
+    }
+    
+    /**
+     * Trigger all instances with trigger parameter.
+     * 
+     * <p>
+     * One trigger is queued for each instance, all with the same trigger id.
+     * The legacy trigger flag carrying the trigger id is written as well, so that instances of the previous release are still triggered.
+     * </p>
+     * 
+     * @param triggerParameter trigger parameter, null means using job parameter
+     */
+    public void triggerAllInstances(final String triggerParameter) {
+        String triggerId = TriggerService.generateTriggerId();
+        List<String> instanceIds = jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT);
+        instanceIds.forEach(each -> jobNodeStorage.fillJobNode(triggerNode.getQueuedTriggerPath(each, triggerId), Strings.nullToEmpty(triggerParameter)));
         jobNodeStorage.removeJobNodeIfExisted(triggerNode.getTriggerRoot());
-        jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT).forEach(each -> jobNodeStorage.createJobNodeIfNeeded(triggerNode.getTriggerPath(each)));
+        instanceIds.forEach(each -> jobNodeStorage.fillJobNode(triggerNode.getTriggerPath(each), triggerId));
     }
 }
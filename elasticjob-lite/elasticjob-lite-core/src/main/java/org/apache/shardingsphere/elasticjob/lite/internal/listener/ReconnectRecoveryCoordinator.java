@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.shardingsphere.elasticjob.lite.internal.config.ClockSkewEstimator;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Reconnect recovery coordinator shared by all jobs of one registry center.
+ * 
+ * <p>Jobs reporting reconnection within one batch window are recovered together:
+ * instance nodes are re-created only if the session was lost, so each job reshards at most once per session,
+ * server status and running info of all jobs are written in a few multi-operation transactions,
+ * and schedulers are resumed with a random delay to spread the load of the whole cluster.
+ * A job whose recovery failed is retried in the next batch window, and resumed anyway after the retries are exhausted.</p>
+ */
+@Slf4j
+public final class ReconnectRecoveryCoordinator {
+    
+    private static final long BATCH_WINDOW_MILLISECONDS = Long.getLong("elasticjob.reconnect.batch.window.milliseconds", 200L);
+    
+    private static final long MAX_RESUME_JITTER_MILLISECONDS = Long.getLong("elasticjob.reconnect.resume.jitter.milliseconds", 3000L);
+    
+    private static final int MAX_OPERATIONS_PER_TRANSACTION = 128;
+    
+    private static final int MAX_RECOVERY_ATTEMPTS = 3;
+    
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+            new BasicThreadFactory.Builder().namingPattern(String.join("-", "elasticjob-reconnect-recovery", "%s")).daemon(true).build());
+    
+    private static final Map<CoordinatorRegistryCenter, ReconnectRecoveryCoordinator> INSTANCES = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private final CoordinatorRegistryCenter regCenter;
+    
+    private final ScheduledExecutorService executor;
+    
+    private final long batchWindowMilliseconds;
+    
+    private final long maxResumeJitterMilliseconds;
+    
+    private final Map<String, RegistryCenterConnectionStateListener> pendingListeners = new LinkedHashMap<>();
+    
+    private final Map<String, Integer> failedAttempts = new HashMap<>();
+    
+    private boolean recoveryScheduled;
+    
+    private volatile long connectionGeneration;
+    
+    ReconnectRecoveryCoordinator(final CoordinatorRegistryCenter regCenter, final ScheduledExecutorService executor, final long batchWindowMilliseconds, final long maxResumeJitterMilliseconds) {
+        this.regCenter = regCenter;
+        this.executor = executor;
+        this.batchWindowMilliseconds = batchWindowMilliseconds;
+        this.maxResumeJitterMilliseconds = maxResumeJitterMilliseconds;
+    }
+    
+    /**
+     * Get reconnect recovery coordinator of registry center.
+     * 
+     * @param regCenter registry center
+     * @return reconnect recovery coordinator
+     */
+    public static ReconnectRecoveryCoordinator getInstance(final CoordinatorRegistryCenter regCenter) {
+        return INSTANCES.computeIfAbsent(regCenter, unused -> new ReconnectRecoveryCoordinator(regCenter, EXECUTOR, BATCH_WINDOW_MILLISECONDS, MAX_RESUME_JITTER_MILLISECONDS));
+    }
+    
+    /**
+     * Recover job after reconnected, the recovery is deferred to the end of current batch window.
+     * 
+     * @param listener connection state listener of the job
+     */
+    public synchronized void recover(final RegistryCenterConnectionStateListener listener) {
+        pendingListeners.put(listener.getJobName(), listener);
+        if (!recoveryScheduled) {
+            recoveryScheduled = true;
+            executor.schedule(this::recoverPendingJobs, batchWindowMilliseconds, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Cancel pending recoveries and resumes because the connection is unavailable again.
+     */
+    public synchronized void cancel() {
+        connectionGeneration++;
+        pendingListeners.clear();
+        failedAttempts.clear();
+    }
+    
+    void recoverPendingJobs() {
+        Collection<RegistryCenterConnectionStateListener> listeners;
+        long generation;
+        synchronized (this) {
+            listeners = new ArrayList<>(pendingListeners.values());
+            pendingListeners.clear();
+            recoveryScheduled = false;
+            generation = connectionGeneration;
+        }
+        if (listeners.isEmpty()) {
+            return;
+        }
+        ClockSkewEstimator.getInstance(regCenter).invalidate();
+        Map<RegistryCenterConnectionStateListener, List<TransactionOperation>> recoveryOperations = new LinkedHashMap<>(listeners.size(), 1F);
+        Collection<RegistryCenterConnectionStateListener> failedListeners = new ArrayList<>();
+        for (RegistryCenterConnectionStateListener each : listeners) {
+            if (each.isShutdown()) {
+                continue;
+            }
+            try {
+                each.persistInstanceOnline();
+                recoveryOperations.put(each, each.getRecoveryOperations());
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                log.error("Recover job '{}' after reconnected failure.", each.getJobName(), ex);
+                failedListeners.add(each);
+            }
+        }
+        failedListeners.addAll(executeRecoveryOperations(recoveryOperations));
+        for (RegistryCenterConnectionStateListener each : recoveryOperations.keySet()) {
+            if (!failedListeners.contains(each)) {
+                clearFailedAttempts(each);
+                scheduleResume(each, generation);
+            }
+        }
+        failedListeners.forEach(each -> retryOrResume(each, generation));
+    }
+    
+    private Collection<RegistryCenterConnectionStateListener> executeRecoveryOperations(final Map<RegistryCenterConnectionStateListener, List<TransactionOperation>> recoveryOperations) {
+        Collection<RegistryCenterConnectionStateListener> result = new ArrayList<>();
+        List<TransactionOperation> batchOperations = new ArrayList<>(MAX_OPERATIONS_PER_TRANSACTION);
+        List<RegistryCenterConnectionStateListener> batchListeners = new ArrayList<>();
+        for (Entry<RegistryCenterConnectionStateListener, List<TransactionOperation>> entry : recoveryOperations.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            if (!batchOperations.isEmpty() && batchOperations.size() + entry.getValue().size() > MAX_OPERATIONS_PER_TRANSACTION) {
+                result.addAll(executeInTransaction(batchOperations, batchListeners));
+                batchOperations = new ArrayList<>(MAX_OPERATIONS_PER_TRANSACTION);
+                batchListeners = new ArrayList<>();
+            }
+            batchOperations.addAll(entry.getValue());
+            batchListeners.add(entry.getKey());
+        }
+        if (!batchOperations.isEmpty()) {
+            result.addAll(executeInTransaction(batchOperations, batchListeners));
+        }
+        return result;
+    }
+    
+    private Collection<RegistryCenterConnectionStateListener> executeInTransaction(final List<TransactionOperation> operations, final List<RegistryCenterConnectionStateListener> listeners) {
+        try {
+            regCenter.executeInTransaction(operations);
+            return Collections.emptyList();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Recover {} jobs in transaction failure, recover them one by one.", listeners.size(), ex);
+            return listeners.stream().filter(each -> !recoverOneByOne(each)).collect(Collectors.toList());
+        }
+    }
+    
+    private boolean recoverOneByOne(final RegistryCenterConnectionStateListener listener) {
+        try {
+            listener.recoverOneByOne();
+            return true;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Recover job '{}' after reconnected failure.", listener.getJobName(), ex);
+            return false;
+        }
+    }
+    
+    private void retryOrResume(final RegistryCenterConnectionStateListener listener, final long generation) {
+        int attempts;
+        synchronized (this) {
+            if (generation != connectionGeneration) {
+                return;
+            }
+            attempts = failedAttempts.merge(listener.getJobName(), 1, Integer::sum);
+        }
+        if (attempts < MAX_RECOVERY_ATTEMPTS) {
+            log.warn("Retry recovering job '{}' after reconnected, attempt {} failed.", listener.getJobName(), attempts);
+            recover(listener);
+            return;
+        }
+        clearFailedAttempts(listener);
+        log.error("Recover job '{}' after reconnected failed {} times, resume it anyway.", listener.getJobName(), attempts);
+        scheduleResume(listener, generation);
+    }
+    
+    private synchronized void clearFailedAttempts(final RegistryCenterConnectionStateListener listener) {
+        failedAttempts.remove(listener.getJobName());
+    }
+    
+    private void scheduleResume(final RegistryCenterConnectionStateListener listener, final long generation) {
+        long delay = maxResumeJitterMilliseconds > 0L ? ThreadLocalRandom.current().nextLong(maxResumeJitterMilliseconds) : 0L;
+        executor.schedule(() -> resume(listener, generation), delay, TimeUnit.MILLISECONDS);
+    }
+    
+    private void resume(final RegistryCenterConnectionStateListener listener, final long generation) {
+        if (generation == connectionGeneration) {
+            listener.resume();
+        }
+    }
+}
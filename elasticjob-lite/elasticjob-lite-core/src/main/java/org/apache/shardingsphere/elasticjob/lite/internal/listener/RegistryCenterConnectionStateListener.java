@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.listener;
 
+import lombok.AccessLevel;
+import lombok.Getter;
 import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceService;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobScheduleController;
@@ -24,13 +26,20 @@ import org.apache.shardingsphere.elasticjob.lite.internal.server.ServerService;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ExecutionService;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ShardingService;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 import org.apache.shardingsphere.elasticjob.reg.listener.ConnectionStateChangedEventListener;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Registry center connection state listener.
+ * 
+ * <p>Jobs are paused as soon as the connection is unavailable, recovery after reconnected is delegated to the reconnect recovery coordinator of the registry center.</p>
  */
 public final class RegistryCenterConnectionStateListener implements ConnectionStateChangedEventListener {
     
+    @Getter(AccessLevel.PACKAGE)
     private final String jobName;
     
     private final ServerService serverService;
@@ -41,12 +50,15 @@ public final class RegistryCenterConnectionStateListener implements ConnectionSt
     
     private final ExecutionService executionService;
     
+    private final ReconnectRecoveryCoordinator reconnectRecoveryCoordinator;
+    
     public RegistryCenterConnectionStateListener(final CoordinatorRegistryCenter regCenter, final String jobName) {
         this.jobName = jobName;
         serverService = new ServerService(regCenter, jobName);
         instanceService = new InstanceService(regCenter, jobName);
         shardingService = new ShardingService(regCenter, jobName);
         executionService = new ExecutionService(regCenter, jobName);
+        reconnectRecoveryCoordinator = ReconnectRecoveryCoordinator.getInstance(regCenter);
     }
     
     @Override
@@ -56,12 +68,39 @@ public final class RegistryCenterConnectionStateListener implements ConnectionSt
         }
         JobScheduleController jobScheduleController = JobRegistry.getInstance().getJobScheduleController(jobName);
         if (State.UNAVAILABLE == newState) {
+            reconnectRecoveryCoordinator.cancel();
             jobScheduleController.pauseJob();
         } else if (State.RECONNECTED == newState) {
-            serverService.persistOnline(serverService.isEnableServer(JobRegistry.getInstance().getJobInstance(jobName).getServerIp()));
-            instanceService.persistOnline();
-            executionService.clearRunningInfo(shardingService.getLocalShardingItems());
-            jobScheduleController.resumeJob();
+            reconnectRecoveryCoordinator.recover(this);
         }
     }
+    
+    boolean isShutdown() {
+        return JobRegistry.getInstance().isShutdown(jobName);
+    }
+    
+    void persistInstanceOnline() {
+        instanceService.persistOnlineIfAbsent();
+    }
+    
+    List<TransactionOperation> getRecoveryOperations() {
+        List<TransactionOperation> result = new ArrayList<>(serverService.getPersistOnlineOperations(isEnableServer()));
+        result.addAll(executionService.getClearRunningInfoOperations(shardingService.getLocalShardingItems()));
+        return result;
+    }
+    
+    void recoverOneByOne() {
+        serverService.persistOnline(isEnableServer());
+        executionService.clearRunningInfo(shardingService.getLocalShardingItems());
+    }
+    
+    void resume() {
+        if (!isShutdown()) {
+            JobRegistry.getInstance().getJobScheduleController(jobName).resumeJob();
+        }
+    }
+    
+    private boolean isEnableServer() {
+        return serverService.isEnableServer(JobRegistry.getInstance().getJobInstance(jobName).getServerIp());
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.reconcile;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reconcile scheduler shared by all jobs of one registry center.
+ * 
+ * <p>Jobs are started at a random offset of the period, so reconciling is spread across the period instead of bursting at the same moment.</p>
+ */
+public final class ReconcileScheduler {
+    
+    private static final int THREAD_SIZE = Integer.getInteger("elasticjob.reconcile.threads", 2);
+    
+    private static final Map<CoordinatorRegistryCenter, ReconcileScheduler> INSTANCES = new IdentityHashMap<>();
+    
+    private final CoordinatorRegistryCenter regCenter;
+    
+    private final ScheduledExecutorService executorService;
+    
+    private int scheduledCount;
+    
+    private ReconcileScheduler(final CoordinatorRegistryCenter regCenter) {
+        this.regCenter = regCenter;
+        executorService = Executors.newScheduledThreadPool(THREAD_SIZE, new BasicThreadFactory.Builder().namingPattern(String.join("-", "elasticjob-reconcile", "%s")).daemon(true).build());
+    }
+    
+    /**
+     * Schedule reconcile task.
+     * 
+     * @param regCenter registry center
+     * @param task reconcile task
+     * @param periodMilliseconds period milliseconds
+     * @return scheduled future
+     */
+    public static ScheduledFuture<?> schedule(final CoordinatorRegistryCenter regCenter, final Runnable task, final long periodMilliseconds) {
+        synchronized (INSTANCES) {
+            ReconcileScheduler scheduler = INSTANCES.computeIfAbsent(regCenter, ReconcileScheduler::new);
+            scheduler.scheduledCount++;
+            return scheduler.executorService.scheduleWithFixedDelay(task, ThreadLocalRandom.current().nextLong(periodMilliseconds), periodMilliseconds, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Cancel reconcile task, the shared threads are released when the last task of the registry center is cancelled.
+     * 
+     * @param regCenter registry center
+     * @param future scheduled future
+     */
+    public static void cancel(final CoordinatorRegistryCenter regCenter, final ScheduledFuture<?> future) {
+        future.cancel(false);
+        synchronized (INSTANCES) {
+            ReconcileScheduler scheduler = INSTANCES.get(regCenter);
+            if (null != scheduler && 0 == --scheduler.scheduledCount) {
+                scheduler.executorService.shutdown();
+                INSTANCES.remove(scheduler.regCenter);
+            }
+        }
+    }
+}
@@ -17,23 +17,43 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.reconcile;
 
-import com.google.common.util.concurrent.AbstractScheduledService;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.elasticjob.lite.internal.config.ConfigurationService;
+import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceNode;
+import org.apache.shardingsphere.elasticjob.lite.internal.server.ServerNode;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ShardingService;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodePath;
+import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
 
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Reconcile service.
+ * 
+ * <p>Runs on the {@link ReconcileScheduler} shared by the registry center.
+ * Jobs whose instances, servers and sharding nodes have not changed since the last reconciling are skipped,
+ * but every job is fully reconciled at least once every {@value #FULL_RECONCILE_INTERVALS} intervals to recover from lost events.</p>
  */
 @Slf4j
-public final class ReconcileService extends AbstractScheduledService {
+public final class ReconcileService {
+    
+    private static final long PERIOD_MILLISECONDS = TimeUnit.MINUTES.toMillis(1L);
+    
+    private static final int FULL_RECONCILE_INTERVALS = 10;
     
     private long lastReconcileTime;
     
+    private int skippedCount;
+    
+    private volatile boolean shardingStateChanged = true;
+    
+    private volatile ScheduledFuture<?> future;
+    
+    private boolean dataListenerAdded;
+    
     private final ConfigurationService configService;
     
     private final ShardingService shardingService;
@@ -42,19 +62,90 @@ public final class ReconcileService extends AbstractScheduledService {
     
     private final CoordinatorRegistryCenter regCenter;
     
+    private final JobNodeStorage jobNodeStorage;
+    
+    private final String instancesPath;
+    
+    private final String serversPath;
+    
+    private final String shardingPath;
+    
     public ReconcileService(final CoordinatorRegistryCenter regCenter, final String jobName) {
         this.regCenter = regCenter;
         lastReconcileTime = System.currentTimeMillis();
         configService = new ConfigurationService(regCenter, jobName);
         shardingService = new ShardingService(regCenter, jobName);
         jobNodePath = new JobNodePath(jobName);
+        jobNodeStorage = new JobNodeStorage(regCenter, jobName);
+        instancesPath = jobNodePath.getFullPath(InstanceNode.ROOT);
+        serversPath = jobNodePath.getFullPath(ServerNode.ROOT);
+        shardingPath = jobNodePath.getShardingNodePath();
+    }
+    
+    /**
+     * Start reconciling on the shared reconcile scheduler.
+     * 
+     * <p>The data listener is added on the first start only, so restarting does not pile up listeners.
+     * Changes missed while stopped are covered by reconciling fully after every start.</p>
+     */
+    public synchronized void start() {
+        if (isRunning()) {
+            return;
+        }
+        if (!dataListenerAdded) {
+            jobNodeStorage.addDataListener(this::onChange);
+            dataListenerAdded = true;
+        }
+        shardingStateChanged = true;
+        future = ReconcileScheduler.schedule(regCenter, this::runOneIteration, PERIOD_MILLISECONDS);
     }
     
-    @Override
-    protected void runOneIteration() {
+    /**
+     * Stop reconciling.
+     */
+    public synchronized void stop() {
+        if (null != future) {
+            ReconcileScheduler.cancel(regCenter, future);
+            future = null;
+        }
+    }
+    
+    /**
+     * Judge whether reconciling is running.
+     * 
+     * @return reconciling is running or not
+     */
+    public boolean isRunning() {
+        ScheduledFuture<?> current = future;
+        return null != current && !current.isDone();
+    }
+    
+    private void onChange(final DataChangedEvent event) {
+        String key = event.getKey();
+        if (key.startsWith(instancesPath) || key.startsWith(serversPath) || key.startsWith(shardingPath)) {
+            shardingStateChanged = true;
+        }
+    }
+    
+    void runOneIteration() {
+        try {
+            reconcile();
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ex) {
+            // CHECKSTYLE:ON
+            log.warn("Elastic Job: reconcile failure.", ex);
+        }
+    }
+    
+    private void reconcile() {
         int reconcileIntervalMinutes = configService.load(true).getReconcileIntervalMinutes();
         if (reconcileIntervalMinutes > 0 && (System.currentTimeMillis() - lastReconcileTime >= reconcileIntervalMinutes * 60 * 1000)) {
             lastReconcileTime = System.currentTimeMillis();
+            if (!shardingStateChanged && ++skippedCount < FULL_RECONCILE_INTERVALS) {
+                return;
+            }
+            shardingStateChanged = false;
+            skippedCount = 0;
             if (!shardingService.isNeedSharding() && shardingService.hasShardingInfoInOfflineServers() && !(isStaticSharding() && hasShardingInfo())) {
                 log.warn("Elastic Job: job status node has inconsistent value,start reconciling...");
                 shardingService.setReshardingFlag();
@@ -69,9 +160,4 @@ public final class ReconcileService extends AbstractScheduledService {
     private boolean hasShardingInfo() {
         return !regCenter.getChildrenKeys(jobNodePath.getShardingNodePath()).isEmpty();
     }
-    
-    @Override
-    protected Scheduler scheduler() {
-        return Scheduler.newFixedDelaySchedule(0, 1, TimeUnit.MINUTES);
-    }
 }
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
+
+import com.google.common.base.Strings;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.shardingsphere.elasticjob.infra.listener.ElasticJobListener;
+import org.apache.shardingsphere.elasticjob.infra.listener.ListenerExecutionMode;
+import org.apache.shardingsphere.elasticjob.infra.listener.ShardingContexts;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * ElasticJob listener invoker.
+ * 
+ * <p>Synchronous listeners are called on the job thread in listener order.
+ * Every other listener owns a lane with a bounded queue, which runs its callbacks one by one on a thread pool shared by all jobs,
+ * so its before and after callbacks keep their order, while a slow or failing listener neither delays the job beyond the timeout nor affects other listeners.
+ * If the before callback of a listener is rejected, its after callback of the same execution is skipped as well.</p>
+ */
+@Slf4j
+public final class ElasticJobListenerInvoker {
+    
+    /**
+     * Max milliseconds the job thread waits for asynchronous listeners of one callback, zero or negative waits until they finish.
+     */
+    public static final String ASYNC_TIMEOUT_KEY = "listener.async.timeout.milliseconds";
+    
+    private static final long DEFAULT_ASYNC_TIMEOUT_MILLISECONDS = 10000L;
+    
+    private static final int LANE_QUEUE_CAPACITY = 64;
+    
+    private static final int SHARED_THREADS = Integer.getInteger("elasticjob.listener.threads", Math.max(2, Runtime.getRuntime().availableProcessors()));
+    
+    private static final ExecutorService SHARED_EXECUTOR = createSharedExecutor();
+    
+    private final Collection<ElasticJobListener> elasticJobListeners;
+    
+    private final Map<ElasticJobListener, ListenerLane> lanes = new IdentityHashMap<>();
+    
+    public ElasticJobListenerInvoker(final Collection<ElasticJobListener> elasticJobListeners) {
+        this.elasticJobListeners = elasticJobListeners;
+        for (ElasticJobListener each : elasticJobListeners) {
+            if (ListenerExecutionMode.SYNC != getExecutionMode(each)) {
+                lanes.put(each, new ListenerLane());
+            }
+        }
+    }
+    
+    private static ExecutorService createSharedExecutor() {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(SHARED_THREADS, SHARED_THREADS, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new BasicThreadFactory.Builder().namingPattern("elasticjob-listener-%d").daemon(true).build());
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
+    /**
+     * Call before job executed.
+     * 
+     * @param shardingContexts sharding contexts
+     * @param props supplier of job properties, only consulted when asynchronous listeners are waited for
+     */
+    public void beforeJobExecuted(final ShardingContexts shardingContexts, final Supplier<Properties> props) {
+        invoke(shardingContexts, props, true);
+    }
+    
+    /**
+     * Call after job executed.
+     *
+     * @param shardingContexts sharding contexts
+     * @param props supplier of job properties, only consulted when asynchronous listeners are waited for
+     */
+    public void afterJobExecuted(final ShardingContexts shardingContexts, final Supplier<Properties> props) {
+        invoke(shardingContexts, props, false);
+    }
+    
+    private void invoke(final ShardingContexts shardingContexts, final Supplier<Properties> props, final boolean before) {
+        String phase = before ? "before" : "after";
+        List<Future<?>> waitingFutures = new ArrayList<>(lanes.size());
+        for (ElasticJobListener each : elasticJobListeners) {
+            ListenerLane lane = lanes.get(each);
+            if (null == lane) {
+                call(each, shardingContexts, before);
+                continue;
+            }
+            if (!before && lane.isBeforeRejected()) {
+                log.warn("Job '{}' listener '{}' is skipped after job executed, because it was skipped before job executed.", shardingContexts.getJobName(), each.getClass().getName());
+                continue;
+            }
+            Future<?> future = submit(lane, each, shardingContexts, before, phase);
+            if (before) {
+                lane.setBeforeRejected(null == future);
+            }
+            if (null != future && ListenerExecutionMode.ASYNC == getExecutionMode(each)) {
+                waitingFutures.add(future);
+            }
+        }
+        if (!waitingFutures.isEmpty()) {
+            await(waitingFutures, getTimeoutMilliseconds(props.get()), shardingContexts.getJobName(), phase);
+        }
+    }
+    
+    private void call(final ElasticJobListener listener, final ShardingContexts shardingContexts, final boolean before) {
+        if (before) {
+            listener.beforeJobExecuted(shardingContexts);
+        } else {
+            listener.afterJobExecuted(shardingContexts);
+        }
+    }
+    
+    private Future<?> submit(final ListenerLane lane, final ElasticJobListener listener, final ShardingContexts shardingContexts, final boolean before, final String phase) {
+        FutureTask<?> result = new FutureTask<>(() -> {
+            try {
+                call(listener, shardingContexts, before);
+                // CHECKSTYLE:OFF
+            } catch (final Throwable ex) {
+                // CHECKSTYLE:ON
+                log.error("Job '{}' listener '{}' failed {} job executed.", shardingContexts.getJobName(), listener.getClass().getName(), phase, ex);
+            }
+        }, null);
+        if (lane.offer(result)) {
+            return result;
+        }
+        log.warn("Job '{}' listener '{}' is skipped {} job executed, because its queue is full or the listener is shut down.", shardingContexts.getJobName(), listener.getClass().getName(), phase);
+        return null;
+    }
+    
+    private void await(final List<Future<?>> futures, final long timeoutMilliseconds, final String jobName, final String phase) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds);
+        for (Future<?> each : futures) {
+            try {
+                if (timeoutMilliseconds > 0L) {
+                    each.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } else {
+                    each.get();
+                }
+            } catch (final TimeoutException ex) {
+                log.warn("Job '{}' stopped waiting for asynchronous listeners {} job executed after {} milliseconds.", jobName, phase, timeoutMilliseconds);
+                return;
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final ExecutionException ex) {
+                log.error("Job '{}' asynchronous listener failed {} job executed.", jobName, phase, ex.getCause());
+            }
+        }
+    }
+    
+    private long getTimeoutMilliseconds(final Properties props) {
+        String value = null == props ? null : props.getProperty(ASYNC_TIMEOUT_KEY);
+        return Strings.isNullOrEmpty(value) ? DEFAULT_ASYNC_TIMEOUT_MILLISECONDS : Long.parseLong(value.trim());
+    }
+    
+    private ListenerExecutionMode getExecutionMode(final ElasticJobListener listener) {
+        ListenerExecutionMode result = listener.executionMode();
+        return null == result ? ListenerExecutionMode.SYNC : result;
+    }
+    
+    /**
+     * Shutdown listener lanes, callbacks already queued are still called.
+     */
+    public void shutdown() {
+        lanes.values().forEach(ListenerLane::shutdown);
+    }
+    
+    private static final class ListenerLane {
+        
+        private final Queue<Runnable> tasks = new ArrayDeque<>(LANE_QUEUE_CAPACITY);
+        
+        private boolean draining;
+        
+        private boolean shutdown;
+        
+        private volatile boolean beforeRejected;
+        
+        private synchronized boolean offer(final Runnable task) {
+            if (shutdown || tasks.size() >= LANE_QUEUE_CAPACITY) {
+                return false;
+            }
+            tasks.add(task);
+            if (!draining) {
+                draining = true;
+                SHARED_EXECUTOR.execute(this::runNext);
+            }
+            return true;
+        }
+        
+        private void runNext() {
+            Runnable task;
+            synchronized (this) {
+                task = tasks.poll();
+            }
+            try {
+                task.run();
+            } finally {
+                synchronized (this) {
+                    if (tasks.isEmpty()) {
+                        draining = false;
+                    } else {
+                        SHARED_EXECUTOR.execute(this::runNext);
+                    }
+                }
+            }
+        }
+        
+        private boolean isBeforeRejected() {
+            return beforeRejected;
+        }
+        
+        private void setBeforeRejected(final boolean beforeRejected) {
+            this.beforeRejected = beforeRejected;
+        }
+        
+        private synchronized void shutdown() {
+            shutdown = true;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
+
+import com.google.common.base.Strings;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Job event sampler.
+ * 
+ * <p>Sampling is decided once per job execution, so the status trace events and the execution events of one execution are kept or skipped together.</p>
+ */
+public final class JobEventSampler {
+    
+    /**
+     * Keep job events of one in every given number of executions.
+     */
+    public static final String SAMPLING_COUNT_KEY = "tracing.sampling.count";
+    
+    /**
+     * Keep job events of at most given number of executions per second.
+     */
+    public static final String SAMPLING_RATE_KEY = "tracing.sampling.rate.per.second";
+    
+    private final AtomicLong executionCount = new AtomicLong();
+    
+    private final AtomicLong currentSecond = new AtomicLong();
+    
+    private final AtomicInteger sampledCountInCurrentSecond = new AtomicInteger();
+    
+    /**
+     * Judge whether job events of the next execution should be kept.
+     *
+     * @param props job properties
+     * @return keep job events or not
+     */
+    public boolean isSampled(final Properties props) {
+        return isSampledByCount(getIntValue(props, SAMPLING_COUNT_KEY)) && isSampledByRate(getIntValue(props, SAMPLING_RATE_KEY));
+    }
+    
+    private boolean isSampledByCount(final int samplingCount) {
+        return samplingCount <= 1 || 0 == executionCount.getAndIncrement() % samplingCount;
+    }
+    
+    private boolean isSampledByRate(final int samplingRate) {
+        if (samplingRate <= 0) {
+            return true;
+        }
+        long second = System.currentTimeMillis() / 1000L;
+        long previousSecond = currentSecond.get();
+        if (second != previousSecond && currentSecond.compareAndSet(previousSecond, second)) {
+            sampledCountInCurrentSecond.set(0);
+        }
+        return sampledCountInCurrentSecond.incrementAndGet() <= samplingRate;
+    }
+    
+    private int getIntValue(final Properties props, final String key) {
+        String value = null == props ? null : props.getProperty(key);
+        return Strings.isNullOrEmpty(value) ? 0 : Integer.parseInt(value.trim());
+    }
+}
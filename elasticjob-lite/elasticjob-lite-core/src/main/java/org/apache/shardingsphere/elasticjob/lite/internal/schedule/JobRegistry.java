@@ -23,8 +23,11 @@ import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.lite.internal.listener.ListenerNotifierManager;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -45,6 +48,12 @@ public final class JobRegistry {
     
     private final Map<String, Integer> currentShardingTotalCountMap = new ConcurrentHashMap<>();
     
+    private final Map<String, Collection<String>> dispatchedTriggerMap = new ConcurrentHashMap<>();
+    
+    private final Map<String, String> triggerParameterMap = new ConcurrentHashMap<>();
+    
+    private final Set<String> triggerDeferredJobs = ConcurrentHashMap.newKeySet();
+    
     /**
      * Get instance of job registry.
      * 
@@ -162,6 +171,79 @@ public final class JobRegistry {
         currentShardingTotalCountMap.put(jobName, currentShardingTotalCount);
     }
     
+    /**
+     * Set dispatched triggers if there are no dispatched triggers not acknowledged yet.
+     *
+     * @param jobName job name
+     * @param triggerIds trigger ids
+     * @return set or not
+     */
+    public boolean setDispatchedTriggersIfAbsent(final String jobName, final Collection<String> triggerIds) {
+        return null == dispatchedTriggerMap.putIfAbsent(jobName, triggerIds);
+    }
+    
+    /**
+     * Get dispatched triggers.
+     *
+     * @param jobName job name
+     * @return dispatched trigger ids
+     */
+    public Collection<String> getDispatchedTriggers(final String jobName) {
+        return dispatchedTriggerMap.getOrDefault(jobName, Collections.emptyList());
+    }
+    
+    /**
+     * Clear dispatched triggers.
+     *
+     * @param jobName job name
+     */
+    public void clearDispatchedTriggers(final String jobName) {
+        dispatchedTriggerMap.remove(jobName);
+    }
+    
+    /**
+     * Set triggers deferred because job was busy.
+     *
+     * @param jobName job name
+     */
+    public void setTriggerDeferred(final String jobName) {
+        triggerDeferredJobs.add(jobName);
+    }
+    
+    /**
+     * Clear triggers deferred because job was busy.
+     *
+     * @param jobName job name
+     * @return whether any trigger was deferred
+     */
+    public boolean clearTriggerDeferred(final String jobName) {
+        return triggerDeferredJobs.remove(jobName);
+    }
+    
+    /**
+     * Get parameter of the trigger being executed.
+     *
+     * @param jobName job name
+     * @return trigger parameter
+     */
+    public Optional<String> getTriggerParameter(final String jobName) {
+        return Optional.ofNullable(triggerParameterMap.get(jobName));
+    }
+    
+    /**
+     * Set parameter of the trigger being executed.
+     *
+     * @param jobName job name
+     * @param triggerParameter trigger parameter, null means no trigger parameter
+     */
+    public void setTriggerParameter(final String jobName, final String triggerParameter) {
+        if (null == triggerParameter) {
+            triggerParameterMap.remove(jobName);
+        } else {
+            triggerParameterMap.put(jobName, triggerParameter);
+        }
+    }
+    
     /**
      * Shutdown job schedule.
      * 
@@ -174,6 +256,9 @@ public final class JobRegistry {
         jobInstanceMap.remove(jobName);
         jobRunningMap.remove(jobName);
         currentShardingTotalCountMap.remove(jobName);
+        dispatchedTriggerMap.remove(jobName);
+        triggerParameterMap.remove(jobName);
+        triggerDeferredJobs.remove(jobName);
     }
     
     /**
@@ -23,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
 import org.quartz.CronScheduleBuilder;
 import org.quartz.CronTrigger;
+import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
@@ -32,6 +33,7 @@ import org.quartz.Trigger;
 import org.quartz.TriggerBuilder;
 import org.quartz.TriggerKey;
 
+import java.util.Collection;
 import java.util.TimeZone;
 
 /**
@@ -40,6 +42,10 @@ import java.util.TimeZone;
 @RequiredArgsConstructor
 public final class JobScheduleController {
     
+    public static final String TRIGGER_IDS_DATA_MAP_KEY = "triggerIds";
+    
+    public static final String TRIGGER_PARAMETER_DATA_MAP_KEY = "triggerParameter";
+    
     private final Scheduler scheduler;
     
     private final JobDetail jobDetail;
@@ -56,6 +62,8 @@ public final class JobScheduleController {
         try {
             if (!scheduler.checkExists(jobDetail.getKey())) {
                 scheduler.scheduleJob(jobDetail, createCronTrigger(cron, timeZone));
+            } else if (!scheduler.checkExists(TriggerKey.triggerKey(triggerIdentity))) {
+                scheduler.scheduleJob(createCronTrigger(cron, timeZone).getTriggerBuilder().forJob(jobDetail).build());
             }
             scheduler.start();
         } catch (final SchedulerException ex) {
@@ -174,6 +182,37 @@ public final class JobScheduleController {
         }
     }
     
+    /**
+     * Trigger job for queued triggers.
+     * 
+     * <p>The trigger ids and trigger parameter are carried by the Quartz trigger, so that they can be acknowledged after this execution completed.</p>
+     * 
+     * @param triggerIds ids of queued triggers to be executed by this execution
+     * @param triggerParameter trigger parameter, null means using job parameter
+     */
+    public synchronized void triggerJob(final Collection<String> triggerIds, final String triggerParameter) {
+        JobDataMap jobDataMap = new JobDataMap();
+        jobDataMap.put(TRIGGER_IDS_DATA_MAP_KEY, String.join(",", triggerIds));
+        if (null != triggerParameter) {
+            jobDataMap.put(TRIGGER_PARAMETER_DATA_MAP_KEY, triggerParameter);
+        }
+        try {
+            if (scheduler.isShutdown()) {
+                return;
+            }
+            if (!scheduler.checkExists(jobDetail.getKey())) {
+                scheduler.scheduleJob(jobDetail, TriggerBuilder.newTrigger().usingJobData(jobDataMap).startNow().build());
+            } else {
+                scheduler.triggerJob(jobDetail.getKey(), jobDataMap);
+            }
+            if (!scheduler.isStarted()) {
+                scheduler.start();
+            }
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
     private Trigger createOneOffTrigger() {
         return TriggerBuilder.newTrigger().withIdentity(triggerIdentity).withSchedule(SimpleScheduleBuilder.simpleSchedule()).build();
     }
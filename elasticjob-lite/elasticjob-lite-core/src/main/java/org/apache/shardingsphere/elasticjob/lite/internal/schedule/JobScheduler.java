@@ -191,5 +191,6 @@ public final class JobScheduler {
         setUpFacade.tearDown();
         schedulerFacade.shutdownInstance();
         jobExecutor.shutdown();
+        jobFacade.shutdown();
     }
 }
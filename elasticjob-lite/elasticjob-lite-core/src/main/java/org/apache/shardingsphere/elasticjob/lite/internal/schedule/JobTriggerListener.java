@@ -17,10 +17,14 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
 
+import com.google.common.base.Splitter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ExecutionService;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ShardingService;
+import org.apache.shardingsphere.elasticjob.lite.internal.trigger.TriggerService;
+import org.quartz.JobExecutionContext;
 import org.quartz.Trigger;
+import org.quartz.Trigger.CompletedExecutionInstruction;
 import org.quartz.listeners.TriggerListenerSupport;
 
 /**
@@ -33,6 +37,8 @@ public final class JobTriggerListener extends TriggerListenerSupport {
     
     private final ShardingService shardingService;
     
+    private final TriggerService triggerService;
+    
     @Override
     public String getName() {
         return "JobTriggerListener";
@@ -44,4 +50,15 @@ public final class JobTriggerListener extends TriggerListenerSupport {
             executionService.setMisfire(shardingService.getLocalShardingItems());
         }
     }
+    
+    @Override
+    public void triggerComplete(final Trigger trigger, final JobExecutionContext context, final CompletedExecutionInstruction triggerInstructionCode) {
+        String triggerIds = trigger.getJobDataMap().getString(JobScheduleController.TRIGGER_IDS_DATA_MAP_KEY);
+        if (null == triggerIds) {
+            triggerService.dispatchDeferred();
+            return;
+        }
+        triggerService.acknowledge(Splitter.on(',').omitEmptyStrings().splitToList(triggerIds));
+        triggerService.dispatch();
+    }
 }
@@ -30,9 +30,21 @@ public final class LiteJob implements Job {
     
     private ElasticJobExecutor jobExecutor;
     
+    private String triggerParameter;
+    
     @Override
     public void execute(final JobExecutionContext context) {
-        jobExecutor.execute();
+        if (null == triggerParameter) {
+            jobExecutor.execute();
+            return;
+        }
+        String jobName = context.getJobDetail().getKey().getName();
+        JobRegistry.getInstance().setTriggerParameter(jobName, triggerParameter);
+        try {
+            jobExecutor.execute();
+        } finally {
+            JobRegistry.getInstance().setTriggerParameter(jobName, null);
+        }
     }
     
 }
@@ -49,6 +49,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class LiteJobFacade implements JobFacade {
     
+    private final String jobName;
+    
     private final ConfigurationService configService;
     
     private final ShardingService shardingService;
@@ -59,18 +61,24 @@ public final class LiteJobFacade implements JobFacade {
     
     private final FailoverService failoverService;
     
-    private final Collection<ElasticJobListener> elasticJobListeners;
+    private final ElasticJobListenerInvoker elasticJobListenerInvoker;
     
     private final JobTracingEventBus jobTracingEventBus;
     
+    private final boolean tracingEnabled;
+    
+    private final JobEventSampler jobEventSampler = new JobEventSampler();
+    
     public LiteJobFacade(final CoordinatorRegistryCenter regCenter, final String jobName, final Collection<ElasticJobListener> elasticJobListeners, final TracingConfiguration<?> tracingConfig) {
+        this.jobName = jobName;
         configService = new ConfigurationService(regCenter, jobName);
         shardingService = new ShardingService(regCenter, jobName);
         executionContextService = new ExecutionContextService(regCenter, jobName);
         executionService = new ExecutionService(regCenter, jobName);
         failoverService = new FailoverService(regCenter, jobName);
-        this.elasticJobListeners = elasticJobListeners.stream().sorted(Comparator.comparingInt(ElasticJobListener::order)).collect(Collectors.toList());
+        elasticJobListenerInvoker = new ElasticJobListenerInvoker(elasticJobListeners.stream().sorted(Comparator.comparingInt(ElasticJobListener::order)).collect(Collectors.toList()));
         this.jobTracingEventBus = null == tracingConfig ? new JobTracingEventBus() : new JobTracingEventBus(tracingConfig);
+        tracingEnabled = null != tracingConfig;
     }
     
     @Override
@@ -103,9 +111,20 @@ public final class LiteJobFacade implements JobFacade {
         }
     }
     
+    @Override
+    public void registerItemCompleted(final ShardingContexts shardingContexts, final int item) {
+        executionService.registerItemCompleted(item);
+    }
+    
     @Override
     public ShardingContexts getShardingContexts() {
-        boolean isFailover = configService.load(true).isFailover();
+        JobConfiguration jobConfig = configService.load(true);
+        ShardingContexts result = withTriggerParameter(getShardingContexts(jobConfig.isFailover()));
+        result.setAllowSendJobEvent(tracingEnabled && jobEventSampler.isSampled(jobConfig.getProps()));
+        return result;
+    }
+    
+    private ShardingContexts getShardingContexts(final boolean isFailover) {
         if (isFailover) {
             List<Integer> failoverShardingItems = failoverService.getLocalFailoverItems();
             if (!failoverShardingItems.isEmpty()) {
@@ -121,6 +140,11 @@ public final class LiteJobFacade implements JobFacade {
         return executionContextService.getJobShardingContext(shardingItems);
     }
     
+    private ShardingContexts withTriggerParameter(final ShardingContexts shardingContexts) {
+        return JobRegistry.getInstance().getTriggerParameter(jobName).map(each -> new ShardingContexts(shardingContexts.getTaskId(), shardingContexts.getJobName(),
+                shardingContexts.getShardingTotalCount(), each, shardingContexts.getShardingItemParameters(), shardingContexts.getJobEventSamplingCount())).orElse(shardingContexts);
+    }
+    
     @Override
     public boolean misfireIfRunning(final Collection<Integer> shardingItems) {
         return executionService.misfireIfHasRunningItems(shardingItems);
@@ -143,16 +167,12 @@ public final class LiteJobFacade implements JobFacade {
     
     @Override
     public void beforeJobExecuted(final ShardingContexts shardingContexts) {
-        for (ElasticJobListener each : elasticJobListeners) {
-            each.beforeJobExecuted(shardingContexts);
-        }
+        elasticJobListenerInvoker.beforeJobExecuted(shardingContexts, () -> configService.load(true).getProps());
     }
     
     @Override
     public void afterJobExecuted(final ShardingContexts shardingContexts) {
-        for (ElasticJobListener each : elasticJobListeners) {
-            each.afterJobExecuted(shardingContexts);
-        }
+        elasticJobListenerInvoker.afterJobExecuted(shardingContexts, () -> configService.load(true).getProps());
     }
     
     @Override
@@ -169,4 +189,11 @@ public final class LiteJobFacade implements JobFacade {
             log.trace(message);
         }
     }
+    
+    /**
+     * Shutdown job facade.
+     */
+    public void shutdown() {
+        elasticJobListenerInvoker.shutdown();
+    }
 }
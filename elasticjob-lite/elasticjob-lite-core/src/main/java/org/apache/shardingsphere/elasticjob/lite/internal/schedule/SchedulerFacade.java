@@ -20,6 +20,7 @@ package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
 import org.apache.shardingsphere.elasticjob.lite.internal.election.LeaderService;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ExecutionService;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ShardingService;
+import org.apache.shardingsphere.elasticjob.lite.internal.trigger.TriggerService;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 
 /**
@@ -35,11 +36,14 @@ public final class SchedulerFacade {
     
     private final ExecutionService executionService;
     
+    private final TriggerService triggerService;
+    
     public SchedulerFacade(final CoordinatorRegistryCenter regCenter, final String jobName) {
         this.jobName = jobName;
         leaderService = new LeaderService(regCenter, jobName);
         shardingService = new ShardingService(regCenter, jobName);
         executionService = new ExecutionService(regCenter, jobName);
+        triggerService = new TriggerService(regCenter, jobName);
     }
     
     /**
@@ -48,7 +52,7 @@ public final class SchedulerFacade {
      * @return job trigger listener
      */
     public JobTriggerListener newJobTriggerListener() {
-        return new JobTriggerListener(executionService, shardingService);
+        return new JobTriggerListener(executionService, shardingService, triggerService);
     }
     
     /**
@@ -21,10 +21,13 @@ import com.google.common.base.Strings;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceNode;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
+import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodePath;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 import org.apache.shardingsphere.elasticjob.infra.concurrent.BlockUtils;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -41,10 +44,13 @@ public final class ServerService {
 
     private final ServerNode serverNode;
 
+    private final JobNodePath jobNodePath;
+
     public ServerService(final CoordinatorRegistryCenter regCenter, final String jobName) {
         this.jobName = jobName;
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
         serverNode = new ServerNode(jobName);
+        jobNodePath = new JobNodePath(jobName);
     }
 
     /**
@@ -58,6 +64,25 @@ public final class ServerService {
         }
     }
 
+    /**
+     * Get transaction operations to persist online status of job server.
+     *
+     * @param enabled enable server or not
+     * @return transaction operations, empty if the status is persisted already or the job is shutdown
+     */
+    public List<TransactionOperation> getPersistOnlineOperations(final boolean enabled) {
+        if (JobRegistry.getInstance().isShutdown(jobName)) {
+            return Collections.emptyList();
+        }
+        String node = serverNode.getServerNode(JobRegistry.getInstance().getJobInstance(jobName).getServerIp());
+        String status = enabled ? ServerStatus.ENABLED.name() : ServerStatus.DISABLED.name();
+        String persistedStatus = jobNodeStorage.getJobNodeDataDirectly(node);
+        if (null == persistedStatus) {
+            return Collections.singletonList(TransactionOperation.opAdd(jobNodePath.getFullPath(node), status));
+        }
+        return status.equals(persistedStatus) ? Collections.emptyList() : Collections.singletonList(TransactionOperation.opUpdate(jobNodePath.getFullPath(node), status));
+    }
+
     /**
      * Judge has available servers or not.
      *
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceServi
 import org.apache.shardingsphere.elasticjob.lite.internal.listener.ListenerManager;
 import org.apache.shardingsphere.elasticjob.lite.internal.reconcile.ReconcileService;
 import org.apache.shardingsphere.elasticjob.lite.internal.server.ServerService;
+import org.apache.shardingsphere.elasticjob.lite.internal.trigger.TriggerService;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 
 import java.util.Collection;
@@ -40,6 +41,8 @@ public final class SetUpFacade {
     
     private final ReconcileService reconcileService;
     
+    private final TriggerService triggerService;
+    
     private final ListenerManager listenerManager;
 
     /**
@@ -57,6 +60,7 @@ public final class SetUpFacade {
         serverService = new ServerService(regCenter, jobName);
         instanceService = new InstanceService(regCenter, jobName);
         reconcileService = new ReconcileService(regCenter, jobName);
+        triggerService = new TriggerService(regCenter, jobName);
         listenerManager = new ListenerManager(regCenter, jobName, elasticJobListeners);
         this.jobName = jobName;
         this.regCenter = regCenter;
@@ -72,8 +76,10 @@ public final class SetUpFacade {
         leaderService.electLeader();
         serverService.persistOnline(enabled);
         instanceService.persistOnline();
+        triggerService.recoverOrphanTriggers();
+        triggerService.dispatch();
         if (!reconcileService.isRunning()) {
-            reconcileService.startAsync();
+            reconcileService.start();
         }
         serverService.removeOfflineServers();
     }
@@ -85,7 +91,7 @@ public final class SetUpFacade {
         regCenter.removeConnStateListener("/" + this.jobName);
         regCenter.removeDataListeners("/" + this.jobName);
         if (reconcileService.isRunning()) {
-            reconcileService.stopAsync();
+            reconcileService.stop();
         }
     }
 }
@@ -23,8 +23,10 @@ import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.infra.listener.ShardingContexts;
 import org.apache.shardingsphere.elasticjob.lite.internal.config.ConfigurationService;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
+import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodePath;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -43,10 +45,13 @@ public final class ExecutionService {
     
     private final ConfigurationService configService;
     
+    private final JobNodePath jobNodePath;
+    
     public ExecutionService(final CoordinatorRegistryCenter regCenter, final String jobName) {
         this.jobName = jobName;
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
         configService = new ConfigurationService(regCenter, jobName);
+        jobNodePath = new JobNodePath(jobName);
     }
         
     /**
@@ -85,6 +90,18 @@ public final class ExecutionService {
         }
     }
     
+    /**
+     * Register sharding item completed before the whole job completed.
+     * 
+     * @param item completed sharding item
+     */
+    public void registerItemCompleted(final int item) {
+        if (!configService.load(true).isMonitorExecution()) {
+            return;
+        }
+        jobNodeStorage.removeJobNodeIfExisted(ShardingNode.getRunningNode(item));
+    }
+    
     /**
      * Clear all running info.
      */
@@ -103,6 +120,22 @@ public final class ExecutionService {
         }
     }
     
+    /**
+     * Get transaction operations to clear running info.
+     * 
+     * @param items sharding items which need to be cleared
+     * @return transaction operations, only for running nodes which exist
+     */
+    public List<TransactionOperation> getClearRunningInfoOperations(final List<Integer> items) {
+        List<TransactionOperation> result = new ArrayList<>(items.size());
+        for (int each : items) {
+            if (jobNodeStorage.isJobNodeExisted(ShardingNode.getRunningNode(each))) {
+                result.add(TransactionOperation.opDelete(jobNodePath.getFullPath(ShardingNode.getRunningNode(each))));
+            }
+        }
+        return result;
+    }
+    
     /**
      * Judge has running items or not.
      *
@@ -19,9 +19,12 @@ package org.apache.shardingsphere.elasticjob.lite.internal.snapshot;
 
 import com.google.common.base.Preconditions;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
-import org.apache.shardingsphere.elasticjob.lite.internal.util.SensitiveInfoUtils;
+import org.apache.shardingsphere.elasticjob.infra.concurrent.JobExecutorPoolRegistry;
+import org.apache.shardingsphere.elasticjob.infra.yaml.YamlEngine;
+import org.apache.shardingsphere.elasticjob.lite.internal.util.SensitiveIpMasker;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.reg.zookeeper.ZookeeperRegistryCenter;
 
@@ -30,26 +33,61 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.net.ServerSocket;
 import java.net.Socket;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Snapshot service.
+ * 
+ * <p>Command <code>dump@jobName</code> dumps the whole job, <code>dump@jobName/sub/path</code> dumps the sub tree only.
+ * Clients are served concurrently and the dump is streamed while walking the tree.
+ * The tree is read from the local cache of the job if present, otherwise from registry center.</p>
+ * 
+ * <p>Command <code>diff@jobName</code> walks the tree in registry center instead,
+ * nodes whose local cache differs from registry center are dumped as <code>zkPath | zkValue | cachePath | cacheValue</code>.</p>
+ * 
+ * <p>Command <code>pool@jobName</code> replies the executor pool state of the job running in this instance as YAML, or nothing if the job has no such pool here.</p>
  */
 @Slf4j
 public final class SnapshotService {
     
     public static final String DUMP_COMMAND = "dump@";
-
+    
+    public static final String DIFF_COMMAND = "diff@";
+    
+    public static final String POOL_COMMAND = "pool@";
+    
+    private static final int DUMP_THREADS = Integer.getInteger("elasticjob.snapshot.threads", 4);
+    
+    private static final int DUMP_QUEUE_CAPACITY = 16;
+    
+    private static final int READ_COMMAND_TIMEOUT_MILLISECONDS = 10000;
+    
+    private static final String PATH_SEPARATOR = "/";
+    
     private final int port;
     
     private final CoordinatorRegistryCenter regCenter;
     
     private ServerSocket serverSocket;
     
+    private ExecutorService dumpExecutor;
+    
     private volatile boolean closed;
     
     public SnapshotService(final CoordinatorRegistryCenter regCenter, final int port) {
@@ -74,12 +112,16 @@ public final class SnapshotService {
         serverSocket = new ServerSocket(port);
         int localPort = serverSocket.getLocalPort();
         String threadName = String.format("elasticjob-snapshot-service-%d", localPort);
+        dumpExecutor = new ThreadPoolExecutor(DUMP_THREADS, DUMP_THREADS, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(DUMP_QUEUE_CAPACITY),
+                new BasicThreadFactory.Builder().namingPattern(threadName + "-dump-%d").daemon(true).build());
+        ServerSocket acceptingSocket = serverSocket;
+        ExecutorService executor = dumpExecutor;
         new Thread(() -> {
             while (!closed) {
                 try {
-                    process(serverSocket.accept());
+                    dispatch(acceptingSocket.accept(), executor);
                 } catch (final IOException ex) {
-                    if (isIgnoredException()) {
+                    if (acceptingSocket.isClosed()) {
                         return;
                     }
                     log.error("ElasticJob: Snapshot service open socket failure, error is: ", ex);
@@ -89,75 +131,189 @@ public final class SnapshotService {
         return localPort;
     }
     
-    private boolean isIgnoredException() {
-        return serverSocket.isClosed();
+    private void dispatch(final Socket socket, final ExecutorService executor) throws IOException {
+        try {
+            executor.execute(() -> {
+                try {
+                    process(socket);
+                } catch (final IOException ex) {
+                    log.warn("ElasticJob: Snapshot service dump failure, error is: ", ex);
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            log.warn("ElasticJob: Snapshot service is busy, connection from '{}' is rejected.", socket.getRemoteSocketAddress());
+            socket.close();
+        }
     }
     
     private void process(final Socket socket) throws IOException {
+        socket.setSoTimeout(READ_COMMAND_TIMEOUT_MILLISECONDS);
         try (
-                BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-                BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream()));
+                BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
                 Socket ignored = socket) {
             String cmdLine = reader.readLine();
             if (null != cmdLine && cmdLine.startsWith(DUMP_COMMAND) && cmdLine.split("@").length == 2) {
-                String jobName = cmdLine.split("@")[1];
-                String result = dumpJobDirectly(jobName);
-                outputMessage(writer, result);
+                dump(cmdLine.substring(DUMP_COMMAND.length()), false, writer);
+                writer.flush();
+            } else if (null != cmdLine && cmdLine.startsWith(DIFF_COMMAND) && cmdLine.split("@").length == 2) {
+                dump(cmdLine.substring(DIFF_COMMAND.length()), true, writer);
+                writer.flush();
+            } else if (null != cmdLine && cmdLine.startsWith(POOL_COMMAND) && cmdLine.split("@").length == 2) {
+                writePoolState(cmdLine.substring(POOL_COMMAND.length()), writer);
+                writer.flush();
             }
         }
     }
     
-    private void dumpDirectly(final String path, final String jobName, final List<String> result) {
+    private void writePoolState(final String jobName, final Writer writer) throws IOException {
+        Optional<String> poolState = JobExecutorPoolRegistry.getInstance().findPoolState(jobName).map(YamlEngine::marshal);
+        if (poolState.isPresent()) {
+            writer.write(poolState.get());
+        }
+    }
+    
+    /**
+     * Dump job.
+     * @param jobName job's name
+     * @return dump job's info
+     */
+    public String dumpJobDirectly(final String jobName) {
+        StringWriter result = new StringWriter();
+        try {
+            dump(jobName, false, result);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return result.toString();
+    }
+    
+    private void dump(final String jobPath, final boolean compareWithCache, final Writer writer) throws IOException {
+        String path = PATH_SEPARATOR + trimTrailingSeparator(jobPath);
+        int jobNameEnd = path.indexOf(PATH_SEPARATOR, 1);
+        String jobName = -1 == jobNameEnd ? path.substring(1) : path.substring(1, jobNameEnd);
+        SensitiveIpMasker masker = new SensitiveIpMasker();
+        Optional<CuratorCache> cache = findCache(jobName);
+        if (!cache.isPresent()) {
+            dumpDirectly(path, null, masker, writer);
+        } else if (compareWithCache) {
+            dumpDirectly(path, cache.get(), masker, writer);
+        } else {
+            dumpFromCache(path, getCachedChildren(cache.get(), path), masker, writer);
+        }
+    }
+    
+    private String trimTrailingSeparator(final String path) {
+        return path.endsWith(PATH_SEPARATOR) ? path.substring(0, path.length() - 1) : path;
+    }
+    
+    private Optional<CuratorCache> findCache(final String jobName) {
+        // TODO Decoupling ZooKeeper
+        if (regCenter instanceof ZookeeperRegistryCenter) {
+            return Optional.ofNullable((CuratorCache) regCenter.getRawCache(PATH_SEPARATOR + jobName));
+        }
+        return Optional.empty();
+    }
+    
+    private Map<String, NavigableMap<String, ChildData>> getCachedChildren(final CuratorCache cache, final String path) {
+        String childPrefix = path + PATH_SEPARATOR;
+        Map<String, NavigableMap<String, ChildData>> result = new HashMap<>();
+        cache.stream().filter(each -> each.getPath().startsWith(childPrefix)).forEach(each -> {
+            int parentEnd = each.getPath().lastIndexOf(PATH_SEPARATOR);
+            result.computeIfAbsent(each.getPath().substring(0, parentEnd), key -> new TreeMap<>(Comparator.reverseOrder())).put(each.getPath().substring(parentEnd + 1), each);
+        });
+        return result;
+    }
+    
+    private void dumpFromCache(final String path, final Map<String, NavigableMap<String, ChildData>> cachedChildren, final SensitiveIpMasker masker, final Writer writer) throws IOException {
+        for (ChildData each : cachedChildren.getOrDefault(path, Collections.emptyNavigableMap()).values()) {
+            String value = null == each.getData() ? "" : new String(each.getData(), StandardCharsets.UTF_8);
+            writeLine(writer, masker, String.join(" | ", each.getPath(), value));
+            dumpFromCache(each.getPath(), cachedChildren, masker, writer);
+        }
+    }
+    
+    private void dumpDirectly(final String path, final CuratorCache cache, final SensitiveIpMasker masker, final Writer writer) throws IOException {
         for (String each : regCenter.getChildrenKeys(path)) {
-            String zkPath = path + "/" + each;
+            String zkPath = path + PATH_SEPARATOR + each;
             String zkValue = Optional.ofNullable(regCenter.get(zkPath)).orElse("");
             String cachePath = zkPath;
             String cacheValue = zkValue;
-            // TODO Decoupling ZooKeeper
-            if (regCenter instanceof ZookeeperRegistryCenter) {
-                CuratorCache cache = (CuratorCache) regCenter.getRawCache("/" + jobName);
-                if (null != cache) {
-                    Optional<ChildData> cacheData = cache.get(zkPath);
-                    cachePath = cacheData.map(ChildData::getPath).orElse("");
-                    cacheValue = cacheData.map(ChildData::getData).map(String::new).orElse("");
-                }
+            if (null != cache) {
+                Optional<ChildData> cacheData = cache.get(zkPath);
+                cachePath = cacheData.map(ChildData::getPath).orElse("");
+                cacheValue = cacheData.map(ChildData::getData).map(data -> new String(data, StandardCharsets.UTF_8)).orElse("");
             }
             if (zkValue.equals(cacheValue) && zkPath.equals(cachePath)) {
-                result.add(String.join(" | ", zkPath, zkValue));
+                writeLine(writer, masker, String.join(" | ", zkPath, zkValue));
             } else {
-                result.add(String.join(" | ", zkPath, zkValue, cachePath, cacheValue));
+                writeLine(writer, masker, String.join(" | ", zkPath, zkValue, cachePath, cacheValue));
             }
-            dumpDirectly(zkPath, jobName, result);
+            dumpDirectly(zkPath, cache, masker, writer);
         }
     }
-
+    
+    private void writeLine(final Writer writer, final SensitiveIpMasker masker, final String line) throws IOException {
+        writer.write(masker.mask(line));
+        writer.write("\n");
+    }
+    
     /**
      * Dump job.
+     * @param instanceIp job instance ip addr
+     * @param dumpPort dump port
      * @param jobName job's name
      * @return dump job's info
+     * @throws IOException i/o exception
      */
-    public String dumpJobDirectly(final String jobName) {
-        String path = "/" + jobName;
-        final List<String> result = new ArrayList<>();
-        dumpDirectly(path, jobName, result);
-        return String.join("\n", SensitiveInfoUtils.filterSensitiveIps(result)) + "\n";
+    public static String dumpJob(final String instanceIp, final int dumpPort, final String jobName) throws IOException {
+        return sendCommand(instanceIp, dumpPort, DUMP_COMMAND + jobName);
     }
-
+    
     /**
-     * Dump job.
+     * Dump sub tree of job.
      * @param instanceIp job instance ip addr
      * @param dumpPort dump port
      * @param jobName job's name
-     * @return dump job's info
+     * @param subPath path of sub tree relative to job's root, such as <code>/sharding</code>
+     * @return dump sub tree's info
      * @throws IOException i/o exception
      */
-    public static String dumpJob(final String instanceIp, final int dumpPort, final String jobName) throws IOException {
+    public static String dumpJob(final String instanceIp, final int dumpPort, final String jobName, final String subPath) throws IOException {
+        return dumpJob(instanceIp, dumpPort, jobName + (subPath.startsWith(PATH_SEPARATOR) ? subPath : PATH_SEPARATOR + subPath));
+    }
+    
+    /**
+     * Dump job from registry center and compare every node with local cache of the job instance.
+     * @param instanceIp job instance ip addr
+     * @param dumpPort dump port
+     * @param jobName job's name
+     * @return dump job's info, nodes differing from local cache are appended with cached path and value
+     * @throws IOException i/o exception
+     */
+    public static String diffJob(final String instanceIp, final int dumpPort, final String jobName) throws IOException {
+        return sendCommand(instanceIp, dumpPort, DIFF_COMMAND + jobName);
+    }
+    
+    /**
+     * Get executor pool state of job.
+     * @param instanceIp job instance ip addr
+     * @param dumpPort dump port
+     * @param jobName job's name
+     * @return executor pool state as YAML, empty if the job has no executor pool in the instance
+     * @throws IOException i/o exception
+     */
+    public static String getExecutorPoolState(final String instanceIp, final int dumpPort, final String jobName) throws IOException {
+        return sendCommand(instanceIp, dumpPort, POOL_COMMAND + jobName);
+    }
+    
+    private static String sendCommand(final String instanceIp, final int dumpPort, final String command) throws IOException {
         try (
                 Socket socket = new Socket(instanceIp, dumpPort);
-                BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-                BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream()))
+                BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))
         ) {
-            writer.write(DUMP_COMMAND + jobName);
+            writer.write(command);
             writer.newLine();
             writer.flush();
             StringBuilder sb = new StringBuilder();
@@ -168,11 +324,6 @@ public final class SnapshotService {
             return sb.toString();
         }
     }
-
-    private void outputMessage(final BufferedWriter outputWriter, final String msg) throws IOException {
-        outputWriter.append(msg);
-        outputWriter.flush();
-    }
     
     /**
      * Close listener.
@@ -186,5 +337,8 @@ public final class SnapshotService {
                 log.error("ElasticJob: Snapshot service close failure, error is: ", ex);
             }
         }
+        if (null != dumpExecutor) {
+            dumpExecutor.shutdown();
+        }
     }
 }
@@ -56,6 +56,16 @@ public final class JobNodeStorage {
         return regCenter.isExisted(jobNodePath.getFullPath(node));
     }
     
+    /**
+     * Judge is job node ephemeral node owned by the current session or not.
+     * 
+     * @param node node
+     * @return is job node ephemeral node owned by the current session or not
+     */
+    public boolean isEphemeralJobNodeOwned(final String node) {
+        return regCenter.isEphemeralOwned(jobNodePath.getFullPath(node));
+    }
+    
     /**
      * Judge is job root node existed or not.
      *
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.trigger;
 
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceNode;
 import org.apache.shardingsphere.elasticjob.lite.internal.listener.AbstractListenerManager;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
@@ -33,12 +35,15 @@ public final class TriggerListenerManager extends AbstractListenerManager {
     
     private final TriggerNode triggerNode;
     
+    private final InstanceNode instanceNode;
+    
     private final TriggerService triggerService;
     
     public TriggerListenerManager(final CoordinatorRegistryCenter regCenter, final String jobName) {
         super(regCenter, jobName);
         this.jobName = jobName;
         triggerNode = new TriggerNode(jobName);
+        instanceNode = new InstanceNode(jobName);
         triggerService = new TriggerService(regCenter, jobName);
     }
     
@@ -51,12 +56,27 @@ public final class TriggerListenerManager extends AbstractListenerManager {
         
         @Override
         public void onChange(final DataChangedEvent event) {
+            if (triggerNode.isLocalQueuedTriggerPath(event.getKey()) && Type.ADDED == event.getType()) {
+                triggerService.dispatch();
+                return;
+            }
+            if (instanceNode.isInstancePath(event.getKey()) && Type.DELETED == event.getType()) {
+                if (!JobRegistry.getInstance().isShutdown(jobName)) {
+                    triggerService.recoverOrphanTriggers();
+                }
+                return;
+            }
             if (!triggerNode.isLocalTriggerPath(event.getKey()) || Type.ADDED != event.getType()) {
                 return;
             }
             triggerService.removeTriggerFlag();
-            if (!JobRegistry.getInstance().isShutdown(jobName) && !JobRegistry.getInstance().isJobRunning(jobName)) {
-                // TODO At present, it cannot be triggered when the job is running, and it will be changed to a stacked trigger in the future.
+            // The legacy trigger flag carrying a trigger id is written alongside a queued trigger, which is dispatched by itself.
+            if (!Strings.isNullOrEmpty(event.getValue()) || JobRegistry.getInstance().isShutdown(jobName)) {
+                return;
+            }
+            if (JobRegistry.getInstance().isJobRunning(jobName)) {
+                triggerService.addLocalTrigger(null);
+            } else {
                 JobRegistry.getInstance().getJobScheduleController(jobName).triggerJob();
             }
         }
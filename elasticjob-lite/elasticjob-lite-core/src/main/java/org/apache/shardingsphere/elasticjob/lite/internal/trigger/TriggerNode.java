@@ -28,8 +28,19 @@ public final class TriggerNode {
     
     public static final String ROOT = "trigger";
     
+    public static final String QUEUE_ROOT = "trigger-queue";
+    
+    /**
+     * Data of trigger queue whose job instance consumes queued triggers, instances of the previous release only consume the trigger flag.
+     */
+    public static final String CONSUMED_QUEUE_DATA = "consumed";
+    
     private static final String TRIGGER = ROOT + "/%s";
     
+    private static final String QUEUE = QUEUE_ROOT + "/%s";
+    
+    private static final String QUEUED_TRIGGER = QUEUE + "/%s";
+    
     private final String jobName;
     
     private final JobNodePath jobNodePath;
@@ -50,6 +61,17 @@ public final class TriggerNode {
         return null != jobInstance && path.equals(jobNodePath.getFullPath(String.format(TRIGGER, jobInstance.getJobInstanceId())));
     }
     
+    /**
+     * Is local queued trigger path.
+     *
+     * @param path path
+     * @return is local queued trigger path or not
+     */
+    public boolean isLocalQueuedTriggerPath(final String path) {
+        JobInstance jobInstance = JobRegistry.getInstance().getJobInstance(jobName);
+        return null != jobInstance && path.startsWith(jobNodePath.getFullPath(String.format(QUEUE, jobInstance.getJobInstanceId())) + "/");
+    }
+    
     /**
      * Get local trigger path.
      *
@@ -77,4 +99,43 @@ public final class TriggerNode {
     public String getTriggerRoot() {
         return ROOT;
     }
+    
+    /**
+     * Get local trigger queue path.
+     *
+     * @return local trigger queue path
+     */
+    public String getLocalQueuePath() {
+        return getQueuePath(JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId());
+    }
+    
+    /**
+     * Get trigger queue path.
+     *
+     * @param instanceId instance id
+     * @return trigger queue path
+     */
+    public String getQueuePath(final String instanceId) {
+        return String.format(QUEUE, instanceId);
+    }
+    
+    /**
+     * Get queued trigger path.
+     *
+     * @param instanceId instance id
+     * @param triggerId trigger id
+     * @return queued trigger path
+     */
+    public String getQueuedTriggerPath(final String instanceId, final String triggerId) {
+        return String.format(QUEUED_TRIGGER, instanceId, triggerId);
+    }
+    
+    /**
+     * Get trigger queue root.
+     *
+     * @return trigger queue root
+     */
+    public String getQueueRoot() {
+        return QUEUE_ROOT;
+    }
 }
@@ -17,21 +17,78 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.trigger;
 
+import com.google.common.base.Strings;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.lite.internal.config.ConfigurationService;
+import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceNode;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
+import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodePath;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Trigger service.
+ * 
+ * <p>
+ * Manual triggers are queued under the trigger queue of each job instance, ordered by trigger id.
+ * A queued trigger is acknowledged, by removing its node, exactly once: after the execution it was dispatched to completed, or when it is discarded by the trigger policy.
+ * Triggers coalesced by {@link TriggerPolicy#COALESCE} are collapsed into the latest one, so at most one trigger is pending per job instance.
+ * </p>
  */
+@Slf4j
 public final class TriggerService {
     
+    /**
+     * Policy of triggers arriving while job is running, one of {@link TriggerPolicy}.
+     */
+    public static final String POLICY_KEY = "trigger.policy";
+    
+    /**
+     * Maximum number of pending triggers of {@link TriggerPolicy#QUEUE}.
+     */
+    public static final String QUEUE_CAPACITY_KEY = "trigger.queue.capacity";
+    
+    private static final TriggerPolicy DEFAULT_POLICY = TriggerPolicy.COALESCE;
+    
+    private static final int DEFAULT_QUEUE_CAPACITY = 16;
+    
+    private final String jobName;
+    
     private final JobNodeStorage jobNodeStorage;
     
+    private final JobNodePath jobNodePath;
+    
     private final TriggerNode triggerNode;
     
+    private final ConfigurationService configService;
+    
     public TriggerService(final CoordinatorRegistryCenter regCenter, final String jobName) {
+        this.jobName = jobName;
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
+        jobNodePath = new JobNodePath(jobName);
         triggerNode = new TriggerNode(jobName);
+        configService = new ConfigurationService(regCenter, jobName);
+    }
+    
+    /**
+     * Generate trigger id, which sorts in the order of generation.
+     * 
+     * @return trigger id
+     */
+    public static String generateTriggerId() {
+        return String.format("%013d-%s", System.currentTimeMillis(), UUID.randomUUID().toString().replace("-", ""));
     }
     
     /**
@@ -40,4 +97,186 @@ public final class TriggerService {
     public void removeTriggerFlag() {
         jobNodeStorage.removeJobNodeIfExisted(triggerNode.getLocalTriggerPath());
     }
+    
+    /**
+     * Add trigger to local trigger queue.
+     * 
+     * @param triggerParameter trigger parameter, null means using job parameter
+     */
+    public void addLocalTrigger(final String triggerParameter) {
+        String localInstanceId = JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId();
+        jobNodeStorage.fillJobNode(triggerNode.getQueuedTriggerPath(localInstanceId, generateTriggerId()), Strings.nullToEmpty(triggerParameter));
+    }
+    
+    /**
+     * Dispatch pending triggers of local trigger queue.
+     * 
+     * <p>
+     * If job is idle, the oldest pending trigger is dispatched to job.
+     * If job is busy, pending triggers exceeding the capacity of trigger policy are discarded, and the remaining ones are dispatched after job completed.
+     * Pending triggers are collapsed into the latest one if policy is {@link TriggerPolicy#COALESCE}.
+     * </p>
+     */
+    public void dispatch() {
+        JobRegistry jobRegistry = JobRegistry.getInstance();
+        if (jobRegistry.isShutdown(jobName)) {
+            return;
+        }
+        List<String> pendingTriggerIds = getPendingTriggerIds();
+        if (pendingTriggerIds.isEmpty()) {
+            return;
+        }
+        Properties props = configService.load(true).getProps();
+        TriggerPolicy policy = getPolicy(props);
+        if (TriggerPolicy.COALESCE == policy) {
+            pendingTriggerIds = collapse(pendingTriggerIds);
+        }
+        int capacity = getCapacity(policy, props);
+        if (jobRegistry.isJobRunning(jobName) || !jobRegistry.getDispatchedTriggers(jobName).isEmpty()) {
+            defer(pendingTriggerIds, capacity);
+            return;
+        }
+        List<String> dispatchingTriggerIds = Collections.singletonList(pendingTriggerIds.get(0));
+        if (!jobRegistry.setDispatchedTriggersIfAbsent(jobName, dispatchingTriggerIds)) {
+            defer(pendingTriggerIds, capacity);
+            return;
+        }
+        discard(pendingTriggerIds.subList(1, pendingTriggerIds.size()), capacity);
+        String triggerParameter = jobNodeStorage.getJobNodeDataDirectly(getLocalQueuedTriggerPath(dispatchingTriggerIds.get(0)));
+        try {
+            jobRegistry.getJobScheduleController(jobName).triggerJob(dispatchingTriggerIds, Strings.emptyToNull(triggerParameter));
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            jobRegistry.clearDispatchedTriggers(jobName);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Dispatch pending triggers of local trigger queue if any trigger was deferred because job was busy.
+     */
+    public void dispatchDeferred() {
+        if (JobRegistry.getInstance().clearTriggerDeferred(jobName)) {
+            dispatch();
+        }
+    }
+    
+    /**
+     * Acknowledge triggers whose execution completed.
+     * 
+     * <p>Nothing is acknowledged if job has been shut down, the triggers are left to the instance taking over the trigger queue.</p>
+     * 
+     * @param triggerIds trigger ids
+     */
+    public void acknowledge(final Collection<String> triggerIds) {
+        JobInstance jobInstance = JobRegistry.getInstance().getJobInstance(jobName);
+        if (null == jobInstance) {
+            log.debug("Job '{}' has been shut down, triggers '{}' are not acknowledged.", jobName, triggerIds);
+            return;
+        }
+        for (String each : triggerIds) {
+            jobNodeStorage.removeJobNodeIfExisted(triggerNode.getQueuedTriggerPath(jobInstance.getJobInstanceId(), each));
+        }
+        JobRegistry.getInstance().clearDispatchedTriggers(jobName);
+    }
+    
+    /**
+     * Move queued triggers of offline job instances into local trigger queue.
+     * 
+     * <p>Each queued trigger is moved in a transaction, so that it is taken over by exactly one job instance.
+     * Trigger queues not marked as {@link TriggerNode#CONSUMED_QUEUE_DATA} belong to instances of the previous release,
+     * which executed the triggers through the trigger flag, so they are removed instead.</p>
+     */
+    public void recoverOrphanTriggers() {
+        String localInstanceId = JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId();
+        Collection<String> onlineInstanceIds = new HashSet<>(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT));
+        for (String each : jobNodeStorage.getJobNodeChildrenKeys(triggerNode.getQueueRoot())) {
+            if (!each.equals(localInstanceId) && !onlineInstanceIds.contains(each)) {
+                recoverOrphanTriggers(each, localInstanceId);
+            }
+        }
+    }
+    
+    private void recoverOrphanTriggers(final String orphanInstanceId, final String localInstanceId) {
+        if (!TriggerNode.CONSUMED_QUEUE_DATA.equals(jobNodeStorage.getJobNodeDataDirectly(triggerNode.getQueuePath(orphanInstanceId)))) {
+            log.debug("Job '{}' remove trigger queue of instance '{}' which does not consume queued triggers.", jobName, orphanInstanceId);
+            jobNodeStorage.removeJobNodeIfExisted(triggerNode.getQueuePath(orphanInstanceId));
+            return;
+        }
+        List<String> orphanTriggerIds = jobNodeStorage.getJobNodeChildrenKeys(triggerNode.getQueuePath(orphanInstanceId));
+        if (!orphanTriggerIds.isEmpty()) {
+            Collection<String> localTriggerIds = new HashSet<>(jobNodeStorage.getJobNodeChildrenKeys(triggerNode.getQueuePath(localInstanceId)));
+            jobNodeStorage.createJobNodeIfNeeded(triggerNode.getQueuePath(localInstanceId));
+            for (String each : orphanTriggerIds) {
+                recoverOrphanTrigger(orphanInstanceId, localInstanceId, each, localTriggerIds.contains(each));
+            }
+        }
+        if (jobNodeStorage.getJobNodeChildrenKeys(triggerNode.getQueuePath(orphanInstanceId)).isEmpty()) {
+            jobNodeStorage.removeJobNodeIfExisted(triggerNode.getQueuePath(orphanInstanceId));
+        }
+    }
+    
+    private void recoverOrphanTrigger(final String orphanInstanceId, final String localInstanceId, final String triggerId, final boolean existedInLocal) {
+        String orphanTriggerPath = triggerNode.getQueuedTriggerPath(orphanInstanceId, triggerId);
+        String triggerParameter = jobNodeStorage.getJobNodeDataDirectly(orphanTriggerPath);
+        if (null == triggerParameter) {
+            return;
+        }
+        List<TransactionOperation> transactionOperations = new ArrayList<>(2);
+        transactionOperations.add(TransactionOperation.opDelete(jobNodePath.getFullPath(orphanTriggerPath)));
+        if (!existedInLocal) {
+            transactionOperations.add(TransactionOperation.opAdd(jobNodePath.getFullPath(triggerNode.getQueuedTriggerPath(localInstanceId, triggerId)), triggerParameter));
+        }
+        jobNodeStorage.executeInTransaction(transactionOperations);
+    }
+    
+    private List<String> getPendingTriggerIds() {
+        Collection<String> dispatchedTriggerIds = JobRegistry.getInstance().getDispatchedTriggers(jobName);
+        return jobNodeStorage.getJobNodeChildrenKeys(triggerNode.getLocalQueuePath()).stream().filter(each -> !dispatchedTriggerIds.contains(each)).sorted().collect(Collectors.toList());
+    }
+    
+    private List<String> collapse(final List<String> pendingTriggerIds) {
+        String latestTriggerId = pendingTriggerIds.get(pendingTriggerIds.size() - 1);
+        for (String each : pendingTriggerIds.subList(0, pendingTriggerIds.size() - 1)) {
+            log.debug("Job '{}' coalesce trigger '{}' into trigger '{}'.", jobName, each, latestTriggerId);
+            jobNodeStorage.removeJobNodeIfExisted(getLocalQueuedTriggerPath(each));
+        }
+        return Collections.singletonList(latestTriggerId);
+    }
+    
+    private void defer(final List<String> pendingTriggerIds, final int capacity) {
+        discard(pendingTriggerIds, capacity);
+        if (capacity > 0) {
+            JobRegistry.getInstance().setTriggerDeferred(jobName);
+        }
+    }
+    
+    private void discard(final List<String> pendingTriggerIds, final int capacity) {
+        for (String each : pendingTriggerIds.subList(Math.min(capacity, pendingTriggerIds.size()), pendingTriggerIds.size())) {
+            log.debug("Job '{}' discard trigger '{}' exceeding the trigger queue capacity.", jobName, each);
+            jobNodeStorage.removeJobNodeIfExisted(getLocalQueuedTriggerPath(each));
+        }
+    }
+    
+    private String getLocalQueuedTriggerPath(final String triggerId) {
+        return triggerNode.getQueuedTriggerPath(JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId(), triggerId);
+    }
+    
+    private TriggerPolicy getPolicy(final Properties props) {
+        String value = null == props ? null : props.getProperty(POLICY_KEY);
+        return Strings.isNullOrEmpty(value) ? DEFAULT_POLICY : TriggerPolicy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+    
+    private int getCapacity(final TriggerPolicy policy, final Properties props) {
+        switch (policy) {
+            case DROP:
+                return 0;
+            case QUEUE:
+                String value = null == props ? null : props.getProperty(QUEUE_CAPACITY_KEY);
+                return Strings.isNullOrEmpty(value) ? DEFAULT_QUEUE_CAPACITY : Integer.parseInt(value.trim());
+            default:
+                return Integer.MAX_VALUE;
+        }
+    }
 }
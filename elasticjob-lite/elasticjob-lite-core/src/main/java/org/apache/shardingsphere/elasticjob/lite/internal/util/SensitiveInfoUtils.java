@@ -19,14 +19,8 @@ package org.apache.shardingsphere.elasticjob.lite.internal.util;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.shardingsphere.elasticjob.infra.env.IpUtils;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -35,10 +29,6 @@ import java.util.stream.Collectors;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SensitiveInfoUtils {
     
-    private static final String FAKE_IP_SAMPLE = "ip";
-
-    private static final Pattern IP_PATTERN = Pattern.compile(IpUtils.IP_REGEX);
-    
     /**
      * Filter sensitive IP addresses.
      * 
@@ -46,23 +36,7 @@ public final class SensitiveInfoUtils {
      * @return filtered IP addresses
      */
     public static List<String> filterSensitiveIps(final List<String> target) {
-        final Map<String, String> fakeIpMap = new HashMap<>();
-        final AtomicInteger step = new AtomicInteger();
-        return target.stream().map(input -> {
-            Matcher matcher = IP_PATTERN.matcher(input);
-            String result = input;
-            while (matcher.find()) {
-                String realIp = matcher.group();
-                String fakeIp;
-                if (fakeIpMap.containsKey(realIp)) {
-                    fakeIp = fakeIpMap.get(realIp);
-                } else {
-                    fakeIp = FAKE_IP_SAMPLE + step.incrementAndGet();
-                    fakeIpMap.put(realIp, fakeIp);
-                }
-                result = result.replace(realIp, fakeIp);
-            }
-            return result;
-        }).collect(Collectors.toList());
+        SensitiveIpMasker masker = new SensitiveIpMasker();
+        return target.stream().map(masker::mask).collect(Collectors.toList());
     }
 }
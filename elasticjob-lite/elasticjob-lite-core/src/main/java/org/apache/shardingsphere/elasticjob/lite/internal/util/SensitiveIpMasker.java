@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.util;
+
+import org.apache.shardingsphere.elasticjob.infra.env.IpUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Sensitive IP masker.
+ * 
+ * <p>Lines are masked one by one in a single pass, the same real IP address is always masked to the same fake IP address by one masker.</p>
+ */
+public final class SensitiveIpMasker {
+    
+    private static final String FAKE_IP_SAMPLE = "ip";
+    
+    private static final Pattern IP_PATTERN = Pattern.compile(IpUtils.IP_REGEX);
+    
+    private final Map<String, String> fakeIps = new HashMap<>();
+    
+    /**
+     * Mask IP addresses of line.
+     * 
+     * @param line line to be masked
+     * @return masked line
+     */
+    public String mask(final String line) {
+        Matcher matcher = IP_PATTERN.matcher(line);
+        if (!matcher.find()) {
+            return line;
+        }
+        StringBuilder result = new StringBuilder(line.length());
+        int lastEnd = 0;
+        do {
+            result.append(line, lastEnd, matcher.start()).append(fakeIps.computeIfAbsent(matcher.group(), unused -> FAKE_IP_SAMPLE + (fakeIps.size() + 1)));
+            lastEnd = matcher.end();
+        } while (matcher.find());
+        return result.append(line, lastEnd, line.length()).toString();
+    }
+}
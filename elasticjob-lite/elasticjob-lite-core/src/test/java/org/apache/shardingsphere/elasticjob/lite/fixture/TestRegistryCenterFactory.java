@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.fixture;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.memory.MemoryRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.zookeeper.ZookeeperConfiguration;
+import org.apache.shardingsphere.elasticjob.reg.zookeeper.ZookeeperRegistryCenter;
+
+/**
+ * Registry center factory for tests.
+ * 
+ * <p>Set system property {@code elasticjob.test.registry.center} to {@code memory} to run tests with memory registry center,
+ * otherwise tests run with ZooKeeper registry center on embed testing server.
+ * Every memory registry center has its own data tree, so tests should create one registry center per test class.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TestRegistryCenterFactory {
+    
+    private static final String REGISTRY_CENTER_TYPE_KEY = "elasticjob.test.registry.center";
+    
+    private static final String MEMORY_REGISTRY_CENTER_TYPE = "memory";
+    
+    /**
+     * Create registry center.
+     * 
+     * @param namespace namespace of ZooKeeper registry center
+     * @return registry center
+     */
+    public static CoordinatorRegistryCenter createRegistryCenter(final String namespace) {
+        if (MEMORY_REGISTRY_CENTER_TYPE.equals(System.getProperty(REGISTRY_CENTER_TYPE_KEY))) {
+            return new MemoryRegistryCenter();
+        }
+        EmbedTestingServer.start();
+        ZookeeperConfiguration zkConfig = new ZookeeperConfiguration(EmbedTestingServer.getConnectionString(), namespace);
+        zkConfig.setConnectionTimeoutMilliseconds(30000);
+        return new ZookeeperRegistryCenter(zkConfig);
+    }
+}
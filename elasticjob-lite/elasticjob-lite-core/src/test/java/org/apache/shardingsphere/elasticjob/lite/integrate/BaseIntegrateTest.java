@@ -24,13 +24,12 @@ import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.api.bootstrap.JobBootstrap;
 import org.apache.shardingsphere.elasticjob.lite.api.bootstrap.impl.OneOffJobBootstrap;
 import org.apache.shardingsphere.elasticjob.lite.api.bootstrap.impl.ScheduleJobBootstrap;
-import org.apache.shardingsphere.elasticjob.lite.fixture.EmbedTestingServer;
+import org.apache.shardingsphere.elasticjob.lite.fixture.TestRegistryCenterFactory;
 import org.apache.shardingsphere.elasticjob.lite.internal.election.LeaderService;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
-import org.apache.shardingsphere.elasticjob.reg.zookeeper.ZookeeperConfiguration;
-import org.apache.shardingsphere.elasticjob.reg.zookeeper.ZookeeperRegistryCenter;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,10 +37,8 @@ import org.junit.jupiter.api.BeforeEach;
 @Getter(AccessLevel.PROTECTED)
 public abstract class BaseIntegrateTest {
     
-    private static final ZookeeperConfiguration ZOOKEEPER_CONFIG = new ZookeeperConfiguration(EmbedTestingServer.getConnectionString(), "zkRegTestCenter");
-    
     @Getter(AccessLevel.PROTECTED)
-    private static final CoordinatorRegistryCenter REGISTRY_CENTER = new ZookeeperRegistryCenter(ZOOKEEPER_CONFIG);
+    private static CoordinatorRegistryCenter registryCenter;
     
     private final ElasticJob elasticJob;
             
@@ -57,7 +54,7 @@ public abstract class BaseIntegrateTest {
         this.elasticJob = elasticJob;
         jobConfiguration = getJobConfiguration(jobName);
         jobBootstrap = createJobBootstrap(type, elasticJob);
-        leaderService = new LeaderService(REGISTRY_CENTER, jobName);
+        leaderService = new LeaderService(registryCenter, jobName);
     }
     
     protected abstract JobConfiguration getJobConfiguration(String jobName);
@@ -65,9 +62,9 @@ public abstract class BaseIntegrateTest {
     private JobBootstrap createJobBootstrap(final TestType type, final ElasticJob elasticJob) {
         switch (type) {
             case SCHEDULE:
-                return new ScheduleJobBootstrap(REGISTRY_CENTER, elasticJob, jobConfiguration);
+                return new ScheduleJobBootstrap(registryCenter, elasticJob, jobConfiguration);
             case ONE_OFF:
-                return new OneOffJobBootstrap(REGISTRY_CENTER, elasticJob, jobConfiguration);
+                return new OneOffJobBootstrap(registryCenter, elasticJob, jobConfiguration);
             default:
                 throw new RuntimeException(String.format("Cannot support `%s`", type));
         }
@@ -75,9 +72,13 @@ public abstract class BaseIntegrateTest {
     
     @BeforeAll
     public static void init() {
-        EmbedTestingServer.start();
-        ZOOKEEPER_CONFIG.setConnectionTimeoutMilliseconds(30000);
-        REGISTRY_CENTER.init();
+        registryCenter = TestRegistryCenterFactory.createRegistryCenter("zkRegTestCenter");
+        registryCenter.init();
+    }
+    
+    @AfterAll
+    public static void close() {
+        registryCenter.close();
     }
     
     @BeforeEach
@@ -45,6 +45,6 @@ public final class OneOffEnabledJobIntegrateTest extends EnabledJobIntegrateTest
         Awaitility.await().atMost(1L, TimeUnit.MINUTES).untilAsserted(() ->
                 assertThat(((DetailedFooJob) getElasticJob()).isCompleted(), is(true))
         );
-        assertTrue(getREGISTRY_CENTER().isExisted("/" + getJobName() + "/sharding"));
+        assertTrue(getRegistryCenter().isExisted("/" + getJobName() + "/sharding"));
     }
 }
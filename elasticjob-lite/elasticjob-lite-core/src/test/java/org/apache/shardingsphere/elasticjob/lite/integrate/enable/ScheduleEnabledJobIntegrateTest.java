@@ -45,6 +45,6 @@ public final class ScheduleEnabledJobIntegrateTest extends EnabledJobIntegrateTe
         Awaitility.await().atMost(10L, TimeUnit.SECONDS).untilAsserted(() ->
                 assertThat(((DetailedFooJob) getElasticJob()).isCompleted(), is(true))
         );
-        assertTrue(getREGISTRY_CENTER().isExisted("/" + getJobName() + "/sharding"));
+        assertTrue(getRegistryCenter().isExisted("/" + getJobName() + "/sharding"));
     }
 }
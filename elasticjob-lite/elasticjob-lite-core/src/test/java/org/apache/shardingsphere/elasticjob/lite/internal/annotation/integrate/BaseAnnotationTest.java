@@ -24,14 +24,13 @@ import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.lite.api.bootstrap.JobBootstrap;
 import org.apache.shardingsphere.elasticjob.lite.api.bootstrap.impl.OneOffJobBootstrap;
 import org.apache.shardingsphere.elasticjob.lite.api.bootstrap.impl.ScheduleJobBootstrap;
-import org.apache.shardingsphere.elasticjob.lite.fixture.EmbedTestingServer;
+import org.apache.shardingsphere.elasticjob.lite.fixture.TestRegistryCenterFactory;
 import org.apache.shardingsphere.elasticjob.lite.internal.annotation.JobAnnotationBuilder;
 import org.apache.shardingsphere.elasticjob.lite.internal.election.LeaderService;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
-import org.apache.shardingsphere.elasticjob.reg.zookeeper.ZookeeperConfiguration;
-import org.apache.shardingsphere.elasticjob.reg.zookeeper.ZookeeperRegistryCenter;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,10 +38,8 @@ import org.junit.jupiter.api.BeforeEach;
 @Getter(AccessLevel.PROTECTED)
 public abstract class BaseAnnotationTest {
     
-    private static final ZookeeperConfiguration ZOOKEEPER_CONFIG = new ZookeeperConfiguration(EmbedTestingServer.getConnectionString(), "zkRegTestCenter");
-    
     @Getter(AccessLevel.PROTECTED)
-    private static final CoordinatorRegistryCenter REGISTRY_CENTER = new ZookeeperRegistryCenter(ZOOKEEPER_CONFIG);
+    private static CoordinatorRegistryCenter registryCenter;
     
     private final ElasticJob elasticJob;
             
@@ -59,15 +56,15 @@ public abstract class BaseAnnotationTest {
         jobConfiguration = JobAnnotationBuilder.generateJobConfiguration(elasticJob.getClass());
         jobName = jobConfiguration.getJobName();
         jobBootstrap = createJobBootstrap(type, elasticJob);
-        leaderService = new LeaderService(REGISTRY_CENTER, jobName);
+        leaderService = new LeaderService(registryCenter, jobName);
     }
     
     private JobBootstrap createJobBootstrap(final TestType type, final ElasticJob elasticJob) {
         switch (type) {
             case SCHEDULE:
-                return new ScheduleJobBootstrap(REGISTRY_CENTER, elasticJob);
+                return new ScheduleJobBootstrap(registryCenter, elasticJob);
             case ONE_OFF:
-                return new OneOffJobBootstrap(REGISTRY_CENTER, elasticJob);
+                return new OneOffJobBootstrap(registryCenter, elasticJob);
             default:
                 throw new RuntimeException(String.format("Cannot support `%s`", type));
         }
@@ -75,9 +72,13 @@ public abstract class BaseAnnotationTest {
     
     @BeforeAll
     public static void init() {
-        EmbedTestingServer.start();
-        ZOOKEEPER_CONFIG.setConnectionTimeoutMilliseconds(30000);
-        REGISTRY_CENTER.init();
+        registryCenter = TestRegistryCenterFactory.createRegistryCenter("zkRegTestCenter");
+        registryCenter.init();
+    }
+    
+    @AfterAll
+    public static void close() {
+        registryCenter.close();
     }
     
     @BeforeEach
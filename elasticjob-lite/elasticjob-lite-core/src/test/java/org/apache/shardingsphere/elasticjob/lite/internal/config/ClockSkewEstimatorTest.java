@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.config;
+
+import org.apache.shardingsphere.elasticjob.infra.env.TimeService;
+import org.apache.shardingsphere.elasticjob.lite.internal.config.ClockSkewEstimator.ClockOffset;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+public final class ClockSkewEstimatorTest {
+    
+    private static final long SAMPLE_INTERVAL_MILLIS = 60000L;
+    
+    @Mock
+    private TimeService timeService;
+    
+    private final AtomicLong localTime = new AtomicLong(1000000L);
+    
+    private final AtomicInteger sampledCount = new AtomicInteger();
+    
+    private ClockSkewEstimator clockSkewEstimator;
+    
+    @BeforeEach
+    public void setUp() {
+        lenient().when(timeService.getCurrentMillis()).thenAnswer(invocation -> localTime.get());
+        clockSkewEstimator = new ClockSkewEstimator(timeService, SAMPLE_INTERVAL_MILLIS);
+    }
+    
+    @Test
+    public void assertEstimateWithInjectedSkew() {
+        ClockOffset actual = clockSkewEstimator.estimate(createSampler(5000L, 40L));
+        assertThat(actual.getOffsetMillis(), is(5000L));
+        assertThat(actual.getUncertaintyMillis(), is(20L));
+        assertThat(actual.getSampledTimeMillis(), is(1000040L));
+        assertThat(clockSkewEstimator.getLatest(), sameInstance(actual));
+    }
+    
+    @Test
+    public void assertGetMinAndMaxSkew() {
+        ClockOffset actual = clockSkewEstimator.estimate(createSampler(-5000L, 40L));
+        assertThat(actual.getMinSkewMillis(), is(4980L));
+        assertThat(actual.getMaxSkewMillis(), is(5020L));
+        clockSkewEstimator.invalidate();
+        assertThat(clockSkewEstimator.estimate(createSampler(10L, 40L)).getMinSkewMillis(), is(0L));
+    }
+    
+    @Test
+    public void assertEstimateWithNegativeSkew() {
+        ClockOffset actual = clockSkewEstimator.estimate(createSampler(-3000L, 0L));
+        assertThat(actual.getOffsetMillis(), is(-3000L));
+        assertThat(actual.getUncertaintyMillis(), is(0L));
+    }
+    
+    @Test
+    public void assertEstimateFromCacheWithinSampleInterval() {
+        LongSupplier sampler = createSampler(5000L, 0L);
+        ClockOffset expected = clockSkewEstimator.estimate(sampler);
+        localTime.addAndGet(SAMPLE_INTERVAL_MILLIS - 1L);
+        assertThat(clockSkewEstimator.estimate(sampler), sameInstance(expected));
+        assertThat(sampledCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertEstimateAgainAfterSampleInterval() {
+        ClockOffset expected = clockSkewEstimator.estimate(createSampler(5000L, 0L));
+        localTime.addAndGet(SAMPLE_INTERVAL_MILLIS);
+        ClockOffset actual = clockSkewEstimator.estimate(createSampler(7000L, 0L));
+        assertThat(actual, not(sameInstance(expected)));
+        assertThat(actual.getOffsetMillis(), is(7000L));
+        assertThat(sampledCount.get(), is(2));
+    }
+    
+    @Test
+    public void assertEstimateAgainWhenLocalClockMovedBackwards() {
+        clockSkewEstimator.estimate(createSampler(5000L, 0L));
+        localTime.addAndGet(-10000L);
+        assertThat(clockSkewEstimator.estimate(createSampler(15000L, 0L)).getOffsetMillis(), is(15000L));
+        assertThat(sampledCount.get(), is(2));
+    }
+    
+    @Test
+    public void assertInvalidate() {
+        clockSkewEstimator.estimate(createSampler(5000L, 0L));
+        clockSkewEstimator.invalidate();
+        assertThat(clockSkewEstimator.getLatest(), is(nullValue()));
+        assertThat(clockSkewEstimator.estimate(createSampler(6000L, 0L)).getOffsetMillis(), is(6000L));
+        assertThat(sampledCount.get(), is(2));
+    }
+    
+    @Test
+    public void assertGetInstance() {
+        CoordinatorRegistryCenter regCenter = mock(CoordinatorRegistryCenter.class);
+        assertThat(ClockSkewEstimator.getInstance(regCenter), sameInstance(ClockSkewEstimator.getInstance(regCenter)));
+        assertThat(ClockSkewEstimator.getInstance(regCenter), not(sameInstance(ClockSkewEstimator.getInstance(mock(CoordinatorRegistryCenter.class)))));
+    }
+    
+    private LongSupplier createSampler(final long skewMillis, final long roundTripMillis) {
+        return () -> {
+            sampledCount.incrementAndGet();
+            long result = localTime.get() + roundTripMillis / 2 + skewMillis;
+            localTime.addAndGet(roundTripMillis);
+            return result;
+        };
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.elasticjob.lite.internal.config;
 import org.apache.shardingsphere.elasticjob.api.ElasticJob;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.infra.exception.JobConfigurationException;
+import org.apache.shardingsphere.elasticjob.infra.env.TimeService;
 import org.apache.shardingsphere.elasticjob.infra.exception.JobExecutionEnvironmentException;
 import org.apache.shardingsphere.elasticjob.infra.pojo.JobConfigurationPOJO;
 import org.apache.shardingsphere.elasticjob.infra.yaml.YamlEngine;
@@ -36,6 +37,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -50,6 +53,7 @@ public final class ConfigurationServiceTest {
     @BeforeEach
     public void setUp() {
         ReflectionUtils.setFieldValue(configService, "jobNodeStorage", jobNodeStorage);
+        ReflectionUtils.setFieldValue(configService, "clockSkewEstimator", new ClockSkewEstimator(new TimeService(), 60000L));
     }
     
     @Test
@@ -133,6 +137,27 @@ public final class ConfigurationServiceTest {
         verify(jobNodeStorage).getRegistryCenterTime();
     }
     
+    @Test
+    public void assertIsMaxTimeDiffSecondsTolerableWithCachedClockOffset() throws JobExecutionEnvironmentException {
+        when(jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT)).thenReturn(LiteYamlConstants.getJobYaml());
+        when(jobNodeStorage.getRegistryCenterTime()).thenReturn(System.currentTimeMillis());
+        configService.checkMaxTimeDiffSecondsTolerable();
+        configService.checkMaxTimeDiffSecondsTolerable();
+        verify(jobNodeStorage).getRegistryCenterTime();
+    }
+    
+    @Test
+    public void assertIsMaxTimeDiffSecondsTolerableWithUncertainClockOffset() throws JobExecutionEnvironmentException {
+        TimeService timeService = mock(TimeService.class);
+        when(timeService.getCurrentMillis()).thenReturn(0L, 4000L, 0L, 4000L);
+        ReflectionUtils.setFieldValue(configService, "clockSkewEstimator", new ClockSkewEstimator(timeService, 60000L));
+        when(jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT)).thenReturn(LiteYamlConstants.getJobYaml(1));
+        when(jobNodeStorage.getRegistryCenterTime()).thenReturn(4500L);
+        configService.checkMaxTimeDiffSecondsTolerable();
+        configService.checkMaxTimeDiffSecondsTolerable();
+        verify(jobNodeStorage, times(2)).getRegistryCenterTime();
+    }
+    
     @Test
     public void assertIsNotMaxTimeDiffSecondsTolerable() {
         assertThrows(JobExecutionEnvironmentException.class, () -> {
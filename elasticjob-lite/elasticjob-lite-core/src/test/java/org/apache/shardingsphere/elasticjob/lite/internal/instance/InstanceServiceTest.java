@@ -21,10 +21,12 @@ import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.server.ServerService;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.lite.internal.trigger.TriggerNode;
 import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -34,6 +36,9 @@ import java.util.Collections;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -61,9 +66,23 @@ public final class InstanceServiceTest {
     @Test
     public void assertPersistOnline() {
         instanceService.persistOnline();
+        verify(jobNodeStorage).replaceJobNode("trigger-queue/127.0.0.1@-@0", TriggerNode.CONSUMED_QUEUE_DATA);
         verify(jobNodeStorage).fillEphemeralJobNode("instances/127.0.0.1@-@0", "jobInstanceId: 127.0.0.1@-@0\nserverIp: 127.0.0.1\n");
     }
     
+    @Test
+    public void assertPersistOnlineIfAbsentWhenNotOwned() {
+        instanceService.persistOnlineIfAbsent();
+        verify(jobNodeStorage).fillEphemeralJobNode("instances/127.0.0.1@-@0", "jobInstanceId: 127.0.0.1@-@0\nserverIp: 127.0.0.1\n");
+    }
+    
+    @Test
+    public void assertPersistOnlineIfAbsentWhenOwned() {
+        when(jobNodeStorage.isEphemeralJobNodeOwned("instances/127.0.0.1@-@0")).thenReturn(true);
+        instanceService.persistOnlineIfAbsent();
+        verify(jobNodeStorage, times(0)).fillEphemeralJobNode("instances/127.0.0.1@-@0", "jobInstanceId: 127.0.0.1@-@0\nserverIp: 127.0.0.1\n");
+    }
+    
     @Test
     public void assertRemoveInstance() {
         instanceService.removeInstance();
@@ -97,7 +116,26 @@ public final class InstanceServiceTest {
     public void assertTriggerAllInstances() {
         when(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)).thenReturn(Arrays.asList("127.0.0.1@-@0", "127.0.0.2@-@0"));
         instanceService.triggerAllInstances();
-        verify(jobNodeStorage).createJobNodeIfNeeded("trigger/127.0.0.1@-@0");
-        verify(jobNodeStorage).createJobNodeIfNeeded("trigger/127.0.0.2@-@0");
+        ArgumentCaptor<String> pathCaptor = ArgumentCaptor.forClass(String.class);
+        verify(jobNodeStorage, times(2)).fillJobNode(pathCaptor.capture(), eq(""));
+        assertTrue(pathCaptor.getAllValues().get(0).startsWith("trigger-queue/127.0.0.1@-@0/"));
+        assertTrue(pathCaptor.getAllValues().get(1).startsWith("trigger-queue/127.0.0.2@-@0/"));
+        String triggerId = getTriggerId(pathCaptor.getAllValues().get(0));
+        assertThat(getTriggerId(pathCaptor.getAllValues().get(1)), is(triggerId));
+        verify(jobNodeStorage).removeJobNodeIfExisted("trigger");
+        verify(jobNodeStorage).fillJobNode("trigger/127.0.0.1@-@0", triggerId);
+        verify(jobNodeStorage).fillJobNode("trigger/127.0.0.2@-@0", triggerId);
+    }
+    
+    @Test
+    public void assertTriggerAllInstancesWithParameter() {
+        when(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)).thenReturn(Arrays.asList("127.0.0.1@-@0", "127.0.0.2@-@0"));
+        instanceService.triggerAllInstances("foo");
+        verify(jobNodeStorage).fillJobNode(startsWith("trigger-queue/127.0.0.1@-@0/"), eq("foo"));
+        verify(jobNodeStorage).fillJobNode(startsWith("trigger-queue/127.0.0.2@-@0/"), eq("foo"));
+    }
+    
+    private String getTriggerId(final String queuedTriggerPath) {
+        return queuedTriggerPath.substring(queuedTriggerPath.lastIndexOf('/') + 1);
     }
 }
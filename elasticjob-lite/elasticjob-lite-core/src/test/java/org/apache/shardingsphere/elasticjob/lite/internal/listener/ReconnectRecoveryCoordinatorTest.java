@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.listener;
+
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+import org.apache.shardingsphere.elasticjob.reg.exception.RegException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public final class ReconnectRecoveryCoordinatorTest {
+    
+    private static final long BATCH_WINDOW_MILLISECONDS = 200L;
+    
+    private static final long MAX_RESUME_JITTER_MILLISECONDS = 3000L;
+    
+    @Mock
+    private CoordinatorRegistryCenter regCenter;
+    
+    @Mock
+    private ScheduledExecutorService executor;
+    
+    @Test
+    public void assertRecoverManyJobsOfManyInstancesInBoundedTransactions() throws Exception {
+        int instanceCount = 4;
+        int jobCount = 100;
+        for (int i = 0; i < instanceCount; i++) {
+            CoordinatorRegistryCenter instanceRegCenter = mock(CoordinatorRegistryCenter.class);
+            ScheduledExecutorService instanceExecutor = mock(ScheduledExecutorService.class);
+            ReconnectRecoveryCoordinator coordinator = new ReconnectRecoveryCoordinator(instanceRegCenter, instanceExecutor, BATCH_WINDOW_MILLISECONDS, MAX_RESUME_JITTER_MILLISECONDS);
+            List<RegistryCenterConnectionStateListener> listeners = createListeners(jobCount, 4);
+            listeners.forEach(coordinator::recover);
+            listeners.forEach(coordinator::recover);
+            verify(instanceExecutor).schedule(any(Runnable.class), eq(BATCH_WINDOW_MILLISECONDS), eq(TimeUnit.MILLISECONDS));
+            coordinator.recoverPendingJobs();
+            ArgumentCaptor<List<TransactionOperation>> operationsCaptor = ArgumentCaptor.forClass(List.class);
+            verify(instanceRegCenter, times(4)).executeInTransaction(operationsCaptor.capture());
+            assertThat(operationsCaptor.getAllValues().stream().mapToInt(List::size).sum(), is(jobCount * 4));
+            assertTrue(operationsCaptor.getAllValues().stream().allMatch(each -> each.size() <= 128));
+            for (RegistryCenterConnectionStateListener each : listeners) {
+                verify(each).persistInstanceOnline();
+                verify(each, times(0)).recoverOneByOne();
+            }
+        }
+    }
+    
+    @Test
+    public void assertRecoverJobsWithoutOperations() throws Exception {
+        ReconnectRecoveryCoordinator coordinator = createCoordinator();
+        List<RegistryCenterConnectionStateListener> listeners = createListeners(10, 0);
+        listeners.forEach(coordinator::recover);
+        coordinator.recoverPendingJobs();
+        verify(regCenter, times(0)).executeInTransaction(anyList());
+    }
+    
+    @Test
+    public void assertResumeWithJitter() {
+        ReconnectRecoveryCoordinator coordinator = createCoordinator();
+        List<RegistryCenterConnectionStateListener> listeners = createListeners(50, 1);
+        listeners.forEach(coordinator::recover);
+        coordinator.recoverPendingJobs();
+        ArgumentCaptor<Runnable> resumeCaptor = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Long> delayCaptor = ArgumentCaptor.forClass(Long.class);
+        verify(executor, times(51)).schedule(resumeCaptor.capture(), delayCaptor.capture(), eq(TimeUnit.MILLISECONDS));
+        List<Long> resumeDelays = delayCaptor.getAllValues().subList(1, 51);
+        assertTrue(resumeDelays.stream().allMatch(each -> each >= 0L && each < MAX_RESUME_JITTER_MILLISECONDS));
+        assertTrue(new HashSet<>(resumeDelays).size() > 1);
+        resumeCaptor.getAllValues().subList(1, 51).forEach(Runnable::run);
+        listeners.forEach(each -> verify(each).resume());
+    }
+    
+    @Test
+    public void assertResumeSkippedWhenCancelled() {
+        ReconnectRecoveryCoordinator coordinator = createCoordinator();
+        List<RegistryCenterConnectionStateListener> listeners = createListeners(2, 1);
+        listeners.forEach(coordinator::recover);
+        coordinator.recoverPendingJobs();
+        coordinator.cancel();
+        ArgumentCaptor<Runnable> resumeCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(3)).schedule(resumeCaptor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        resumeCaptor.getAllValues().subList(1, 3).forEach(Runnable::run);
+        listeners.forEach(each -> verify(each, times(0)).resume());
+    }
+    
+    @Test
+    public void assertPendingRecoveryDiscardedWhenCancelled() {
+        ReconnectRecoveryCoordinator coordinator = createCoordinator();
+        RegistryCenterConnectionStateListener listener = mock(RegistryCenterConnectionStateListener.class);
+        when(listener.getJobName()).thenReturn("test_job");
+        coordinator.recover(listener);
+        coordinator.cancel();
+        coordinator.recoverPendingJobs();
+        verify(listener, times(0)).persistInstanceOnline();
+    }
+    
+    @Test
+    public void assertRecoverOneByOneWhenTransactionFailed() throws Exception {
+        ReconnectRecoveryCoordinator coordinator = createCoordinator();
+        List<RegistryCenterConnectionStateListener> listeners = createListeners(3, 2);
+        doThrow(new Exception("failed")).when(regCenter).executeInTransaction(anyList());
+        listeners.forEach(coordinator::recover);
+        coordinator.recoverPendingJobs();
+        listeners.forEach(each -> verify(each).recoverOneByOne());
+    }
+    
+    @Test
+    public void assertShutdownJobNotRecovered() {
+        ReconnectRecoveryCoordinator coordinator = createCoordinator();
+        RegistryCenterConnectionStateListener listener = mock(RegistryCenterConnectionStateListener.class);
+        when(listener.getJobName()).thenReturn("test_job");
+        when(listener.isShutdown()).thenReturn(true);
+        coordinator.recover(listener);
+        coordinator.recoverPendingJobs();
+        verify(listener, times(0)).persistInstanceOnline();
+        verify(executor, times(1)).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    public void assertFailedJobRetriedThenResumed() {
+        ReconnectRecoveryCoordinator coordinator = createCoordinator();
+        List<RegistryCenterConnectionStateListener> listeners = createListeners(2, 1);
+        doThrow(new RegException(new Exception("failed"))).when(listeners.get(0)).persistInstanceOnline();
+        listeners.forEach(coordinator::recover);
+        coordinator.recoverPendingJobs();
+        verify(executor, times(2)).schedule(any(Runnable.class), eq(BATCH_WINDOW_MILLISECONDS), eq(TimeUnit.MILLISECONDS));
+        coordinator.recoverPendingJobs();
+        verify(executor, times(3)).schedule(any(Runnable.class), eq(BATCH_WINDOW_MILLISECONDS), eq(TimeUnit.MILLISECONDS));
+        coordinator.recoverPendingJobs();
+        verify(listeners.get(0), times(3)).persistInstanceOnline();
+        ArgumentCaptor<Runnable> scheduledCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(5)).schedule(scheduledCaptor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        scheduledCaptor.getAllValues().get(4).run();
+        verify(listeners.get(0)).resume();
+    }
+    
+    @Test
+    public void assertFailedJobRetryDiscardedWhenCancelled() {
+        ReconnectRecoveryCoordinator coordinator = createCoordinator();
+        List<RegistryCenterConnectionStateListener> listeners = createListeners(1, 1);
+        doThrow(new RegException(new Exception("failed"))).when(listeners.get(0)).persistInstanceOnline();
+        coordinator.recover(listeners.get(0));
+        coordinator.recoverPendingJobs();
+        coordinator.cancel();
+        coordinator.recoverPendingJobs();
+        verify(listeners.get(0)).persistInstanceOnline();
+        verify(listeners.get(0), times(0)).resume();
+    }
+    
+    private ReconnectRecoveryCoordinator createCoordinator() {
+        return new ReconnectRecoveryCoordinator(regCenter, executor, BATCH_WINDOW_MILLISECONDS, MAX_RESUME_JITTER_MILLISECONDS);
+    }
+    
+    private List<RegistryCenterConnectionStateListener> createListeners(final int jobCount, final int operationCountPerJob) {
+        List<RegistryCenterConnectionStateListener> result = new ArrayList<>(jobCount);
+        for (int i = 0; i < jobCount; i++) {
+            RegistryCenterConnectionStateListener listener = mock(RegistryCenterConnectionStateListener.class);
+            when(listener.getJobName()).thenReturn("test_job_" + i);
+            if (operationCountPerJob > 0) {
+                List<TransactionOperation> operations = new ArrayList<>(operationCountPerJob);
+                operations.add(TransactionOperation.opUpdate(String.format("/test_job_%d/servers/127.0.0.1", i), "ENABLED"));
+                for (int j = 1; j < operationCountPerJob; j++) {
+                    operations.add(TransactionOperation.opDelete(String.format("/test_job_%d/sharding/%d/running", i, j)));
+                }
+                lenient().when(listener.getRecoveryOperations()).thenReturn(operations);
+            }
+            result.add(listener);
+        }
+        return result;
+    }
+}
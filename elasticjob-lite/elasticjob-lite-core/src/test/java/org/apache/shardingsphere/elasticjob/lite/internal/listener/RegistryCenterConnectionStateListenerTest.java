@@ -26,6 +26,7 @@ import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ExecutionServ
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ShardingService;
 import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 import org.apache.shardingsphere.elasticjob.reg.listener.ConnectionStateChangedEventListener.State;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,7 +35,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -60,6 +64,9 @@ public final class RegistryCenterConnectionStateListenerTest {
     @Mock
     private JobScheduleController jobScheduleController;
     
+    @Mock
+    private ReconnectRecoveryCoordinator reconnectRecoveryCoordinator;
+    
     private RegistryCenterConnectionStateListener regCenterConnectionStateListener;
     
     @BeforeEach
@@ -70,6 +77,7 @@ public final class RegistryCenterConnectionStateListenerTest {
         ReflectionUtils.setFieldValue(regCenterConnectionStateListener, "instanceService", instanceService);
         ReflectionUtils.setFieldValue(regCenterConnectionStateListener, "shardingService", shardingService);
         ReflectionUtils.setFieldValue(regCenterConnectionStateListener, "executionService", executionService);
+        ReflectionUtils.setFieldValue(regCenterConnectionStateListener, "reconnectRecoveryCoordinator", reconnectRecoveryCoordinator);
     }
     
     @Test
@@ -77,6 +85,7 @@ public final class RegistryCenterConnectionStateListenerTest {
         JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
         JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
         regCenterConnectionStateListener.onStateChanged(null, State.UNAVAILABLE);
+        verify(reconnectRecoveryCoordinator).cancel();
         verify(jobScheduleController).pauseJob();
         JobRegistry.getInstance().shutdown("test_job");
     }
@@ -92,15 +101,53 @@ public final class RegistryCenterConnectionStateListenerTest {
     public void assertConnectionLostListenerWhenConnectionStateIsReconnected() {
         JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
         JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
+        regCenterConnectionStateListener.onStateChanged(null, State.RECONNECTED);
+        verify(reconnectRecoveryCoordinator).recover(regCenterConnectionStateListener);
+        verify(jobScheduleController, times(0)).resumeJob();
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertPersistInstanceOnline() {
+        regCenterConnectionStateListener.persistInstanceOnline();
+        verify(instanceService).persistOnlineIfAbsent();
+    }
+    
+    @Test
+    public void assertGetRecoveryOperations() {
+        TransactionOperation serverOperation = TransactionOperation.opAdd("/test_job/servers/127.0.0.1", "ENABLED");
+        TransactionOperation runningOperation = TransactionOperation.opDelete("/test_job/sharding/0/running");
         when(shardingService.getLocalShardingItems()).thenReturn(Arrays.asList(0, 1));
         when(serverService.isEnableServer("127.0.0.1")).thenReturn(true);
-        regCenterConnectionStateListener.onStateChanged(null, State.RECONNECTED);
+        when(serverService.getPersistOnlineOperations(true)).thenReturn(Collections.singletonList(serverOperation));
+        when(executionService.getClearRunningInfoOperations(Arrays.asList(0, 1))).thenReturn(Collections.singletonList(runningOperation));
+        assertThat(regCenterConnectionStateListener.getRecoveryOperations(), is(Arrays.asList(serverOperation, runningOperation)));
+    }
+    
+    @Test
+    public void assertRecoverOneByOne() {
+        when(shardingService.getLocalShardingItems()).thenReturn(Arrays.asList(0, 1));
+        when(serverService.isEnableServer("127.0.0.1")).thenReturn(true);
+        regCenterConnectionStateListener.recoverOneByOne();
         verify(serverService).persistOnline(true);
         verify(executionService).clearRunningInfo(Arrays.asList(0, 1));
+    }
+    
+    @Test
+    public void assertResume() {
+        JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
+        regCenterConnectionStateListener.resume();
         verify(jobScheduleController).resumeJob();
         JobRegistry.getInstance().shutdown("test_job");
     }
     
+    @Test
+    public void assertResumeButIsShutdown() {
+        regCenterConnectionStateListener.resume();
+        verify(jobScheduleController, times(0)).resumeJob();
+    }
+    
     @Test
     public void assertConnectionLostListenerWhenConnectionStateIsReconnectedButIsShutdown() {
         regCenterConnectionStateListener.onStateChanged(null, State.RECONNECTED);
@@ -31,6 +31,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -80,4 +84,40 @@ public final class ReconcileServiceTest {
         verify(shardingService).hasShardingInfoInOfflineServers();
         verify(shardingService, times(0)).setReshardingFlag();
     }
+    
+    @Test
+    public void assertReconcileSkippedWhenShardingStateNotChanged() {
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").reconcileIntervalMinutes(1).build());
+        ReflectionUtils.setFieldValue(reconcileService, "shardingStateChanged", false);
+        reconcileService.runOneIteration();
+        verify(shardingService, times(0)).hasShardingInfoInOfflineServers();
+    }
+    
+    @Test
+    public void assertReconcileWhenFullReconcileIntervalsReached() {
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").reconcileIntervalMinutes(1).build());
+        ReflectionUtils.setFieldValue(reconcileService, "shardingStateChanged", false);
+        ReflectionUtils.setFieldValue(reconcileService, "skippedCount", 9);
+        reconcileService.runOneIteration();
+        verify(shardingService).hasShardingInfoInOfflineServers();
+    }
+    
+    @Test
+    public void assertStartAndStop() {
+        reconcileService.start();
+        assertTrue(reconcileService.isRunning());
+        verify(regCenter).watch(eq("/test_job"), any(), any());
+        reconcileService.stop();
+        assertFalse(reconcileService.isRunning());
+    }
+    
+    @Test
+    public void assertRestartAddsDataListenerOnce() {
+        reconcileService.start();
+        reconcileService.stop();
+        reconcileService.start();
+        assertTrue(reconcileService.isRunning());
+        verify(regCenter).watch(eq("/test_job"), any(), any());
+        reconcileService.stop();
+    }
 }
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.elasticjob.infra.listener.ElasticJobListener;
+import org.apache.shardingsphere.elasticjob.infra.listener.ListenerExecutionMode;
+import org.apache.shardingsphere.elasticjob.infra.listener.ShardingContexts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class ElasticJobListenerInvokerTest {
+    
+    private final ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap());
+    
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    
+    private ElasticJobListenerInvoker invoker;
+    
+    @AfterEach
+    public void tearDown() {
+        if (null != invoker) {
+            invoker.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertSyncListenersCalledOnJobThreadInOrder() {
+        String jobThread = Thread.currentThread().getName();
+        invoker = new ElasticJobListenerInvoker(Arrays.asList(
+                new RecordingListener("l1", ListenerExecutionMode.SYNC, phase -> events.add(Thread.currentThread().getName())),
+                new RecordingListener("l2", ListenerExecutionMode.SYNC, phase -> events.add(Thread.currentThread().getName()))));
+        invoker.beforeJobExecuted(shardingContexts, this::failOnPropsLoaded);
+        assertThat(events, is(Arrays.asList("l1-before", jobThread, "l2-before", jobThread)));
+    }
+    
+    @Test
+    public void assertSyncListenerFailurePropagated() {
+        invoker = new ElasticJobListenerInvoker(Collections.singletonList(new RecordingListener("l1", ListenerExecutionMode.SYNC, phase -> {
+            throw new IllegalStateException(phase);
+        })));
+        assertThrows(IllegalStateException.class, () -> invoker.beforeJobExecuted(shardingContexts, this::failOnPropsLoaded));
+    }
+    
+    @Test
+    public void assertAsyncListenerFailureIsolated() {
+        invoker = new ElasticJobListenerInvoker(Arrays.asList(
+                new RecordingListener("l1", ListenerExecutionMode.ASYNC, phase -> {
+                    throw new IllegalStateException(phase);
+                }),
+                new RecordingListener("l2", ListenerExecutionMode.ASYNC, phase -> { }),
+                new RecordingListener("l3", ListenerExecutionMode.SYNC, phase -> { })));
+        invoker.beforeJobExecuted(shardingContexts, Properties::new);
+        assertTrue(events.containsAll(Arrays.asList("l1-before", "l2-before", "l3-before")));
+    }
+    
+    @Test
+    public void assertAsyncListenerWaitedUntilTimeout() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        invoker = new ElasticJobListenerInvoker(Collections.singletonList(new RecordingListener("l1", ListenerExecutionMode.ASYNC, phase -> await(release))));
+        Properties props = new Properties();
+        props.setProperty(ElasticJobListenerInvoker.ASYNC_TIMEOUT_KEY, "100");
+        long startTime = System.nanoTime();
+        invoker.beforeJobExecuted(shardingContexts, () -> props);
+        long elapsedMilliseconds = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        assertTrue(elapsedMilliseconds >= 100L && elapsedMilliseconds < 5000L);
+        release.countDown();
+    }
+    
+    @Test
+    public void assertAsyncListenerWaitedUntilFinished() {
+        invoker = new ElasticJobListenerInvoker(Collections.singletonList(new RecordingListener("l1", ListenerExecutionMode.ASYNC, phase -> sleep(50L))));
+        invoker.afterJobExecuted(shardingContexts, Properties::new);
+        assertThat(events, is(Collections.singletonList("l1-after")));
+    }
+    
+    @Test
+    public void assertFireAndForgetListenerNotWaited() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        invoker = new ElasticJobListenerInvoker(Collections.singletonList(new RecordingListener("l1", ListenerExecutionMode.FIRE_AND_FORGET, phase -> {
+            await(release);
+            finished.countDown();
+        })));
+        invoker.beforeJobExecuted(shardingContexts, this::failOnPropsLoaded);
+        assertThat(finished.getCount(), is(1L));
+        release.countDown();
+        assertTrue(finished.await(5L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void assertBeforeAndAfterKeptInOrderPerListener() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        invoker = new ElasticJobListenerInvoker(Collections.singletonList(new RecordingListener("l1", ListenerExecutionMode.FIRE_AND_FORGET, phase -> {
+            if ("before".equals(phase)) {
+                sleep(100L);
+            } else {
+                finished.countDown();
+            }
+        })));
+        invoker.beforeJobExecuted(shardingContexts, this::failOnPropsLoaded);
+        invoker.afterJobExecuted(shardingContexts, this::failOnPropsLoaded);
+        assertTrue(finished.await(5L, TimeUnit.SECONDS));
+        assertThat(events, is(Arrays.asList("l1-before", "l1-after")));
+    }
+    
+    @Test
+    public void assertAfterSkippedWhenBeforeRejected() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        invoker = new ElasticJobListenerInvoker(Collections.singletonList(new RecordingListener("l1", ListenerExecutionMode.FIRE_AND_FORGET, phase -> {
+            if ("before".equals(phase)) {
+                await(release);
+            } else {
+                finished.countDown();
+            }
+        })));
+        for (int i = 0; i < 100; i++) {
+            invoker.beforeJobExecuted(shardingContexts, this::failOnPropsLoaded);
+        }
+        release.countDown();
+        awaitEventCount("l1-before", 2);
+        invoker.afterJobExecuted(shardingContexts, this::failOnPropsLoaded);
+        invoker.beforeJobExecuted(shardingContexts, this::failOnPropsLoaded);
+        invoker.afterJobExecuted(shardingContexts, this::failOnPropsLoaded);
+        assertTrue(finished.await(5L, TimeUnit.SECONDS));
+        assertThat(events.stream().filter("l1-after"::equals).count(), is(1L));
+        assertThat(events.get(events.size() - 1), is("l1-after"));
+    }
+    
+    @Test
+    public void assertListenersShareBoundedThreads() throws InterruptedException {
+        int listenerCount = 64;
+        CountDownLatch finished = new CountDownLatch(listenerCount);
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        List<ElasticJobListener> listeners = new ArrayList<>(listenerCount);
+        for (int i = 0; i < listenerCount; i++) {
+            listeners.add(new RecordingListener("l" + i, ListenerExecutionMode.FIRE_AND_FORGET, phase -> {
+                threadNames.add(Thread.currentThread().getName());
+                sleep(10L);
+                finished.countDown();
+            }));
+        }
+        invoker = new ElasticJobListenerInvoker(listeners);
+        invoker.beforeJobExecuted(shardingContexts, this::failOnPropsLoaded);
+        assertTrue(finished.await(5L, TimeUnit.SECONDS));
+        assertTrue(threadNames.size() < listenerCount);
+        assertTrue(threadNames.stream().allMatch(each -> each.startsWith("elasticjob-listener-")));
+    }
+    
+    @Test
+    public void assertPropsLoadedOnlyWhenWaitingForAsyncListeners() {
+        AtomicInteger loadedCount = new AtomicInteger();
+        Supplier<Properties> props = () -> {
+            loadedCount.incrementAndGet();
+            return new Properties();
+        };
+        invoker = new ElasticJobListenerInvoker(Arrays.asList(
+                new RecordingListener("l1", ListenerExecutionMode.SYNC, phase -> { }), new RecordingListener("l2", ListenerExecutionMode.ASYNC, phase -> { })));
+        invoker.beforeJobExecuted(shardingContexts, props);
+        assertThat(loadedCount.get(), is(1));
+    }
+    
+    private Properties failOnPropsLoaded() {
+        throw new AssertionError("Job properties should not be loaded.");
+    }
+    
+    private void awaitEventCount(final String event, final long expectedCount) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (events.stream().filter(event::equals).count() < expectedCount && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+        }
+    }
+    
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5L, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static void sleep(final long milliseconds) {
+        try {
+            Thread.sleep(milliseconds);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class RecordingListener implements ElasticJobListener {
+        
+        private final String name;
+        
+        private final ListenerExecutionMode executionMode;
+        
+        private final Consumer<String> action;
+        
+        @Override
+        public void beforeJobExecuted(final ShardingContexts shardingContexts) {
+            events.add(name + "-before");
+            action.accept("before");
+        }
+        
+        @Override
+        public void afterJobExecuted(final ShardingContexts shardingContexts) {
+            events.add(name + "-after");
+            action.accept("after");
+        }
+        
+        @Override
+        public ListenerExecutionMode executionMode() {
+            return executionMode;
+        }
+        
+        @Override
+        public String getType() {
+            return name;
+        }
+    }
+}
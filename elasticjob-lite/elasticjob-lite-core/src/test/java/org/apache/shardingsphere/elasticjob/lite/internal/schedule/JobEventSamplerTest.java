@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JobEventSamplerTest {
+    
+    private final JobEventSampler jobEventSampler = new JobEventSampler();
+    
+    @Test
+    public void assertIsSampledWithoutSamplingProperties() {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(jobEventSampler.isSampled(new Properties()));
+        }
+    }
+    
+    @Test
+    public void assertIsSampledByCount() {
+        Properties props = new Properties();
+        props.setProperty(JobEventSampler.SAMPLING_COUNT_KEY, "3");
+        assertTrue(jobEventSampler.isSampled(props));
+        assertFalse(jobEventSampler.isSampled(props));
+        assertFalse(jobEventSampler.isSampled(props));
+        assertTrue(jobEventSampler.isSampled(props));
+    }
+    
+    @Test
+    public void assertIsSampledByRate() {
+        Properties props = new Properties();
+        props.setProperty(JobEventSampler.SAMPLING_RATE_KEY, "2");
+        int sampledCount = 0;
+        for (int i = 0; i < 100; i++) {
+            if (jobEventSampler.isSampled(props)) {
+                sampledCount++;
+            }
+        }
+        assertTrue(sampledCount >= 2);
+        assertTrue(sampledCount <= 4);
+    }
+    
+    @Test
+    public void assertIsSampledByCountAndRate() {
+        Properties props = new Properties();
+        props.setProperty(JobEventSampler.SAMPLING_COUNT_KEY, "2");
+        props.setProperty(JobEventSampler.SAMPLING_RATE_KEY, "1000");
+        int sampledCount = 0;
+        for (int i = 0; i < 10; i++) {
+            if (jobEventSampler.isSampled(props)) {
+                sampledCount++;
+            }
+        }
+        assertThat(sampledCount, is(5));
+    }
+}
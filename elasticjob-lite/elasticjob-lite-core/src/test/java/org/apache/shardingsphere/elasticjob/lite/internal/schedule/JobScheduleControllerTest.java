@@ -22,8 +22,10 @@ import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
 import org.quartz.JobKey;
 import org.quartz.Scheduler;
@@ -33,6 +35,11 @@ import org.quartz.TriggerKey;
 import org.quartz.impl.triggers.CronTriggerImpl;
 import org.quartz.impl.triggers.SimpleTriggerImpl;
 
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -202,6 +209,52 @@ public final class JobScheduleControllerTest {
         verify(scheduler).start();
     }
     
+    @Test
+    public void assertTriggerQueuedJobSuccess() throws SchedulerException {
+        JobKey jobKey = new JobKey("test_job");
+        when(jobDetail.getKey()).thenReturn(jobKey);
+        when(scheduler.checkExists(jobKey)).thenReturn(true);
+        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
+        ReflectionUtils.setFieldValue(jobScheduleController, "jobDetail", jobDetail);
+        jobScheduleController.triggerJob(Arrays.asList("1", "2"), "foo");
+        ArgumentCaptor<JobDataMap> jobDataMapCaptor = ArgumentCaptor.forClass(JobDataMap.class);
+        verify(scheduler).triggerJob(eq(jobKey), jobDataMapCaptor.capture());
+        assertThat(jobDataMapCaptor.getValue().getString(JobScheduleController.TRIGGER_IDS_DATA_MAP_KEY), is("1,2"));
+        assertThat(jobDataMapCaptor.getValue().getString(JobScheduleController.TRIGGER_PARAMETER_DATA_MAP_KEY), is("foo"));
+    }
+    
+    @Test
+    public void assertTriggerQueuedOneOffJobSuccess() throws SchedulerException {
+        JobKey jobKey = new JobKey("test_job");
+        when(jobDetail.getKey()).thenReturn(jobKey);
+        when(scheduler.checkExists(jobKey)).thenReturn(false);
+        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
+        ReflectionUtils.setFieldValue(jobScheduleController, "jobDetail", jobDetail);
+        jobScheduleController.triggerJob(Collections.singletonList("1"), null);
+        ArgumentCaptor<Trigger> triggerCaptor = ArgumentCaptor.forClass(Trigger.class);
+        verify(scheduler).scheduleJob(eq(jobDetail), triggerCaptor.capture());
+        assertThat(triggerCaptor.getValue().getJobDataMap().getString(JobScheduleController.TRIGGER_IDS_DATA_MAP_KEY), is("1"));
+        assertFalse(triggerCaptor.getValue().getJobDataMap().containsKey(JobScheduleController.TRIGGER_PARAMETER_DATA_MAP_KEY));
+        assertFalse(triggerCaptor.getValue().getKey().equals(new TriggerKey("test_job_Trigger")));
+        verify(scheduler).start();
+    }
+    
+    @Test
+    public void assertScheduleJobWhenTriggeredBeforeScheduled() throws SchedulerException {
+        JobKey jobKey = new JobKey("test_job");
+        when(jobDetail.getKey()).thenReturn(jobKey);
+        when(scheduler.checkExists(jobKey)).thenReturn(true);
+        when(scheduler.checkExists(new TriggerKey("test_job_Trigger"))).thenReturn(false);
+        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
+        ReflectionUtils.setFieldValue(jobScheduleController, "jobDetail", jobDetail);
+        jobScheduleController.scheduleJob("0/1 * * * * ?", null);
+        ArgumentCaptor<Trigger> triggerCaptor = ArgumentCaptor.forClass(Trigger.class);
+        verify(scheduler).scheduleJob(triggerCaptor.capture());
+        assertThat(triggerCaptor.getValue().getKey(), is(new TriggerKey("test_job_Trigger")));
+        assertThat(triggerCaptor.getValue().getJobKey(), is(jobKey));
+        verify(scheduler).start();
+    }
+    
     @Test
     public void assertShutdownJobIfShutdown() throws SchedulerException {
         ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
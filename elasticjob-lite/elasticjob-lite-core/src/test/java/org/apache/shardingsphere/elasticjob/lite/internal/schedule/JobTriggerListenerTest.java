@@ -19,18 +19,25 @@ package org.apache.shardingsphere.elasticjob.lite.internal.schedule;
 
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ExecutionService;
 import org.apache.shardingsphere.elasticjob.lite.internal.sharding.ShardingService;
+import org.apache.shardingsphere.elasticjob.lite.internal.trigger.TriggerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobDataMap;
 import org.quartz.Trigger;
+import org.quartz.Trigger.CompletedExecutionInstruction;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -44,6 +51,9 @@ public final class JobTriggerListenerTest {
     @Mock
     private ShardingService shardingService;
     
+    @Mock
+    private TriggerService triggerService;
+    
     @Mock
     private Trigger trigger;
     
@@ -51,7 +61,7 @@ public final class JobTriggerListenerTest {
     
     @BeforeEach
     public void setUp() {
-        jobTriggerListener = new JobTriggerListener(executionService, shardingService);
+        jobTriggerListener = new JobTriggerListener(executionService, shardingService, triggerService);
     }
     
     @Test
@@ -72,4 +82,24 @@ public final class JobTriggerListenerTest {
         jobTriggerListener.triggerMisfired(trigger);
         verify(executionService).setMisfire(Collections.singletonList(0));
     }
+    
+    @Test
+    public void assertTriggerCompleteWithoutQueuedTriggers() {
+        when(trigger.getJobDataMap()).thenReturn(new JobDataMap());
+        jobTriggerListener.triggerComplete(trigger, null, CompletedExecutionInstruction.NOOP);
+        verify(triggerService, times(0)).acknowledge(any());
+        verify(triggerService, times(0)).dispatch();
+        verify(triggerService).dispatchDeferred();
+    }
+    
+    @Test
+    public void assertTriggerCompleteWithQueuedTriggers() {
+        JobDataMap jobDataMap = new JobDataMap();
+        jobDataMap.put(JobScheduleController.TRIGGER_IDS_DATA_MAP_KEY, "foo,bar");
+        when(trigger.getJobDataMap()).thenReturn(jobDataMap);
+        jobTriggerListener.triggerComplete(trigger, null, CompletedExecutionInstruction.NOOP);
+        InOrder inOrder = inOrder(triggerService);
+        inOrder.verify(triggerService).acknowledge(Arrays.asList("foo", "bar"));
+        inOrder.verify(triggerService).dispatch();
+    }
 }
@@ -41,6 +41,8 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -139,6 +141,13 @@ public final class LiteJobFacadeTest {
         verify(failoverService).updateFailoverComplete(shardingContexts.getShardingItemParameters().keySet());
     }
     
+    @Test
+    public void assertRegisterItemCompleted() {
+        ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap());
+        liteJobFacade.registerItemCompleted(shardingContexts, 1);
+        verify(executionService).registerItemCompleted(1);
+    }
+    
     @Test
     public void assertGetShardingContextWhenIsFailoverEnableAndFailover() {
         ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap());
@@ -171,6 +180,23 @@ public final class LiteJobFacadeTest {
         verify(shardingService).shardingIfNecessary();
     }
     
+    @Test
+    public void assertGetShardingContextWithTriggerParameter() {
+        ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 10, "job_param", Collections.singletonMap(0, "A"));
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").failover(false).build());
+        when(shardingService.getLocalShardingItems()).thenReturn(Collections.singletonList(0));
+        when(executionContextService.getJobShardingContext(Collections.singletonList(0))).thenReturn(shardingContexts);
+        JobRegistry.getInstance().setTriggerParameter("test_job", "trigger_param");
+        try {
+            ShardingContexts actual = liteJobFacade.getShardingContexts();
+            assertThat(actual.getTaskId(), is("fake_task_id"));
+            assertThat(actual.getJobParameter(), is("trigger_param"));
+            assertThat(actual.getShardingItemParameters(), is(Collections.singletonMap(0, "A")));
+        } finally {
+            JobRegistry.getInstance().setTriggerParameter("test_job", null);
+        }
+    }
+    
     @Test
     public void assertGetShardingContextWhenHasDisabledItems() {
         ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap());
@@ -182,6 +208,27 @@ public final class LiteJobFacadeTest {
         verify(shardingService).shardingIfNecessary();
     }
     
+    @Test
+    public void assertGetShardingContextWhenTracingIsDisabled() {
+        ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap());
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").failover(false).build());
+        when(shardingService.getLocalShardingItems()).thenReturn(Arrays.asList(0, 1));
+        when(executionContextService.getJobShardingContext(Arrays.asList(0, 1))).thenReturn(shardingContexts);
+        assertFalse(liteJobFacade.getShardingContexts().isAllowSendJobEvent());
+    }
+    
+    @Test
+    public void assertGetShardingContextWithJobEventSampling() {
+        ReflectionUtils.setFieldValue(liteJobFacade, "tracingEnabled", true);
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").failover(false)
+                .setProperty(JobEventSampler.SAMPLING_COUNT_KEY, "2").build());
+        when(shardingService.getLocalShardingItems()).thenReturn(Arrays.asList(0, 1));
+        when(executionContextService.getJobShardingContext(Arrays.asList(0, 1)))
+                .thenReturn(new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap()), new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap()));
+        assertTrue(liteJobFacade.getShardingContexts().isAllowSendJobEvent());
+        assertFalse(liteJobFacade.getShardingContexts().isAllowSendJobEvent());
+    }
+    
     @Test
     public void assertMisfireIfRunning() {
         when(executionService.misfireIfHasRunningItems(Arrays.asList(0, 1))).thenReturn(true);
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobScheduleCo
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,7 +32,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.times;
@@ -86,6 +90,45 @@ public final class ServerServiceTest {
         JobRegistry.getInstance().shutdown("test_job");
     }
     
+    @Test
+    public void assertGetPersistOnlineOperationsForInstanceShutdown() {
+        JobRegistry.getInstance().shutdown("test_job");
+        assertTrue(serverService.getPersistOnlineOperations(true).isEmpty());
+    }
+    
+    @Test
+    public void assertGetPersistOnlineOperationsWhenServerAbsent() {
+        JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
+        List<TransactionOperation> actual = serverService.getPersistOnlineOperations(true);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getType(), is(TransactionOperation.Type.ADD));
+        assertThat(actual.get(0).getKey(), is("/test_job/servers/127.0.0.1"));
+        assertThat(actual.get(0).getValue(), is(ServerStatus.ENABLED.name()));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertGetPersistOnlineOperationsWhenStatusChanged() {
+        JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
+        when(jobNodeStorage.getJobNodeDataDirectly("servers/127.0.0.1")).thenReturn(ServerStatus.ENABLED.name());
+        List<TransactionOperation> actual = serverService.getPersistOnlineOperations(false);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getType(), is(TransactionOperation.Type.UPDATE));
+        assertThat(actual.get(0).getValue(), is(ServerStatus.DISABLED.name()));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertGetPersistOnlineOperationsWhenStatusUnchanged() {
+        JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
+        when(jobNodeStorage.getJobNodeDataDirectly("servers/127.0.0.1")).thenReturn(ServerStatus.ENABLED.name());
+        assertTrue(serverService.getPersistOnlineOperations(true).isEmpty());
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
     @Test
     public void assertHasAvailableServers() {
         when(jobNodeStorage.getJobNodeChildrenKeys("servers")).thenReturn(Arrays.asList("127.0.0.1", "127.0.0.2", "127.0.0.3"));
@@ -83,7 +83,7 @@ public final class SetUpFacadeTest {
     public void assertTearDown() {
         when(reconcileService.isRunning()).thenReturn(true);
         setUpFacade.tearDown();
-        verify(reconcileService).stopAsync();
+        verify(reconcileService).stop();
         verify(regCenter).removeDataListeners("/test_job");
         verify(regCenter).removeConnStateListener("/test_job");
     }
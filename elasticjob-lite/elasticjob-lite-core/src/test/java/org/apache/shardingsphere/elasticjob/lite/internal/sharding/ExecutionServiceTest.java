@@ -24,6 +24,7 @@ import org.apache.shardingsphere.elasticjob.lite.internal.config.ConfigurationSe
 import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -121,6 +123,20 @@ public final class ExecutionServiceTest {
         assertFalse(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
+    @Test
+    public void assertRegisterItemCompletedWithoutMonitorExecution() {
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").monitorExecution(false).build());
+        executionService.registerItemCompleted(1);
+        verify(jobNodeStorage, times(0)).removeJobNodeIfExisted(any());
+    }
+    
+    @Test
+    public void assertRegisterItemCompletedWithMonitorExecution() {
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").monitorExecution(true).build());
+        executionService.registerItemCompleted(1);
+        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/1/running");
+    }
+    
     @Test
     public void assertClearAllRunningInfo() {
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").monitorExecution(false).build());
@@ -137,6 +153,16 @@ public final class ExecutionServiceTest {
         verify(jobNodeStorage).removeJobNodeIfExisted("sharding/1/running");
     }
     
+    @Test
+    public void assertGetClearRunningInfoOperations() {
+        when(jobNodeStorage.isJobNodeExisted("sharding/0/running")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExisted("sharding/1/running")).thenReturn(false);
+        List<TransactionOperation> actual = executionService.getClearRunningInfoOperations(Arrays.asList(0, 1));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getType(), is(TransactionOperation.Type.DELETE));
+        assertThat(actual.get(0).getKey(), is("/test_job/sharding/0/running"));
+    }
+    
     @Test
     public void assertNotHaveRunningItemsWithoutMonitorExecution() {
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").monitorExecution(false).build());
@@ -17,15 +17,26 @@
 
 package org.apache.shardingsphere.elasticjob.lite.internal.snapshot;
 
+import org.apache.shardingsphere.elasticjob.infra.concurrent.ExecutorPoolState;
+import org.apache.shardingsphere.elasticjob.infra.yaml.YamlEngine;
 import org.apache.shardingsphere.elasticjob.lite.fixture.job.DetailedFooJob;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public final class SnapshotServiceEnableTest extends BaseSnapshotServiceTest {
     
@@ -58,4 +69,57 @@ public final class SnapshotServiceEnableTest extends BaseSnapshotServiceTest {
     public void assertDumpJob() throws IOException {
         assertNotNull(SnapshotService.dumpJob("127.0.0.1", DUMP_PORT, getJobName()));
     }
+    
+    @Test
+    public void assertDumpJobFromCacheInTreeOrder() throws IOException {
+        String actual = SnapshotService.dumpJob("127.0.0.1", DUMP_PORT, getJobName());
+        assertTrue(actual.contains("/" + getJobName() + "/config | "));
+        Collection<String> dumpedPaths = new HashSet<>();
+        dumpedPaths.add("/" + getJobName());
+        for (String each : actual.split("\n")) {
+            if (!each.startsWith("/" + getJobName() + "/")) {
+                continue;
+            }
+            String path = each.split(" \\| ")[0];
+            assertTrue(dumpedPaths.contains(path.substring(0, path.lastIndexOf('/'))), path);
+            dumpedPaths.add(path);
+        }
+    }
+    
+    @Test
+    public void assertDiffJob() throws IOException {
+        assertTrue(SnapshotService.diffJob("127.0.0.1", DUMP_PORT, getJobName()).contains("/" + getJobName() + "/config | "));
+    }
+    
+    @Test
+    public void assertGetExecutorPoolState() throws IOException {
+        ExecutorPoolState actual = YamlEngine.unmarshal(SnapshotService.getExecutorPoolState("127.0.0.1", DUMP_PORT, getJobName()), ExecutorPoolState.class);
+        assertEquals(actual.getPoolSize(), Runtime.getRuntime().availableProcessors() * 2);
+        assertEquals(SnapshotService.getExecutorPoolState("127.0.0.1", DUMP_PORT, "unknown_job"), "");
+    }
+    
+    @Test
+    public void assertDumpSubTree() throws IOException {
+        String actual = SnapshotService.dumpJob("127.0.0.1", DUMP_PORT, getJobName(), "/servers");
+        assertFalse(actual.isEmpty());
+        for (String each : actual.split("\n")) {
+            assertTrue(each.startsWith("/" + getJobName() + "/servers/"), each);
+        }
+    }
+    
+    @Test
+    public void assertDumpJobConcurrently() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Collection<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> SnapshotService.dumpJob("127.0.0.1", DUMP_PORT, getJobName())));
+            }
+            for (Future<String> each : futures) {
+                assertTrue(each.get().contains("/" + getJobName() + "/config | "));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
 }
@@ -67,6 +67,12 @@ public final class JobNodeStorageTest {
         verify(regCenter).isExisted("/test_job/config");
     }
     
+    @Test
+    public void assertIsEphemeralJobNodeOwned() {
+        when(regCenter.isEphemeralOwned("/test_job/instances/127.0.0.1@-@0")).thenReturn(true);
+        assertTrue(jobNodeStorage.isEphemeralJobNodeOwned("instances/127.0.0.1@-@0"));
+    }
+    
     @Test
     public void assertGetJobNodeData() {
         when(regCenter.get("/test_job/config/cron")).thenReturn("0/1 * * * * ?");
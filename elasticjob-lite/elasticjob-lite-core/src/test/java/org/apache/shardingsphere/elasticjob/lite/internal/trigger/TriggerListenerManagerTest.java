@@ -91,11 +91,23 @@ public final class TriggerListenerManagerTest {
         JobRegistry.getInstance().setJobRunning("test_job", true);
         triggerListenerManager.new JobTriggerStatusJobListener().onChange(new DataChangedEvent(DataChangedEvent.Type.ADDED, "/test_job/trigger/127.0.0.1@-@0", ""));
         verify(triggerService).removeTriggerFlag();
+        verify(triggerService).addLocalTrigger(null);
         verify(jobScheduleController, times(0)).triggerJob();
         JobRegistry.getInstance().setJobRunning("test_job", false);
         JobRegistry.getInstance().shutdown("test_job");
     }
     
+    @Test
+    public void assertTriggerWithLegacyFlagOfQueuedTrigger() {
+        JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
+        triggerListenerManager.new JobTriggerStatusJobListener().onChange(new DataChangedEvent(DataChangedEvent.Type.ADDED, "/test_job/trigger/127.0.0.1@-@0", "0000000000001-foo"));
+        verify(triggerService).removeTriggerFlag();
+        verify(triggerService, times(0)).addLocalTrigger(null);
+        verify(jobScheduleController, times(0)).triggerJob();
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
     @Test
     public void assertTriggerWhenJobIsNotRunning() {
         JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
@@ -105,4 +117,38 @@ public final class TriggerListenerManagerTest {
         verify(jobScheduleController).triggerJob();
         JobRegistry.getInstance().shutdown("test_job");
     }
+    
+    @Test
+    public void assertDispatchWhenLocalQueuedTriggerAdded() {
+        triggerListenerManager.new JobTriggerStatusJobListener().onChange(new DataChangedEvent(DataChangedEvent.Type.ADDED, "/test_job/trigger-queue/127.0.0.1@-@0/0000000000001-foo", ""));
+        verify(triggerService).dispatch();
+        verify(triggerService, times(0)).removeTriggerFlag();
+    }
+    
+    @Test
+    public void assertNotDispatchWhenOtherQueuedTriggerAdded() {
+        triggerListenerManager.new JobTriggerStatusJobListener().onChange(new DataChangedEvent(DataChangedEvent.Type.ADDED, "/test_job/trigger-queue/127.0.0.2@-@0/0000000000001-foo", ""));
+        verify(triggerService, times(0)).dispatch();
+    }
+    
+    @Test
+    public void assertNotDispatchWhenLocalQueuedTriggerDeleted() {
+        triggerListenerManager.new JobTriggerStatusJobListener().onChange(new DataChangedEvent(DataChangedEvent.Type.DELETED, "/test_job/trigger-queue/127.0.0.1@-@0/0000000000001-foo", ""));
+        verify(triggerService, times(0)).dispatch();
+    }
+    
+    @Test
+    public void assertRecoverOrphanTriggersWhenInstanceRemoved() {
+        JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
+        triggerListenerManager.new JobTriggerStatusJobListener().onChange(new DataChangedEvent(DataChangedEvent.Type.DELETED, "/test_job/instances/127.0.0.2@-@0", ""));
+        verify(triggerService).recoverOrphanTriggers();
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertNotRecoverOrphanTriggersWhenShutdown() {
+        triggerListenerManager.new JobTriggerStatusJobListener().onChange(new DataChangedEvent(DataChangedEvent.Type.DELETED, "/test_job/instances/127.0.0.2@-@0", ""));
+        verify(triggerService, times(0)).recoverOrphanTriggers();
+    }
 }
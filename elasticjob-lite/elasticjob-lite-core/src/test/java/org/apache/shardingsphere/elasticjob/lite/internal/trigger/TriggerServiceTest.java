@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.internal.trigger;
+
+import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.lite.internal.config.ConfigurationService;
+import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceNode;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobRegistry;
+import org.apache.shardingsphere.elasticjob.lite.internal.schedule.JobScheduleController;
+import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.lite.util.ReflectionUtils;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation.Type;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public final class TriggerServiceTest {
+    
+    private static final String LOCAL_QUEUE = "trigger-queue/127.0.0.1@-@0";
+    
+    @Mock
+    private JobNodeStorage jobNodeStorage;
+    
+    @Mock
+    private ConfigurationService configService;
+    
+    @Mock
+    private JobScheduleController jobScheduleController;
+    
+    private TriggerService triggerService;
+    
+    @BeforeEach
+    public void setUp() {
+        JobRegistry.getInstance().addJobInstance("test_job", new JobInstance("127.0.0.1@-@0"));
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
+        triggerService = new TriggerService(null, "test_job");
+        ReflectionUtils.setFieldValue(triggerService, "jobNodeStorage", jobNodeStorage);
+        ReflectionUtils.setFieldValue(triggerService, "configService", configService);
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertGenerateTriggerIdInOrder() throws InterruptedException {
+        String first = TriggerService.generateTriggerId();
+        Thread.sleep(2L);
+        String second = TriggerService.generateTriggerId();
+        assertTrue(first.compareTo(second) < 0);
+    }
+    
+    @Test
+    public void assertRemoveTriggerFlag() {
+        triggerService.removeTriggerFlag();
+        verify(jobNodeStorage).removeJobNodeIfExisted("trigger/127.0.0.1@-@0");
+    }
+    
+    @Test
+    public void assertAddLocalTrigger() {
+        triggerService.addLocalTrigger("foo");
+        verify(jobNodeStorage).fillJobNode(startsWith(LOCAL_QUEUE + "/"), eq("foo"));
+    }
+    
+    @Test
+    public void assertDispatchWhenShutdown() {
+        JobRegistry.getInstance().shutdown("test_job");
+        triggerService.dispatch();
+        verify(jobNodeStorage, never()).getJobNodeChildrenKeys(anyString());
+    }
+    
+    @Test
+    public void assertDispatchWithoutPendingTriggers() {
+        when(jobNodeStorage.getJobNodeChildrenKeys(LOCAL_QUEUE)).thenReturn(Collections.emptyList());
+        triggerService.dispatch();
+        verify(jobScheduleController, never()).triggerJob(any(), any());
+    }
+    
+    @Test
+    public void assertDispatchOldestTriggerWithQueuePolicy() {
+        mockPolicy(TriggerPolicy.QUEUE, 16);
+        when(jobNodeStorage.getJobNodeChildrenKeys(LOCAL_QUEUE)).thenReturn(Arrays.asList("3", "2", "1"));
+        when(jobNodeStorage.getJobNodeDataDirectly(LOCAL_QUEUE + "/1")).thenReturn("foo");
+        triggerService.dispatch();
+        verify(jobScheduleController).triggerJob(Collections.singletonList("1"), "foo");
+        verify(jobNodeStorage, never()).removeJobNodeIfExisted(anyString());
+        assertThat(JobRegistry.getInstance().getDispatchedTriggers("test_job"), is(Collections.singletonList("1")));
+    }
+    
+    @Test
+    public void assertDispatchCoalescedTriggersWithLatestParameter() {
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).build());
+        when(jobNodeStorage.getJobNodeChildrenKeys(LOCAL_QUEUE)).thenReturn(Arrays.asList("3", "2", "1"));
+        when(jobNodeStorage.getJobNodeDataDirectly(LOCAL_QUEUE + "/3")).thenReturn("bar");
+        triggerService.dispatch();
+        verify(jobNodeStorage).removeJobNodeIfExisted(LOCAL_QUEUE + "/1");
+        verify(jobNodeStorage).removeJobNodeIfExisted(LOCAL_QUEUE + "/2");
+        verify(jobScheduleController).triggerJob(Collections.singletonList("3"), "bar");
+    }
+    
+    @Test
+    public void assertDispatchWithEmptyParameter() {
+        mockPolicy(TriggerPolicy.QUEUE, 16);
+        when(jobNodeStorage.getJobNodeChildrenKeys(LOCAL_QUEUE)).thenReturn(Collections.singletonList("1"));
+        when(jobNodeStorage.getJobNodeDataDirectly(LOCAL_QUEUE + "/1")).thenReturn("");
+        triggerService.dispatch();
+        verify(jobScheduleController).triggerJob(Collections.singletonList("1"), null);
+    }
+    
+    @Test
+    public void assertDispatchWithDropPolicyWhenIdle() {
+        mockPolicy(TriggerPolicy.DROP, 0);
+        when(jobNodeStorage.getJobNodeChildrenKeys(LOCAL_QUEUE)).thenReturn(Arrays.asList("2", "1"));
+        when(jobNodeStorage.getJobNodeDataDirectly(LOCAL_QUEUE + "/1")).thenReturn("");
+        triggerService.dispatch();
+        verify(jobScheduleController).triggerJob(Collections.singletonList("1"), null);
+        verify(jobNodeStorage).removeJobNodeIfExisted(LOCAL_QUEUE + "/2");
+    }
+    
+    @Test
+    public void assertBurstWhileRunningWithDropPolicy() {
+        mockPolicy(TriggerPolicy.DROP, 0);
+        JobRegistry.getInstance().setJobRunning("test_job", true);
+        when(jobNodeStorage.getJobNodeChildrenKeys(LOCAL_QUEUE)).thenReturn(Arrays.asList("3", "2", "1"));
+        triggerService.dispatch();
+        verify(jobScheduleController, never()).triggerJob(any(), any());
+        verify(jobNodeStorage).removeJobNodeIfExisted(LOCAL_QUEUE + "/1");
+        verify(jobNodeStorage).removeJobNodeIfExisted(LOCAL_QUEUE + "/2");
+        verify(jobNodeStorage).removeJobNodeIfExisted(LOCAL_QUEUE + "/3");
+        assertFalse(JobRegistry.getInstance().clearTriggerDeferred("test_job"));
+    }
+    
+    @Test
+    public void assertBurstWhileRunningWithCoalescePolicy() {
+        mockPolicy(TriggerPolicy.COALESCE, 0);
+        JobRegistry.getInstance().setJobRunning("test_job", true);
+        when(jobNodeStorage.getJobNodeChildrenKeys(LOCAL_QUEUE)).thenReturn(Arrays.asList("3", "2", "1"));
+        triggerService.dispatch();
+        verify(jobScheduleController, never()).triggerJob(any(), any());
+        verify(jobNodeStorage).removeJobNodeIfExisted(LOCAL_QUEUE + "/1");
+        verify(jobNodeStorage).removeJobNodeIfExisted(LOCAL_QUEUE + "/2");
+        verify(jobNodeStorage, never()).removeJobNodeIfExisted(LOCAL_QUEUE + "/3");
+        assertTrue(JobRegistry.getInstance().clearTriggerDeferred("test_job"));
+    }
+    
+    @Test
+    public void assertBurstWhileRunningWithQueuePolicy() {
+        mockPolicy(TriggerPolicy.QUEUE, 2);
+        JobRegistry.getInstance().setJobRunning("test_job", true);
+        when(jobNodeStorage.getJobNodeChildrenKeys(LOCAL_QUEUE)).thenReturn(Arrays.asList("4", "3", "2", "1"));
+        triggerService.dispatch();
+        verify(jobScheduleController, never()).triggerJob(any(), any());
+        verify(jobNodeStorage, never()).removeJobNodeIfExisted(LOCAL_QUEUE + "/1");
+        verify(jobNodeStorage, never()).removeJobNodeIfExisted(LOCAL_QUEUE + "/2");
+        verify(jobNodeStorage).removeJobNodeIfExisted(LOCAL_QUEUE + "/3");
+        verify(jobNodeStorage).removeJobNodeIfExisted(LOCAL_QUEUE + "/4");
+    }
+    
+    @Test
+    public void assertBurstWhileTriggerDispatched() {
+        mockPolicy(TriggerPolicy.QUEUE, 1);
+        JobRegistry.getInstance().setDispatchedTriggersIfAbsent("test_job", Collections.singletonList("1"));
+        when(jobNodeStorage.getJobNodeChildrenKeys(LOCAL_QUEUE)).thenReturn(Arrays.asList("3", "2", "1"));
+        triggerService.dispatch();
+        verify(jobScheduleController, never()).triggerJob(any(), any());
+        verify(jobNodeStorage, never()).removeJobNodeIfExisted(LOCAL_QUEUE + "/1");
+        verify(jobNodeStorage, never()).removeJobNodeIfExisted(LOCAL_QUEUE + "/2");
+        verify(jobNodeStorage).removeJobNodeIfExisted(LOCAL_QUEUE + "/3");
+    }
+    
+    @Test
+    public void assertDispatchFailure() {
+        mockPolicy(TriggerPolicy.QUEUE, 16);
+        when(jobNodeStorage.getJobNodeChildrenKeys(LOCAL_QUEUE)).thenReturn(Collections.singletonList("1"));
+        when(jobNodeStorage.getJobNodeDataDirectly(LOCAL_QUEUE + "/1")).thenReturn("");
+        doThrow(IllegalStateException.class).when(jobScheduleController).triggerJob(Collections.singletonList("1"), null);
+        assertThrows(IllegalStateException.class, () -> triggerService.dispatch());
+        assertTrue(JobRegistry.getInstance().getDispatchedTriggers("test_job").isEmpty());
+    }
+    
+    @Test
+    public void assertDispatchDeferredWithoutDeferredTriggers() {
+        triggerService.dispatchDeferred();
+        verify(jobNodeStorage, never()).getJobNodeChildrenKeys(anyString());
+    }
+    
+    @Test
+    public void assertDispatchDeferred() {
+        mockPolicy(TriggerPolicy.QUEUE, 16);
+        JobRegistry.getInstance().setTriggerDeferred("test_job");
+        when(jobNodeStorage.getJobNodeChildrenKeys(LOCAL_QUEUE)).thenReturn(Collections.singletonList("1"));
+        when(jobNodeStorage.getJobNodeDataDirectly(LOCAL_QUEUE + "/1")).thenReturn("");
+        triggerService.dispatchDeferred();
+        verify(jobScheduleController).triggerJob(Collections.singletonList("1"), null);
+        assertFalse(JobRegistry.getInstance().clearTriggerDeferred("test_job"));
+    }
+    
+    @Test
+    public void assertAcknowledge() {
+        JobRegistry.getInstance().setDispatchedTriggersIfAbsent("test_job", Arrays.asList("1", "2"));
+        triggerService.acknowledge(Arrays.asList("1", "2"));
+        verify(jobNodeStorage).removeJobNodeIfExisted(LOCAL_QUEUE + "/1");
+        verify(jobNodeStorage).removeJobNodeIfExisted(LOCAL_QUEUE + "/2");
+        assertTrue(JobRegistry.getInstance().getDispatchedTriggers("test_job").isEmpty());
+    }
+    
+    @Test
+    public void assertAcknowledgeWhenShutdown() {
+        JobRegistry.getInstance().shutdown("test_job");
+        triggerService.acknowledge(Arrays.asList("1", "2"));
+        verify(jobNodeStorage, never()).removeJobNodeIfExisted(anyString());
+    }
+    
+    @Test
+    public void assertRecoverOrphanTriggers() {
+        when(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)).thenReturn(Arrays.asList("127.0.0.1@-@0", "127.0.0.2@-@0"));
+        when(jobNodeStorage.getJobNodeChildrenKeys("trigger-queue")).thenReturn(Arrays.asList("127.0.0.3@-@0", "127.0.0.2@-@0", "127.0.0.1@-@0"));
+        when(jobNodeStorage.getJobNodeDataDirectly("trigger-queue/127.0.0.3@-@0")).thenReturn(TriggerNode.CONSUMED_QUEUE_DATA);
+        when(jobNodeStorage.getJobNodeChildrenKeys("trigger-queue/127.0.0.3@-@0")).thenReturn(Arrays.asList("2", "1"), Collections.emptyList());
+        when(jobNodeStorage.getJobNodeChildrenKeys(LOCAL_QUEUE)).thenReturn(Collections.singletonList("2"));
+        when(jobNodeStorage.getJobNodeDataDirectly("trigger-queue/127.0.0.3@-@0/1")).thenReturn("foo");
+        when(jobNodeStorage.getJobNodeDataDirectly("trigger-queue/127.0.0.3@-@0/2")).thenReturn("");
+        triggerService.recoverOrphanTriggers();
+        verify(jobNodeStorage, never()).getJobNodeChildrenKeys("trigger-queue/127.0.0.2@-@0");
+        verify(jobNodeStorage).createJobNodeIfNeeded(LOCAL_QUEUE);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TransactionOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jobNodeStorage, times(2)).executeInTransaction(captor.capture());
+        List<TransactionOperation> deduplicatedOperations = captor.getAllValues().get(0);
+        assertThat(deduplicatedOperations.size(), is(1));
+        assertOperation(deduplicatedOperations.get(0), Type.DELETE, "/test_job/trigger-queue/127.0.0.3@-@0/2");
+        List<TransactionOperation> movedOperations = captor.getAllValues().get(1);
+        assertThat(movedOperations.size(), is(2));
+        assertOperation(movedOperations.get(0), Type.DELETE, "/test_job/trigger-queue/127.0.0.3@-@0/1");
+        assertOperation(movedOperations.get(1), Type.ADD, "/test_job/trigger-queue/127.0.0.1@-@0/1");
+        assertThat(movedOperations.get(1).getValue(), is("foo"));
+        verify(jobNodeStorage).removeJobNodeIfExisted("trigger-queue/127.0.0.3@-@0");
+    }
+    
+    @Test
+    public void assertRecoverOrphanTriggersWhenAllInstancesOnline() {
+        when(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)).thenReturn(Arrays.asList("127.0.0.1@-@0", "127.0.0.2@-@0"));
+        when(jobNodeStorage.getJobNodeChildrenKeys("trigger-queue")).thenReturn(Arrays.asList("127.0.0.2@-@0", "127.0.0.1@-@0"));
+        triggerService.recoverOrphanTriggers();
+        verify(jobNodeStorage, never()).executeInTransaction(any());
+        verify(jobNodeStorage, never()).removeJobNodeIfExisted(anyString());
+    }
+    
+    @Test
+    public void assertRecoverOrphanTriggerTakenOverByOtherInstance() {
+        when(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)).thenReturn(Collections.singletonList("127.0.0.1@-@0"));
+        when(jobNodeStorage.getJobNodeChildrenKeys("trigger-queue")).thenReturn(Collections.singletonList("127.0.0.3@-@0"));
+        when(jobNodeStorage.getJobNodeDataDirectly("trigger-queue/127.0.0.3@-@0")).thenReturn(TriggerNode.CONSUMED_QUEUE_DATA);
+        when(jobNodeStorage.getJobNodeChildrenKeys("trigger-queue/127.0.0.3@-@0")).thenReturn(Collections.singletonList("1"), Collections.emptyList());
+        when(jobNodeStorage.getJobNodeChildrenKeys(LOCAL_QUEUE)).thenReturn(Collections.emptyList());
+        triggerService.recoverOrphanTriggers();
+        verify(jobNodeStorage, never()).executeInTransaction(any());
+        verify(jobNodeStorage).removeJobNodeIfExisted("trigger-queue/127.0.0.3@-@0");
+    }
+    
+    @Test
+    public void assertRecoverOrphanTriggersOfLegacyInstance() {
+        when(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)).thenReturn(Collections.singletonList("127.0.0.1@-@0"));
+        when(jobNodeStorage.getJobNodeChildrenKeys("trigger-queue")).thenReturn(Collections.singletonList("127.0.0.3@-@0"));
+        when(jobNodeStorage.getJobNodeDataDirectly("trigger-queue/127.0.0.3@-@0")).thenReturn("");
+        triggerService.recoverOrphanTriggers();
+        verify(jobNodeStorage, never()).getJobNodeChildrenKeys("trigger-queue/127.0.0.3@-@0");
+        verify(jobNodeStorage, never()).executeInTransaction(any());
+        verify(jobNodeStorage).removeJobNodeIfExisted("trigger-queue/127.0.0.3@-@0");
+    }
+    
+    private void mockPolicy(final TriggerPolicy policy, final int capacity) {
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3)
+                .setProperty(TriggerService.POLICY_KEY, policy.name()).setProperty(TriggerService.QUEUE_CAPACITY_KEY, String.valueOf(capacity)).build());
+    }
+    
+    private void assertOperation(final TransactionOperation actual, final Type expectedType, final String expectedKey) {
+        assertThat(actual.getType(), is(expectedType));
+        assertThat(actual.getKey(), is(expectedKey));
+    }
+}
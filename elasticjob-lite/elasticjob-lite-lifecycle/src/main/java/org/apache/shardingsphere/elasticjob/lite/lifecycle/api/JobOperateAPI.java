@@ -17,7 +17,11 @@
 
 package org.apache.shardingsphere.elasticjob.lite.lifecycle.api;
 
+import org.apache.shardingsphere.elasticjob.infra.concurrent.ExecutorPoolState;
+import org.apache.shardingsphere.elasticjob.lite.lifecycle.domain.BulkOperationResult;
+
 import java.io.IOException;
+import java.util.Collection;
 
 /**
  * Job operate API.
@@ -66,6 +70,46 @@ public interface JobOperateAPI {
      * @param serverIp server IP address
      */
     void remove(String jobName, String serverIp);
+    
+    /**
+     * Disable jobs in bulk.
+     * 
+     * <p>Will cause resharding. Servers not registered for a job are skipped.</p>
+     *
+     * @param jobNames job names, empty means all jobs
+     * @param serverIps server IP addresses, empty means all servers
+     * @return bulk operation result of each job and server
+     */
+    BulkOperationResult disableInBulk(Collection<String> jobNames, Collection<String> serverIps);
+    
+    /**
+     * Enable jobs in bulk.
+     * 
+     * <p>Servers not registered for a job are skipped.</p>
+     *
+     * @param jobNames job names, empty means all jobs
+     * @param serverIps server IP addresses, empty means all servers
+     * @return bulk operation result of each job and server
+     */
+    BulkOperationResult enableInBulk(Collection<String> jobNames, Collection<String> serverIps);
+    
+    /**
+     * Shutdown jobs in bulk.
+     *
+     * @param jobNames job names, empty means all jobs
+     * @param serverIps server IP addresses, empty means all servers
+     * @return bulk operation result of each job and server
+     */
+    BulkOperationResult shutdownInBulk(Collection<String> jobNames, Collection<String> serverIps);
+    
+    /**
+     * Remove jobs in bulk.
+     *
+     * @param jobNames job names, empty means all jobs
+     * @param serverIps server IP addresses, empty means all servers
+     * @return bulk operation result of each job and server
+     */
+    BulkOperationResult removeInBulk(Collection<String> jobNames, Collection<String> serverIps);
 
     /**
      * Dump job.
@@ -77,4 +121,15 @@ public interface JobOperateAPI {
      * @throws IOException i/o exception
      */
     String dump(String jobName, String instanceIp, int dumpPort) throws IOException;
+    
+    /**
+     * Get executor pool state of job in instance.
+     *
+     * @param jobName job name
+     * @param instanceIp instance IP address
+     * @param dumpPort dump port
+     * @return executor pool state, null if the job has no executor pool in the instance
+     * @throws IOException i/o exception
+     */
+    ExecutorPoolState getExecutorPoolState(String jobName, String instanceIp, int dumpPort) throws IOException;
 }
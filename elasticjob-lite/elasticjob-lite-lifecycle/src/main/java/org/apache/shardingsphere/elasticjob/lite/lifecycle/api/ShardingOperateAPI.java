@@ -17,6 +17,10 @@
 
 package org.apache.shardingsphere.elasticjob.lite.lifecycle.api;
 
+import org.apache.shardingsphere.elasticjob.lite.lifecycle.domain.BulkOperationResult;
+
+import java.util.Collection;
+
 /**
  * Sharding operate API.
  */
@@ -37,4 +41,26 @@ public interface ShardingOperateAPI {
      * @param item sharding item
      */
     void enable(String jobName, String item);
+    
+    /**
+     * Disable job sharding items in bulk.
+     * 
+     * <p>Items not sharded for a job are skipped.</p>
+     *
+     * @param jobNames job names
+     * @param items sharding items, empty means all items
+     * @return bulk operation result of each job and sharding item
+     */
+    BulkOperationResult disableInBulk(Collection<String> jobNames, Collection<String> items);
+    
+    /**
+     * Enable job sharding items in bulk.
+     * 
+     * <p>Items not sharded for a job are skipped.</p>
+     *
+     * @param jobNames job names
+     * @param items sharding items, empty means all items
+     * @return bulk operation result of each job and sharding item
+     */
+    BulkOperationResult enableInBulk(Collection<String> jobNames, Collection<String> items);
 }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.lifecycle.domain;
+
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk operation result.
+ * 
+ * <p>Targets are named as {@code jobName/serverIp} for job operations and {@code jobName/item} for sharding operations.</p>
+ */
+@Getter
+public final class BulkOperationResult implements Serializable {
+    
+    private static final long serialVersionUID = -6393471213548021702L;
+    
+    private final List<String> succeededTargets = new LinkedList<>();
+    
+    private final Map<String, String> failedTargets = new LinkedHashMap<>();
+    
+    /**
+     * Record target succeeded.
+     * 
+     * @param target target
+     */
+    public void succeed(final String target) {
+        succeededTargets.add(target);
+    }
+    
+    /**
+     * Record target failed.
+     * 
+     * @param target target
+     * @param reason failure reason
+     */
+    public void fail(final String target, final String reason) {
+        failedTargets.put(target, reason);
+    }
+    
+    /**
+     * Judge whether all targets succeeded.
+     * 
+     * @return all targets succeeded or not
+     */
+    public boolean isAllSucceeded() {
+        return failedTargets.isEmpty();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.lifecycle.internal.operate;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.elasticjob.lite.lifecycle.domain.BulkOperationResult;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Bulk operation executor.
+ * 
+ * <p>Operations of targets are committed in transactions of bounded size, operations of one target are never split across transactions.
+ * If a transaction fails, nothing of it is applied and its targets are retried one transaction per target, so one stale target does not fail the others.</p>
+ */
+@RequiredArgsConstructor
+final class BulkOperationExecutor {
+    
+    static final int DEFAULT_MAX_OPERATIONS_PER_TRANSACTION = 128;
+    
+    private final CoordinatorRegistryCenter regCenter;
+    
+    private final int maxOperationsPerTransaction;
+    
+    BulkOperationExecutor(final CoordinatorRegistryCenter regCenter) {
+        this(regCenter, DEFAULT_MAX_OPERATIONS_PER_TRANSACTION);
+    }
+    
+    /**
+     * Get target name.
+     * 
+     * @param jobName job name
+     * @param name server IP address or sharding item
+     * @return target name
+     */
+    static String getTarget(final String jobName, final String name) {
+        return String.join("/", jobName, name);
+    }
+    
+    /**
+     * Execute operations of targets.
+     * 
+     * @param operations operations grouped by target, targets without operations succeed without writing
+     * @return bulk operation result
+     */
+    BulkOperationResult execute(final Map<String, List<TransactionOperation>> operations) {
+        BulkOperationResult result = new BulkOperationResult();
+        Map<String, List<TransactionOperation>> chunk = new LinkedHashMap<>();
+        int chunkSize = 0;
+        for (Entry<String, List<TransactionOperation>> entry : operations.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                result.succeed(entry.getKey());
+                continue;
+            }
+            if (!chunk.isEmpty() && chunkSize + entry.getValue().size() > maxOperationsPerTransaction) {
+                executeChunk(chunk, result);
+                chunk.clear();
+                chunkSize = 0;
+            }
+            chunk.put(entry.getKey(), entry.getValue());
+            chunkSize += entry.getValue().size();
+        }
+        if (!chunk.isEmpty()) {
+            executeChunk(chunk, result);
+        }
+        return result;
+    }
+    
+    private void executeChunk(final Map<String, List<TransactionOperation>> chunk, final BulkOperationResult result) {
+        List<TransactionOperation> chunkOperations = new ArrayList<>();
+        chunk.values().forEach(chunkOperations::addAll);
+        try {
+            regCenter.executeInTransaction(chunkOperations);
+            chunk.keySet().forEach(result::succeed);
+            return;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            if (1 == chunk.size()) {
+                result.fail(chunk.keySet().iterator().next(), getReason(ex));
+                return;
+            }
+        }
+        for (Entry<String, List<TransactionOperation>> entry : chunk.entrySet()) {
+            try {
+                regCenter.executeInTransaction(entry.getValue());
+                result.succeed(entry.getKey());
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                result.fail(entry.getKey(), getReason(ex));
+            }
+        }
+    }
+    
+    private String getReason(final Exception ex) {
+        return null == ex.getMessage() ? ex.getClass().getName() : ex.getMessage();
+    }
+}
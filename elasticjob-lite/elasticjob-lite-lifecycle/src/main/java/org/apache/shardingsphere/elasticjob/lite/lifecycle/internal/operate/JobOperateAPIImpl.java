@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.elasticjob.lite.lifecycle.internal.operate;
 
 import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.elasticjob.infra.concurrent.ExecutorPoolState;
 import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.infra.yaml.YamlEngine;
 import org.apache.shardingsphere.elasticjob.lite.internal.instance.InstanceService;
@@ -25,10 +26,16 @@ import org.apache.shardingsphere.elasticjob.lite.internal.server.ServerStatus;
 import org.apache.shardingsphere.elasticjob.lite.internal.snapshot.SnapshotService;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodePath;
 import org.apache.shardingsphere.elasticjob.lite.lifecycle.api.JobOperateAPI;
+import org.apache.shardingsphere.elasticjob.lite.lifecycle.domain.BulkOperationResult;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Job operate API implementation class.
@@ -37,8 +44,11 @@ public final class JobOperateAPIImpl implements JobOperateAPI {
     
     private final CoordinatorRegistryCenter regCenter;
     
+    private final BulkOperationExecutor bulkOperationExecutor;
+    
     public JobOperateAPIImpl(final CoordinatorRegistryCenter regCenter) {
         this.regCenter = regCenter;
+        bulkOperationExecutor = new BulkOperationExecutor(regCenter);
     }
     
     @Override
@@ -139,9 +149,90 @@ public final class JobOperateAPIImpl implements JobOperateAPI {
             }
         }
     }
-
+    
+    @Override
+    public BulkOperationResult disableInBulk(final Collection<String> jobNames, final Collection<String> serverIps) {
+        return bulkOperationExecutor.execute(getDisableOrEnableOperations(jobNames, serverIps, true));
+    }
+    
+    @Override
+    public BulkOperationResult enableInBulk(final Collection<String> jobNames, final Collection<String> serverIps) {
+        return bulkOperationExecutor.execute(getDisableOrEnableOperations(jobNames, serverIps, false));
+    }
+    
+    private Map<String, List<TransactionOperation>> getDisableOrEnableOperations(final Collection<String> jobNames, final Collection<String> serverIps, final boolean disabled) {
+        String status = disabled ? ServerStatus.DISABLED.name() : ServerStatus.ENABLED.name();
+        Map<String, List<TransactionOperation>> result = new LinkedHashMap<>();
+        for (String jobName : getBulkJobNames(jobNames, serverIps)) {
+            JobNodePath jobNodePath = new JobNodePath(jobName);
+            for (String each : getBulkServerIps(jobNodePath, serverIps)) {
+                result.computeIfAbsent(BulkOperationExecutor.getTarget(jobName, each), unused -> new ArrayList<>()).add(TransactionOperation.opUpdate(jobNodePath.getServerNodePath(each), status));
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public BulkOperationResult shutdownInBulk(final Collection<String> jobNames, final Collection<String> serverIps) {
+        Map<String, List<TransactionOperation>> operations = new LinkedHashMap<>();
+        for (String each : getBulkJobNames(jobNames, serverIps)) {
+            addShutdownOperations(each, serverIps, operations);
+        }
+        return bulkOperationExecutor.execute(operations);
+    }
+    
+    @Override
+    public BulkOperationResult removeInBulk(final Collection<String> jobNames, final Collection<String> serverIps) {
+        Map<String, List<TransactionOperation>> operations = new LinkedHashMap<>();
+        for (String jobName : getBulkJobNames(jobNames, serverIps)) {
+            addShutdownOperations(jobName, serverIps, operations);
+            JobNodePath jobNodePath = new JobNodePath(jobName);
+            for (String each : getBulkServerIps(jobNodePath, serverIps)) {
+                operations.computeIfAbsent(BulkOperationExecutor.getTarget(jobName, each), unused -> new ArrayList<>()).add(TransactionOperation.opDelete(jobNodePath.getServerNodePath(each)));
+            }
+        }
+        return bulkOperationExecutor.execute(operations);
+    }
+    
+    private void addShutdownOperations(final String jobName, final Collection<String> serverIps, final Map<String, List<TransactionOperation>> operations) {
+        JobNodePath jobNodePath = new JobNodePath(jobName);
+        for (String each : regCenter.getChildrenKeys(jobNodePath.getInstancesNodePath())) {
+            String instanceData = regCenter.get(jobNodePath.getInstanceNodePath(each));
+            if (null == instanceData) {
+                continue;
+            }
+            String serverIp = YamlEngine.unmarshal(instanceData, JobInstance.class).getServerIp();
+            if (isEmpty(serverIps) || serverIps.contains(serverIp)) {
+                operations.computeIfAbsent(BulkOperationExecutor.getTarget(jobName, serverIp), unused -> new ArrayList<>()).add(TransactionOperation.opDelete(jobNodePath.getInstanceNodePath(each)));
+            }
+        }
+    }
+    
+    private Collection<String> getBulkJobNames(final Collection<String> jobNames, final Collection<String> serverIps) {
+        Preconditions.checkArgument(!isEmpty(jobNames) || !isEmpty(serverIps), "At least indicate job names or server IPs.");
+        return isEmpty(jobNames) ? regCenter.getChildrenKeys("/") : jobNames;
+    }
+    
+    private Collection<String> getBulkServerIps(final JobNodePath jobNodePath, final Collection<String> serverIps) {
+        List<String> result = new ArrayList<>(regCenter.getChildrenKeys(jobNodePath.getServerNodePath()));
+        if (!isEmpty(serverIps)) {
+            result.retainAll(serverIps);
+        }
+        return result;
+    }
+    
+    private boolean isEmpty(final Collection<String> values) {
+        return null == values || values.isEmpty();
+    }
+    
     @Override
     public String dump(final String jobName, final String instanceIp, final int dumpPort) throws IOException {
         return SnapshotService.dumpJob(instanceIp, dumpPort, jobName);
     }
+    
+    @Override
+    public ExecutorPoolState getExecutorPoolState(final String jobName, final String instanceIp, final int dumpPort) throws IOException {
+        String result = SnapshotService.getExecutorPoolState(instanceIp, dumpPort, jobName);
+        return result.trim().isEmpty() ? null : YamlEngine.unmarshal(result, ExecutorPoolState.class);
+    }
 }
@@ -17,9 +17,19 @@
 
 package org.apache.shardingsphere.elasticjob.lite.lifecycle.internal.operate;
 
+import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.elasticjob.lite.internal.storage.JobNodePath;
 import org.apache.shardingsphere.elasticjob.lite.lifecycle.api.ShardingOperateAPI;
+import org.apache.shardingsphere.elasticjob.lite.lifecycle.domain.BulkOperationResult;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Sharding operate API implementation class.
@@ -28,8 +38,11 @@ public final class ShardingOperateAPIImpl implements ShardingOperateAPI {
     
     private final CoordinatorRegistryCenter regCenter;
     
+    private final BulkOperationExecutor bulkOperationExecutor;
+    
     public ShardingOperateAPIImpl(final CoordinatorRegistryCenter regCenter) {
         this.regCenter = regCenter;
+        bulkOperationExecutor = new BulkOperationExecutor(regCenter);
     }
     
     @Override
@@ -51,4 +64,38 @@ public final class ShardingOperateAPIImpl implements ShardingOperateAPI {
             regCenter.remove(shardingDisabledNodePath);
         }
     }
+    
+    @Override
+    public BulkOperationResult disableInBulk(final Collection<String> jobNames, final Collection<String> items) {
+        return bulkOperationExecutor.execute(getDisableOrEnableOperations(jobNames, items, true));
+    }
+    
+    @Override
+    public BulkOperationResult enableInBulk(final Collection<String> jobNames, final Collection<String> items) {
+        return bulkOperationExecutor.execute(getDisableOrEnableOperations(jobNames, items, false));
+    }
+    
+    private Map<String, List<TransactionOperation>> getDisableOrEnableOperations(final Collection<String> jobNames, final Collection<String> items, final boolean disabled) {
+        Preconditions.checkArgument(null != jobNames && !jobNames.isEmpty(), "Job names cannot be empty.");
+        Map<String, List<TransactionOperation>> result = new LinkedHashMap<>();
+        for (String jobName : jobNames) {
+            JobNodePath jobNodePath = new JobNodePath(jobName);
+            List<String> shardingItems = new ArrayList<>(regCenter.getChildrenKeys(jobNodePath.getShardingNodePath()));
+            if (null != items && !items.isEmpty()) {
+                shardingItems.retainAll(items);
+            }
+            for (String each : shardingItems) {
+                String shardingDisabledNodePath = jobNodePath.getShardingNodePath(each, "disabled");
+                boolean isDisabled = regCenter.isExisted(shardingDisabledNodePath);
+                List<TransactionOperation> operations;
+                if (disabled) {
+                    operations = isDisabled ? Collections.emptyList() : Collections.singletonList(TransactionOperation.opAdd(shardingDisabledNodePath, ""));
+                } else {
+                    operations = isDisabled ? Collections.singletonList(TransactionOperation.opDelete(shardingDisabledNodePath)) : Collections.emptyList();
+                }
+                result.put(BulkOperationExecutor.getTarget(jobName, each), operations);
+            }
+        }
+        return result;
+    }
 }
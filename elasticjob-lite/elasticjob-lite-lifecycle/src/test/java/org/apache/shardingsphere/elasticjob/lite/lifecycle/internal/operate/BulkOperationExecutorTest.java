@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.lifecycle.internal.operate;
+
+import org.apache.shardingsphere.elasticjob.lite.lifecycle.domain.BulkOperationResult;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public final class BulkOperationExecutorTest {
+    
+    @Mock
+    private CoordinatorRegistryCenter regCenter;
+    
+    @Test
+    public void assertExecuteInBoundedChunks() throws Exception {
+        BulkOperationExecutor executor = new BulkOperationExecutor(regCenter, 4);
+        BulkOperationResult actual = executor.execute(createOperations(10, 2));
+        ArgumentCaptor<List<TransactionOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(regCenter, times(5)).executeInTransaction(captor.capture());
+        assertTrue(captor.getAllValues().stream().allMatch(each -> 4 == each.size()));
+        assertTrue(actual.isAllSucceeded());
+        assertThat(actual.getSucceededTargets().size(), is(10));
+    }
+    
+    @Test
+    public void assertNeverSplitOperationsOfOneTarget() throws Exception {
+        BulkOperationExecutor executor = new BulkOperationExecutor(regCenter, 4);
+        BulkOperationResult actual = executor.execute(createOperations(3, 3));
+        ArgumentCaptor<List<TransactionOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(regCenter, times(3)).executeInTransaction(captor.capture());
+        assertTrue(captor.getAllValues().stream().allMatch(each -> 3 == each.size()));
+        assertTrue(actual.isAllSucceeded());
+    }
+    
+    @Test
+    public void assertExecuteTargetsWithoutOperations() throws Exception {
+        Map<String, List<TransactionOperation>> operations = new LinkedHashMap<>();
+        operations.put("test_job/0", Collections.emptyList());
+        BulkOperationResult actual = new BulkOperationExecutor(regCenter).execute(operations);
+        verify(regCenter, times(0)).executeInTransaction(anyList());
+        assertThat(actual.getSucceededTargets(), is(Collections.singletonList("test_job/0")));
+    }
+    
+    @Test
+    public void assertRetryFailedChunkPerTarget() throws Exception {
+        doAnswer(invocation -> {
+            List<TransactionOperation> operations = invocation.getArgument(0);
+            if (operations.stream().anyMatch(each -> each.getKey().startsWith("/test_job_1/"))) {
+                throw new IllegalStateException("NoNode for /test_job_1/servers/ip");
+            }
+            return null;
+        }).when(regCenter).executeInTransaction(anyList());
+        BulkOperationResult actual = new BulkOperationExecutor(regCenter, 4).execute(createOperations(4, 1));
+        verify(regCenter, times(5)).executeInTransaction(anyList());
+        assertFalse(actual.isAllSucceeded());
+        assertThat(actual.getSucceededTargets(), is(Arrays.asList("test_job_0/ip", "test_job_2/ip", "test_job_3/ip")));
+        assertThat(actual.getFailedTargets().get("test_job_1/ip"), is("NoNode for /test_job_1/servers/ip"));
+    }
+    
+    @Test
+    public void assertFailSingleTargetChunkWithoutRetry() throws Exception {
+        doAnswer(invocation -> {
+            throw new IllegalStateException("failed");
+        }).when(regCenter).executeInTransaction(anyList());
+        BulkOperationResult actual = new BulkOperationExecutor(regCenter, 4).execute(createOperations(1, 2));
+        verify(regCenter, times(1)).executeInTransaction(anyList());
+        assertThat(actual.getFailedTargets().get("test_job_0/ip"), is("failed"));
+    }
+    
+    private Map<String, List<TransactionOperation>> createOperations(final int targetCount, final int operationCountPerTarget) {
+        Map<String, List<TransactionOperation>> result = new LinkedHashMap<>();
+        for (int i = 0; i < targetCount; i++) {
+            TransactionOperation[] operations = new TransactionOperation[operationCountPerTarget];
+            for (int j = 0; j < operationCountPerTarget; j++) {
+                operations[j] = TransactionOperation.opDelete(String.format("/test_job_%d/instances/ip@-@%d", i, j));
+            }
+            result.put(BulkOperationExecutor.getTarget("test_job_" + i, "ip"), Arrays.asList(operations));
+        }
+        return result;
+    }
+}
@@ -18,18 +18,30 @@
 package org.apache.shardingsphere.elasticjob.lite.lifecycle.internal.operate;
 
 import org.apache.shardingsphere.elasticjob.lite.lifecycle.api.JobOperateAPI;
+import org.apache.shardingsphere.elasticjob.lite.lifecycle.domain.BulkOperationResult;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -51,14 +63,13 @@ public final class JobOperateAPIImplTest {
     
     @Test
     public void assertTriggerWithJobName() {
-        when(regCenter.isExisted("/test_job")).thenReturn(true);
-        when(regCenter.isExisted("/test_job/trigger/ip1@-@defaultInstance")).thenReturn(false);
-        when(regCenter.isExisted("/test_job/trigger/ip2@-@defaultInstance")).thenReturn(false);
         when(regCenter.getChildrenKeys("/test_job/instances")).thenReturn(Arrays.asList("ip1@-@defaultInstance", "ip2@-@defaultInstance"));
         jobOperateAPI.trigger("test_job");
         verify(regCenter).getChildrenKeys("/test_job/instances");
-        verify(regCenter).persist("/test_job/trigger/ip1@-@defaultInstance", "");
-        verify(regCenter).persist("/test_job/trigger/ip2@-@defaultInstance", "");
+        verify(regCenter).persist(startsWith("/test_job/trigger-queue/ip1@-@defaultInstance/"), eq(""));
+        verify(regCenter).persist(startsWith("/test_job/trigger-queue/ip2@-@defaultInstance/"), eq(""));
+        verify(regCenter).persist(eq("/test_job/trigger/ip1@-@defaultInstance"), anyString());
+        verify(regCenter).persist(eq("/test_job/trigger/ip2@-@defaultInstance"), anyString());
     }
     
     @Test
@@ -169,5 +180,70 @@ public final class JobOperateAPIImplTest {
         assertFalse(regCenter.isExisted("/test_job1/servers/ip1"));
         assertFalse(regCenter.isExisted("/test_job2/servers/ip1"));
     }
-
+    
+    @Test
+    public void assertDisableInBulkWithServerIp() throws Exception {
+        List<String> jobNames = new ArrayList<>(500);
+        for (int i = 0; i < 500; i++) {
+            jobNames.add("test_job" + i);
+            when(regCenter.getChildrenKeys(String.format("/test_job%d/servers", i))).thenReturn(Arrays.asList("ip1", "ip2"));
+        }
+        when(regCenter.getChildrenKeys("/")).thenReturn(jobNames);
+        BulkOperationResult actual = jobOperateAPI.disableInBulk(null, Collections.singletonList("ip1"));
+        assertTrue(actual.isAllSucceeded());
+        assertThat(actual.getSucceededTargets().size(), is(500));
+        ArgumentCaptor<List<TransactionOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(regCenter, times(4)).executeInTransaction(captor.capture());
+        verify(regCenter, times(0)).persist(anyString(), anyString());
+        assertThat(captor.getAllValues().stream().mapToInt(List::size).sum(), is(500));
+        assertTrue(captor.getAllValues().stream().flatMap(List::stream).allMatch(each -> each.getKey().endsWith("/servers/ip1") && "DISABLED".equals(each.getValue())));
+    }
+    
+    @Test
+    public void assertEnableInBulkWithJobNames() throws Exception {
+        when(regCenter.getChildrenKeys("/test_job1/servers")).thenReturn(Arrays.asList("ip1", "ip2"));
+        when(regCenter.getChildrenKeys("/test_job2/servers")).thenReturn(Collections.singletonList("ip1"));
+        BulkOperationResult actual = jobOperateAPI.enableInBulk(Arrays.asList("test_job1", "test_job2"), null);
+        assertThat(actual.getSucceededTargets(), is(Arrays.asList("test_job1/ip1", "test_job1/ip2", "test_job2/ip1")));
+        ArgumentCaptor<List<TransactionOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(regCenter).executeInTransaction(captor.capture());
+        assertThat(captor.getValue().size(), is(3));
+        assertTrue(captor.getValue().stream().allMatch(each -> TransactionOperation.Type.UPDATE == each.getType() && "ENABLED".equals(each.getValue())));
+    }
+    
+    @Test
+    public void assertShutdownInBulkWithServerIp() throws Exception {
+        when(regCenter.getChildrenKeys("/test_job/instances")).thenReturn(Arrays.asList("ip1@-@1", "ip1@-@2", "ip2@-@1"));
+        when(regCenter.get("/test_job/instances/ip1@-@1")).thenReturn("jobInstanceId: ip1@-@1\nserverIp: ip1\n");
+        when(regCenter.get("/test_job/instances/ip1@-@2")).thenReturn("jobInstanceId: ip1@-@2\nserverIp: ip1\n");
+        when(regCenter.get("/test_job/instances/ip2@-@1")).thenReturn("jobInstanceId: ip2@-@1\nserverIp: ip2\n");
+        BulkOperationResult actual = jobOperateAPI.shutdownInBulk(Collections.singletonList("test_job"), Collections.singletonList("ip1"));
+        assertThat(actual.getSucceededTargets(), is(Collections.singletonList("test_job/ip1")));
+        ArgumentCaptor<List<TransactionOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(regCenter).executeInTransaction(captor.capture());
+        assertThat(captor.getValue().size(), is(2));
+        assertThat(captor.getValue().get(0).getKey(), is("/test_job/instances/ip1@-@1"));
+        assertThat(captor.getValue().get(1).getKey(), is("/test_job/instances/ip1@-@2"));
+        verify(regCenter, times(0)).remove(anyString());
+    }
+    
+    @Test
+    public void assertRemoveInBulkWithJobName() throws Exception {
+        when(regCenter.getChildrenKeys("/test_job/instances")).thenReturn(Collections.singletonList("ip1@-@1"));
+        when(regCenter.get("/test_job/instances/ip1@-@1")).thenReturn("jobInstanceId: ip1@-@1\nserverIp: ip1\n");
+        when(regCenter.getChildrenKeys("/test_job/servers")).thenReturn(Arrays.asList("ip1", "ip2"));
+        BulkOperationResult actual = jobOperateAPI.removeInBulk(Collections.singletonList("test_job"), Collections.emptyList());
+        assertThat(actual.getSucceededTargets(), is(Arrays.asList("test_job/ip1", "test_job/ip2")));
+        ArgumentCaptor<List<TransactionOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(regCenter).executeInTransaction(captor.capture());
+        assertThat(captor.getValue().size(), is(3));
+        assertThat(captor.getValue().get(0).getKey(), is("/test_job/instances/ip1@-@1"));
+        assertThat(captor.getValue().get(1).getKey(), is("/test_job/servers/ip1"));
+        assertThat(captor.getValue().get(2).getKey(), is("/test_job/servers/ip2"));
+    }
+    
+    @Test
+    public void assertDisableInBulkWithoutTargets() {
+        assertThrows(IllegalArgumentException.class, () -> jobOperateAPI.disableInBulk(Collections.emptyList(), null));
+    }
 }
@@ -18,14 +18,27 @@
 package org.apache.shardingsphere.elasticjob.lite.lifecycle.internal.operate;
 
 import org.apache.shardingsphere.elasticjob.lite.lifecycle.api.ShardingOperateAPI;
+import org.apache.shardingsphere.elasticjob.lite.lifecycle.domain.BulkOperationResult;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public final class ShardingOperateAPIImplTest {
@@ -51,4 +64,41 @@ public final class ShardingOperateAPIImplTest {
         shardingOperateAPI.enable("test_job", "0");
         verify(regCenter).remove("/test_job/sharding/0/disabled");
     }
+    
+    @Test
+    public void assertDisableShardingInBulk() throws Exception {
+        when(regCenter.getChildrenKeys("/test_job/sharding")).thenReturn(Arrays.asList("0", "1", "2"));
+        when(regCenter.isExisted("/test_job/sharding/0/disabled")).thenReturn(false);
+        when(regCenter.isExisted("/test_job/sharding/1/disabled")).thenReturn(true);
+        BulkOperationResult actual = shardingOperateAPI.disableInBulk(Collections.singletonList("test_job"), Arrays.asList("0", "1", "5"));
+        assertThat(actual.getSucceededTargets(), is(Arrays.asList("test_job/1", "test_job/0")));
+        ArgumentCaptor<List<TransactionOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(regCenter).executeInTransaction(captor.capture());
+        assertThat(captor.getValue().size(), is(1));
+        assertThat(captor.getValue().get(0).getType(), is(TransactionOperation.Type.ADD));
+        assertThat(captor.getValue().get(0).getKey(), is("/test_job/sharding/0/disabled"));
+        verify(regCenter, times(0)).persist(anyString(), anyString());
+    }
+    
+    @Test
+    public void assertEnableShardingInBulk() throws Exception {
+        when(regCenter.getChildrenKeys("/test_job1/sharding")).thenReturn(Arrays.asList("0", "1"));
+        when(regCenter.getChildrenKeys("/test_job2/sharding")).thenReturn(Collections.singletonList("0"));
+        when(regCenter.isExisted("/test_job1/sharding/0/disabled")).thenReturn(true);
+        when(regCenter.isExisted("/test_job1/sharding/1/disabled")).thenReturn(false);
+        when(regCenter.isExisted("/test_job2/sharding/0/disabled")).thenReturn(true);
+        BulkOperationResult actual = shardingOperateAPI.enableInBulk(Arrays.asList("test_job1", "test_job2"), null);
+        assertThat(actual.getSucceededTargets().size(), is(3));
+        ArgumentCaptor<List<TransactionOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(regCenter).executeInTransaction(captor.capture());
+        assertThat(captor.getValue().size(), is(2));
+        assertThat(captor.getValue().get(0).getKey(), is("/test_job1/sharding/0/disabled"));
+        assertThat(captor.getValue().get(1).getKey(), is("/test_job2/sharding/0/disabled"));
+        verify(regCenter, times(0)).remove(anyString());
+    }
+    
+    @Test
+    public void assertDisableShardingInBulkWithoutJobNames() {
+        assertThrows(IllegalArgumentException.class, () -> shardingOperateAPI.disableInBulk(Collections.emptyList(), Collections.singletonList("0")));
+    }
 }
@@ -23,6 +23,7 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.elasticjob.api.ElasticJob;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
+import org.apache.shardingsphere.elasticjob.lite.api.bootstrap.JobBootstrap;
 import org.apache.shardingsphere.elasticjob.lite.api.bootstrap.impl.OneOffJobBootstrap;
 import org.apache.shardingsphere.elasticjob.lite.api.bootstrap.impl.ScheduleJobBootstrap;
 import org.apache.shardingsphere.elasticjob.lite.spring.boot.tracing.TracingProperties;
@@ -35,7 +36,9 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ConfigurableApplicationContext;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * JobBootstrap configuration.
@@ -79,6 +82,8 @@ public class ElasticJobBootstrapConfiguration implements SmartInitializingSingle
     
     private void constructJobBootstraps(final ElasticJobProperties elasticJobProperties, final SingletonBeanRegistry singletonBeanRegistry,
                                         final CoordinatorRegistryCenter registryCenter, final TracingConfiguration<?> tracingConfig) {
+        Map<String, String> beanNames = new LinkedHashMap<>(elasticJobProperties.getJobs().size(), 1F);
+        Map<String, Supplier<JobBootstrap>> factories = new LinkedHashMap<>(elasticJobProperties.getJobs().size(), 1F);
         for (Map.Entry<String, ElasticJobConfigurationProperties> entry : elasticJobProperties.getJobs().entrySet()) {
             ElasticJobConfigurationProperties jobConfigurationProperties = entry.getValue();
             Preconditions.checkArgument(null != jobConfigurationProperties.getElasticJobClass()
@@ -87,39 +92,43 @@ public class ElasticJobBootstrapConfiguration implements SmartInitializingSingle
             Preconditions.checkArgument(null == jobConfigurationProperties.getElasticJobClass()
                             || Strings.isNullOrEmpty(jobConfigurationProperties.getElasticJobType()),
                     "[elasticJobClass] and [elasticJobType] are mutually exclusive.");
+            JobConfiguration jobConfig = jobConfigurationProperties.toJobConfiguration(entry.getKey());
+            jobExtraConfigurations(jobConfig, tracingConfig);
+            beanNames.put(entry.getKey(), getJobBootstrapBeanName(jobConfig, jobConfigurationProperties.getJobBootstrapBeanName()));
             if (null != jobConfigurationProperties.getElasticJobClass()) {
-                registerClassedJob(entry.getKey(), entry.getValue().getJobBootstrapBeanName(), singletonBeanRegistry, registryCenter, tracingConfig, jobConfigurationProperties);
-            } else if (!Strings.isNullOrEmpty(jobConfigurationProperties.getElasticJobType())) {
-                registerTypedJob(entry.getKey(), entry.getValue().getJobBootstrapBeanName(), singletonBeanRegistry, registryCenter, tracingConfig, jobConfigurationProperties);
+                factories.put(entry.getKey(), createClassedJobBootstrapFactory(registryCenter, jobConfig, jobConfigurationProperties));
+            } else {
+                factories.put(entry.getKey(), createTypedJobBootstrapFactory(registryCenter, jobConfig, jobConfigurationProperties));
             }
         }
+        new JobBootstrapBatchCreator(elasticJobProperties.getBootstrapThreads()).create(factories)
+                .forEach((jobName, jobBootstrap) -> singletonBeanRegistry.registerSingleton(beanNames.get(jobName), jobBootstrap));
     }
     
-    private void registerClassedJob(final String jobName, final String jobBootstrapBeanName, final SingletonBeanRegistry singletonBeanRegistry, final CoordinatorRegistryCenter registryCenter,
-                                    final TracingConfiguration<?> tracingConfig, final ElasticJobConfigurationProperties jobConfigurationProperties) {
-        JobConfiguration jobConfig = jobConfigurationProperties.toJobConfiguration(jobName);
-        jobExtraConfigurations(jobConfig, tracingConfig);
-        ElasticJob elasticJob = applicationContext.getBean(jobConfigurationProperties.getElasticJobClass());
+    private String getJobBootstrapBeanName(final JobConfiguration jobConfig, final String jobBootstrapBeanName) {
         if (Strings.isNullOrEmpty(jobConfig.getCron())) {
             Preconditions.checkArgument(!Strings.isNullOrEmpty(jobBootstrapBeanName), "The property [jobBootstrapBeanName] is required for One-off job.");
-            singletonBeanRegistry.registerSingleton(jobBootstrapBeanName, new OneOffJobBootstrap(registryCenter, elasticJob, jobConfig));
-        } else {
-            String beanName = !Strings.isNullOrEmpty(jobBootstrapBeanName) ? jobBootstrapBeanName : jobConfig.getJobName() + "ScheduleJobBootstrap";
-            singletonBeanRegistry.registerSingleton(beanName, new ScheduleJobBootstrap(registryCenter, elasticJob, jobConfig));
+            return jobBootstrapBeanName;
         }
+        return !Strings.isNullOrEmpty(jobBootstrapBeanName) ? jobBootstrapBeanName : jobConfig.getJobName() + "ScheduleJobBootstrap";
     }
     
-    private void registerTypedJob(final String jobName, final String jobBootstrapBeanName, final SingletonBeanRegistry singletonBeanRegistry, final CoordinatorRegistryCenter registryCenter,
-                                  final TracingConfiguration<?> tracingConfig, final ElasticJobConfigurationProperties jobConfigurationProperties) {
-        JobConfiguration jobConfig = jobConfigurationProperties.toJobConfiguration(jobName);
-        jobExtraConfigurations(jobConfig, tracingConfig);
+    private Supplier<JobBootstrap> createClassedJobBootstrapFactory(final CoordinatorRegistryCenter registryCenter, final JobConfiguration jobConfig,
+                                                                    final ElasticJobConfigurationProperties jobConfigurationProperties) {
+        ElasticJob elasticJob = applicationContext.getBean(jobConfigurationProperties.getElasticJobClass());
         if (Strings.isNullOrEmpty(jobConfig.getCron())) {
-            Preconditions.checkArgument(!Strings.isNullOrEmpty(jobBootstrapBeanName), "The property [jobBootstrapBeanName] is required for One-off job.");
-            singletonBeanRegistry.registerSingleton(jobBootstrapBeanName, new OneOffJobBootstrap(registryCenter, jobConfigurationProperties.getElasticJobType(), jobConfig));
-        } else {
-            String beanName = !Strings.isNullOrEmpty(jobBootstrapBeanName) ? jobBootstrapBeanName : jobConfig.getJobName() + "ScheduleJobBootstrap";
-            singletonBeanRegistry.registerSingleton(beanName, new ScheduleJobBootstrap(registryCenter, jobConfigurationProperties.getElasticJobType(), jobConfig));
+            return () -> new OneOffJobBootstrap(registryCenter, elasticJob, jobConfig);
+        }
+        return () -> new ScheduleJobBootstrap(registryCenter, elasticJob, jobConfig);
+    }
+    
+    private Supplier<JobBootstrap> createTypedJobBootstrapFactory(final CoordinatorRegistryCenter registryCenter, final JobConfiguration jobConfig,
+                                                                  final ElasticJobConfigurationProperties jobConfigurationProperties) {
+        String elasticJobType = jobConfigurationProperties.getElasticJobType();
+        if (Strings.isNullOrEmpty(jobConfig.getCron())) {
+            return () -> new OneOffJobBootstrap(registryCenter, elasticJobType, jobConfig);
         }
+        return () -> new ScheduleJobBootstrap(registryCenter, elasticJobType, jobConfig);
     }
     
     private void jobExtraConfigurations(final JobConfiguration jobConfig, final TracingConfiguration<?> tracingConfig) {
@@ -33,4 +33,9 @@ import java.util.Map;
 public class ElasticJobProperties {
     
     private Map<String, ElasticJobConfigurationProperties> jobs = new LinkedHashMap<>();
+    
+    /**
+     * Maximum number of job bootstraps created concurrently on startup, 1 means creating one by one.
+     */
+    private int bootstrapThreads = 8;
 }
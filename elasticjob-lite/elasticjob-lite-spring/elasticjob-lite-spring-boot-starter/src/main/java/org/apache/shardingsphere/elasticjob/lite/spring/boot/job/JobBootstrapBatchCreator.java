@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.spring.boot.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.shardingsphere.elasticjob.lite.api.bootstrap.JobBootstrap;
+import org.springframework.beans.factory.BeanCreationException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Job bootstrap batch creator.
+ * 
+ * <p>
+ * Creating a job bootstrap sets up its configuration, listeners, leader election and online nodes in registry center.
+ * The batch creator runs these round trips for different jobs on a bounded pool, so startup time grows with the slowest jobs instead of the sum of all jobs.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class JobBootstrapBatchCreator {
+    
+    private final int threads;
+    
+    /**
+     * Create job bootstraps.
+     * 
+     * <p>
+     * No new job is started after the first failure. Job bootstraps already created are shut down and all failures are reported together.
+     * </p>
+     *
+     * @param factories job bootstrap factories keyed by job name
+     * @return created job bootstraps keyed by job name, in the order of factories
+     * @throws BeanCreationException if any job bootstrap cannot be created
+     */
+    public Map<String, JobBootstrap> create(final Map<String, ? extends Supplier<? extends JobBootstrap>> factories) {
+        if (factories.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        int poolSize = Math.max(1, Math.min(threads, factories.size()));
+        ExecutorService executorService = Executors.newFixedThreadPool(poolSize, new BasicThreadFactory.Builder().namingPattern(String.join("-", "elasticjob-bootstrap", "%s")).daemon(true).build());
+        AtomicBoolean failed = new AtomicBoolean();
+        Map<String, Future<JobBootstrap>> futures = new LinkedHashMap<>(factories.size(), 1F);
+        try {
+            for (Entry<String, ? extends Supplier<? extends JobBootstrap>> entry : factories.entrySet()) {
+                futures.put(entry.getKey(), executorService.submit(() -> createIfNotFailed(entry.getValue(), failed)));
+            }
+            return collect(futures);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private JobBootstrap createIfNotFailed(final Supplier<? extends JobBootstrap> factory, final AtomicBoolean failed) {
+        if (failed.get()) {
+            return null;
+        }
+        try {
+            return factory.get();
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException | Error ex) {
+            // CHECKSTYLE:ON
+            failed.set(true);
+            throw ex;
+        }
+    }
+    
+    private Map<String, JobBootstrap> collect(final Map<String, Future<JobBootstrap>> futures) {
+        Map<String, JobBootstrap> result = new LinkedHashMap<>(futures.size(), 1F);
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        int skipped = 0;
+        for (Entry<String, Future<JobBootstrap>> entry : futures.entrySet()) {
+            try {
+                JobBootstrap jobBootstrap = entry.getValue().get();
+                if (null == jobBootstrap) {
+                    skipped++;
+                } else {
+                    result.put(entry.getKey(), jobBootstrap);
+                }
+            } catch (final ExecutionException ex) {
+                failures.put(entry.getKey(), ex.getCause());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                failures.put(entry.getKey(), ex);
+            }
+        }
+        if (failures.isEmpty()) {
+            return result;
+        }
+        result.values().forEach(this::shutdownQuietly);
+        throw createAggregatedException(futures.size(), skipped, failures);
+    }
+    
+    private void shutdownQuietly(final JobBootstrap jobBootstrap) {
+        try {
+            jobBootstrap.shutdown();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Shutdown job bootstrap failure.", ex);
+        }
+    }
+    
+    private BeanCreationException createAggregatedException(final int total, final int skipped, final Map<String, Throwable> failures) {
+        StringBuilder message = new StringBuilder(String.format("Failed to create %d of %d job bootstraps, %d not started:", failures.size(), total, skipped));
+        failures.forEach((jobName, cause) -> message.append(System.lineSeparator()).append("  ").append(jobName).append(": ").append(cause));
+        BeanCreationException result = new BeanCreationException(message.toString());
+        failures.values().forEach(result::addSuppressed);
+        return result;
+    }
+}
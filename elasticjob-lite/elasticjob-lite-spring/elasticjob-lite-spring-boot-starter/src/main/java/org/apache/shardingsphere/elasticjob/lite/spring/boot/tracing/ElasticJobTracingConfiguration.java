@@ -63,17 +63,22 @@ public class ElasticJobTracingConfiguration {
          *
          * @param dataSource required by constructor
          * @param tracingDataSource tracing ataSource
+         * @param tracingProperties tracing Properties
          * @return a bean of tracing configuration
          */
         @Bean
         @ConditionalOnBean(DataSource.class)
         public TracingConfiguration<DataSource> tracingConfiguration(final DataSource dataSource,
-                                                                     @Nullable final DataSource tracingDataSource) {
+                                                                     @Nullable final DataSource tracingDataSource, final TracingProperties tracingProperties) {
             DataSource ds = tracingDataSource;
             if (ds == null) {
                 ds = dataSource;
             }
-            return new TracingConfiguration<>("RDB", ds);
+            TracingConfiguration<DataSource> result = new TracingConfiguration<>("RDB", ds);
+            result.setQueueCapacity(tracingProperties.getQueueCapacity());
+            result.setOverflowPolicy(tracingProperties.getOverflowPolicy());
+            result.setEventOverflowPolicies(tracingProperties.getEventOverflowPolicies());
+            return result;
         }
     }
 }
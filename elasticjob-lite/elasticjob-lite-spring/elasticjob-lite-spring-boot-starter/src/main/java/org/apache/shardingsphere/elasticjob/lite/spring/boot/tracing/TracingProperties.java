@@ -19,10 +19,13 @@ package org.apache.shardingsphere.elasticjob.lite.spring.boot.tracing;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.elasticjob.tracing.api.TracingOverflowPolicy;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 @Getter
@@ -37,4 +40,10 @@ public class TracingProperties {
     private Set<String> includeJobNames = new HashSet<>();
 
     private Set<String> excludeJobNames = new HashSet<>();
+
+    private int queueCapacity = 10000;
+
+    private TracingOverflowPolicy overflowPolicy = TracingOverflowPolicy.CALLER_RUNS;
+
+    private Map<String, TracingOverflowPolicy> eventOverflowPolicies = new HashMap<>();
 }
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.elasticjob.lite.spring.boot.reg.ZookeeperProper
 import org.apache.shardingsphere.elasticjob.lite.spring.boot.tracing.TracingProperties;
 import org.apache.shardingsphere.elasticjob.reg.zookeeper.ZookeeperRegistryCenter;
 import org.apache.shardingsphere.elasticjob.tracing.api.TracingConfiguration;
+import org.apache.shardingsphere.elasticjob.tracing.api.TracingOverflowPolicy;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -95,6 +96,7 @@ public class ElasticJobSpringBootTest {
         assertTrue(tracingConfig.getTracingStorageConfiguration().getStorage() instanceof DataSource);
         DataSource dataSource = (DataSource) tracingConfig.getTracingStorageConfiguration().getStorage();
         assertNotNull(dataSource.getConnection());
+        assertThat(tracingConfig.getEventOverflowPolicies().get("JobStatusTraceEvent"), is(TracingOverflowPolicy.BLOCK));
     }
 
     @Test
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lite.spring.boot.job;
+
+import org.apache.shardingsphere.elasticjob.lite.api.bootstrap.JobBootstrap;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanCreationException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class JobBootstrapBatchCreatorTest {
+    
+    private static final int JOB_COUNT = 300;
+    
+    private static final long SETUP_MILLIS = 5L;
+    
+    @Test
+    public void assertCreateWithoutJobs() {
+        assertTrue(new JobBootstrapBatchCreator(4).create(Collections.emptyMap()).isEmpty());
+    }
+    
+    @Test
+    public void assertCreateInOrder() {
+        Map<String, Supplier<JobBootstrap>> factories = createFactories(JOB_COUNT, SETUP_MILLIS);
+        Map<String, JobBootstrap> actual = new JobBootstrapBatchCreator(16).create(factories);
+        assertThat(new ArrayList<>(actual.keySet()), is(new ArrayList<>(factories.keySet())));
+    }
+    
+    @Test
+    public void assertCreateConcurrently() {
+        int threads = 4;
+        CountDownLatch allCreating = new CountDownLatch(threads);
+        Map<String, Supplier<JobBootstrap>> factories = new LinkedHashMap<>(threads, 1F);
+        for (int i = 0; i < threads; i++) {
+            factories.put("job" + i, () -> {
+                allCreating.countDown();
+                await(allCreating);
+                return mock(JobBootstrap.class);
+            });
+        }
+        assertThat(new JobBootstrapBatchCreator(threads).create(factories).size(), is(threads));
+    }
+    
+    @Test
+    public void assertCreateFailFast() {
+        JobBootstrap createdJobBootstrap = mock(JobBootstrap.class);
+        AtomicInteger createdCount = new AtomicInteger();
+        Map<String, Supplier<JobBootstrap>> factories = new LinkedHashMap<>();
+        factories.put("fooJob", () -> {
+            createdCount.incrementAndGet();
+            return createdJobBootstrap;
+        });
+        factories.put("barJob", () -> {
+            throw new IllegalStateException("bar failure");
+        });
+        factories.put("bazJob", () -> {
+            createdCount.incrementAndGet();
+            return mock(JobBootstrap.class);
+        });
+        BeanCreationException actual = assertThrows(BeanCreationException.class, () -> new JobBootstrapBatchCreator(1).create(factories));
+        assertThat(actual.getMessage(), containsString("Failed to create 1 of 3 job bootstraps, 1 not started"));
+        assertThat(actual.getMessage(), containsString("barJob: java.lang.IllegalStateException: bar failure"));
+        assertThat(actual.getSuppressed().length, is(1));
+        assertThat(createdCount.get(), is(1));
+        verify(createdJobBootstrap).shutdown();
+    }
+    
+    @Test
+    public void assertCreateWithAggregatedFailures() {
+        Map<String, Supplier<JobBootstrap>> factories = new LinkedHashMap<>();
+        factories.put("fooJob", () -> {
+            sleep(50L);
+            throw new IllegalStateException("foo failure");
+        });
+        factories.put("barJob", () -> {
+            sleep(50L);
+            throw new IllegalArgumentException("bar failure");
+        });
+        BeanCreationException actual = assertThrows(BeanCreationException.class, () -> new JobBootstrapBatchCreator(2).create(factories));
+        assertThat(actual.getMessage(), containsString("Failed to create 2 of 2 job bootstraps"));
+        assertThat(actual.getMessage(), containsString("fooJob: java.lang.IllegalStateException: foo failure"));
+        assertThat(actual.getMessage(), containsString("barJob: java.lang.IllegalArgumentException: bar failure"));
+        assertThat(actual.getSuppressed().length, is(2));
+    }
+    
+    private Map<String, Supplier<JobBootstrap>> createFactories(final int count, final long setupMillis) {
+        Map<String, Supplier<JobBootstrap>> result = new LinkedHashMap<>(count, 1F);
+        for (int i = 0; i < count; i++) {
+            result.put("job" + i, () -> {
+                sleep(setupMillis);
+                return mock(JobBootstrap.class);
+            });
+        }
+        return result;
+    }
+    
+    private static void await(final CountDownLatch latch) {
+        try {
+            if (!latch.await(10L, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Job bootstraps are not created concurrently.");
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+    
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.elasticjob.lite.spring.namespace.tracing.parser;
 
+import com.google.common.base.Strings;
 import org.apache.shardingsphere.elasticjob.lite.spring.namespace.tracing.tag.TracingBeanDefinitionTag;
 import org.apache.shardingsphere.elasticjob.tracing.api.TracingConfiguration;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
@@ -35,6 +36,15 @@ public final class TracingBeanDefinitionParser extends AbstractBeanDefinitionPar
         BeanDefinitionBuilder factory = BeanDefinitionBuilder.rootBeanDefinition(TracingConfiguration.class);
         factory.addConstructorArgValue("RDB");
         factory.addConstructorArgReference(element.getAttribute(TracingBeanDefinitionTag.DATA_SOURCE_REF_ATTRIBUTE));
+        addPropertyValueIfNotEmpty(TracingBeanDefinitionTag.QUEUE_CAPACITY_ATTRIBUTE, "queueCapacity", element, factory);
+        addPropertyValueIfNotEmpty(TracingBeanDefinitionTag.OVERFLOW_POLICY_ATTRIBUTE, "overflowPolicy", element, factory);
         return factory.getBeanDefinition();
     }
+    
+    private void addPropertyValueIfNotEmpty(final String attributeName, final String propertyName, final Element element, final BeanDefinitionBuilder factory) {
+        String attributeValue = element.getAttribute(attributeName);
+        if (!Strings.isNullOrEmpty(attributeValue)) {
+            factory.addPropertyValue(propertyName, attributeValue);
+        }
+    }
 }
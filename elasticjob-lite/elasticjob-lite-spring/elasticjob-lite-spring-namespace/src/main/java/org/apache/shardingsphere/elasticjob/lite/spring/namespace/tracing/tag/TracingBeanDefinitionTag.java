@@ -27,4 +27,8 @@ import lombok.NoArgsConstructor;
 public final class TracingBeanDefinitionTag {
     
     public static final String DATA_SOURCE_REF_ATTRIBUTE = "data-source-ref";
+    
+    public static final String QUEUE_CAPACITY_ATTRIBUTE = "queue-capacity";
+    
+    public static final String OVERFLOW_POLICY_ATTRIBUTE = "overflow-policy";
 }